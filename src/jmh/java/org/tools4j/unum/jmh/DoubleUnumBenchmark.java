@@ -0,0 +1,393 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tools4j.unum.api.DoubleUnum;
+
+import static org.tools4j.unum.jmh.OperandMix.SIZE;
+
+/**
+ * Benchmarks for {@link DoubleUnum} operations, both on primitive double values and on unum instances.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SIZE)
+public class DoubleUnumBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param
+        public OperandMix mix;
+
+        public double[] a;
+        public double[] b;
+        public DoubleUnum[] ua;
+        public DoubleUnum[] ub;
+
+        @Setup
+        public void setup() {
+            a = mix.doubles(0);
+            b = mix.doubles(1);
+            ua = new DoubleUnum[SIZE];
+            ub = new DoubleUnum[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                ua[i] = DoubleUnum.valueOf(a[i]);
+                ub[i] = DoubleUnum.valueOf(b[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void valueOf(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.valueOf(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void add(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.add(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void subtract(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.subtract(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void multiply(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.multiply(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void divide(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.divide(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void sqrt(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.sqrt(DoubleUnum.abs(o.a[i])));
+        }
+    }
+
+    @Benchmark
+    public void compare(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.compare(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void min(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.min(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void max(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.max(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void addLower(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.addLower(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void addUpper(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.addUpper(o.a[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void multiplyLower(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.multiplyLower(o.a[i], o.a[i], o.b[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void multiplyUpper(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.multiplyUpper(o.a[i], o.a[i], o.b[i], o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void negate(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.negate(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void abs(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.abs(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void nextUp(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.nextUp(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void nextDown(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.nextDown(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void getLowerBound(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.getLowerBound(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void getUpperBound(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.getUpperBound(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void intervalWidth(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.intervalWidth(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void isExact(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.isExact(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void isSignNegative(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.isSignNegative(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void toString(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DoubleUnum.toString(o.a[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumAdd(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].add(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumSubtract(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].subtract(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumMultiply(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].multiply(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumDivide(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].divide(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumSqrt(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].abs().sqrt());
+        }
+    }
+
+    @Benchmark
+    public void unumCompareTo(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].compareTo(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumMin(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].min(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumMax(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].max(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumEquals(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].equals(o.ub[i]));
+        }
+    }
+
+    @Benchmark
+    public void unumNegate(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].negate());
+        }
+    }
+
+    @Benchmark
+    public void unumAbs(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].abs());
+        }
+    }
+
+    @Benchmark
+    public void unumNextUp(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].nextUp());
+        }
+    }
+
+    @Benchmark
+    public void unumNextDown(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].nextDown());
+        }
+    }
+
+    @Benchmark
+    public void unumGetLowerBound(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].getLowerBound());
+        }
+    }
+
+    @Benchmark
+    public void unumGetUpperBound(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].getUpperBound());
+        }
+    }
+
+    @Benchmark
+    public void unumIntervalWidth(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].intervalWidth());
+        }
+    }
+
+    @Benchmark
+    public void unumIsNaN(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].isNaN());
+        }
+    }
+
+    @Benchmark
+    public void unumIsExact(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].isExact());
+        }
+    }
+
+    @Benchmark
+    public void unumIsZero(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].isZero());
+        }
+    }
+
+    @Benchmark
+    public void unumDoubleValue(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].doubleValue());
+        }
+    }
+
+    @Benchmark
+    public void unumHashCode(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].hashCode());
+        }
+    }
+
+    @Benchmark
+    public void unumToString(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.ua[i].toString());
+        }
+    }
+}
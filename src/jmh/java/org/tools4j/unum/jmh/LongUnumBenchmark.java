@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tools4j.unum.api.LongUnum;
+
+/**
+ * Benchmarks for {@link LongUnum} operations on its constants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LongUnumBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operand {
+        @Param({"ZERO", "HALF", "ONE", "TWO", "TEN", "INF", "NAN"})
+        public String constant;
+
+        public LongUnum value;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            value = (LongUnum)LongUnum.class.getField(constant).get(null);
+        }
+    }
+
+    @Benchmark
+    public boolean isNaN(final Operand o) {
+        return o.value.isNaN();
+    }
+
+    @Benchmark
+    public boolean isInfinite(final Operand o) {
+        return o.value.isInfinite();
+    }
+
+    @Benchmark
+    public boolean isExact(final Operand o) {
+        return o.value.isExact();
+    }
+
+    @Benchmark
+    public LongUnum getLowerBound(final Operand o) {
+        return o.value.getLowerBound();
+    }
+
+    @Benchmark
+    public LongUnum getUpperBound(final Operand o) {
+        return o.value.getUpperBound();
+    }
+
+    @Benchmark
+    public LongUnum negate(final Operand o) {
+        return o.value.negate();
+    }
+
+    @Benchmark
+    public LongUnum abs(final Operand o) {
+        return o.value.abs();
+    }
+
+    @Benchmark
+    public double doubleValue(final Operand o) {
+        return o.value.doubleValue();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalValueExact(final Operand o) {
+        return o.value.isExact() & o.value.isFinite() ? o.value.bigDecimalValueExact() : null;
+    }
+
+    @Benchmark
+    public String toString(final Operand o) {
+        return o.value.toString();
+    }
+}
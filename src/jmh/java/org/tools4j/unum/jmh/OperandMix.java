@@ -0,0 +1,148 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.Random;
+
+import org.tools4j.unum.api.DoubleUnum;
+import org.tools4j.unum.api.SingleUnum;
+import org.tools4j.unum.api.Singles;
+import org.tools4j.unum.api.Doubles;
+
+/**
+ * Operand mixes used as benchmark parameter.
+ */
+public enum OperandMix {
+    /** Exact finite values only */
+    EXACT {
+        @Override
+        double nextDouble(final Random rnd) {
+            return DoubleUnum.exact(finite(rnd));
+        }
+    },
+    /** Inexact finite values only */
+    INEXACT {
+        @Override
+        double nextDouble(final Random rnd) {
+            return DoubleUnum.inexact(finite(rnd));
+        }
+    },
+    /** Exact and inexact finite values */
+    MIXED {
+        @Override
+        double nextDouble(final Random rnd) {
+            return rnd.nextBoolean() ? EXACT.nextDouble(rnd) : INEXACT.nextDouble(rnd);
+        }
+    },
+    /** Finite values with one in four values being infinite */
+    INFINITE {
+        @Override
+        double nextDouble(final Random rnd) {
+            if (rnd.nextInt(4) == 0) {
+                return rnd.nextBoolean() ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+            }
+            return MIXED.nextDouble(rnd);
+        }
+    },
+    /** Finite values with one in four values being a quiet or signalling NaN */
+    NAN {
+        @Override
+        double nextDouble(final Random rnd) {
+            if (rnd.nextInt(4) == 0) {
+                return rnd.nextBoolean() ? Doubles.QNAN : Doubles.SNAN;
+            }
+            return MIXED.nextDouble(rnd);
+        }
+    };
+
+    public static final int SIZE = 1024;
+    private static final long SEED = 0x756e756dL;
+
+    abstract double nextDouble(Random rnd);
+
+    float nextFloat(final Random rnd) {
+        final double value = nextDouble(rnd);
+        if (Double.isNaN(value)) {
+            return Doubles.isSignalingNaN(value) ? Singles.SNAN : Singles.QNAN;
+        }
+        final float f = (float)value;
+        return DoubleUnum.isExact(value) ? SingleUnum.exact(f) : SingleUnum.inexact(f);
+    }
+
+    private static double finite(final Random rnd) {
+        final double value = rnd.nextGaussian() * Math.scalb(1.0, rnd.nextInt(41) - 20);
+        return value == 0 ? 1.0 : value;
+    }
+
+    public double[] doubles(final int index) {
+        final Random rnd = new Random(SEED + index);
+        final double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = nextDouble(rnd);
+        }
+        return values;
+    }
+
+    public float[] floats(final int index) {
+        final Random rnd = new Random(SEED + index);
+        final float[] values = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = nextFloat(rnd);
+        }
+        return values;
+    }
+
+    /**
+     * Returns sorted pairs of lower and upper unums, every second ubound and every NaN ubound being a single unum.
+     * @param index the operand index
+     * @return an array of length {@code 2 * SIZE} with lower unums at even and upper unums at odd indices
+     */
+    public double[] doubleBounds(final int index) {
+        final double[] a = doubles(index);
+        final double[] b = doubles(index + 1000);
+        final double[] bounds = new double[2 * SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final boolean single = (i & 1) == 0 | Double.isNaN(a[i]) | Double.isNaN(b[i]);
+            final double lower = single ? a[i] : DoubleUnum.min(a[i], b[i]);
+            final double upper = single ? a[i] : DoubleUnum.max(a[i], b[i]);
+            bounds[2 * i] = lower;
+            bounds[2 * i + 1] = upper;
+        }
+        return bounds;
+    }
+
+    public float[] floatBounds(final int index) {
+        final float[] a = floats(index);
+        final float[] b = floats(index + 1000);
+        final float[] bounds = new float[2 * SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final boolean single = (i & 1) == 0 | Float.isNaN(a[i]) | Float.isNaN(b[i]);
+            final float lower = single ? a[i] : SingleUnum.min(a[i], b[i]);
+            final float upper = single ? a[i] : SingleUnum.max(a[i], b[i]);
+            bounds[2 * i] = lower;
+            bounds[2 * i + 1] = upper;
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tools4j.unum.api.DoubleQuire;
+import org.tools4j.unum.api.DoubleUnum;
+import org.tools4j.unum.api.SingleQuire;
+import org.tools4j.unum.api.SingleUnum;
+
+import static org.tools4j.unum.jmh.OperandMix.SIZE;
+
+/**
+ * Benchmarks for dot products accumulated in {@link SingleQuire} and {@link DoubleQuire} compared to a ubound sum of
+ * rounded products and an exact {@link BigDecimal} dot product, the reported time is per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SIZE)
+public class QuireBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param({"EXACT", "MIXED"})
+        public OperandMix mix;
+
+        public float[] singleA;
+        public float[] singleB;
+        public double[] doubleA;
+        public double[] doubleB;
+        public final SingleQuire singleQuire = new SingleQuire();
+        public final DoubleQuire doubleQuire = new DoubleQuire();
+
+        @Setup
+        public void setup() {
+            singleA = mix.floats(0);
+            singleB = mix.floats(1);
+            doubleA = mix.doubles(0);
+            doubleB = mix.doubles(1);
+        }
+    }
+
+    @Benchmark
+    public float singleQuireDot(final Operands o) {
+        return o.singleQuire.reset().addDot(o.singleA, o.singleB).upper();
+    }
+
+    @Benchmark
+    public float singleUboundDot(final Operands o) {
+        float lower = 0;
+        float upper = 0;
+        for (int i = 0; i < SIZE; i++) {
+            final float a = o.singleA[i];
+            final float b = o.singleB[i];
+            lower = SingleUnum.addLower(lower, SingleUnum.multiplyLower(a, a, b, b));
+            upper = SingleUnum.addUpper(upper, SingleUnum.multiplyUpper(a, a, b, b));
+        }
+        return upper;
+    }
+
+    @Benchmark
+    public double doubleQuireDot(final Operands o) {
+        return o.doubleQuire.reset().addDot(o.doubleA, o.doubleB).upper();
+    }
+
+    @Benchmark
+    public double doubleUboundDot(final Operands o) {
+        double lower = 0;
+        double upper = 0;
+        for (int i = 0; i < SIZE; i++) {
+            final double a = o.doubleA[i];
+            final double b = o.doubleB[i];
+            lower = DoubleUnum.addLower(lower, DoubleUnum.multiplyLower(a, a, b, b));
+            upper = DoubleUnum.addUpper(upper, DoubleUnum.multiplyUpper(a, a, b, b));
+        }
+        return upper;
+    }
+
+    @Benchmark
+    public BigDecimal doubleBigDecimalDot(final Operands o) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < SIZE; i++) {
+            sum = sum.add(new BigDecimal(DoubleUnum.exact(o.doubleA[i])).multiply(new BigDecimal(DoubleUnum.exact(o.doubleB[i]))));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tools4j.unum.api.DoubleUboundArray;
+import org.tools4j.unum.api.SingleUboundArray;
+
+import static org.tools4j.unum.jmh.OperandMix.SIZE;
+
+/**
+ * Benchmarks for the element-wise operations of {@link SingleUboundArray} and {@link DoubleUboundArray}, the
+ * reported time is per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SIZE)
+public class UboundArrayBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param
+        public OperandMix mix;
+
+        public SingleUboundArray singleA;
+        public SingleUboundArray singleB;
+        public SingleUboundArray singleResult;
+        public DoubleUboundArray doubleA;
+        public DoubleUboundArray doubleB;
+        public DoubleUboundArray doubleResult;
+        public byte[] overlapResult;
+        public boolean[] booleanResult;
+
+        @Setup
+        public void setup() {
+            singleA = singleUbounds(mix.floatBounds(0));
+            singleB = singleUbounds(mix.floatBounds(1));
+            singleResult = new SingleUboundArray(SIZE);
+            doubleA = doubleUbounds(mix.doubleBounds(0));
+            doubleB = doubleUbounds(mix.doubleBounds(1));
+            doubleResult = new DoubleUboundArray(SIZE);
+            overlapResult = new byte[SIZE];
+            booleanResult = new boolean[SIZE];
+        }
+
+        private static SingleUboundArray singleUbounds(final float[] bounds) {
+            final SingleUboundArray ubounds = new SingleUboundArray(SIZE);
+            for (int i = 0; i < SIZE; i++) {
+                ubounds.set(i, bounds[2 * i], bounds[2 * i + 1]);
+            }
+            return ubounds;
+        }
+
+        private static DoubleUboundArray doubleUbounds(final double[] bounds) {
+            final DoubleUboundArray ubounds = new DoubleUboundArray(SIZE);
+            for (int i = 0; i < SIZE; i++) {
+                ubounds.set(i, bounds[2 * i], bounds[2 * i + 1]);
+            }
+            return ubounds;
+        }
+    }
+
+    @Benchmark
+    public Object singleOverlap(final Operands o) {
+        return o.singleA.overlap(o.singleB, o.overlapResult);
+    }
+
+    @Benchmark
+    public Object singleIntersect(final Operands o) {
+        return o.singleA.intersect(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleSpan(final Operands o) {
+        return o.singleA.span(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleIsLessThan(final Operands o) {
+        return o.singleA.isLessThan(o.singleB, o.booleanResult);
+    }
+
+    @Benchmark
+    public Object singleIsSomewhereEqualTo(final Operands o) {
+        return o.singleA.isSomewhereEqualTo(o.singleB, o.booleanResult);
+    }
+
+    @Benchmark
+    public Object doubleOverlap(final Operands o) {
+        return o.doubleA.overlap(o.doubleB, o.overlapResult);
+    }
+
+    @Benchmark
+    public Object doubleIntersect(final Operands o) {
+        return o.doubleA.intersect(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleSpan(final Operands o) {
+        return o.doubleA.span(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleIsLessThan(final Operands o) {
+        return o.doubleA.isLessThan(o.doubleB, o.booleanResult);
+    }
+
+    @Benchmark
+    public Object doubleIsSomewhereEqualTo(final Operands o) {
+        return o.doubleA.isSomewhereEqualTo(o.doubleB, o.booleanResult);
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tools4j.unum.api.DoubleUnum;
+import org.tools4j.unum.api.Ubound;
+
+import static org.tools4j.unum.jmh.OperandMix.SIZE;
+
+/**
+ * Benchmarks for {@link Ubound} operations on double unum ubounds; every second operand is a single unum.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SIZE)
+public class UboundBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param
+        public OperandMix mix;
+
+        public Ubound<DoubleUnum>[] a;
+        public Ubound<DoubleUnum>[] b;
+
+        @Setup
+        public void setup() {
+            a = ubounds(mix.doubleBounds(0));
+            b = ubounds(mix.doubleBounds(1));
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Ubound<DoubleUnum>[] ubounds(final double[] bounds) {
+            final Ubound<DoubleUnum>[] ubounds = new Ubound[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                ubounds[i] = Ubound.create(DoubleUnum.valueOf(bounds[2 * i]), DoubleUnum.valueOf(bounds[2 * i + 1]));
+            }
+            return ubounds;
+        }
+    }
+
+    @Benchmark
+    public void overlap(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].overlap(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void isNowhereEqualTo(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].isNowhereEqualTo(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void isSomewhereEqualTo(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].isSomewhereEqualTo(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void isEverywhereEqualTo(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].isEverywhereEqualTo(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void isLessThan(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].isLessThan(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void isLessThanOrEqualTo(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].isLessThanOrEqualTo(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void intersect(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].intersect(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void span(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].span(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void add(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].add(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void subtract(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].subtract(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void multiply(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].multiply(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void divide(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].divide(o.b[i]));
+        }
+    }
+
+    @Benchmark
+    public void square(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].square());
+        }
+    }
+
+    @Benchmark
+    public void width(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].width());
+        }
+    }
+
+    @Benchmark
+    public void boundary(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].boundary());
+        }
+    }
+
+    @Benchmark
+    public void isNaN(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].isNaN());
+        }
+    }
+
+    @Benchmark
+    public void isSinglePoint(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].isSinglePoint());
+        }
+    }
+
+    @Benchmark
+    public void toString(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(o.a[i].toString());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tools4j.unum.api.DoubleUboundArray;
+import org.tools4j.unum.api.DoubleUboundIndex;
+import org.tools4j.unum.api.DoubleUnum;
+
+/**
+ * Benchmarks overlap queries against {@link DoubleUboundIndex} and a linear scan of a {@link DoubleUboundArray}
+ * with ubounds of random position and width, the reported time is per query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(UboundIndexBenchmark.QUERIES)
+public class UboundIndexBenchmark {
+
+    public static final int QUERIES = 64;
+    private static final double RANGE = 1e6;
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param({"4096", "65536"})
+        public int size;
+
+        public DoubleUboundArray ubounds;
+        public DoubleUboundIndex index;
+        public double[] queryLower;
+        public double[] queryUpper;
+
+        @Setup
+        public void setup() {
+            final Random rnd = new Random(size);
+            ubounds = new DoubleUboundArray(size);
+            for (int i = 0; i < size; i++) {
+                final double lower = rnd.nextDouble() * RANGE;
+                ubounds.set(i, DoubleUnum.exact(lower), DoubleUnum.inexact(lower + rnd.nextDouble() * RANGE / size));
+            }
+            index = DoubleUboundIndex.of(ubounds);
+            queryLower = new double[QUERIES];
+            queryUpper = new double[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                final double lower = rnd.nextDouble() * RANGE;
+                queryLower[i] = DoubleUnum.inexact(lower);
+                queryUpper[i] = DoubleUnum.exact(lower + rnd.nextDouble() * RANGE / size);
+            }
+        }
+    }
+
+    @Benchmark
+    public void index(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < QUERIES; i++) {
+            o.index.forEachSomewhereEqualTo(o.queryLower[i], o.queryUpper[i], bh::consume);
+        }
+    }
+
+    @Benchmark
+    public void linearScan(final Operands o, final Blackhole bh) {
+        final double[] lower = o.ubounds.lower();
+        final double[] upper = o.ubounds.upper();
+        for (int i = 0; i < QUERIES; i++) {
+            for (int j = 0; j < lower.length; j++) {
+                if (!DoubleUboundArray.isNowhereEqual(lower[j], upper[j], o.queryLower[i], o.queryUpper[i])) {
+                    bh.consume(j);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tools4j.unum.api.DoubleUnum;
+import org.tools4j.unum.api.Ubound;
+import org.tools4j.unum.api.UboxSolver;
+
+/**
+ * Benchmark for the {@link UboxSolver} computing the uboxes on the unit circle with different pool parallelism to
+ * measure the scaling from one to N cores, the reported time is per solve.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UboxSolverBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Problem {
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+
+        public ForkJoinPool pool;
+        public UboxSolver<DoubleUnum> solver;
+        public List<Ubound<DoubleUnum>> domain;
+
+        @Setup
+        public void setup() {
+            final Ubound<DoubleUnum> one = Ubound.create(DoubleUnum.ONE);
+            final Ubound<DoubleUnum> square = Ubound.create(DoubleUnum.valueOf(-2.0), DoubleUnum.valueOf(2.0));
+            pool = new ForkJoinPool(parallelism);
+            solver = new UboxSolver<>(ubox -> ubox.get(0).square().add(ubox.get(1).square()).isSomewhereEqualTo(one), 1e-3);
+            domain = Arrays.asList(square, square);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Object unitCircle(final Problem p) {
+        return p.solver.solve(p.domain, p.pool);
+    }
+}
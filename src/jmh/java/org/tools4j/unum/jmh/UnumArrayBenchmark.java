@@ -0,0 +1,171 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tools4j.unum.api.DoubleUnumArray;
+import org.tools4j.unum.api.SingleUnumArray;
+
+import static org.tools4j.unum.jmh.OperandMix.SIZE;
+
+/**
+ * Benchmarks for the element-wise operations of {@link SingleUnumArray} and {@link DoubleUnumArray}, the reported
+ * time is per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SIZE)
+public class UnumArrayBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param
+        public OperandMix mix;
+
+        public SingleUnumArray singleA;
+        public SingleUnumArray singleB;
+        public SingleUnumArray singleResult;
+        public DoubleUnumArray doubleA;
+        public DoubleUnumArray doubleB;
+        public DoubleUnumArray doubleResult;
+        public int[] compareResult;
+
+        @Setup
+        public void setup() {
+            singleA = SingleUnumArray.wrap(mix.floats(0));
+            singleB = SingleUnumArray.wrap(mix.floats(1));
+            singleResult = new SingleUnumArray(SIZE);
+            doubleA = DoubleUnumArray.wrap(mix.doubles(0));
+            doubleB = DoubleUnumArray.wrap(mix.doubles(1));
+            doubleResult = new DoubleUnumArray(SIZE);
+            compareResult = new int[SIZE];
+        }
+    }
+
+    @Benchmark
+    public Object singleAdd(final Operands o) {
+        return o.singleA.add(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleMultiply(final Operands o) {
+        return o.singleA.multiply(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleMin(final Operands o) {
+        return o.singleA.min(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleMax(final Operands o) {
+        return o.singleA.max(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleNegate(final Operands o) {
+        return o.singleA.negate(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleAbs(final Operands o) {
+        return o.singleA.abs(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleLowerBound(final Operands o) {
+        return o.singleA.lowerBound(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleUpperBound(final Operands o) {
+        return o.singleA.upperBound(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleCompare(final Operands o) {
+        return o.singleA.compare(o.singleB, o.compareResult);
+    }
+
+    @Benchmark
+    public Object doubleAdd(final Operands o) {
+        return o.doubleA.add(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleMultiply(final Operands o) {
+        return o.doubleA.multiply(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleMin(final Operands o) {
+        return o.doubleA.min(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleMax(final Operands o) {
+        return o.doubleA.max(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleNegate(final Operands o) {
+        return o.doubleA.negate(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleAbs(final Operands o) {
+        return o.doubleA.abs(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleLowerBound(final Operands o) {
+        return o.doubleA.lowerBound(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleUpperBound(final Operands o) {
+        return o.doubleA.upperBound(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleCompare(final Operands o) {
+        return o.doubleA.compare(o.doubleB, o.compareResult);
+    }
+}
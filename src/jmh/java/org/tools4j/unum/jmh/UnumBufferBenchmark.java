@@ -0,0 +1,205 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tools4j.unum.api.DoubleUnumBuffer;
+import org.tools4j.unum.api.SingleUnumBuffer;
+
+import static org.tools4j.unum.jmh.OperandMix.SIZE;
+
+/**
+ * Benchmarks for the element-wise operations of direct {@link SingleUnumBuffer} and {@link DoubleUnumBuffer}
+ * instances, the reported time is per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SIZE)
+public class UnumBufferBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param
+        public OperandMix mix;
+
+        public SingleUnumBuffer singleA;
+        public SingleUnumBuffer singleB;
+        public SingleUnumBuffer singleResult;
+        public DoubleUnumBuffer doubleA;
+        public DoubleUnumBuffer doubleB;
+        public DoubleUnumBuffer doubleResult;
+        public int[] compareResult;
+
+        @Setup
+        public void setup() {
+            singleA = SingleUnumBuffer.allocateDirect(SIZE);
+            singleB = SingleUnumBuffer.allocateDirect(SIZE);
+            singleResult = SingleUnumBuffer.allocateDirect(SIZE);
+            singleA.set(0, mix.floats(0), 0, SIZE);
+            singleB.set(0, mix.floats(1), 0, SIZE);
+            doubleA = DoubleUnumBuffer.allocateDirect(SIZE);
+            doubleB = DoubleUnumBuffer.allocateDirect(SIZE);
+            doubleResult = DoubleUnumBuffer.allocateDirect(SIZE);
+            doubleA.set(0, mix.doubles(0), 0, SIZE);
+            doubleB.set(0, mix.doubles(1), 0, SIZE);
+            compareResult = new int[SIZE];
+        }
+    }
+
+    @Benchmark
+    public Object singleAdd(final Operands o) {
+        return o.singleA.add(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleSubtract(final Operands o) {
+        return o.singleA.subtract(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleMultiply(final Operands o) {
+        return o.singleA.multiply(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleMin(final Operands o) {
+        return o.singleA.min(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleMax(final Operands o) {
+        return o.singleA.max(o.singleB, o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleNegate(final Operands o) {
+        return o.singleA.negate(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleAbs(final Operands o) {
+        return o.singleA.abs(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleNextUp(final Operands o) {
+        return o.singleA.nextUp(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleNextDown(final Operands o) {
+        return o.singleA.nextDown(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleGetLowerBound(final Operands o) {
+        return o.singleA.getLowerBound(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleGetUpperBound(final Operands o) {
+        return o.singleA.getUpperBound(o.singleResult);
+    }
+
+    @Benchmark
+    public Object singleCompare(final Operands o) {
+        return o.singleA.compare(o.singleB, o.compareResult);
+    }
+
+    @Benchmark
+    public Object doubleAdd(final Operands o) {
+        return o.doubleA.add(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleSubtract(final Operands o) {
+        return o.doubleA.subtract(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleMultiply(final Operands o) {
+        return o.doubleA.multiply(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleMin(final Operands o) {
+        return o.doubleA.min(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleMax(final Operands o) {
+        return o.doubleA.max(o.doubleB, o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleNegate(final Operands o) {
+        return o.doubleA.negate(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleAbs(final Operands o) {
+        return o.doubleA.abs(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleNextUp(final Operands o) {
+        return o.doubleA.nextUp(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleNextDown(final Operands o) {
+        return o.doubleA.nextDown(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleGetLowerBound(final Operands o) {
+        return o.doubleA.getLowerBound(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleGetUpperBound(final Operands o) {
+        return o.doubleA.getUpperBound(o.doubleResult);
+    }
+
+    @Benchmark
+    public Object doubleCompare(final Operands o) {
+        return o.doubleA.compare(o.doubleB, o.compareResult);
+    }
+}
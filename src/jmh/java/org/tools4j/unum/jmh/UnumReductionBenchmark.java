@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tools4j.unum.api.UnumReductions;
+
+import static org.tools4j.unum.jmh.OperandMix.SIZE;
+
+/**
+ * Benchmarks for the parallel reductions of {@link UnumReductions} with different pool parallelism to measure the
+ * scaling from one to N cores, the reported time is per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(UnumReductionBenchmark.LENGTH)
+public class UnumReductionBenchmark {
+
+    public static final int LENGTH = 1 << 22;
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param({"MIXED"})
+        public OperandMix mix;
+
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+
+        public ForkJoinPool pool;
+        public float[] floats;
+        public double[] doubles;
+
+        @Setup
+        public void setup() {
+            pool = new ForkJoinPool(parallelism);
+            floats = new float[LENGTH];
+            doubles = new double[LENGTH];
+            for (int i = 0; i < LENGTH; i += SIZE) {
+                System.arraycopy(mix.floats(i / SIZE), 0, floats, i, SIZE);
+                System.arraycopy(mix.doubles(i / SIZE), 0, doubles, i, SIZE);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Object singleSum(final Operands o) {
+        return UnumReductions.sum(o.floats, o.pool);
+    }
+
+    @Benchmark
+    public Object singleProduct(final Operands o) {
+        return UnumReductions.product(o.floats, o.pool);
+    }
+
+    @Benchmark
+    public Object doubleSum(final Operands o) {
+        return UnumReductions.sum(o.doubles, o.pool);
+    }
+
+    @Benchmark
+    public Object doubleProduct(final Operands o) {
+        return UnumReductions.product(o.doubles, o.pool);
+    }
+}
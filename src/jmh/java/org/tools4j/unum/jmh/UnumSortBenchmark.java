@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.jmh;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tools4j.unum.api.DoubleUnum;
+import org.tools4j.unum.api.DoubleUnumArray;
+import org.tools4j.unum.api.SingleUnum;
+import org.tools4j.unum.api.SingleUnumArray;
+
+/**
+ * Benchmarks the radix sort of {@link DoubleUnumArray} and {@link SingleUnumArray} against comparison sorting of
+ * unum objects and {@link Arrays#sort(double[])} as reference, the reported time is per sort including the copy of
+ * the unsorted input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UnumSortBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Operands {
+        @Param({"1024", "65536", "1048576"})
+        public int length;
+
+        @Param({"MIXED", "NAN"})
+        public OperandMix mix;
+
+        public double[] doubles;
+        public float[] floats;
+        public DoubleUnum[] doubleUnums;
+        public SingleUnum[] singleUnums;
+        public double[] sortedDoubles;
+        public double[] keys;
+
+        @Setup
+        public void setup() {
+            doubles = new double[length];
+            floats = new float[length];
+            for (int i = 0; i < length; i += OperandMix.SIZE) {
+                final int n = Math.min(OperandMix.SIZE, length - i);
+                System.arraycopy(mix.doubles(i), 0, doubles, i, n);
+                System.arraycopy(mix.floats(i), 0, floats, i, n);
+            }
+            doubleUnums = new DoubleUnum[length];
+            singleUnums = new SingleUnum[length];
+            for (int i = 0; i < length; i++) {
+                doubleUnums[i] = DoubleUnum.valueOf(doubles[i]);
+                singleUnums[i] = SingleUnum.valueOf(floats[i]);
+            }
+            sortedDoubles = doubles.clone();
+            DoubleUnumArray.sort(sortedDoubles);
+            final Random rnd = new Random(length);
+            keys = new double[OperandMix.SIZE];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = doubles[rnd.nextInt(length)];
+            }
+        }
+    }
+
+    @Benchmark
+    public double[] doubleRadixSort(final Operands o) {
+        final double[] values = o.doubles.clone();
+        DoubleUnumArray.sort(values);
+        return values;
+    }
+
+    @Benchmark
+    public DoubleUnum[] doubleUnumSort(final Operands o) {
+        final DoubleUnum[] unums = o.doubleUnums.clone();
+        Arrays.sort(unums);
+        return unums;
+    }
+
+    @Benchmark
+    public double[] doubleArraysSort(final Operands o) {
+        final double[] values = o.doubles.clone();
+        Arrays.sort(values);
+        return values;
+    }
+
+    @Benchmark
+    public float[] singleRadixSort(final Operands o) {
+        final float[] values = o.floats.clone();
+        SingleUnumArray.sort(values);
+        return values;
+    }
+
+    @Benchmark
+    public SingleUnum[] singleUnumSort(final Operands o) {
+        final SingleUnum[] unums = o.singleUnums.clone();
+        Arrays.sort(unums);
+        return unums;
+    }
+
+    @Benchmark
+    public void doubleBinarySearch(final Operands o, final Blackhole bh) {
+        for (int i = 0; i < o.keys.length; i++) {
+            bh.consume(DoubleUnumArray.binarySearch(o.sortedDoubles, o.keys[i]));
+        }
+    }
+}
@@ -28,8 +28,13 @@ public final class DefaultUbound<U extends Unum<U>> implements Ubound<U> {
     private final U lower;
     private final U upper;
 
+    /**
+     * Creates a ubound from lower to upper unum. Unums of different sizes such as LongUnums can compare larger as
+     * lower unum and still form a valid ubound, hence only an empty ubound with lower end point after upper end point
+     * is rejected.
+     */
     DefaultUbound(final U lower, final U upper) {
-        if (lower.compareTo(upper) > 0) {
+        if (lower.compareTo(upper) > 0 && (lower.isNaN() || upper.isNaN() || isBefore(upper, lower))) {
             throw new IllegalArgumentException("lower is larger than upper: " + lower + " > " + upper);
         }
         this.lower = lower;
@@ -48,7 +53,11 @@ public final class DefaultUbound<U extends Unum<U>> implements Ubound<U> {
         if (lower.equals(upper)) {
             return Ubound.create(lower.intervalWidth());
         }
-        throw new RuntimeException("not implemented");//FIXME
+        if (isNaN()) {
+            return getFactory().qNaN();
+        }
+        final U width = upper.getUpperBound().subtract(lower.getLowerBound());
+        return Ubound.create(width);
     }
 
     public final Boundary boundary() {
@@ -63,27 +72,25 @@ public final class DefaultUbound<U extends Unum<U>> implements Ubound<U> {
         if (this == other) {
             return Overlap.EQUAL;
         }
-        final Ubound<U> minUpper = getUpperBound().compareTo(other.getUpperBound()) <= 0 ? this : other;
-        final Ubound<U> maxLower = getLowerBound().compareTo(other.getLowerBound()) >= 0 ? this : other;
-        final int cmp = minUpper.getUpperBound().compareTo(maxLower.getLowerBound());
-        if (cmp < 0) {
-            return Overlap.APART;
-        } else if (cmp == 0) {
-            if (minUpper.getUpperBound().isInexact() || maxLower.getLowerBound().isInexact()) {
-                return Overlap.NEARLY_TOUCHING;
-            }
-            return (minUpper.isSinglePoint() || maxLower.isSinglePoint()) ? Overlap.CONTAINING : Overlap.TOUCHING;
+        final int cmpLower = compareLower(getLowerBound(), other.getLowerBound());
+        final int cmpUpper = compareUpper(getUpperBound(), other.getUpperBound());
+        final U minUpper = cmpUpper <= 0 ? getUpperBound() : other.getUpperBound();
+        final U maxLower = cmpLower >= 0 ? getLowerBound() : other.getLowerBound();
+        //compare the common end points, if equal it is either a single exact point or open for at least one ubound
+        final boolean commonEnd = minUpper.getUpperBound().compareTo(maxLower.getLowerBound()) == 0;
+        if (isBefore(minUpper, maxLower)) {
+            //touching if the open end of one is the closed end of the other
+            return commonEnd ? Overlap.NEARLY_TOUCHING : Overlap.APART;
         }
-
-        if (minUpper == maxLower) {
-            final Ubound<U> inner = minUpper;
-            final Ubound<U> outer = inner == this ? other : this;
-            if (inner.getLowerBound().equals(outer.getLowerBound()) && inner.getUpperBound().equals(outer.getUpperBound())) {
-                return Overlap.EQUAL;
-            }
+        final boolean thisInOther = cmpLower >= 0 && cmpUpper <= 0;
+        final boolean otherInThis = cmpLower <= 0 && cmpUpper >= 0;
+        if (thisInOther & otherInThis) {
+            return Overlap.EQUAL;
+        }
+        if (thisInOther | otherInThis) {
             return Overlap.CONTAINING;
         }
-        return Overlap.OVERLAPPING;
+        return commonEnd ? Overlap.TOUCHING : Overlap.OVERLAPPING;
     }
     public final boolean isNowhereEqualTo(final Ubound<U> other) {
         if (isNaN() || other.isNaN()) {
@@ -92,10 +99,7 @@ public final class DefaultUbound<U extends Unum<U>> implements Ubound<U> {
         if (this == other) {
             return false;
         }
-        final U minUpper = getUpperBound().compareTo(other.getUpperBound()) <= 0 ? getUpperBound() : other.getUpperBound();
-        final U maxLower = getLowerBound().compareTo(other.getLowerBound()) >= 0 ? getLowerBound() : other.getLowerBound();
-        final int cmp = minUpper.compareTo(maxLower);
-        return (cmp < 0 || (cmp == 0 && (minUpper.isInexact() || maxLower.isInexact())));
+        return isBefore(minUpper(getUpperBound(), other.getUpperBound()), maxLower(getLowerBound(), other.getLowerBound()));
     }
     public final boolean isSomewhereEqualTo(final Ubound<U> other) {
         return !isNowhereEqualTo(other);
@@ -116,10 +120,9 @@ public final class DefaultUbound<U extends Unum<U>> implements Ubound<U> {
         if (with.isNaN()) {
             return with;
         }
-        final U minUpper = getUpperBound().compareTo(with.getUpperBound()) <= 0 ? getUpperBound() : with.getUpperBound();
-        final U maxLower = getLowerBound().compareTo(with.getLowerBound()) >= 0 ? getLowerBound() : with.getLowerBound();
-        final int cmp = minUpper.compareTo(maxLower);
-        if (cmp < 0 || (cmp == 0 && (minUpper.isInexact() || maxLower.isInexact()))) {
+        final U minUpper = minUpper(getUpperBound(), with.getUpperBound());
+        final U maxLower = maxLower(getLowerBound(), with.getLowerBound());
+        if (isBefore(minUpper, maxLower)) {
             //nowhere equal
             return getFactory().qNaN();
         }
@@ -135,9 +138,257 @@ public final class DefaultUbound<U extends Unum<U>> implements Ubound<U> {
         if (with.isNaN()) {
             return this;
         }
-        final U minLower = getLowerBound().compareTo(with.getLowerBound()) <= 0 ? getLowerBound() : with.getLowerBound();
-        final U maxUpper = getUpperBound().compareTo(with.getUpperBound()) >= 0 ? getUpperBound() : with.getUpperBound();
-        return Ubound.create(minLower, maxUpper);
+        return Ubound.create(min(getLowerBound(), with.getLowerBound()), max(getUpperBound(), with.getUpperBound()));
+    }
+
+    public final Ubound<U> add(final Ubound<U> summand) {
+        if (isNaN() || summand.isNaN()) {
+            return getFactory().qNaN();
+        }
+        if (isSinglePoint() && summand.isSinglePoint()) {
+            return ubound(lower.add(summand.getLowerBound()), summand);
+        }
+        final U l = addBound(lower.getLowerBound(), lower.isInexact(), summand.getLowerBound().getLowerBound(), summand.isLowerOpen(), true);
+        final U u = addBound(upper.getUpperBound(), upper.isInexact(), summand.getUpperBound().getUpperBound(), summand.isUpperOpen(), false);
+        return ubound(l, u, summand);
+    }
+
+    public final Ubound<U> subtract(final Ubound<U> subtrahend) {
+        if (isNaN() || subtrahend.isNaN()) {
+            return getFactory().qNaN();
+        }
+        if (isSinglePoint() && subtrahend.isSinglePoint()) {
+            return ubound(lower.subtract(subtrahend.getLowerBound()), subtrahend);
+        }
+        final U l = addBound(lower.getLowerBound(), lower.isInexact(), subtrahend.getUpperBound().getUpperBound().negate(), subtrahend.isUpperOpen(), true);
+        final U u = addBound(upper.getUpperBound(), upper.isInexact(), subtrahend.getLowerBound().getLowerBound().negate(), subtrahend.isLowerOpen(), false);
+        return ubound(l, u, subtrahend);
+    }
+
+    public final Ubound<U> multiply(final Ubound<U> factor) {
+        if (isNaN() || factor.isNaN()) {
+            return getFactory().qNaN();
+        }
+        if (isSinglePoint() && factor.isSinglePoint()) {
+            return ubound(lower.multiply(factor.getLowerBound()), factor);
+        }
+        final U al = lower.getLowerBound(), au = upper.getUpperBound();
+        final U bl = factor.getLowerBound().getLowerBound(), bu = factor.getUpperBound().getUpperBound();
+        final boolean alOpen = isLowerOpen(), auOpen = isUpperOpen(), blOpen = factor.isLowerOpen(), buOpen = factor.isUpperOpen();
+        //the extremes of the product are at the corners, an open corner endpoint is approached from inside
+        final U l = min(
+                min(multiplyBound(al, alOpen, 1, bl, blOpen, 1, true), multiplyBound(al, alOpen, 1, bu, buOpen, -1, true)),
+                min(multiplyBound(au, auOpen, -1, bl, blOpen, 1, true), multiplyBound(au, auOpen, -1, bu, buOpen, -1, true)));
+        final U u = max(
+                max(multiplyBound(al, alOpen, 1, bl, blOpen, 1, false), multiplyBound(al, alOpen, 1, bu, buOpen, -1, false)),
+                max(multiplyBound(au, auOpen, -1, bl, blOpen, 1, false), multiplyBound(au, auOpen, -1, bu, buOpen, -1, false)));
+        return ubound(l, u, factor);
+    }
+
+    public final Ubound<U> divide(final Ubound<U> divisor) {
+        if (isNaN() || divisor.isNaN()) {
+            return getFactory().qNaN();
+        }
+        if (isSinglePoint() && divisor.isSinglePoint()) {
+            return ubound(lower.divide(divisor.getLowerBound()), divisor);
+        }
+        final U al = lower.getLowerBound(), au = upper.getUpperBound();
+        final U bl = divisor.getLowerBound().getLowerBound(), bu = divisor.getUpperBound().getUpperBound();
+        final boolean alOpen = isLowerOpen(), auOpen = isUpperOpen(), blOpen = divisor.isLowerOpen(), buOpen = divisor.isUpperOpen();
+        if (!(bl.isPositive() || (bl.isZero() && blOpen) || bu.isNegative() || (bu.isZero() && buOpen))) {
+            //divisor contains zero
+            return getFactory().qNaN();
+        }
+        final U l = min(
+                min(divideBound(al, alOpen, 1, bl, blOpen, 1, true), divideBound(al, alOpen, 1, bu, buOpen, -1, true)),
+                min(divideBound(au, auOpen, -1, bl, blOpen, 1, true), divideBound(au, auOpen, -1, bu, buOpen, -1, true)));
+        final U u = max(
+                max(divideBound(al, alOpen, 1, bl, blOpen, 1, false), divideBound(al, alOpen, 1, bu, buOpen, -1, false)),
+                max(divideBound(au, auOpen, -1, bl, blOpen, 1, false), divideBound(au, auOpen, -1, bu, buOpen, -1, false)));
+        return ubound(l, u, divisor);
+    }
+
+    public final Ubound<U> square() {
+        if (isNaN()) {
+            return getFactory().qNaN();
+        }
+        if (isSinglePoint()) {
+            return ubound(lower.multiply(lower), this);
+        }
+        final U al = lower.getLowerBound(), au = upper.getUpperBound();
+        final boolean alo = isLowerOpen(), auo = isUpperOpen();
+        final U l, u;
+        if (al.isNonNegative()) {
+            l = multiplyBound(al, alo, 1, al, alo, 1, true);
+            u = multiplyBound(au, auo, -1, au, auo, -1, false);
+        } else if (au.isNonPositive()) {
+            l = multiplyBound(au, auo, -1, au, auo, -1, true);
+            u = multiplyBound(al, alo, 1, al, alo, 1, false);
+        } else {
+            //contains zero
+            l = lower.getFactory().zero();
+            u = max(multiplyBound(al, alo, 1, al, alo, 1, false), multiplyBound(au, auo, -1, au, auo, -1, false));
+        }
+        return ubound(l, u, this);
+    }
+
+    private Ubound<U> ubound(final U unum, final Ubound<U> other) {
+        return ubound(unum, unum, other);
+    }
+
+    /**
+     * Returns this or other if lower and upper match their bounds, and a new ubound otherwise.
+     */
+    private Ubound<U> ubound(final U lower, final U upper, final Ubound<U> other) {
+        if (lower.isNaN() || upper.isNaN()) {
+            return getFactory().qNaN();
+        }
+        if (lower.equals(this.lower) && upper.equals(this.upper)) {
+            return this;
+        }
+        if (lower.equals(other.getLowerBound()) && upper.equals(other.getUpperBound())) {
+            return other;
+        }
+        return Ubound.create(lower, upper);
+    }
+
+    /*
+     * Lower and upper unums are compared by their end points, not with compareTo which orders unums of different
+     * sizes such as LongUnums by lower bound first; it is the same for unums of a fixed size like DoubleUnum.
+     */
+
+    /**
+     * Compares the end points of two lower unums, a closed end point is less than an open one with the same value.
+     */
+    private static <U extends Unum<U>> int compareLower(final U a, final U b) {
+        final int cmp = a.getLowerBound().compareTo(b.getLowerBound());
+        return cmp != 0 ? cmp : Boolean.compare(a.isInexact(), b.isInexact());
+    }
+
+    /**
+     * Compares the end points of two upper unums, an open end point is less than a closed one with the same value.
+     */
+    private static <U extends Unum<U>> int compareUpper(final U a, final U b) {
+        final int cmp = a.getUpperBound().compareTo(b.getUpperBound());
+        return cmp != 0 ? cmp : Boolean.compare(b.isInexact(), a.isInexact());
+    }
+
+    /**
+     * Returns true if all points up to the upper unum are less than all points from the lower unum on.
+     */
+    static <U extends Unum<U>> boolean isBefore(final U upper, final U lower) {
+        final int cmp = upper.getUpperBound().compareTo(lower.getLowerBound());
+        return cmp < 0 || (cmp == 0 && (upper.isInexact() || lower.isInexact()));
+    }
+
+    private static <U extends Unum<U>> U minUpper(final U a, final U b) {
+        return compareUpper(a, b) <= 0 ? a : b;
+    }
+
+    private static <U extends Unum<U>> U maxLower(final U a, final U b) {
+        return compareLower(a, b) >= 0 ? a : b;
+    }
+
+    private static <U extends Unum<U>> U min(final U a, final U b) {
+        return a.isNaN() || b.isNaN() ? a.getFactory().qNaN() : compareLower(a, b) <= 0 ? a : b;
+    }
+
+    private static <U extends Unum<U>> U max(final U a, final U b) {
+        return a.isNaN() || b.isNaN() ? a.getFactory().qNaN() : compareUpper(a, b) >= 0 ? a : b;
+    }
+
+    /**
+     * Returns the lower or upper unum for an exact endpoint value which is open or closed. An open infinite endpoint
+     * is approached from the finite side, hence it becomes the inexact unum between maxreal and infinity.
+     */
+    private static <U extends Unum<U>> U bound(final U value, final boolean open, final boolean lower) {
+        if (!open || value.isInexact()) {
+            return value;
+        }
+        if (value.isInfinite()) {
+            return value.isPositive() ? value.nextDown() : value.nextUp();
+        }
+        return lower ? value.nextUp() : value.nextDown();
+    }
+
+    private static <U extends Unum<U>> U addBound(final U a, final boolean aOpen, final U b, final boolean bOpen, final boolean lower) {
+        if (a.isInfinite() | b.isInfinite()) {
+            if (a.isInfinite() & b.isInfinite() && a.compareTo(b) != 0) {
+                //a closed infinity absorbs the other (open) one
+                if (aOpen == bOpen) {
+                    return a.getFactory().qNaN();
+                }
+                return aOpen ? b : a;
+            }
+            final U inf = a.isInfinite() ? a : b;
+            final boolean open = (!a.isInfinite() | aOpen) & (!b.isInfinite() | bOpen);
+            return bound(inf, open, lower);
+        }
+        return bound(a.add(b), aOpen | bOpen, lower);
+    }
+
+    /**
+     * Returns the lower or upper unum of the product of two endpoints. An open endpoint is approached from the side
+     * given by its sign argument, which determines the sign of products with an open zero endpoint. The product of
+     * an open zero and an open infinity is indeterminate and returns the neutral element for min or max,
+     * respectively; it is never the extreme of a product with more than one point.
+     */
+    private static <U extends Unum<U>> U multiplyBound(final U a, final boolean aOpen, final int aSide,
+                                                       final U b, final boolean bOpen, final int bSide,
+                                                       final boolean lower) {
+        final Factory<U> factory = a.getFactory();
+        if ((a.isZero() & !aOpen) | (b.isZero() & !bOpen)) {
+            //closed zero times anything but a closed infinity is a closed zero
+            return (a.isInfinite() & !aOpen) | (b.isInfinite() & !bOpen) ? factory.qNaN() : factory.zero();
+        }
+        if (a.isInfinite() | b.isInfinite()) {
+            final boolean open = (!a.isInfinite() | aOpen) & (!b.isInfinite() | bOpen);
+            if (open & (a.isZero() | b.isZero())) {
+                return lower ? factory.positiveInfinity() : factory.negativeInfinity();
+            }
+            return bound(infinity(factory, isNegative(a, aSide) == isNegative(b, bSide)), open, lower);
+        }
+        return bound(a.multiply(b), aOpen | bOpen, lower);
+    }
+
+    /**
+     * Returns the lower or upper unum of the quotient of two endpoints, the divisor is not a closed zero. Open zero
+     * and infinity endpoints are treated as in {@link #multiplyBound(Unum, boolean, int, Unum, boolean, int, boolean)},
+     * indeterminate quotients return the neutral element for min or max, respectively.
+     */
+    private static <U extends Unum<U>> U divideBound(final U a, final boolean aOpen, final int aSide,
+                                                     final U b, final boolean bOpen, final int bSide,
+                                                     final boolean lower) {
+        final Factory<U> factory = a.getFactory();
+        if (a.isZero() & !aOpen) {
+            return factory.zero();
+        }
+        final boolean positive = isNegative(a, aSide) == isNegative(b, bSide);
+        if (a.isInfinite() & b.isInfinite()) {
+            if (aOpen == bOpen) {
+                return aOpen ? (lower ? factory.positiveInfinity() : factory.negativeInfinity()) : factory.qNaN();
+            }
+            //finite over closed infinity is a closed zero, closed infinity over finite a closed infinity
+            return aOpen ? factory.zero() : infinity(factory, positive);
+        }
+        if (a.isZero() & b.isZero()) {
+            return lower ? factory.positiveInfinity() : factory.negativeInfinity();
+        }
+        if (b.isZero() | a.isInfinite()) {
+            return bound(infinity(factory, positive), !a.isInfinite() | aOpen, lower);
+        }
+        if (b.isInfinite()) {
+            return bound(factory.zero(), bOpen, lower);
+        }
+        return bound(a.divide(b), aOpen | bOpen, lower);
+    }
+
+    private static boolean isNegative(final Unum<?> endpoint, final int side) {
+        return endpoint.isNegative() | (endpoint.isZero() & side < 0);
+    }
+
+    private static <U extends Unum<U>> U infinity(final Factory<U> factory, final boolean positive) {
+        return positive ? factory.positiveInfinity() : factory.negativeInfinity();
     }
 
     @Override
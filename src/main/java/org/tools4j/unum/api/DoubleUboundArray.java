@@ -0,0 +1,249 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.Serializable;
+
+/**
+ * A columnar array of {@link Ubound Ubound&lt;DoubleUnum&gt;} values with lower and upper unums stored in two parallel
+ * double arrays using the DoubleUnum double encoding. Bulk operations run directly on the backing arrays and write
+ * their results into primitive arrays, for instance {@link Ubound.Overlap} ordinals into a byte array.
+ */
+public final class DoubleUboundArray implements Serializable {
+
+    private static final Ubound.Overlap[] OVERLAPS = Ubound.Overlap.values();
+
+    private final double[] lower;
+    private final double[] upper;
+
+    public DoubleUboundArray(final int length) {
+        this(new double[length], new double[length]);
+    }
+
+    private DoubleUboundArray(final double[] lower, final double[] upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Returns a ubound array backed by the given lower and upper arrays; changes in one are reflected in the other.
+     * @param lower the lower unums in DoubleUnum double encoding
+     * @param upper the upper unums in DoubleUnum double encoding
+     * @return a ubound array backed by lower and upper
+     */
+    public static DoubleUboundArray wrap(final double[] lower, final double[] upper) {
+        if (lower.length != upper.length) {
+            throw new IllegalArgumentException("array length mismatch: " + lower.length + " and " + upper.length);
+        }
+        return new DoubleUboundArray(lower, upper);
+    }
+
+    public int length() {
+        return lower.length;
+    }
+
+    /**
+     * Returns the backing array with the lower unums.
+     * @return the double array backing the lower unums
+     */
+    public double[] lower() {
+        return lower;
+    }
+
+    /**
+     * Returns the backing array with the upper unums.
+     * @return the double array backing the upper unums
+     */
+    public double[] upper() {
+        return upper;
+    }
+
+    public double getLower(final int index) {
+        return lower[index];
+    }
+
+    public double getUpper(final int index) {
+        return upper[index];
+    }
+
+    public void set(final int index, final double unum) {
+        lower[index] = unum;
+        upper[index] = unum;
+    }
+
+    public void set(final int index, final double lower, final double upper) {
+        if (DoubleUnum.compare(lower, upper) > 0) {
+            throw new IllegalArgumentException("lower is larger than upper: " + DoubleUnum.toString(lower) + " > " + DoubleUnum.toString(upper));
+        }
+        this.lower[index] = lower;
+        this.upper[index] = upper;
+    }
+
+    public Ubound<DoubleUnum> get(final int index) {
+        return Ubound.create(DoubleUnum.valueOf(lower[index]), DoubleUnum.valueOf(upper[index]));
+    }
+
+    public void set(final int index, final Ubound<DoubleUnum> ubound) {
+        lower[index] = ubound.getLowerBound().doubleValue();
+        upper[index] = ubound.getUpperBound().doubleValue();
+    }
+
+    /**
+     * Returns the overlap constant for an ordinal stored by {@link #overlap(DoubleUboundArray, byte[])}.
+     * @param ordinal the overlap ordinal
+     * @return the overlap constant
+     */
+    public static Ubound.Overlap overlapOf(final byte ordinal) {
+        return OVERLAPS[ordinal];
+    }
+
+    public byte[] overlap(final DoubleUboundArray other, final byte[] result) {
+        validateLength(other, result.length);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte)overlap(lower[i], upper[i], other.lower[i], other.upper[i]).ordinal();
+        }
+        return result;
+    }
+
+    public DoubleUboundArray intersect(final DoubleUboundArray with, final DoubleUboundArray result) {
+        validateLength(with, result.length());
+        for (int i = 0; i < lower.length; i++) {
+            final double aLower = lower[i], aUpper = upper[i], bLower = with.lower[i], bUpper = with.upper[i];
+            if (isNowhereEqual(aLower, aUpper, bLower, bUpper)) {
+                result.lower[i] = Doubles.QNAN;
+                result.upper[i] = Doubles.QNAN;
+            } else {
+                result.lower[i] = DoubleUnum.max(aLower, bLower);
+                result.upper[i] = DoubleUnum.min(aUpper, bUpper);
+            }
+        }
+        return result;
+    }
+
+    public DoubleUboundArray span(final DoubleUboundArray with, final DoubleUboundArray result) {
+        validateLength(with, result.length());
+        for (int i = 0; i < lower.length; i++) {
+            final double aLower = lower[i], aUpper = upper[i], bLower = with.lower[i], bUpper = with.upper[i];
+            if (isNaN(aLower, aUpper)) {
+                result.lower[i] = bLower;
+                result.upper[i] = bUpper;
+            } else if (isNaN(bLower, bUpper)) {
+                result.lower[i] = aLower;
+                result.upper[i] = aUpper;
+            } else {
+                result.lower[i] = DoubleUnum.min(aLower, bLower);
+                result.upper[i] = DoubleUnum.max(aUpper, bUpper);
+            }
+        }
+        return result;
+    }
+
+    public boolean[] isLessThan(final DoubleUboundArray other, final boolean[] result) {
+        validateLength(other, result.length);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = isLessThan(lower[i], upper[i], other.lower[i], other.upper[i]);
+        }
+        return result;
+    }
+
+    public boolean[] isSomewhereEqualTo(final DoubleUboundArray other, final boolean[] result) {
+        validateLength(other, result.length);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = !isNowhereEqual(lower[i], upper[i], other.lower[i], other.upper[i]);
+        }
+        return result;
+    }
+
+    public static boolean isNaN(final double lower, final double upper) {
+        return Double.isNaN(lower) | Double.isNaN(upper);
+    }
+
+    /**
+     * Returns the overlap of two ubounds given as lower and upper unums, see {@link Ubound#overlap(Ubound)}.
+     */
+    public static Ubound.Overlap overlap(final double aLower, final double aUpper, final double bLower, final double bUpper) {
+        if (isNaN(aLower, aUpper) | isNaN(bLower, bUpper)) {
+            return Ubound.Overlap.EMPTY;
+        }
+        final double minUpper = DoubleUnum.min(aUpper, bUpper);
+        final double maxLower = DoubleUnum.max(aLower, bLower);
+        final int cmp = DoubleUnum.compare(minUpper, maxLower);
+        if (cmp < 0) {
+            //touching if the open end of one is the closed end of the other
+            return DoubleUnum.compare(DoubleUnum.getUpperBound(minUpper), DoubleUnum.getLowerBound(maxLower)) == 0 ?
+                    Ubound.Overlap.NEARLY_TOUCHING : Ubound.Overlap.APART;
+        }
+        final boolean aInB = DoubleUnum.compare(aLower, bLower) >= 0 & DoubleUnum.compare(aUpper, bUpper) <= 0;
+        final boolean bInA = DoubleUnum.compare(bLower, aLower) >= 0 & DoubleUnum.compare(bUpper, aUpper) <= 0;
+        if (aInB & bInA) {
+            return Ubound.Overlap.EQUAL;
+        }
+        if (aInB | bInA) {
+            return Ubound.Overlap.CONTAINING;
+        }
+        //if cmp is zero, the common end is either a single exact point or the same inexact unum
+        return cmp == 0 & DoubleUnum.isExact(minUpper) ? Ubound.Overlap.TOUCHING : Ubound.Overlap.OVERLAPPING;
+    }
+
+    /**
+     * Returns true if two ubounds given as lower and upper unums have no common point, see
+     * {@link Ubound#isNowhereEqualTo(Ubound)}.
+     */
+    public static boolean isNowhereEqual(final double aLower, final double aUpper, final double bLower, final double bUpper) {
+        if (isNaN(aLower, aUpper) | isNaN(bLower, bUpper)) {
+            return true;
+        }
+        return DoubleUnum.compare(DoubleUnum.min(aUpper, bUpper), DoubleUnum.max(aLower, bLower)) < 0;
+    }
+
+    /**
+     * Returns true if all points of the first ubound are less than all points of the second, see
+     * {@link Ubound#isLessThan(Ubound)}.
+     */
+    public static boolean isLessThan(final double aLower, final double aUpper, final double bLower, final double bUpper) {
+        if (isNaN(aLower, aUpper) | isNaN(bLower, bUpper)) {
+            return false;
+        }
+        return DoubleUnum.compare(aUpper, bLower) < 0;
+    }
+
+    private void validateLength(final DoubleUboundArray other, final int resultLength) {
+        if (other.lower.length != lower.length | resultLength != lower.length) {
+            throw new IllegalArgumentException("array length mismatch: " + lower.length + ", " + other.lower.length + " and " + resultLength);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < lower.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,349 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable index over {@link Ubound Ubound&lt;DoubleUnum&gt;} values answering which of the indexed ubounds are
+ * {@link Ubound.Overlap#isSomewhereEqual() somewhere equal} to a query ubound in {@code O(log n + k)} for k results.
+ * <p>
+ * Open and closed boundaries are honoured exactly: inexact lower and upper unums are ordered between their exact
+ * neighbours, hence two ubounds overlap if and only if each lower unum is not greater than the other upper unum. The
+ * index stores the unums as {@link DoubleUnum#sortableKey(double) sortable keys} and splits a query into ubounds
+ * with a lower unum not greater than the query's lower unum, found by a stabbing query in a centered interval tree,
+ * and ubounds with a lower unum within the query, a contiguous range of the ubounds sorted by lower unum. NaN ubounds
+ * are not indexed as they overlap nothing.
+ */
+public final class DoubleUboundIndex {
+
+    private final int size;
+
+    //all indexed ubounds sorted by lower key
+    private final long[] sortedLower;
+    private final int[] sortedId;
+
+    //centered interval tree nodes, ubounds containing the center in two orders at offset
+    private final long[] center;
+    private final int[] left;
+    private final int[] right;
+    private final int[] offset;
+    private final int[] count;
+    private final long[] centerLower;
+    private final int[] centerLowerId;
+    private final long[] centerUpper;
+    private final int[] centerUpperId;
+    private int nodes;
+    private int entries;
+
+    private DoubleUboundIndex(final double[] lower, final double[] upper) {
+        int n = 0;
+        for (int i = 0; i < lower.length; i++) {
+            if (!DoubleUboundArray.isNaN(lower[i], upper[i])) {
+                if (DoubleUnum.compare(lower[i], upper[i]) > 0) {
+                    throw new IllegalArgumentException("invalid ubound at index " + i + ": " +
+                            DoubleUnum.toString(lower[i]) + " > " + DoubleUnum.toString(upper[i]));
+                }
+                n++;
+            }
+        }
+        final long[] lowerKeys = new long[lower.length];
+        final long[] upperKeys = new long[lower.length];
+        final int[] ids = new int[n];
+        for (int i = 0, j = 0; i < lower.length; i++) {
+            lowerKeys[i] = DoubleUnum.sortableKey(lower[i]);
+            upperKeys[i] = DoubleUnum.sortableKey(upper[i]);
+            if (!DoubleUboundArray.isNaN(lower[i], upper[i])) {
+                ids[j++] = i;
+            }
+        }
+        sort(ids, lowerKeys, false);
+        this.size = lower.length;
+        this.sortedId = ids;
+        this.sortedLower = new long[n];
+        for (int i = 0; i < n; i++) {
+            sortedLower[i] = lowerKeys[ids[i]];
+        }
+        this.center = new long[n];
+        this.left = new int[n];
+        this.right = new int[n];
+        this.offset = new int[n];
+        this.count = new int[n];
+        this.centerLower = new long[n];
+        this.centerLowerId = new int[n];
+        this.centerUpper = new long[n];
+        this.centerUpperId = new int[n];
+        build(ids, lowerKeys, upperKeys);
+    }
+
+    /**
+     * Returns an index over the ubounds of the given array; the index refers to ubounds by array index and does not
+     * reflect later changes of the array.
+     * @param ubounds the ubounds to index
+     * @return an index over a snapshot of the ubounds
+     * @throws IllegalArgumentException if a lower unum is greater than its upper unum
+     */
+    public static DoubleUboundIndex of(final DoubleUboundArray ubounds) {
+        return new DoubleUboundIndex(ubounds.lower(), ubounds.upper());
+    }
+
+    /**
+     * Returns an index over the given ubounds, referred to by list index.
+     * @param ubounds the ubounds to index
+     * @return an index over the ubounds
+     */
+    public static DoubleUboundIndex of(final List<? extends Ubound<DoubleUnum>> ubounds) {
+        final int n = ubounds.size();
+        final double[] lower = new double[n];
+        final double[] upper = new double[n];
+        for (int i = 0; i < n; i++) {
+            final Ubound<DoubleUnum> ubound = ubounds.get(i);
+            lower[i] = ubound.getLowerBound().doubleValue();
+            upper[i] = ubound.getUpperBound().doubleValue();
+        }
+        return new DoubleUboundIndex(lower, upper);
+    }
+
+    /**
+     * Returns the number of ubounds this index was created from, including NaN ubounds which are not indexed.
+     * @return the number of ubounds
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the indices of all ubounds somewhere equal to the query in ascending order.
+     * @param query the query ubound
+     * @return the indices of the ubounds overlapping the query, empty if the query is NaN
+     */
+    public int[] somewhereEqualTo(final Ubound<DoubleUnum> query) {
+        return somewhereEqualTo(query.getLowerBound().doubleValue(), query.getUpperBound().doubleValue());
+    }
+
+    /**
+     * Returns the indices of all ubounds somewhere equal to the query ubound given as lower and upper unum in
+     * ascending order.
+     * @throws IllegalArgumentException if lower is greater than upper
+     */
+    public int[] somewhereEqualTo(final double lower, final double upper) {
+        final int[] result = new int[countSomewhereEqualTo(lower, upper)];
+        final int[] next = {0};
+        forEachSomewhereEqualTo(lower, upper, id -> result[next[0]++] = id);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the number of ubounds somewhere equal to the query ubound given as lower and upper unum.
+     * @throws IllegalArgumentException if lower is greater than upper
+     */
+    public int countSomewhereEqualTo(final double lower, final double upper) {
+        if (DoubleUboundArray.isNaN(lower, upper)) {
+            return 0;
+        }
+        validateQuery(lower, upper);
+        final long lowerKey = DoubleUnum.sortableKey(lower);
+        final long upperKey = DoubleUnum.sortableKey(upper);
+        int n = 0;
+        int node = nodes > 0 ? 0 : -1;
+        while (node >= 0) {
+            final int start = offset[node];
+            final int end = start + count[node];
+            if (lowerKey < center[node]) {
+                int i = start;
+                while (i < end && centerLower[i] <= lowerKey) {
+                    i++;
+                }
+                n += i - start;
+                node = left[node];
+            } else if (lowerKey > center[node]) {
+                int i = start;
+                while (i < end && centerUpper[i] >= lowerKey) {
+                    i++;
+                }
+                n += i - start;
+                node = right[node];
+            } else {
+                n += end - start;
+                node = -1;
+            }
+        }
+        return n + upperBound(sortedLower, upperKey) - upperBound(sortedLower, lowerKey);
+    }
+
+    /**
+     * Performs the action for the index of every ubound somewhere equal to the query ubound given as lower and upper
+     * unum, in no particular order.
+     * @param lower     the lower unum of the query
+     * @param upper     the upper unum of the query
+     * @param action    the action invoked with the index of every overlapping ubound
+     * @return the number of overlapping ubounds
+     * @throws IllegalArgumentException if lower is greater than upper
+     */
+    public int forEachSomewhereEqualTo(final double lower, final double upper, final IntConsumer action) {
+        if (DoubleUboundArray.isNaN(lower, upper)) {
+            return 0;
+        }
+        validateQuery(lower, upper);
+        final long lowerKey = DoubleUnum.sortableKey(lower);
+        final long upperKey = DoubleUnum.sortableKey(upper);
+        int n = 0;
+        //ubounds with lower <= query lower are those containing the query lower
+        int node = nodes > 0 ? 0 : -1;
+        while (node >= 0) {
+            final int start = offset[node];
+            final int end = start + count[node];
+            if (lowerKey < center[node]) {
+                for (int i = start; i < end && centerLower[i] <= lowerKey; i++) {
+                    action.accept(centerLowerId[i]);
+                    n++;
+                }
+                node = left[node];
+            } else if (lowerKey > center[node]) {
+                for (int i = start; i < end && centerUpper[i] >= lowerKey; i++) {
+                    action.accept(centerUpperId[i]);
+                    n++;
+                }
+                node = right[node];
+            } else {
+                for (int i = start; i < end; i++) {
+                    action.accept(centerLowerId[i]);
+                }
+                n += end - start;
+                node = -1;
+            }
+        }
+        //ubounds with query lower < lower <= query upper
+        final int end = upperBound(sortedLower, upperKey);
+        for (int i = upperBound(sortedLower, lowerKey); i < end; i++) {
+            action.accept(sortedId[i]);
+            n++;
+        }
+        return n;
+    }
+
+    private static void validateQuery(final double lower, final double upper) {
+        if (DoubleUnum.compare(lower, upper) > 0) {
+            throw new IllegalArgumentException("invalid query: " + DoubleUnum.toString(lower) + " > " + DoubleUnum.toString(upper));
+        }
+    }
+
+    /** Returns the index of the first key greater than the given key */
+    private static int upperBound(final long[] keys, final long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Builds the subtree for the given ubounds sorted by lower key and returns the node index. The center is the
+     * lower unum of the median ubound, hence every node contains at least one ubound and both subtrees contain at most
+     * half of the ubounds.
+     */
+    private int build(final int[] ids, final long[] lowerKeys, final long[] upperKeys) {
+        if (ids.length == 0) {
+            return -1;
+        }
+        final long c = lowerKeys[ids[ids.length >>> 1]];
+        int nLeft = 0;
+        int nRight = 0;
+        for (final int id : ids) {
+            if (upperKeys[id] < c) {
+                nLeft++;
+            } else if (lowerKeys[id] > c) {
+                nRight++;
+            }
+        }
+        final int[] leftIds = new int[nLeft];
+        final int[] rightIds = new int[nRight];
+        final int[] centerIds = new int[ids.length - nLeft - nRight];
+        nLeft = 0;
+        nRight = 0;
+        int nCenter = 0;
+        for (final int id : ids) {
+            if (upperKeys[id] < c) {
+                leftIds[nLeft++] = id;
+            } else if (lowerKeys[id] > c) {
+                rightIds[nRight++] = id;
+            } else {
+                centerIds[nCenter++] = id;
+            }
+        }
+        final int node = nodes++;
+        center[node] = c;
+        offset[node] = entries;
+        count[node] = nCenter;
+        //centerIds are sorted by lower key ascending, add them by upper key descending as well
+        for (int i = 0; i < nCenter; i++) {
+            centerLowerId[entries + i] = centerIds[i];
+            centerLower[entries + i] = lowerKeys[centerIds[i]];
+        }
+        sort(centerIds, upperKeys, true);
+        for (int i = 0; i < nCenter; i++) {
+            centerUpperId[entries + i] = centerIds[i];
+            centerUpper[entries + i] = upperKeys[centerIds[i]];
+        }
+        entries += nCenter;
+        left[node] = build(leftIds, lowerKeys, upperKeys);
+        right[node] = build(rightIds, lowerKeys, upperKeys);
+        return node;
+    }
+
+    /** Sorts the ids by key with a stable merge sort */
+    private static void sort(final int[] ids, final long[] keys, final boolean descending) {
+        final int[] buffer = new int[ids.length];
+        int[] from = ids;
+        int[] to = buffer;
+        for (int width = 1; width < ids.length; width <<= 1) {
+            for (int start = 0; start < ids.length; start += 2 * width) {
+                final int mid = Math.min(start + width, ids.length);
+                final int end = Math.min(start + 2 * width, ids.length);
+                int i = start;
+                int j = mid;
+                for (int k = start; k < end; k++) {
+                    final boolean takeLeft = j >= end || (i < mid &&
+                            (descending ? keys[from[i]] >= keys[from[j]] : keys[from[i]] <= keys[from[j]]));
+                    to[k] = takeLeft ? from[i++] : from[j++];
+                }
+            }
+            final int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != ids) {
+            System.arraycopy(from, 0, ids, 0, ids.length);
+        }
+    }
+}
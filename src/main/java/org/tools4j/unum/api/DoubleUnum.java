@@ -31,16 +31,23 @@ import java.io.Serializable;
 public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable {
 
     private static final long UBIT_MASK = 0x0000000000000001L;
+    private static final long NAN_MAGNITUDE = 0x7ff0000000000001L;
 
     public static final DoubleUnum ZERO  = new DoubleUnum(0.0);
+    public static final DoubleUnum HALF  = new DoubleUnum(0.5);
     public static final DoubleUnum ONE   = new DoubleUnum(1.0);
     public static final DoubleUnum TWO   = new DoubleUnum(2.0);
     public static final DoubleUnum TEN   = new DoubleUnum(10.0);
+    public static final DoubleUnum POSITIVE_INFINITY = new DoubleUnum(Double.POSITIVE_INFINITY);
+    public static final DoubleUnum NEGATIVE_INFINITY = new DoubleUnum(Double.NEGATIVE_INFINITY);
     public static final DoubleUnum QNAN  = new DoubleUnum(Doubles.QNAN);
     public static final DoubleUnum SNAN  = new DoubleUnum(Doubles.SNAN);
 
     public static final Ubound<DoubleUnum> UBOUND_ZERO = Ubound.create(ZERO);
+    public static final Ubound<DoubleUnum> UBOUND_HALF = Ubound.create(HALF);
     public static final Ubound<DoubleUnum> UBOUND_ONE = Ubound.create(ONE);
+    public static final Ubound<DoubleUnum> UBOUND_POSITIVE_INFINITY = Ubound.create(POSITIVE_INFINITY);
+    public static final Ubound<DoubleUnum> UBOUND_NEGATIVE_INFINITY = Ubound.create(NEGATIVE_INFINITY);
     public static final Ubound<DoubleUnum> UBOUND_QNAN = Ubound.create(QNAN);
     public static final Ubound<DoubleUnum> UBOUND_SNAN = Ubound.create(SNAN);
 
@@ -64,6 +71,21 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         public DoubleUnum one() {
             return ONE;
         }
+
+        @Override
+        public DoubleUnum half() {
+            return HALF;
+        }
+
+        @Override
+        public DoubleUnum positiveInfinity() {
+            return POSITIVE_INFINITY;
+        }
+
+        @Override
+        public DoubleUnum negativeInfinity() {
+            return NEGATIVE_INFINITY;
+        }
     };
 
     public static final Factory<Ubound<DoubleUnum>> UBOUND_FACTORY = new Factory<Ubound<DoubleUnum>>() {
@@ -83,6 +105,18 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         public Ubound<DoubleUnum> one() {
             return UBOUND_ONE;
         }
+        @Override
+        public Ubound<DoubleUnum> half() {
+            return UBOUND_HALF;
+        }
+        @Override
+        public Ubound<DoubleUnum> positiveInfinity() {
+            return UBOUND_POSITIVE_INFINITY;
+        }
+        @Override
+        public Ubound<DoubleUnum> negativeInfinity() {
+            return UBOUND_NEGATIVE_INFINITY;
+        }
     };
     public static final DoubleUnum signedNaN(final double sign) {
         return isSignNegative(sign) ? SNAN : QNAN;
@@ -94,12 +128,21 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         this.value = value;
     }
 
+    /**
+     * Returns a unum for the given value. Special values, exact integers in the range {@code [-high, high]} and
+     * their adjacent inexact unums are returned from a cache of canonical instances, where {@code high} defaults to
+     * 128 and can be configured via system property {@code org.tools4j.unum.api.DoubleUnum.Cache.high}.
+     *
+     * @param value the unum value
+     * @return the unum instance, a cached instance if possible
+     */
     public static final DoubleUnum valueOf(final double value) {
-        return new DoubleUnum(value);
+        final DoubleUnum cached = Cache.get(value);
+        return cached != null ? cached : new DoubleUnum(value);
     }
 
     public static final DoubleUnum exactValueOf(final double value) {
-        return new DoubleUnum(exact(value));
+        return valueOf(exact(value));
     }
 
     public static final double exact(final double value) {
@@ -108,14 +151,14 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
             if (0 == (raw & UBIT_MASK)) {
                 return value;
             }
-            return Double.longBitsToDouble(raw >= 0 ? raw+1 : raw-1);
+            return Double.longBitsToDouble(raw >= 0 ? raw-1 : raw+1);
         }
         //NaN or Infinite
         return raw >= 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
     }
 
     public static final DoubleUnum inexactValueOf(final double value) {
-        return new DoubleUnum(inexact(value));
+        return valueOf(inexact(value));
     }
     public static final double inexact(final double value) {
         final long raw = Double.doubleToRawLongBits(value);
@@ -123,7 +166,8 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
             if (0 != (raw & UBIT_MASK)) {
                 return value;
             }
-            return Double.longBitsToDouble(raw >= 0 ? raw+1 : raw-1);
+            //negative zero has the same upper neighbour as positive zero
+            return Double.longBitsToDouble(raw >= 0 ? raw+1 : raw == Long.MIN_VALUE ? 1 : raw-1);
         }
         //NaN or Infinite
         return raw >= 0 ? Doubles.QNAN : Doubles.SNAN;
@@ -227,7 +271,7 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
     }
 
     public DoubleUnum nextUp() {
-        return new DoubleUnum(nextUp(value));
+        return valueOf(nextUp(value));
     }
 
     public static double nextUp(final double value) {
@@ -241,7 +285,7 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
     }
 
     public DoubleUnum nextDown() {
-        return new DoubleUnum(nextDown(value));
+        return valueOf(nextDown(value));
     }
 
     public static double nextDown(final double value) {
@@ -258,14 +302,14 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         if (isExact() | isNaN()) {
             return this;
         }
-        return new DoubleUnum(value > 0.0 ? Math.nextDown(value) : Math.nextUp(value));
+        return valueOf(Math.nextDown(value));
     }
 
     public static double getLowerBound(final double value) {
         if (isExact(value) | Double.isNaN(value)) {
             return value;
         }
-        return value > 0.0 ? Math.nextDown(value) : Math.nextUp(value);
+        return Math.nextDown(value);
     }
 
     @Override
@@ -273,14 +317,14 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         if (isExact() | isNaN()) {
             return this;
         }
-        return new DoubleUnum(value > 0.0 ? Math.nextUp(value) : Math.nextDown(value));
+        return valueOf(Math.nextUp(value));
     }
 
     public static double getUpperBound(final double value) {
-        if (value < 0.0 | isExact(value) | Double.isNaN(value)) {
+        if (isExact(value) | Double.isNaN(value)) {
             return value;
         }
-        return value > 0.0 ? Math.nextUp(value) : Math.nextDown(value);
+        return Math.nextUp(value);
     }
 
     @Override
@@ -301,22 +345,325 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
 
     @Override
     public DoubleUnum add(final DoubleUnum other) {
-        throw new RuntimeException("not implemented");
+        return DoubleUnum.valueOf(add(value, other.value));
+    }
+
+    /**
+     * Returns the sum of two unums, or NaN if the sum of two inexact operands cannot be represented as a single unum;
+     * use {@link #addLower(double, double)} and {@link #addUpper(double, double)} in this case.
+     */
+    public static double add(final double a, final double b) {
+        if (isExact(a) & isExact(b)) {
+            final double s = a + b;
+            if (Double.isFinite(s)) {
+                return enclose(s, ErrorFree.sumError(a, b, s));
+            }
+            if (Double.isFinite(a) & Double.isFinite(b)) {
+                return overflow(s);
+            }
+            //infinite operand, inf - inf is NaN
+            return Double.isNaN(s) ? Doubles.QNAN : s;
+        }
+        return single(addLower(a, b), addUpper(a, b));
+    }
+
+    /**
+     * Returns the lower unum of the sum of two ubounds.
+     * @param aLower the lower unum of the first ubound
+     * @param bLower the lower unum of the second ubound
+     * @return the lower unum of the ubound sum
+     */
+    public static double addLower(final double aLower, final double bLower) {
+        return addBound(getLowerBound(aLower), isInexact(aLower), getLowerBound(bLower), isInexact(bLower), true);
+    }
+
+    /**
+     * Returns the upper unum of the sum of two ubounds.
+     * @param aUpper the upper unum of the first ubound
+     * @param bUpper the upper unum of the second ubound
+     * @return the upper unum of the ubound sum
+     */
+    public static double addUpper(final double aUpper, final double bUpper) {
+        return addBound(getUpperBound(aUpper), isInexact(aUpper), getUpperBound(bUpper), isInexact(bUpper), false);
+    }
+
+    private static double addBound(final double a, final boolean aOpen, final double b, final boolean bOpen, final boolean lower) {
+        if (Double.isNaN(a) | Double.isNaN(b)) {
+            return Doubles.QNAN;
+        }
+        if (Double.isInfinite(a) | Double.isInfinite(b)) {
+            if (Double.isInfinite(a) & Double.isInfinite(b) & a != b) {
+                //a closed infinity absorbs the other (open) one
+                if (aOpen == bOpen) {
+                    return Doubles.QNAN;
+                }
+                return aOpen ? b : a;
+            }
+            final double inf = Double.isInfinite(a) ? a : b;
+            final boolean open = (!Double.isInfinite(a) | aOpen) & (!Double.isInfinite(b) | bOpen);
+            return open ? overflow(inf) : inf;
+        }
+        final double s = a + b;
+        if (Double.isInfinite(s)) {
+            return overflow(s);
+        }
+        return bound(s, ErrorFree.sumError(a, b, s), aOpen | bOpen, lower);
     }
 
     @Override
     public DoubleUnum subtract(final DoubleUnum other) {
-        throw new RuntimeException("not implemented");
+        return DoubleUnum.valueOf(subtract(value, other.value));
+    }
+
+    /**
+     * Returns the difference of two unums, or NaN if the difference of two inexact operands cannot be represented as
+     * a single unum; use {@link #subtractLower(double, double)} and {@link #subtractUpper(double, double)} in this case.
+     */
+    public static double subtract(final double a, final double b) {
+        return add(a, -b);
+    }
+
+    /**
+     * Returns the lower unum of the difference of two ubounds.
+     * @param aLower the lower unum of the minuend ubound
+     * @param bUpper the upper unum of the subtrahend ubound
+     * @return the lower unum of the ubound difference
+     */
+    public static double subtractLower(final double aLower, final double bUpper) {
+        return addLower(aLower, -bUpper);
+    }
+
+    /**
+     * Returns the upper unum of the difference of two ubounds.
+     * @param aUpper the upper unum of the minuend ubound
+     * @param bLower the lower unum of the subtrahend ubound
+     * @return the upper unum of the ubound difference
+     */
+    public static double subtractUpper(final double aUpper, final double bLower) {
+        return addUpper(aUpper, -bLower);
     }
 
     @Override
     public DoubleUnum multiply(final DoubleUnum other) {
-        throw new RuntimeException("not implemented");
+        return DoubleUnum.valueOf(multiply(value, other.value));
+    }
+
+    /**
+     * Returns the product of two unums, or NaN if the product of two inexact operands cannot be represented as a
+     * single unum; use {@link #multiplyLower(double, double, double, double)} and
+     * {@link #multiplyUpper(double, double, double, double)} in this case.
+     */
+    public static double multiply(final double a, final double b) {
+        if (isExact(a) & isExact(b)) {
+            final double p = a * b;
+            if (Double.isFinite(p)) {
+                return enclose(p, ErrorFree.productErrorSign(a, b, p));
+            }
+            if (Double.isFinite(a) & Double.isFinite(b)) {
+                return overflow(p);
+            }
+            //infinite operand, 0 * inf is NaN
+            return Double.isNaN(p) ? Doubles.QNAN : p;
+        }
+        return single(multiplyLower(a, a, b, b), multiplyUpper(a, a, b, b));
+    }
+
+    /**
+     * Returns the lower unum of the product of two ubounds.
+     * @param aLower the lower unum of the first ubound
+     * @param aUpper the upper unum of the first ubound
+     * @param bLower the lower unum of the second ubound
+     * @param bUpper the upper unum of the second ubound
+     * @return the lower unum of the ubound product
+     */
+    public static double multiplyLower(final double aLower, final double aUpper, final double bLower, final double bUpper) {
+        return multiplyBound(aLower, aUpper, bLower, bUpper, true);
+    }
+
+    /**
+     * Returns the upper unum of the product of two ubounds.
+     * @param aLower the lower unum of the first ubound
+     * @param aUpper the upper unum of the first ubound
+     * @param bLower the lower unum of the second ubound
+     * @param bUpper the upper unum of the second ubound
+     * @return the upper unum of the ubound product
+     */
+    public static double multiplyUpper(final double aLower, final double aUpper, final double bLower, final double bUpper) {
+        return multiplyBound(aLower, aUpper, bLower, bUpper, false);
+    }
+
+    private static double multiplyBound(final double aLower, final double aUpper, final double bLower, final double bUpper, final boolean lower) {
+        if (Double.isNaN(aLower) | Double.isNaN(aUpper) | Double.isNaN(bLower) | Double.isNaN(bUpper)) {
+            return Doubles.QNAN;
+        }
+        final double al = getLowerBound(aLower);
+        final double au = getUpperBound(aUpper);
+        final double bl = getLowerBound(bLower);
+        final double bu = getUpperBound(bUpper);
+        final boolean alOpen = isInexact(aLower);
+        final boolean auOpen = isInexact(aUpper);
+        final boolean blOpen = isInexact(bLower);
+        final boolean buOpen = isInexact(bUpper);
+        //the extremes of the product are at the corners, an open corner endpoint is approached from inside
+        final double ll = multiplyBound(al, alOpen, 1, bl, blOpen, 1, lower);
+        final double lu = multiplyBound(al, alOpen, 1, bu, buOpen, -1, lower);
+        final double ul = multiplyBound(au, auOpen, -1, bl, blOpen, 1, lower);
+        final double uu = multiplyBound(au, auOpen, -1, bu, buOpen, -1, lower);
+        if (Double.isNaN(ll) | Double.isNaN(lu) | Double.isNaN(ul) | Double.isNaN(uu)) {
+            return Doubles.QNAN;
+        }
+        return lower ? min(min(ll, lu), min(ul, uu)) : max(max(ll, lu), max(ul, uu));
+    }
+
+    /**
+     * Returns the lower or upper unum of the product of two endpoints. An open endpoint is approached from the side
+     * given by its sign argument, which determines the sign of products with an open zero endpoint. The product of
+     * an open zero and an open infinity is indeterminate and returns the neutral element for min or max,
+     * respectively; it is never the extreme of a product with more than one point.
+     */
+    private static double multiplyBound(final double a, final boolean aOpen, final int aSide,
+                                        final double b, final boolean bOpen, final int bSide,
+                                        final boolean lower) {
+        if ((a == 0.0 & !aOpen) | (b == 0.0 & !bOpen)) {
+            //closed zero times anything but a closed infinity is a closed zero
+            return (Double.isInfinite(a) & !aOpen) | (Double.isInfinite(b) & !bOpen) ? Doubles.QNAN : 0.0;
+        }
+        if (Double.isInfinite(a) | Double.isInfinite(b)) {
+            final boolean open = (!Double.isInfinite(a) | aOpen) & (!Double.isInfinite(b) | bOpen);
+            if (a == 0.0 | b == 0.0) {
+                if (open) {
+                    return lower ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+                }
+                final int sign = (a < 0.0 | (a == 0.0 & aSide < 0)) == (b < 0.0 | (b == 0.0 & bSide < 0)) ? 1 : -1;
+                return sign * Double.POSITIVE_INFINITY;
+            }
+            final double inf = (a < 0.0) == (b < 0.0) ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+            return open ? overflow(inf) : inf;
+        }
+        final double p = a * b;
+        if (Double.isInfinite(p)) {
+            return overflow(p);
+        }
+        return bound(p, ErrorFree.productErrorSign(a, b, p), aOpen | bOpen, lower);
+    }
+
+    /**
+     * Returns the lower or upper unum of a ubound with an endpoint r, given its rounded value, the error
+     * {@code r - rounded} and whether the endpoint is open. Only the sign of the error is relevant.
+     */
+    static double bound(final double rounded, final double error, final boolean open, final boolean lower) {
+        if (open & error == 0.0 & isExact(rounded)) {
+            return lower ? Math.nextUp(rounded) : Math.nextDown(rounded);
+        }
+        return enclose(rounded, error);
+    }
+
+    /**
+     * Returns the single unum if lower and upper unum are equal and NaN otherwise.
+     */
+    static double single(final double lower, final double upper) {
+        return compare(lower, upper) == 0 ? lower : Doubles.QNAN;
     }
 
     @Override
     public DoubleUnum divide(final DoubleUnum other) {
-        throw new RuntimeException("not implemented");
+        return DoubleUnum.valueOf(divide(value, other.value));
+    }
+
+    /**
+     * Returns the quotient of two exact unums, or NaN if an operand is inexact or the divisor is zero; use
+     * {@link Ubound#divide(Ubound)} in this case.
+     */
+    public static double divide(final double a, final double b) {
+        if (isExact(a) & isExact(b) & b != 0.0) {
+            final double q = a / b;
+            if (Double.isFinite(q)) {
+                if (Double.isFinite(a) & Double.isFinite(b)) {
+                    return enclose(q, ErrorFree.quotientErrorSign(a, b, q));
+                }
+                //finite divided by infinite
+                return q;
+            }
+            if (Double.isFinite(a) & Double.isFinite(b)) {
+                return overflow(q);
+            }
+            //infinite operand, inf / inf is NaN
+            return Double.isNaN(q) ? Doubles.QNAN : q;
+        }
+        //inexact operand or division by zero
+        return Doubles.QNAN;
+    }
+
+    public DoubleUnum sqrt() {
+        return DoubleUnum.valueOf(sqrt(value));
+    }
+
+    /**
+     * Returns the square root of a unum, or NaN if the square root of an inexact operand cannot be represented as a
+     * single unum; use {@link #sqrtLower(double)} and {@link #sqrtUpper(double)} in this case. The square root is NaN
+     * if the unum contains negative values.
+     */
+    public static double sqrt(final double a) {
+        if (isExact(a)) {
+            return sqrtBound(a, false, true);
+        }
+        return single(sqrtLower(a), sqrtUpper(a));
+    }
+
+    /**
+     * Returns the lower unum of the square root of a ubound.
+     * @param aLower the lower unum of the ubound
+     * @return the lower unum of the ubound square root
+     */
+    public static double sqrtLower(final double aLower) {
+        return sqrtBound(getLowerBound(aLower), isInexact(aLower), true);
+    }
+
+    /**
+     * Returns the upper unum of the square root of a ubound.
+     * @param aUpper the upper unum of the ubound
+     * @return the upper unum of the ubound square root
+     */
+    public static double sqrtUpper(final double aUpper) {
+        return sqrtBound(getUpperBound(aUpper), isInexact(aUpper), false);
+    }
+
+    private static double sqrtBound(final double a, final boolean open, final boolean lower) {
+        if (Double.isNaN(a) | a < 0.0 | (a == 0.0 & open & !lower)) {
+            return Doubles.QNAN;
+        }
+        if (Double.isInfinite(a)) {
+            return open ? overflow(a) : a;
+        }
+        final double s = Math.sqrt(a);
+        return bound(s, ErrorFree.sqrtErrorSign(a, s), open, lower);
+    }
+
+    /**
+     * Returns the tightest unum enclosing an exact result r given its rounded value and the error {@code r - rounded}.
+     * Only the sign of the error is relevant.
+     *
+     * @param rounded   the exact result rounded to the nearest double, finite
+     * @param error     the error, or any value with the same sign as the error
+     * @return the exact rounded value if the error is zero and rounded is exact, otherwise the inexact unum
+     *          adjacent to rounded in the direction of the error
+     */
+    static double enclose(final double rounded, final double error) {
+        if (error == 0.0 | isInexact(rounded)) {
+            return rounded;
+        }
+        return error > 0.0 ? Math.nextUp(rounded) : Math.nextDown(rounded);
+    }
+
+    /**
+     * Returns the inexact unum between the largest finite exact value and infinity, that is, the unum representing
+     * a finite value which is too large in magnitude to be represented by an exact unum.
+     *
+     * @param sign the sign of the overflowing value
+     * @return (maxreal, inf) or (-inf, -maxreal) depending on the sign
+     */
+    static double overflow(final double sign) {
+        return Math.copySign(Double.MAX_VALUE, sign);
     }
 
     @Override
@@ -352,6 +699,39 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         return 0;
     }
 
+    /**
+     * Returns a key for the unum such that keys compare as signed {@code long} values like
+     * {@link #compare(double, double)}: unums comparing equal, such as positive and negative zero or two NaNs of the
+     * same sign, have equal keys, and inexact unums are ordered between their exact neighbours. Negative NaN is
+     * ordered before negative infinity, positive NaN after positive infinity.
+     * @param value the unum value
+     * @return the sortable key
+     */
+    public static long sortableKey(final double value) {
+        final long raw = Double.doubleToRawLongBits(value);
+        final long sign = raw >> 63;
+        //the magnitude with all NaN payloads collapsed, negated for negative values
+        final long magnitude = Math.min(raw & Long.MAX_VALUE, NAN_MAGNITUDE);
+        return (magnitude ^ sign) - sign;
+    }
+
+    @Override
+    public DoubleUnum unify(final DoubleUnum upper) {
+        return valueOf(unify(value, upper.value));
+    }
+
+    /**
+     * Returns the tightest single unum containing lower, upper and all values in between, or qNaN if no such unum
+     * exists. Inexact unums of this encoding are always one ulp wide, hence only a ubound whose lower and upper unum
+     * are the same can be unified.
+     */
+    public static double unify(final double lower, final double upper) {
+        if (Double.isNaN(lower) | Double.isNaN(upper)) {
+            return Doubles.QNAN;
+        }
+        return compare(lower, upper) == 0 ? lower : Doubles.QNAN;
+    }
+
     @Override
     public DoubleUnum min(final DoubleUnum other) {
         return compareTo(other) <= 0 ? this : other;
@@ -372,7 +752,7 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
 
     @Override
     public DoubleUnum negate() {
-        return new DoubleUnum(-value);
+        return valueOf(-value);
     }
 
     @Override
@@ -380,6 +760,14 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         return value >= 0.0 ? this : value < 0.0 ? negate() : this /*NaN*/;
     }
 
+    public static double negate(final double value) {
+        return -value;
+    }
+
+    public static double abs(final double value) {
+        return value < 0.0 ? -value : value;
+    }
+
     @Override
     public int hashCode() {
         return Double.hashCode(value);
@@ -407,10 +795,63 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         if (Double.isNaN(value)) {
             return Double.doubleToRawLongBits(value) >= 0 ? "qNaN" : "sNaN";
         }
-        if (value >= 0.0) {
-            return "(" + exact(value) + ", " + nextUp(value) + ")";
-        } else {
-            return "(" + nextDown(value) + ", " + exact(value) + ")";
+        return "(" + exact(value) + ", " + nextUp(value) + ")";
+    }
+
+    /**
+     * Cache of canonical instances for special values, small exact integers and their adjacent inexact unums.
+     */
+    private static final class Cache {
+        private static final String HIGH_PROPERTY = "org.tools4j.unum.api.DoubleUnum.Cache.high";
+        private static final int DEFAULT_HIGH = 128;
+        //integers below 2^52 are exact with distinct inexact neighbours, the limit only bounds the cache memory to
+        //three arrays of 2^23 + 1 instances
+        private static final int MAX_HIGH = 1 << 22;
+        private static final long QNAN_RAW = Double.doubleToRawLongBits(Doubles.QNAN);
+        private static final long SNAN_RAW = Double.doubleToRawLongBits(Doubles.SNAN);
+
+        static final int HIGH = Math.max(0, Math.min(MAX_HIGH, Integer.getInteger(HIGH_PROPERTY, DEFAULT_HIGH)));
+        //exact integers, and the inexact unums above and below them, at index i + HIGH
+        static final DoubleUnum[] EXACT = new DoubleUnum[2 * HIGH + 1];
+        static final DoubleUnum[] ABOVE = new DoubleUnum[2 * HIGH + 1];
+        static final DoubleUnum[] BELOW = new DoubleUnum[2 * HIGH + 1];
+
+        static {
+            for (int i = -HIGH; i <= HIGH; i++) {
+                final double value = i;
+                EXACT[i + HIGH] = i == 0 ? ZERO : i == 1 ? ONE : i == 2 ? TWO : i == 10 ? TEN : new DoubleUnum(value);
+                ABOVE[i + HIGH] = new DoubleUnum(Math.nextUp(value));
+                BELOW[i + HIGH] = new DoubleUnum(Math.nextDown(value));
+            }
+        }
+
+        /**
+         * Returns the cached instance with the exact same bits as value, or null if no such instance exists.
+         */
+        static DoubleUnum get(final double value) {
+            if (Double.isFinite(value)) {
+                if (-HIGH - 1 < value & value < HIGH + 1) {
+                    if (isExact(value)) {
+                        final int i = (int)value;
+                        return i == value & Double.doubleToRawLongBits(value) == Double.doubleToRawLongBits(i) ? EXACT[i + HIGH] : null;
+                    }
+                    final double lower = Math.nextDown(value);
+                    final int i = (int)lower;
+                    if (i == lower & -HIGH <= i & i <= HIGH) {
+                        return ABOVE[i + HIGH];
+                    }
+                    final double upper = Math.nextUp(value);
+                    final int j = (int)upper;
+                    if (j == upper & -HIGH <= j & j <= HIGH) {
+                        return BELOW[j + HIGH];
+                    }
+                }
+                return null;
+            }
+            if (value == Double.POSITIVE_INFINITY) return POSITIVE_INFINITY;
+            if (value == Double.NEGATIVE_INFINITY) return NEGATIVE_INFINITY;
+            final long raw = Double.doubleToRawLongBits(value);
+            return raw == QNAN_RAW ? QNAN : raw == SNAN_RAW ? SNAN : null;
         }
     }
 
@@ -431,6 +872,13 @@ public class DoubleUnum extends AbstractUnum<DoubleUnum> implements Serializable
         for (int i = -10; i < 10; i++) {
             System.out.println(DoubleUnum.valueOf(Math.nextDown((double)i)));
         }
+        System.out.println("*** a + a, a * a, a / 3");
+        for (int i = -10; i < 10; i++) {
+            final DoubleUnum a = DoubleUnum.valueOf(i);
+            System.out.println(a + " + " + a + " = " + a.add(a));
+            System.out.println(a + " * " + a + " = " + a.multiply(a));
+            System.out.println(a + " / 3 = " + a.divide(DoubleUnum.valueOf(3)));
+        }
         System.out.println("*** specials");
         System.out.println(+0.0);
         System.out.println(-0.0);
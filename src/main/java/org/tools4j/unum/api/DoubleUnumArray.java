@@ -0,0 +1,442 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An array of {@link DoubleUnum} values backed by a double array using the same bit encoding as DoubleUnum, that is,
+ * with the ubit in the least significant bit of each double. Bulk operations run directly on the backing arrays;
+ * DoubleUnum instances are only created on demand by {@link #getUnum(int)} and the {@link #asList() list view}.
+ */
+public final class DoubleUnumArray implements Serializable {
+
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+    private static final int RADIX_PASSES = 6;
+
+    private final double[] values;
+
+    public DoubleUnumArray(final int length) {
+        this(new double[length]);
+    }
+
+    private DoubleUnumArray(final double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a unum array backed by the given double array; changes in one are reflected in the other.
+     * @param values the unum values in DoubleUnum double encoding
+     * @return a unum array backed by values
+     */
+    public static DoubleUnumArray wrap(final double[] values) {
+        if (values == null) {
+            throw new NullPointerException("values cannot be null");
+        }
+        return new DoubleUnumArray(values);
+    }
+
+    public static DoubleUnumArray valueOf(final DoubleUnum... unums) {
+        final double[] values = new double[unums.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = unums[i].doubleValue();
+        }
+        return new DoubleUnumArray(values);
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns the backing array.
+     * @return the double array backing this unum array
+     */
+    public double[] array() {
+        return values;
+    }
+
+    public double get(final int index) {
+        return values[index];
+    }
+
+    public void set(final int index, final double value) {
+        values[index] = value;
+    }
+
+    public DoubleUnum getUnum(final int index) {
+        return DoubleUnum.valueOf(values[index]);
+    }
+
+    public void setUnum(final int index, final DoubleUnum value) {
+        values[index] = value.doubleValue();
+    }
+
+    /**
+     * Returns a list view of this array; the unums of the list are created on demand when accessed.
+     * @return a fixed size list backed by this array
+     */
+    public List<DoubleUnum> asList() {
+        return new ListView(values);
+    }
+
+    public DoubleUnumArray add(final DoubleUnumArray other, final DoubleUnumArray result) {
+        add(values, other.values, result.values);
+        return result;
+    }
+
+    public DoubleUnumArray multiply(final DoubleUnumArray other, final DoubleUnumArray result) {
+        multiply(values, other.values, result.values);
+        return result;
+    }
+
+    public DoubleUnumArray negate(final DoubleUnumArray result) {
+        negate(values, result.values);
+        return result;
+    }
+
+    public DoubleUnumArray abs(final DoubleUnumArray result) {
+        abs(values, result.values);
+        return result;
+    }
+
+    public DoubleUnumArray min(final DoubleUnumArray other, final DoubleUnumArray result) {
+        min(values, other.values, result.values);
+        return result;
+    }
+
+    public DoubleUnumArray max(final DoubleUnumArray other, final DoubleUnumArray result) {
+        max(values, other.values, result.values);
+        return result;
+    }
+
+    public DoubleUnumArray lowerBound(final DoubleUnumArray result) {
+        lowerBound(values, result.values);
+        return result;
+    }
+
+    public DoubleUnumArray upperBound(final DoubleUnumArray result) {
+        upperBound(values, result.values);
+        return result;
+    }
+
+    public int[] compare(final DoubleUnumArray other, final int[] result) {
+        compare(values, other.values, result);
+        return result;
+    }
+
+    /**
+     * Sorts this array in ascending order of {@link DoubleUnum#compare(double, double)}, see {@link #sort(double[])}.
+     * @return this array
+     */
+    public DoubleUnumArray sort() {
+        sort(values);
+        return this;
+    }
+
+    /**
+     * Searches a unum in this array sorted by {@link #sort()}, see {@link #binarySearch(double[], double)}.
+     * @param key the unum to search
+     * @return the index of the key or {@code -(insertion point) - 1} if it is not present
+     */
+    public int binarySearch(final double key) {
+        return binarySearch(values, key);
+    }
+
+    public static void add(final double[] a, final double[] b, final double[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.add(a, b, result); i < result.length; i++) {
+            result[i] = DoubleUnum.add(a[i], b[i]);
+        }
+    }
+
+    public static void multiply(final double[] a, final double[] b, final double[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.multiply(a, b, result); i < result.length; i++) {
+            result[i] = DoubleUnum.multiply(a[i], b[i]);
+        }
+    }
+
+    public static void negate(final double[] a, final double[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.negate(a, result); i < result.length; i++) {
+            result[i] = DoubleUnum.negate(a[i]);
+        }
+    }
+
+    public static void abs(final double[] a, final double[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.abs(a, result); i < result.length; i++) {
+            result[i] = DoubleUnum.abs(a[i]);
+        }
+    }
+
+    public static void min(final double[] a, final double[] b, final double[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.min(a, b, result); i < result.length; i++) {
+            result[i] = DoubleUnum.min(a[i], b[i]);
+        }
+    }
+
+    public static void max(final double[] a, final double[] b, final double[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.max(a, b, result); i < result.length; i++) {
+            result[i] = DoubleUnum.max(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Computes the lower bound of every unum, the exact unum at the lower end of an inexact unum; exact unums
+     * and NaN are their own lower bound.
+     * @param a the unums
+     * @param result the array for the lower bounds, may be the same as a
+     */
+    public static void lowerBound(final double[] a, final double[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.lowerBound(a, result); i < result.length; i++) {
+            result[i] = DoubleUnum.getLowerBound(a[i]);
+        }
+    }
+
+    /**
+     * Computes the upper bound of every unum, the exact unum at the upper end of an inexact unum; exact unums
+     * and NaN are their own upper bound.
+     * @param a the unums
+     * @param result the array for the upper bounds, may be the same as a
+     */
+    public static void upperBound(final double[] a, final double[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.upperBound(a, result); i < result.length; i++) {
+            result[i] = DoubleUnum.getUpperBound(a[i]);
+        }
+    }
+
+    public static void compare(final double[] a, final double[] b, final int[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.compare(a, b, result); i < result.length; i++) {
+            result[i] = DoubleUnum.compare(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Sorts the unums in ascending order of {@link DoubleUnum#compare(double, double)} with an LSD radix sort, skipping
+     * digits that are the same for all unums; short arrays are sorted by insertion sort. Like
+     * {@link Arrays#sort(double[])} the sort is not stable for unums comparing equal, negative zero is placed before
+     * positive zero and NaNs of the same sign are ordered by their bits.
+     * @param a the unums to sort
+     */
+    public static void sort(final double[] a) {
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts the unums in the range from (inclusive) to (exclusive), see {@link #sort(double[])}.
+     */
+    public static void sort(final double[] a, final int from, final int to) {
+        validateRange(a.length, from, to);
+        final int n = to - from;
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(a, from, to);
+            return;
+        }
+        //unlike the sortable key, the radix key orders ties by bits and can be mapped back to the unum
+        long[] keys = new long[n];
+        final int[] counts = new int[RADIX_PASSES * RADIX];
+        for (int i = 0; i < n; i++) {
+            final long key = radixKey(a[from + i]);
+            keys[i] = key;
+            for (int pass = 0; pass < RADIX_PASSES; pass++) {
+                counts[pass * RADIX + ((int)(key >>> (pass * RADIX_BITS)) & RADIX_MASK)]++;
+            }
+        }
+        long[] buffer = new long[n];
+        final int[] offsets = new int[RADIX];
+        for (int pass = 0; pass < RADIX_PASSES; pass++) {
+            final int base = pass * RADIX;
+            final int shift = pass * RADIX_BITS;
+            if (counts[base + ((int)(keys[0] >>> shift) & RADIX_MASK)] == n) {
+                //all keys have the same digit
+                continue;
+            }
+            for (int digit = 0, offset = 0; digit < RADIX; digit++) {
+                offsets[digit] = offset;
+                offset += counts[base + digit];
+            }
+            for (int i = 0; i < n; i++) {
+                final long key = keys[i];
+                buffer[offsets[(int)(key >>> shift) & RADIX_MASK]++] = key;
+            }
+            final long[] swap = keys;
+            keys = buffer;
+            buffer = swap;
+        }
+        for (int i = 0; i < n; i++) {
+            a[from + i] = unumOf(keys[i]);
+        }
+    }
+
+    /**
+     * Returns a key ordering unsigned like the unum bits as signed sign-magnitude values.
+     */
+    private static long radixKey(final double value) {
+        final long raw = Double.doubleToRawLongBits(value);
+        return raw ^ ((raw >> 63) | Long.MIN_VALUE);
+    }
+
+    private static double unumOf(final long radixKey) {
+        return Double.longBitsToDouble(radixKey ^ (~radixKey >> 63 | Long.MIN_VALUE));
+    }
+
+    private static void insertionSort(final double[] a, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final double value = a[i];
+            final long key = DoubleUnum.sortableKey(value);
+            int j = i - 1;
+            while (j >= from && DoubleUnum.sortableKey(a[j]) > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    /**
+     * Searches a unum in an array sorted by {@link #sort(double[])}; unums comparing equal, such as positive and
+     * negative zero, are considered the same.
+     * @param a the sorted unums
+     * @param key the unum to search
+     * @return the index of a unum equal to the key, or {@code -(insertion point) - 1} if there is none
+     */
+    public static int binarySearch(final double[] a, final double key) {
+        return binarySearch(a, 0, a.length, key);
+    }
+
+    /**
+     * Searches a unum in the range from (inclusive) to (exclusive) of an array sorted by {@link #sort(double[])}, see
+     * {@link #binarySearch(double[], double)}.
+     */
+    public static int binarySearch(final double[] a, final int from, final int to, final double key) {
+        validateRange(a.length, from, to);
+        final long target = DoubleUnum.sortableKey(key);
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long midKey = DoubleUnum.sortableKey(a[mid]);
+            if (midKey < target) {
+                low = mid + 1;
+            } else if (midKey > target) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static void validateRange(final int length, final int from, final int to) {
+        if (from < 0 | to > length | from > to) {
+            throw new IllegalArgumentException("invalid range: [" + from + ", " + to + ") for length " + length);
+        }
+    }
+
+    private static void validateLength(final double[] a, final double[] b, final int length) {
+        if (a.length != length | b.length != length) {
+            throw new IllegalArgumentException("array length mismatch: " + a.length + ", " + b.length + " and " + length);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (final double value : values) {
+            hash = 31 * hash + Long.hashCode(DoubleUnum.sortableKey(value));
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) return true;
+        if (obj == null) return false;
+        if (getClass() == obj.getClass()) {
+            final double[] other = ((DoubleUnumArray)obj).values;
+            if (values.length != other.length) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (0 != DoubleUnum.compare(values[i], other[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(DoubleUnum.toString(values[i]));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final class ListView extends AbstractList<DoubleUnum> implements RandomAccess {
+        private final double[] values;
+
+        private ListView(final double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public DoubleUnum get(final int index) {
+            return DoubleUnum.valueOf(values[index]);
+        }
+
+        @Override
+        public DoubleUnum set(final int index, final DoubleUnum element) {
+            final DoubleUnum previous = get(index);
+            values[index] = element.doubleValue();
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
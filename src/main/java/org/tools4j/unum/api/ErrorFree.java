@@ -0,0 +1,198 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+/**
+ * Error-free transformations used to decide the exactness of a rounded floating point result and, if inexact, on
+ * which side of the rounded result the exact result lies.
+ * <p>
+ * The product error is computed with a fused multiply-add if {@link FusedMultiplyAdd} is enabled and with Dekker's
+ * split otherwise; operands are scaled into a safe exponent range first if necessary so that the returned signs are
+ * exact over the whole double range.
+ */
+final class ErrorFree {
+
+    private static final double SPLITTER = 134217729.0;//2^27 + 1
+    private static final int SAFE_EXPONENT = 480;
+    private static final int SUBNORMAL_SCALE = 54;
+
+    private ErrorFree() {
+        throw new RuntimeException("No ErrorFree for you!");
+    }
+
+    /**
+     * Returns the exact error {@code (a + b) - s} where {@code s = a + b} is the rounded sum (Knuth's TwoSum).
+     * @param a the first summand, finite
+     * @param b the second summand, finite
+     * @param s the rounded sum {@code a + b}, finite
+     * @return the exact rounding error of the sum
+     */
+    static float sumError(final float a, final float b, final float s) {
+        final float bb = s - a;
+        return (a - (s - bb)) + (b - bb);
+    }
+
+    /**
+     * Returns the exact error {@code (a + b) - s} where {@code s = a + b} is the rounded sum (Knuth's TwoSum).
+     * @param a the first summand, finite
+     * @param b the second summand, finite
+     * @param s the rounded sum {@code a + b}, finite
+     * @return the exact rounding error of the sum
+     */
+    static double sumError(final double a, final double b, final double s) {
+        final double bb = s - a;
+        return (a - (s - bb)) + (b - bb);
+    }
+
+    /**
+     * Returns the error {@code a * b - p} where {@code p = a * b} is the rounded product (Dekker's TwoProduct). The
+     * result is exact if the exponents of a and b are within {@code [-480, 480]}.
+     */
+    static double productError(final double a, final double b, final double p) {
+        if (FusedMultiplyAdd.ENABLED) {
+            return FusedMultiplyAdd.fma(a, b, -p);
+        }
+        double c = SPLITTER * a;
+        final double ah = c - (c - a);
+        final double al = a - ah;
+        c = SPLITTER * b;
+        final double bh = c - (c - b);
+        final double bl = b - bh;
+        return ((ah * bh - p) + ah * bl + al * bh) + al * bl;
+    }
+
+    /**
+     * Returns the sign of the exact difference {@code a * b - p}.
+     * @param a the first factor, finite
+     * @param b the second factor, finite
+     * @param p the rounded product {@code a * b}, finite
+     * @return -1, 0 or 1 if the exact product is less than, equal to or greater than p
+     */
+    static int productErrorSign(final double a, final double b, final double p) {
+        if (a == 0 | b == 0) {
+            return 0;
+        }
+        if (p == 0) {
+            //underflow
+            return (a < 0) == (b < 0) ? 1 : -1;
+        }
+        final int ea = Math.getExponent(a);
+        final int eb = Math.getExponent(b);
+        if (isSafe(ea) & isSafe(eb)) {
+            return signum(productError(a, b, p));
+        }
+        final int xa = exponent(a);
+        final int xb = exponent(b);
+        final double sa = Math.scalb(a, -xa);
+        final double sb = Math.scalb(b, -xb);
+        final double sp = Math.scalb(p, -(xa + xb));
+        final double hp = sa * sb;
+        //hp and sp are within a factor of 2 hence the difference is exact
+        return compare(hp - sp, -productError(sa, sb, hp));
+    }
+
+    /**
+     * Returns the sign of the exact difference {@code a / b - q}.
+     * @param a the dividend, finite
+     * @param b the divisor, finite and non-zero
+     * @param q the rounded quotient {@code a / b}, finite
+     * @return -1, 0 or 1 if the exact quotient is less than, equal to or greater than q
+     */
+    static int quotientErrorSign(final double a, final double b, final double q) {
+        if (a == 0) {
+            return 0;
+        }
+        if (q == 0) {
+            //underflow
+            return (a < 0) == (b < 0) ? 1 : -1;
+        }
+        final int sign = b < 0 ? -1 : 1;
+        if (isSafe(Math.getExponent(a)) & isSafe(Math.getExponent(b)) & isSafe(Math.getExponent(q))) {
+            if (FusedMultiplyAdd.ENABLED) {
+                //the remainder q*b - a is exact
+                return -sign * signum(FusedMultiplyAdd.fma(q, b, -a));
+            }
+            //a - q*b = (a - p) - e with p + e = q*b, a - p is exact as p is within a factor of 2 of a
+            final double p = q * b;
+            return sign * compare(a - p, productError(q, b, p));
+        }
+        final int xa = exponent(a);
+        final int xb = exponent(b);
+        final double sa = Math.scalb(a, -xa);
+        final double sb = Math.scalb(b, -xb);
+        final double sq = Math.scalb(q, xb - xa);
+        final double p = sq * sb;
+        return sign * compare(sa - p, productError(sq, sb, p));
+    }
+
+    /**
+     * Returns the sign of the exact difference {@code sqrt(a) - s}.
+     * @param a the radicand, finite and non-negative
+     * @param s the rounded square root {@code Math.sqrt(a)}
+     * @return -1, 0 or 1 if the exact square root is less than, equal to or greater than s
+     */
+    static int sqrtErrorSign(final double a, final double s) {
+        if (a == 0) {
+            return 0;
+        }
+        if (isSafe(Math.getExponent(s))) {
+            if (FusedMultiplyAdd.ENABLED) {
+                //the remainder s*s - a is exact
+                return -signum(FusedMultiplyAdd.fma(s, s, -a));
+            }
+            //a - s*s = (a - p) - e with p + e = s*s, a - p is exact as p is within a factor of 2 of a
+            final double p = s * s;
+            return compare(a - p, productError(s, s, p));
+        }
+        final int x = exponent(a) >> 1;
+        final double sa = Math.scalb(a, -2 * x);
+        final double ss = Math.scalb(s, -x);
+        final double p = ss * ss;
+        return compare(sa - p, productError(ss, ss, p));
+    }
+
+    private static boolean isSafe(final int exponent) {
+        return exponent > -SAFE_EXPONENT & exponent < SAFE_EXPONENT;
+    }
+
+    /**
+     * Returns the unbiased exponent of a finite non-zero value; unlike {@link Math#getExponent(double)} this
+     * returns the true exponent also for subnormal values.
+     */
+    private static int exponent(final double value) {
+        final int exponent = Math.getExponent(value);
+        if (exponent >= Double.MIN_EXPONENT) {
+            return exponent;
+        }
+        return Math.getExponent(Math.scalb(value, SUBNORMAL_SCALE)) - SUBNORMAL_SCALE;
+    }
+
+    private static int compare(final double a, final double b) {
+        return a < b ? -1 : a > b ? 1 : 0;
+    }
+
+    private static int signum(final double value) {
+        return value < 0 ? -1 : value > 0 ? 1 : 0;
+    }
+}
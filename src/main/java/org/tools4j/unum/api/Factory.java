@@ -31,4 +31,7 @@ public interface Factory<U> {
     U sNaN();
     U zero();
     U one();
+    U half();
+    U positiveInfinity();
+    U negativeInfinity();
 }
@@ -0,0 +1,44 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+/**
+ * Hook for the fused multiply-add used by {@link ErrorFree} to compute the exact error of a product.
+ * <p>
+ * This Java 8 version is disabled and {@link ErrorFree} uses Dekker's split. The multi-release jar replaces this class
+ * on Java 17 and later with a version using {@code Math.fma} if enabled.
+ */
+final class FusedMultiplyAdd {
+
+    static final boolean ENABLED = false;
+
+    private FusedMultiplyAdd() {
+        throw new RuntimeException("No FusedMultiplyAdd for you!");
+    }
+
+    //never called since ENABLED is a false constant, the call sites in ErrorFree are compiled away
+    static double fma(final double a, final double b, final double c) {
+        return a * b + c;
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Interval Newton method finding enclosures of all roots of a function in a domain ubound. Given the ubound
+ * extensions of a function f and its derivative f', a ubound X is contracted to the intersection of X with the
+ * Newton ubound {@code N = m - f(m) / f'(X)} for an exact unum m near the midpoint of X. If f'(X) contains zero, the
+ * extended division splits N into two half-lines. Ubounds are discarded if f(X) or the contracted ubound are
+ * {@link Ubound.Overlap#isNowhereEqual() nowhere equal} to zero and X, respectively, and bisected if the contraction
+ * makes little progress.
+ * <p>
+ * The returned ubounds are sorted and no wider than the tolerance, unless they are a single unum. Every root of f in
+ * the domain lies in one of the returned ubounds, but a returned ubound does not necessarily contain a root.
+ */
+public final class IntervalNewton<U extends Unum<U>> {
+
+    //a Newton step shrinking the width to more than this fraction is followed by a bisection
+    private static final double MIN_CONTRACTION = 0.75;
+
+    private final UnaryOperator<Ubound<U>> function;
+    private final UnaryOperator<Ubound<U>> derivative;
+    private final double tolerance;
+
+    /**
+     * Creates an interval Newton solver.
+     * @param function the ubound extension of the function, returning a ubound enclosing all function values
+     * @param derivative the ubound extension of the derivative
+     * @param tolerance the width of the returned root enclosures, zero to contract to single unums
+     * @throws IllegalArgumentException if tolerance is negative or NaN
+     */
+    public IntervalNewton(final UnaryOperator<Ubound<U>> function, final UnaryOperator<Ubound<U>> derivative,
+                          final double tolerance) {
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("invalid tolerance: " + tolerance);
+        }
+        this.function = function;
+        this.derivative = derivative;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Returns the enclosures of all roots in the domain.
+     * @param domain the domain ubound
+     * @return the sorted root enclosures, empty if the domain contains no root
+     * @throws IllegalArgumentException if the domain is NaN
+     */
+    public List<Ubound<U>> roots(final Ubound<U> domain) {
+        if (domain.isNaN()) {
+            throw new IllegalArgumentException("invalid domain: " + domain);
+        }
+        final Ubound<U> zero = Ubound.create(domain.getLowerBound().getFactory().zero());
+        final List<Ubound<U>> roots = new ArrayList<>();
+        final Deque<Ubound<U>> pending = new ArrayDeque<>();
+        pending.push(domain);
+        while (!pending.isEmpty()) {
+            final Ubound<U> x = pending.pop();
+            final Ubound<U> fx = function.apply(x);
+            if (!fx.isNaN() && fx.overlap(zero).isNowhereEqual()) {
+                continue;
+            }
+            final U lowerUnum = x.getLowerBound();
+            final U upperUnum = x.getUpperBound();
+            if (width(x) <= tolerance || lowerUnum.compareTo(upperUnum) == 0) {
+                roots.add(x);
+                continue;
+            }
+            if (!newton(x, zero, pending)) {
+                bisect(x, pending);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Performs a Newton step on x and pushes the contracted ubounds to pending.
+     * @return false if x should be bisected instead
+     */
+    private boolean newton(final Ubound<U> x, final Ubound<U> zero, final Deque<Ubound<U>> pending) {
+        final U m = splitPoint(x);
+        if (m == null) {
+            return false;
+        }
+        final Ubound<U> dx = derivative.apply(x);
+        if (dx.isNaN()) {
+            return false;
+        }
+        final Ubound<U> mid = Ubound.create(m);
+        final Ubound<U> fm = function.apply(mid);
+        if (fm.isNaN()) {
+            return false;
+        }
+        if (dx.overlap(zero).isNowhereEqual()) {
+            final Ubound<U> n = mid.subtract(fm.divide(dx));
+            if (n.isNaN()) {
+                return false;
+            }
+            contract(x, n, pending);
+            return true;
+        }
+        if (!fm.overlap(zero).isNowhereEqual()) {
+            //f(m) and f'(x) both contain zero, N is the whole line
+            return false;
+        }
+        //extended division of f(m) by f'(x) containing zero using the endpoint of f(m) closest to zero
+        final Factory<U> factory = m.getFactory();
+        final U a = dx.getLowerBound().getLowerBound();
+        final U b = dx.getUpperBound().getUpperBound();
+        final boolean positive = fm.isPositive();
+        final Ubound<U> c = Ubound.create(positive ? fm.getLowerBound().getLowerBound() : fm.getUpperBound().getUpperBound());
+        Ubound<U> lower = null;
+        Ubound<U> upper = null;
+        if (a.isNegative()) {
+            final Ubound<U> n = mid.subtract(c.divide(Ubound.create(a)));
+            if (n.isNaN()) {
+                return false;
+            }
+            if (positive) {
+                upper = Ubound.create(n.getLowerBound(), factory.positiveInfinity());
+            } else {
+                lower = Ubound.create(factory.negativeInfinity(), n.getUpperBound());
+            }
+        }
+        if (b.isPositive()) {
+            final Ubound<U> n = mid.subtract(c.divide(Ubound.create(b)));
+            if (n.isNaN()) {
+                return false;
+            }
+            if (positive) {
+                lower = Ubound.create(factory.negativeInfinity(), n.getUpperBound());
+            } else {
+                upper = Ubound.create(n.getLowerBound(), factory.positiveInfinity());
+            }
+        }
+        if (lower == null & upper == null) {
+            //f'(x) is zero
+            return false;
+        }
+        //push upper first to process the ubounds in ascending order
+        if (upper != null && !x.overlap(upper).isNowhereEqual()) {
+            pending.push(x.intersect(upper));
+        }
+        if (lower != null && !x.overlap(lower).isNowhereEqual()) {
+            pending.push(x.intersect(lower));
+        }
+        return true;
+    }
+
+    /**
+     * Pushes the intersection of x and the Newton ubound n to pending, or its halves if the contraction is small.
+     */
+    private static <U extends Unum<U>> void contract(final Ubound<U> x, final Ubound<U> n, final Deque<Ubound<U>> pending) {
+        if (x.overlap(n).isNowhereEqual()) {
+            return;
+        }
+        final Ubound<U> contracted = x.intersect(n);
+        final double width = width(contracted);
+        if (width <= width(x) * MIN_CONTRACTION && !Double.isInfinite(width)) {
+            pending.push(contracted);
+        } else {
+            bisect(contracted, pending);
+        }
+    }
+
+    /**
+     * Pushes the lower and upper half of x to pending, such that the lower half is popped first.
+     */
+    private static <U extends Unum<U>> void bisect(final Ubound<U> x, final Deque<Ubound<U>> pending) {
+        final U lowerUnum = x.getLowerBound();
+        final U upperUnum = x.getUpperBound();
+        if (lowerUnum.compareTo(upperUnum) == 0) {
+            pending.push(x);
+            return;
+        }
+        final U m = splitPoint(x);
+        if (m != null) {
+            pending.push(Ubound.create(m.nextUp(), upperUnum));
+            pending.push(Ubound.create(lowerUnum, m));
+        } else {
+            //no exact unum strictly inside, split off the lower unum
+            pending.push(Ubound.create(lowerUnum.nextUp(), upperUnum));
+            pending.push(Ubound.create(lowerUnum));
+        }
+    }
+
+    /**
+     * Returns an exact unum near the midpoint strictly inside x, or null if there is none.
+     */
+    private static <U extends Unum<U>> U splitPoint(final Ubound<U> x) {
+        final U lowerUnum = x.getLowerBound();
+        final U upperUnum = x.getUpperBound();
+        final U m = UboxSolver.splitPoint(lowerUnum, upperUnum);
+        return lowerUnum.compareTo(m) < 0 && m.compareTo(upperUnum) < 0 ? m : null;
+    }
+
+    private static <U extends Unum<U>> double width(final Ubound<U> ubound) {
+        return ubound.getUpperBound().getUpperBound().doubleValue() - ubound.getLowerBound().getLowerBound().doubleValue();
+    }
+}
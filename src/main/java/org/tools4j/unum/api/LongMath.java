@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+/**
+ * Unsigned 128-bit arithmetic on pairs of long values as used by the {@link LongUnum} arithmetic.
+ */
+final class LongMath {
+
+    private LongMath() {
+        throw new RuntimeException("No LongMath for you!");
+    }
+
+    /**
+     * Returns the most significant 64 bits of the unsigned 128-bit product of two unsigned 64-bit values; the least
+     * significant 64 bits are given by {@code a * b}.
+     * @param a the first unsigned factor
+     * @param b the second unsigned factor
+     * @return the high 64 bits of the unsigned product
+     */
+    static long unsignedMultiplyHigh(final long a, final long b) {
+        final long aLo = a & 0xffffffffL;
+        final long aHi = a >>> 32;
+        final long bLo = b & 0xffffffffL;
+        final long bHi = b >>> 32;
+        final long loLo = aLo * bLo;
+        final long hiLo = aHi * bLo + (loLo >>> 32);
+        final long loHi = aLo * bHi + (hiLo & 0xffffffffL);
+        return aHi * bHi + (hiLo >>> 32) + (loHi >>> 32);
+    }
+
+    /**
+     * Returns the carry of the unsigned addition {@code a + b}.
+     * @param a the first unsigned summand
+     * @param sum the unsigned sum {@code a + b}
+     * @return 1 if the addition overflowed and 0 otherwise
+     */
+    static long carry(final long a, final long sum) {
+        return Long.compareUnsigned(sum, a) < 0 ? 1 : 0;
+    }
+
+    /**
+     * Returns the borrow of the unsigned subtraction {@code a - b}.
+     * @param a the unsigned minuend
+     * @param b the unsigned subtrahend
+     * @return 1 if the subtraction overflowed and 0 otherwise
+     */
+    static long borrow(final long a, final long b) {
+        return Long.compareUnsigned(a, b) < 0 ? 1 : 0;
+    }
+}
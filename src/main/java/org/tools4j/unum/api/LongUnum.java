@@ -29,6 +29,11 @@ import java.math.BigDecimal;
 /**
  * An universial number where the fraction fits in a 64bit long value. The fraction size is therefore at most 64 bits
  * and the fraction size contains 6 bits. The exponent fits in 16 bits and the exponent size contains 4 bits.
+ * <p>
+ * A LongUnum is stored in two long values: the fraction, and a packed long with sign, exponent, ubit, exponent size
+ * and fraction size laid out as in the unum bit string, that is {@code sign|exponent|ubit|exponentSize-1|fractionSize-1}
+ * from most to least significant bit. The static methods taking a packed and a fraction value operate directly on this
+ * pair, for instance to store unums in a long array as done by {@link LongUnumArray}.
  */
 public class LongUnum extends AbstractUnum<LongUnum> implements Serializable {
 
@@ -40,32 +45,144 @@ public class LongUnum extends AbstractUnum<LongUnum> implements Serializable {
     private static final long MAX_FRACTION = 0xffffffffffffffffL;
     private static final long EXACT_DOUBLE_FRACTION_MASK = 0xfff0000000000000L;
 
-    public static final LongUnum ZERO = new LongUnum(SIGN_POSITIVE, 0, 0, UBIT_EXACT, (byte)1, (byte)1);
-    public static final LongUnum HALF = new LongUnum(SIGN_POSITIVE, 0, 1, UBIT_EXACT, (byte)1, (byte)2);
-    public static final LongUnum ONE = new LongUnum(SIGN_POSITIVE, 0, 1, UBIT_EXACT, (byte)1, (byte)1);
-    public static final LongUnum TWO = new LongUnum(SIGN_POSITIVE, 1, 0, UBIT_EXACT, (byte)1, (byte)1);
-    public static final LongUnum TEN = new LongUnum(SIGN_POSITIVE, 6, 2, UBIT_EXACT, (byte)3, (byte)3);
-    public static final LongUnum INF = new LongUnum(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION, UBIT_EXACT, (byte)16, (byte)64);
-    public static final LongUnum NAN = new LongUnum(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION, UBIT_INEXACT, (byte)16, (byte)64);
+    private static final int EXPONENT_SIZE_SHIFT = 6;
+    private static final int UBIT_SHIFT = 10;
+    private static final int EXPONENT_SHIFT = 11;
+    private static final int SIGN_SHIFT = 27;
+    private static final long FRACTION_SIZE_MASK = 0x3fL;
+    private static final long EXPONENT_SIZE_MASK = 0xfL << EXPONENT_SIZE_SHIFT;
+    private static final long UBIT_MASK = 1L << UBIT_SHIFT;
+    private static final long EXPONENT_MASK = ((long)MAX_EXPONENT) << EXPONENT_SHIFT;
+    private static final long SIGN_MASK = 1L << SIGN_SHIFT;
 
-    private final byte sign;
-    private final int exponent;
+    //exact magnitudes are normalized to (2^64 + f) * 2^(e - 64) with exponent e of the leading one bit and the 64
+    //fraction bits f after it; zero and infinite magnitudes have the special exponents below
+    private static final int ZERO_EXPONENT = Integer.MIN_VALUE;
+    private static final int INFINITE_EXPONENT = Integer.MAX_VALUE;
+    //largest normal exponent, for 16 exponent bits
+    private static final int MAX_NORMAL_EXPONENT = 1 << 15;
+    private static final long LEADING_ONE = 0x8000000000000000L;
+
+    public static final LongUnum ZERO = valueOf(SIGN_POSITIVE, 0, 0, UBIT_EXACT, (byte)1, (byte)1);
+    public static final LongUnum HALF = valueOf(SIGN_POSITIVE, 0, 1, UBIT_EXACT, (byte)1, (byte)2);
+    public static final LongUnum ONE = valueOf(SIGN_POSITIVE, 0, 1, UBIT_EXACT, (byte)1, (byte)1);
+    public static final LongUnum TWO = valueOf(SIGN_POSITIVE, 1, 0, UBIT_EXACT, (byte)1, (byte)1);
+    public static final LongUnum TEN = valueOf(SIGN_POSITIVE, 6, 2, UBIT_EXACT, (byte)3, (byte)3);
+    public static final LongUnum INF = valueOf(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION, UBIT_EXACT, (byte)16, (byte)64);
+    public static final LongUnum NAN = valueOf(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION, UBIT_INEXACT, (byte)16, (byte)64);
+    public static final LongUnum NEGATIVE_INF = valueOf(SIGN_NEGATIVE, MAX_EXPONENT, MAX_FRACTION, UBIT_EXACT, (byte)16, (byte)64);
+    public static final LongUnum SNAN = valueOf(SIGN_NEGATIVE, MAX_EXPONENT, MAX_FRACTION, UBIT_INEXACT, (byte)16, (byte)64);
+
+    public static final Ubound<LongUnum> UBOUND_ZERO = Ubound.create(ZERO);
+    public static final Ubound<LongUnum> UBOUND_HALF = Ubound.create(HALF);
+    public static final Ubound<LongUnum> UBOUND_ONE = Ubound.create(ONE);
+    public static final Ubound<LongUnum> UBOUND_INF = Ubound.create(INF);
+    public static final Ubound<LongUnum> UBOUND_NEGATIVE_INF = Ubound.create(NEGATIVE_INF);
+    public static final Ubound<LongUnum> UBOUND_NAN = Ubound.create(NAN);
+    public static final Ubound<LongUnum> UBOUND_SNAN = Ubound.create(SNAN);
+
+    public static final Factory<LongUnum> FACTORY = new Factory<LongUnum>() {
+        @Override
+        public LongUnum qNaN() {
+            return NAN;
+        }
+
+        @Override
+        public LongUnum sNaN() {
+            return SNAN;
+        }
+
+        @Override
+        public LongUnum zero() {
+            return ZERO;
+        }
+
+        @Override
+        public LongUnum one() {
+            return ONE;
+        }
+
+        @Override
+        public LongUnum half() {
+            return HALF;
+        }
+
+        @Override
+        public LongUnum positiveInfinity() {
+            return INF;
+        }
+
+        @Override
+        public LongUnum negativeInfinity() {
+            return NEGATIVE_INF;
+        }
+    };
+
+    public static final Factory<Ubound<LongUnum>> UBOUND_FACTORY = new Factory<Ubound<LongUnum>>() {
+        @Override
+        public Ubound<LongUnum> qNaN() {
+            return UBOUND_NAN;
+        }
+        @Override
+        public Ubound<LongUnum> sNaN() {
+            return UBOUND_SNAN;
+        }
+        @Override
+        public Ubound<LongUnum> zero() {
+            return UBOUND_ZERO;
+        }
+        @Override
+        public Ubound<LongUnum> one() {
+            return UBOUND_ONE;
+        }
+        @Override
+        public Ubound<LongUnum> half() {
+            return UBOUND_HALF;
+        }
+        @Override
+        public Ubound<LongUnum> positiveInfinity() {
+            return UBOUND_INF;
+        }
+        @Override
+        public Ubound<LongUnum> negativeInfinity() {
+            return UBOUND_NEGATIVE_INF;
+        }
+    };
+
+    private final long packed;
     private final long fraction;
-    private final byte ubit;
-    private final byte exponentSize;
-    private final byte fractionSize;
-
-    private LongUnum(final byte sign, final int exponent, final long fraction, final byte ubit, final byte exponentSize, final byte fractionSize) {
-        validate(sign, exponent, fraction, ubit, exponentSize, fractionSize);
-        this.sign = sign;
-        this.exponent = exponent;
+
+    /**
+     * Trusted constructor, the caller guarantees that packed and fraction are valid.
+     */
+    private LongUnum(final long packed, final long fraction) {
+        this.packed = packed;
         this.fraction = fraction;
-        this.ubit = ubit;
-        this.exponentSize = exponentSize;
-        this.fractionSize = fractionSize;
     }
 
-    private static void validate(final byte sign, final int exponent, final long fraction, final byte ubit, final byte exponentSize, final byte fractionSize) {
+    public static LongUnum valueOf(final byte sign, final int exponent, final long fraction, final byte ubit, final byte exponentSize, final byte fractionSize) {
+        final long packed = pack(sign, exponent, ubit, exponentSize, fractionSize);
+        validate(packed, fraction);
+        return new LongUnum(packed, fraction);
+    }
+
+    public static LongUnum valueOf(final long packed, final long fraction) {
+        validate(packed, fraction);
+        return new LongUnum(packed, fraction);
+    }
+
+    /**
+     * Returns the packed sign, exponent, ubit, exponent size and fraction size of a unum.
+     *
+     * @param sign          the sign, 0 for positive and -1 for negative
+     * @param exponent      the exponent bits
+     * @param ubit          the ubit, 0 for exact and 1 for inexact
+     * @param exponentSize  the exponent size in [1, 16]
+     * @param fractionSize  the fraction size in [1, 64]
+     * @return the packed value
+     * @throws IllegalArgumentException if any of the arguments is invalid
+     */
+    public static long pack(final byte sign, final int exponent, final byte ubit, final byte exponentSize, final byte fractionSize) {
         if (sign < -1 | sign > 0) {
             throw new IllegalArgumentException("invalid sign: " + sign);
         }
@@ -81,126 +198,311 @@ public class LongUnum extends AbstractUnum<LongUnum> implements Serializable {
         if (exponent < 0 || (exponent >= (1 << exponentSize))) {
             throw new IllegalArgumentException("invalid exponent " + exponent + " for exponentSize=" + exponentSize);
         }
-        if ((fractionSize == 63 & fraction < 0) || (fractionSize < 63 & fraction >= (1L << fractionSize))) {
-            throw new IllegalArgumentException("invalid fraction " + fraction + " for fractionSize=" + fractionSize);
+        return packTrusted(sign, exponent, ubit, exponentSize, fractionSize);
+    }
+
+    private static long packTrusted(final int sign, final int exponent, final int ubit, final int exponentSize, final int fractionSize) {
+        return ((long)(sign & 0x1) << SIGN_SHIFT) | ((long)exponent << EXPONENT_SHIFT) | ((long)ubit << UBIT_SHIFT)
+                | ((long)(exponentSize - 1) << EXPONENT_SIZE_SHIFT) | (fractionSize - 1);
+    }
+
+    /**
+     * Validates a packed value and fraction.
+     *
+     * @param packed    the packed sign, exponent, ubit, exponent size and fraction size
+     * @param fraction  the fraction bits
+     * @throws IllegalArgumentException if packed or fraction is invalid
+     */
+    public static void validate(final long packed, final long fraction) {
+        if ((packed >>> (SIGN_SHIFT + 1)) != 0) {
+            throw new IllegalArgumentException("invalid packed value: " + Long.toHexString(packed));
+        }
+        final int exponentSize = exponentSize(packed);
+        final int fractionSize = fractionSize(packed);
+        final int exponent = exponent(packed);
+        if (exponent >= (1 << exponentSize)) {
+            throw new IllegalArgumentException("invalid exponent " + exponent + " for exponentSize=" + exponentSize);
+        }
+        if (fractionSize < 64 && (fraction >>> fractionSize) != 0) {
+            throw new IllegalArgumentException("invalid fraction " + Long.toUnsignedString(fraction) + " for fractionSize=" + fractionSize);
         }
     }
 
+    public static byte sign(final long packed) {
+        return (byte)-((packed >>> SIGN_SHIFT) & 0x1);
+    }
+
+    public static int exponent(final long packed) {
+        return (int)((packed & EXPONENT_MASK) >>> EXPONENT_SHIFT);
+    }
+
+    public static byte ubit(final long packed) {
+        return (byte)((packed >>> UBIT_SHIFT) & 0x1);
+    }
+
+    public static byte exponentSize(final long packed) {
+        return (byte)(((packed & EXPONENT_SIZE_MASK) >>> EXPONENT_SIZE_SHIFT) + 1);
+    }
+
+    public static byte fractionSize(final long packed) {
+        return (byte)((packed & FRACTION_SIZE_MASK) + 1);
+    }
+
+    /**
+     * Returns the packed sign, exponent, ubit, exponent size and fraction size of this unum.
+     * @return the packed value of this unum
+     */
+    public long packed() {
+        return packed;
+    }
+
+    public long fraction() {
+        return fraction;
+    }
+
     @Override
     public Factory<LongUnum> getFactory() {
-        throw new RuntimeException("not implemented");
+        return FACTORY;
     }
 
     @Override
     public Factory<Ubound<LongUnum>> getUboundFactory() {
-        return null;
+        return UBOUND_FACTORY;
     }
 
     @Override
     public boolean isNaN() {
-        return ubit == UBIT_INEXACT & exponent == MAX_EXPONENT & fraction == MAX_FRACTION;
+        return isNaN(packed, fraction);
+    }
+
+    public static boolean isNaN(final long packed, final long fraction) {
+        return (packed & (UBIT_MASK | EXPONENT_MASK)) == (UBIT_MASK | EXPONENT_MASK) & fraction == MAX_FRACTION;
     }
 
     @Override
     public boolean isInfinite() {
-        return ubit == UBIT_EXACT & exponent == MAX_EXPONENT & fraction == MAX_FRACTION;
+        return isInfinite(packed, fraction);
+    }
+
+    public static boolean isInfinite(final long packed, final long fraction) {
+        return (packed & (UBIT_MASK | EXPONENT_MASK)) == EXPONENT_MASK & fraction == MAX_FRACTION;
     }
 
     @Override
     public boolean isFinite() {
-        return exponent != MAX_EXPONENT | fraction != MAX_FRACTION;
+        return isFinite(packed, fraction);
+    }
+
+    public static boolean isFinite(final long packed, final long fraction) {
+        return (packed & EXPONENT_MASK) != EXPONENT_MASK | fraction != MAX_FRACTION;
     }
 
     @Override
     public boolean isPositive() {
-        return sign > 0 & !isZero() & !isNaN();
+        return isPositive(packed, fraction);
+    }
+
+    public static boolean isPositive(final long packed, final long fraction) {
+        return (packed & SIGN_MASK) == 0 & !isZero(packed, fraction) & !isNaN(packed, fraction);
     }
 
     @Override
     public boolean isNegative() {
-        return sign < 0 & !isZero() & !isNaN();
+        return isNegative(packed, fraction);
+    }
+
+    public static boolean isNegative(final long packed, final long fraction) {
+        return (packed & SIGN_MASK) != 0 & !isZero(packed, fraction) & !isNaN(packed, fraction);
     }
 
     @Override
     public boolean isSignNegative() {
-        return sign < 0;
+        return (packed & SIGN_MASK) != 0;
     }
 
     @Override
     public boolean isZero() {
-        return exponent == 0 & fraction == 0;
+        return isZero(packed, fraction);
+    }
+
+    public static boolean isZero(final long packed, final long fraction) {
+        return (packed & (UBIT_MASK | EXPONENT_MASK)) == 0 & fraction == 0;
     }
 
     @Override
     public boolean isNonNegative() {
-        return (sign > 0 & !isNaN()) | (exponent == 0 & fraction == 0);
+        return ((packed & SIGN_MASK) == 0 & !isNaN()) | isZero();
     }
 
     @Override
     public boolean isNonPositive() {
-        return (sign < 0 & !isNaN()) | (exponent == 0 & fraction == 0);
+        return ((packed & SIGN_MASK) != 0 & !isNaN()) | isZero();
     }
 
     @Override
     public boolean isExact() {
-        return ubit == UBIT_EXACT;
+        return isExact(packed);
+    }
+
+    public static boolean isExact(final long packed) {
+        return (packed & UBIT_MASK) == 0;
     }
 
     @Override
     public boolean isInexact() {
-        return ubit == UBIT_INEXACT;
+        return (packed & UBIT_MASK) != 0;
     }
 
     @Override
     public LongUnum getLowerBound() {
-        if (isExact() || isPositive()) {
+        if (isExact() | isNaN()) {
             return this;
         }
-        return nextExact();
+        return isSignNegative() ? nextExact() : exactInexact();
     }
 
     @Override
     public LongUnum getUpperBound() {
-        if (isExact() || isNegative()) {
+        if (isExact() | isNaN()) {
             return this;
         }
-        return nextExact();
+        return isSignNegative() ? exactInexact() : nextExact();
     }
 
     @Override
     public LongUnum nextDown() {
-        throw new RuntimeException("not implemented");
+        if (isNaN()) {
+            return isSignNegative() ? SNAN : INF;
+        }
+        if (isInfinite() & isSignNegative()) {
+            return SNAN;
+        }
+        if (isSignNegative() | isZero()) {
+            return isExact() ? new LongUnum((packed | SIGN_MASK | UBIT_MASK), fraction) : nextExact();
+        }
+        return isExact() ? previousInexact() : exactInexact();
     }
 
     @Override
     public LongUnum nextUp() {
-        throw new RuntimeException("not implemented");
+        if (isNaN()) {
+            return isSignNegative() ? NEGATIVE_INF : NAN;
+        }
+        if (isInfinite() & !isSignNegative()) {
+            return NAN;
+        }
+        if (!isSignNegative() | isZero()) {
+            return isExact() ? new LongUnum((packed & ~SIGN_MASK) | UBIT_MASK, fraction) : nextExact();
+        }
+        return isExact() ? previousInexact() : exactInexact();
     }
 
     @Override
     public LongUnum intervalWidth() {
-        throw new RuntimeException("not implemented");
+        if (isExact()) {
+            return isFinite() ? ZERO : INF;
+        }
+        if (isNaN()) {
+            return this;
+        }
+        return addExact(getUpperBound(), getLowerBound().negate(), UnumEnvironment.LARGEST);
     }
 
+    /**
+     * Returns the exact unum with the fields of this inexact unum, that is, the bound closer to zero.
+     */
+    private LongUnum exactInexact() {
+        final long exact = packed & ~UBIT_MASK;
+        return new LongUnum(isZero(exact, fraction) ? exact & ~SIGN_MASK : exact, fraction);
+    }
+
+    /**
+     * Returns the exact unum following this unum in magnitude, that is, the bound further away from zero for an
+     * inexact unum.
+     */
     private LongUnum nextExact() {
-        if (fraction != MAX_FRACTION) {
-            return new LongUnum(sign, exponent, fraction + 1, UBIT_EXACT, exponentSize, fractionSize);
+        final int fractionSize = fractionSize(packed);
+        if (fraction != fractionMask(fractionSize)) {
+            return new LongUnum(packed & ~UBIT_MASK, fraction + 1);
         }
-        if (exponent != MAX_EXPONENT) {
-            return new LongUnum(sign, exponent + 1, 0, UBIT_EXACT, exponentSize, fractionSize);
+        final int exponentSize = exponentSize(packed);
+        final int exponent = exponent(packed) + 1;
+        if (exponent < (1 << exponentSize)) {
+            return new LongUnum(packTrusted(sign(packed), exponent, UBIT_EXACT, exponentSize, fractionSize), 0);
         }
-        //NaN
-        return this;
+        //exponent overflow, use more exponent bits
+        return encode(isSignNegative(), exponent - bias(exponentSize), 0, false, UnumEnvironment.LARGEST);
+    }
+
+    /**
+     * Returns the inexact unum preceding this exact nonzero unum in magnitude.
+     */
+    private LongUnum previousInexact() {
+        if (fraction != 0) {
+            return new LongUnum(packed | UBIT_MASK, fraction - 1);
+        }
+        final int fractionSize = fractionSize(packed);
+        return new LongUnum(packTrusted(sign(packed), exponent(packed) - 1, UBIT_INEXACT, exponentSize(packed), fractionSize), fractionMask(fractionSize));
+    }
+
+    /**
+     * Returns the unum with the fewest exponent and fraction bits that represents the same exact value or the same
+     * interval as this unum.
+     * @return the optimized unum, or this unum if it already uses the fewest bits
+     */
+    public LongUnum optimize() {
+        if (isNaN() | isInfinite()) {
+            return this;
+        }
+        final LongUnum optimized;
+        if (isExact()) {
+            optimized = isZero() ? ZERO : encode(isSignNegative(), magnitudeExponent(packed, fraction, false),
+                    magnitudeFraction(packed, fraction, false), false, UnumEnvironment.LARGEST);
+        } else {
+            optimized = interval(getLowerBound(), getUpperBound(), UnumEnvironment.LARGEST);
+        }
+        return !optimized.isNaN() && bits(optimized.packed) < bits(packed) ? optimized : this;
+    }
+
+    /**
+     * Returns the number of exponent and fraction bits of a packed unum.
+     */
+    static int bits(final long packed) {
+        return exponentSize(packed) + fractionSize(packed);
     }
 
     @Override
     public long longValue() {
-        return 0;
+        return longValue(packed, fraction);
+    }
+
+    /**
+     * Returns the value truncated toward zero as long, saturated at the long range; NaN returns zero.
+     */
+    public static long longValue(final long packed, final long fraction) {
+        if (isNaN(packed, fraction)) {
+            return 0;
+        }
+        final int exponent = magnitudeExponent(packed, fraction, false);
+        if (exponent < 0) {
+            return 0;
+        }
+        final boolean negative = (packed & SIGN_MASK) != 0;
+        if (exponent >= 63) {
+            return negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        final long f = magnitudeFraction(packed, fraction, false);
+        final long abs = (1L << exponent) | (exponent == 0 ? 0 : f >>> (64 - exponent));
+        return negative ? -abs : abs;
     }
 
     @Override
     public double doubleValue() {
-        return doubleValue(sign, exponent, fraction, ubit, exponentSize, fractionSize);
+        return doubleValue(packed, fraction);
+    }
+
+    public static double doubleValue(final long packed, final long fraction) {
+        return doubleValue(sign(packed), exponent(packed), fraction, ubit(packed), exponentSize(packed), fractionSize(packed));
     }
     private static double doubleValue(final byte sign, final int exponent, final long fraction, final byte ubit, final byte exponentSize, final byte fractionSize) {
         if (ubit == 0) {
@@ -227,17 +529,18 @@ public class LongUnum extends AbstractUnum<LongUnum> implements Serializable {
     }
 
     public BigDecimal bigDecimalValueExact() {
-        if (isExact() && isFinite()) {
-            return bigDecimalValueExact(sign, fraction, fractionSize, exponent, exponentValue());
-        }
-        throw new ArithmeticException("not exact or not finite: " + this);
+        return bigDecimalValueExact(packed, fraction);
     }
 
-    private int exponentValue() {
-        return exponentValue(exponent, exponentSize);
+    public static BigDecimal bigDecimalValueExact(final long packed, final long fraction) {
+        if (isExact(packed) && isFinite(packed, fraction)) {
+            final int exponent = exponent(packed);
+            return bigDecimalValueExact(sign(packed), fraction, fractionSize(packed), exponent, exponentValue(exponent, exponentSize(packed)));
+        }
+        throw new ArithmeticException("not exact or not finite: " + toString(packed, fraction));
     }
     private static int exponentValue(final int exponent, final int exponentSize) {
-        final int bias = (1 << (exponentSize - 1)) - 1;
+        final int bias = bias(exponentSize);
         final int hidden = exponent == 0 ? 0 : 1;
         return exponent - bias + 1 - hidden;
     }
@@ -256,65 +559,836 @@ public class LongUnum extends AbstractUnum<LongUnum> implements Serializable {
         final BigDecimal bigFraction = fraction >= 0 ? BigDecimal.valueOf(fraction) : BigDecimal.valueOf(fraction >>> 1).multiply(two).add(BigDecimal.valueOf(fraction & 0x1));
         final BigDecimal scaledFraction = bigFraction.divide(two.pow(fractionSize));
         final BigDecimal scaledFractionWithHiddenBit = exponent == 0 ? scaledFraction : BigDecimal.ONE.add(scaledFraction);
-        final BigDecimal abs = scaledFractionWithHiddenBit.multiply(two.pow(expovalue)).stripTrailingZeros();
+        final BigDecimal scale = expovalue >= 0 ? two.pow(expovalue) : BigDecimal.ONE.divide(two.pow(-expovalue));
+        final BigDecimal abs = scaledFractionWithHiddenBit.multiply(scale).stripTrailingZeros();
         return sign >= 0 ? abs : abs.negate();
     }
 
     @Override
-    public int compareTo(LongUnum o) {
-        return 0;
+    public int compareTo(final LongUnum o) {
+        return compare(packed, fraction, o.packed, o.fraction);
+    }
+
+    /**
+     * Compares two unums like {@link #compareTo(LongUnum)}: by lower bound first and then by upper bound, where open
+     * bounds are inside of closed bounds with the same value. Unums with equal bounds are equal even if their sizes
+     * differ. Like for Double, qNaN is larger and sNaN is smaller than all other values.
+     */
+    public static int compare(final long aPacked, final long aFraction, final long bPacked, final long bFraction) {
+        final boolean aNaN = isNaN(aPacked, aFraction);
+        final boolean bNaN = isNaN(bPacked, bFraction);
+        if (aNaN | bNaN) {
+            return Integer.compare(nanOrder(aPacked, aNaN), nanOrder(bPacked, bNaN));
+        }
+        final int cmp = compareBound(aPacked, aFraction, bPacked, bFraction, true);
+        return cmp != 0 ? cmp : compareBound(aPacked, aFraction, bPacked, bFraction, false);
+    }
+
+    private static int nanOrder(final long packed, final boolean nan) {
+        return nan ? ((packed & SIGN_MASK) == 0 ? 1 : -1) : 0;
+    }
+
+    private static int compareBound(final long aPacked, final long aFraction, final long bPacked, final long bFraction, final boolean lower) {
+        final boolean aOpen = !isExact(aPacked);
+        final boolean bOpen = !isExact(bPacked);
+        //the bound further away from zero is the next exact magnitude
+        final boolean aNext = aOpen & ((aPacked & SIGN_MASK) != 0) == lower;
+        final boolean bNext = bOpen & ((bPacked & SIGN_MASK) != 0) == lower;
+        final int aExponent = magnitudeExponent(aPacked, aFraction, aNext);
+        final int bExponent = magnitudeExponent(bPacked, bFraction, bNext);
+        final int aSign = aExponent == ZERO_EXPONENT ? 0 : (aPacked & SIGN_MASK) == 0 ? 1 : -1;
+        final int bSign = bExponent == ZERO_EXPONENT ? 0 : (bPacked & SIGN_MASK) == 0 ? 1 : -1;
+        int cmp = Integer.compare(aSign, bSign);
+        if (cmp == 0 & aSign != 0) {
+            cmp = Integer.compare(aExponent, bExponent);
+            if (cmp == 0) {
+                cmp = Long.compareUnsigned(magnitudeFraction(aPacked, aFraction, aNext), magnitudeFraction(bPacked, bFraction, bNext));
+            }
+            cmp *= aSign;
+        }
+        if (cmp != 0 | aOpen == bOpen) {
+            return cmp;
+        }
+        //open lower bounds are larger and open upper bounds smaller than closed bounds
+        return aOpen == lower ? 1 : -1;
+    }
+
+    @Override
+    public LongUnum min(final LongUnum other) {
+        return compareTo(other) <= 0 ? this : other;
     }
 
     @Override
-    public LongUnum min(LongUnum other) {
-        throw new RuntimeException("not implemented");
+    public LongUnum max(final LongUnum other) {
+        return compareTo(other) >= 0 ? this : other;
     }
 
     @Override
-    public LongUnum max(LongUnum other) {
-        throw new RuntimeException("not implemented");
+    public LongUnum add(final LongUnum other) {
+        return add(this, other, UnumEnvironment.LARGEST);
     }
 
     @Override
-    public LongUnum add(LongUnum other) {
-        throw new RuntimeException("not implemented");
+    public LongUnum subtract(final LongUnum other) {
+        return add(this, other.negate(), UnumEnvironment.LARGEST);
     }
 
     @Override
-    public LongUnum subtract(LongUnum other) {
-        throw new RuntimeException("not implemented");
+    public LongUnum multiply(final LongUnum other) {
+        return multiply(this, other, UnumEnvironment.LARGEST);
     }
 
     @Override
-    public LongUnum multiply(LongUnum other) {
-        throw new RuntimeException("not implemented");
+    public LongUnum divide(final LongUnum other) {
+        return divide(this, other, UnumEnvironment.LARGEST);
+    }
+
+    static LongUnum add(final LongUnum a, final LongUnum b, final UnumEnvironment environment) {
+        if (a.isExact() & b.isExact()) {
+            return addExact(a, b, environment);
+        }
+        if (a.isNaN() | b.isNaN()) {
+            return NAN;
+        }
+        final LongUnum lower = addBound(lowerBound(a, environment), a.isInexact(), lowerBound(b, environment), b.isInexact(), true);
+        final LongUnum upper = addBound(upperBound(a, environment), a.isInexact(), upperBound(b, environment), b.isInexact(), false);
+        return single(lower, upper, environment);
+    }
+
+    /*
+     * Inexact multiply and divide: a single unum lies on one side of zero, hence the sign of the result is known and
+     * the magnitude bounds are the products or quotients of the operand magnitude bounds; both result bounds are open
+     * as at least one operand is inexact.
+     */
+
+    static LongUnum multiply(final LongUnum a, final LongUnum b, final UnumEnvironment environment) {
+        if (a.isExact() & b.isExact()) {
+            return multiplyExact(a, b, environment);
+        }
+        if (a.isNaN() | b.isNaN()) {
+            return NAN;
+        }
+        final boolean negative = a.isSignNegative() != b.isSignNegative();
+        if (a.isZero() | b.isZero()) {
+            //exact zero, the other operand is inexact and finite
+            return ZERO;
+        }
+        if (a.isInfinite() | b.isInfinite()) {
+            //exact infinity, the other operand is inexact and nonzero
+            return negative ? NEGATIVE_INF : INF;
+        }
+        final LongUnum absA = a.abs();
+        final LongUnum absB = b.abs();
+        final LongUnum toZero = bound(multiplyExact(absA.getLowerBound(), absB.getLowerBound(), UnumEnvironment.LARGEST), true);
+        final LongUnum fromZero = bound(multiplyExact(upperBound(absA, environment), upperBound(absB, environment), UnumEnvironment.LARGEST), false);
+        return single(negative, toZero, fromZero, environment);
+    }
+
+    static LongUnum divide(final LongUnum a, final LongUnum b, final UnumEnvironment environment) {
+        if (a.isExact() & b.isExact()) {
+            return divideExact(a, b, environment);
+        }
+        if (a.isNaN() | b.isNaN() | (b.isZero() & b.isExact())) {
+            return NAN;
+        }
+        final boolean negative = a.isSignNegative() != b.isSignNegative();
+        if ((a.isZero() & a.isExact()) | b.isInfinite()) {
+            //exact zero or exact infinite divisor, the other operand is inexact and finite
+            return ZERO;
+        }
+        if (a.isInfinite()) {
+            //exact infinity, the divisor is inexact and finite
+            return negative ? NEGATIVE_INF : INF;
+        }
+        final LongUnum absA = a.abs();
+        final LongUnum absB = b.abs();
+        final LongUnum toZero = bound(divideExact(absA.getLowerBound(), upperBound(absB, environment), UnumEnvironment.LARGEST), true);
+        final LongUnum divisor = absB.getLowerBound();
+        //the open zero bound of a divisor such as (0, 1) lets the quotient approach infinity
+        final LongUnum fromZero = bound(divisor.isZero() ? INF : divideExact(upperBound(absA, environment), divisor, UnumEnvironment.LARGEST), false);
+        return single(negative, toZero, fromZero, environment);
+    }
+
+    /**
+     * Returns the lower or upper unum of the sum of two exact endpoints, see {@link DefaultUbound}.
+     */
+    private static LongUnum addBound(final LongUnum a, final boolean aOpen, final LongUnum b, final boolean bOpen, final boolean lower) {
+        if (a.isInfinite() | b.isInfinite()) {
+            if (a.isInfinite() & b.isInfinite() && a.isSignNegative() != b.isSignNegative()) {
+                //a closed infinity absorbs the other (open) one
+                if (aOpen == bOpen) {
+                    return NAN;
+                }
+                return aOpen ? b : a;
+            }
+            final LongUnum inf = a.isInfinite() ? a : b;
+            final boolean open = (!a.isInfinite() | aOpen) & (!b.isInfinite() | bOpen);
+            return open ? (inf.isSignNegative() ? inf.nextUp() : inf.nextDown()) : inf;
+        }
+        final LongUnum sum = addExact(a, b, UnumEnvironment.LARGEST);
+        if (!(aOpen | bOpen) | sum.isInexact()) {
+            return sum;
+        }
+        return lower ? sum.nextUp() : sum.nextDown();
+    }
+
+    /**
+     * Returns the lower bound of the unum, or negative infinity for (-inf, -maxreal) of the environment.
+     */
+    private static LongUnum lowerBound(final LongUnum unum, final UnumEnvironment environment) {
+        return unum.isSignNegative() && environment.isOverflow(unum) ? NEGATIVE_INF : unum.getLowerBound();
+    }
+
+    /**
+     * Returns the upper bound of the unum, or infinity for (maxreal, inf) of the environment.
+     */
+    private static LongUnum upperBound(final LongUnum unum, final UnumEnvironment environment) {
+        return !unum.isSignNegative() && environment.isOverflow(unum) ? INF : unum.getUpperBound();
+    }
+
+    /**
+     * Returns the open magnitude bound toward or away from zero for a nonnegative product or quotient.
+     */
+    private static LongUnum bound(final LongUnum magnitude, final boolean toZero) {
+        if (magnitude.isInexact() | magnitude.isNaN()) {
+            return magnitude;
+        }
+        return toZero ? magnitude.nextUp() : magnitude.nextDown();
+    }
+
+    /**
+     * Returns the given unum if it fits into the environment, otherwise the unum with the fewest bits in the
+     * environment that contains it, or qNaN if no such unum exists.
+     */
+    static LongUnum round(final LongUnum unum, final UnumEnvironment environment) {
+        if (unum.isNaN() | unum.isInfinite() || environment.fits(unum)) {
+            return unum;
+        }
+        final boolean negative = unum.isSignNegative();
+        final int exponent = magnitudeExponent(unum.packed, unum.fraction, false);
+        final long fraction = magnitudeFraction(unum.packed, unum.fraction, false);
+        if (unum.isExact()) {
+            return exponent == ZERO_EXPONENT ? ZERO : encode(negative, exponent, fraction, false, environment);
+        }
+        //truncate the bound closer to zero and check that the result still contains the other bound
+        final LongUnum rounded = exponent == ZERO_EXPONENT ?
+                new LongUnum(packTrusted(sign(unum.packed), 0, UBIT_INEXACT, environment.maxExponentSize(), environment.maxFractionSize()), 0) :
+                encode(negative, exponent, fraction, true, environment);
+        return environment.isOverflow(rounded) || rounded.abs().getUpperBound().compareTo(unum.abs().getUpperBound()) >= 0 ?
+                rounded : NAN;
+    }
+
+    public static LongUnum valueOf(final long value) {
+        return valueOf(value, UnumEnvironment.LARGEST);
+    }
+
+    public static LongUnum valueOf(final double value) {
+        return valueOf(value, UnumEnvironment.LARGEST);
+    }
+
+    static LongUnum valueOf(final long value, final UnumEnvironment environment) {
+        if (value == 0) {
+            return ZERO;
+        }
+        //the absolute value of Long.MIN_VALUE is correct if interpreted as unsigned value
+        final long abs = value < 0 ? -value : value;
+        final int zeros = Long.numberOfLeadingZeros(abs);
+        return encode(value < 0, 63 - zeros, (abs << zeros) << 1, false, environment);
+    }
+
+    static LongUnum valueOf(final double value, final UnumEnvironment environment) {
+        if (Double.isNaN(value)) {
+            return NAN;
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? INF : NEGATIVE_INF;
+        }
+        if (value == 0) {
+            return ZERO;
+        }
+        final long bits = Double.doubleToRawLongBits(value);
+        final int exponent = (int)((bits >>> 52) & 0x7ff);
+        final long mantissa = bits & 0xfffffffffffffL;
+        if (exponent != 0) {
+            return encode(value < 0, exponent - 1023, mantissa << 12, false, environment);
+        }
+        //subnormal double
+        final int zeros = Long.numberOfLeadingZeros(mantissa);
+        return encode(value < 0, 63 - zeros - 1074, (mantissa << zeros) << 1, false, environment);
+    }
+
+    private static LongUnum addExact(final LongUnum a, final LongUnum b, final UnumEnvironment environment) {
+        if (a.isInfinite() | b.isInfinite()) {
+            if (a.isInfinite() & b.isInfinite() & a.isSignNegative() != b.isSignNegative()) {
+                return NAN;
+            }
+            return a.isInfinite() ? a : b;
+        }
+        if (a.isZero()) {
+            return b.isZero() ? ZERO : round(b, environment);
+        }
+        if (b.isZero()) {
+            return round(a, environment);
+        }
+        return add(a.isSignNegative(), magnitudeExponent(a.packed, a.fraction, false), magnitudeFraction(a.packed, a.fraction, false),
+                b.isSignNegative(), magnitudeExponent(b.packed, b.fraction, false), magnitudeFraction(b.packed, b.fraction, false),
+                environment);
+    }
+
+    private static LongUnum multiplyExact(final LongUnum a, final LongUnum b, final UnumEnvironment environment) {
+        final boolean negative = a.isSignNegative() != b.isSignNegative();
+        if (a.isInfinite() | b.isInfinite()) {
+            if (a.isZero() | b.isZero()) {
+                return NAN;
+            }
+            return negative ? NEGATIVE_INF : INF;
+        }
+        if (a.isZero() | b.isZero()) {
+            return ZERO;
+        }
+        return multiply(negative, magnitudeExponent(a.packed, a.fraction, false), magnitudeFraction(a.packed, a.fraction, false),
+                magnitudeExponent(b.packed, b.fraction, false), magnitudeFraction(b.packed, b.fraction, false), environment);
+    }
+
+    private static LongUnum divideExact(final LongUnum a, final LongUnum b, final UnumEnvironment environment) {
+        final boolean negative = a.isSignNegative() != b.isSignNegative();
+        if (b.isZero() | (a.isInfinite() & b.isInfinite())) {
+            return NAN;
+        }
+        if (a.isInfinite()) {
+            return negative ? NEGATIVE_INF : INF;
+        }
+        if (a.isZero() | b.isInfinite()) {
+            return ZERO;
+        }
+        return divide(negative, magnitudeExponent(a.packed, a.fraction, false), magnitudeFraction(a.packed, a.fraction, false),
+                magnitudeExponent(b.packed, b.fraction, false), magnitudeFraction(b.packed, b.fraction, false), environment);
+    }
+
+    /**
+     * Adds two nonzero finite normalized values using 128 bit significands; the result is truncated toward zero.
+     */
+    private static LongUnum add(boolean aNegative, int aExponent, long aFraction, boolean bNegative, int bExponent, long bFraction,
+                                final UnumEnvironment environment) {
+        if (aExponent < bExponent | (aExponent == bExponent && Long.compareUnsigned(aFraction, bFraction) < 0)) {
+            //swap so that |a| >= |b|
+            final boolean negative = aNegative;
+            final int exponent = aExponent;
+            final long fraction = aFraction;
+            aNegative = bNegative;
+            aExponent = bExponent;
+            aFraction = bFraction;
+            bNegative = negative;
+            bExponent = exponent;
+            bFraction = fraction;
+        }
+        //significands as (hi, lo) with the leading one in the most significant bit of hi
+        final long aHi = LEADING_ONE | (aFraction >>> 1);
+        final long aLo = aFraction << 63;
+        long bHi = LEADING_ONE | (bFraction >>> 1);
+        long bLo = bFraction << 63;
+        final int shift = aExponent - bExponent;
+        boolean inexact = false;
+        if (shift >= 128) {
+            inexact = true;
+            bHi = 0;
+            bLo = 0;
+        } else if (shift >= 64) {
+            inexact = bLo != 0 | (shift > 64 && (bHi << (128 - shift)) != 0);
+            bLo = bHi >>> (shift - 64);
+            bHi = 0;
+        } else if (shift > 0) {
+            inexact = (bLo << (64 - shift)) != 0;
+            bLo = (bLo >>> shift) | (bHi << (64 - shift));
+            bHi >>>= shift;
+        }
+        int exponent = aExponent;
+        long hi;
+        long lo;
+        if (aNegative == bNegative) {
+            lo = aLo + bLo;
+            final long sum = aHi + bHi;
+            final long carry = LongMath.carry(aHi, sum);
+            hi = sum + LongMath.carry(aLo, lo);
+            if ((carry | LongMath.carry(sum, hi)) != 0) {
+                inexact |= (lo & 1) != 0;
+                lo = (lo >>> 1) | (hi << 63);
+                hi = LEADING_ONE | (hi >>> 1);
+                exponent++;
+            }
+        } else {
+            if (inexact) {
+                //the exact difference lies strictly between the differences with the truncated and the incremented b
+                bLo++;
+                bHi += bLo == 0 ? 1 : 0;
+            }
+            lo = aLo - bLo;
+            hi = aHi - bHi - LongMath.borrow(aLo, bLo);
+            if ((hi | lo) == 0) {
+                return ZERO;
+            }
+            final int zeros = hi != 0 ? Long.numberOfLeadingZeros(hi) : 64 + Long.numberOfLeadingZeros(lo);
+            if (zeros >= 64) {
+                hi = lo << (zeros - 64);
+                lo = 0;
+            } else if (zeros > 0) {
+                hi = (hi << zeros) | (lo >>> (64 - zeros));
+                lo <<= zeros;
+            }
+            exponent -= zeros;
+        }
+        return encode(aNegative, exponent, (hi << 1) | (lo >>> 63), inexact | (lo << 1) != 0, environment);
+    }
+
+    /**
+     * Multiplies two nonzero finite normalized values using a 128 bit product; the result is truncated toward zero.
+     */
+    private static LongUnum multiply(final boolean negative, final int aExponent, final long aFraction, final int bExponent, final long bFraction,
+                                     final UnumEnvironment environment) {
+        //(2^64 + a) * (2^64 + b) = 2^128 + (a + b) * 2^64 + a * b
+        final long productHigh = LongMath.unsignedMultiplyHigh(aFraction, bFraction);
+        final long productLow = aFraction * bFraction;
+        final long sum = aFraction + bFraction;
+        final long middle = sum + productHigh;
+        final long top = 1 + LongMath.carry(aFraction, sum) + LongMath.carry(sum, middle);
+        if (top >= 2) {
+            return encode(negative, aExponent + bExponent + 1, (top << 63) | (middle >>> 1), (middle & 1) != 0 | productLow != 0, environment);
+        }
+        return encode(negative, aExponent + bExponent, middle, productLow != 0, environment);
+    }
+
+    /**
+     * Divides two nonzero finite normalized values by restoring division of the 65 bit significands; the result is
+     * truncated toward zero.
+     */
+    private static LongUnum divide(final boolean negative, final int aExponent, final long aFraction, final int bExponent, final long bFraction,
+                                   final UnumEnvironment environment) {
+        //remainder as (hi, lo) with hi < 4, the first quotient bit is one
+        long hi = 1;
+        long lo = aFraction;
+        int exponent = aExponent - bExponent;
+        if (Long.compareUnsigned(aFraction, bFraction) < 0) {
+            hi = 2 | (aFraction >>> 63);
+            lo = aFraction << 1;
+            exponent--;
+        }
+        hi -= 1 + LongMath.borrow(lo, bFraction);
+        lo -= bFraction;
+        long quotient = 0;
+        for (int i = 0; i < 64; i++) {
+            hi = (hi << 1) | (lo >>> 63);
+            lo <<= 1;
+            quotient <<= 1;
+            if (hi > 1 | (hi == 1 && Long.compareUnsigned(lo, bFraction) >= 0)) {
+                hi -= 1 + LongMath.borrow(lo, bFraction);
+                lo -= bFraction;
+                quotient |= 1;
+            }
+        }
+        return encode(negative, exponent, quotient, (hi | lo) != 0, environment);
+    }
+
+    /**
+     * Returns the unum for the normalized magnitude (2^64 + fraction) * 2^(exponent - 64) truncated toward zero with
+     * the smallest exponent and fraction size in the given environment. The result is inexact if the magnitude is
+     * marked inexact or if it cannot be represented exactly; magnitudes above maxreal of the environment return the
+     * unum (maxreal, inf) of the environment.
+     */
+    private static LongUnum encode(final boolean negative, final int exponent, final long fraction, final boolean inexact,
+                                   final UnumEnvironment environment) {
+        if (exponent > environment.maxNormalExponent()) {
+            return environment.overflow(negative);
+        }
+        final LongUnum unum = encodeInRange(negative, exponent, fraction, inexact, environment);
+        //the truncated maxreal + ulp has the bit pattern reserved for infinity
+        return environment.isReserved(unum.packed, unum.fraction) ? environment.overflow(negative) : unum;
+    }
+
+    private static LongUnum encodeInRange(final boolean negative, final int exponent, final long fraction, final boolean inexact,
+                                          final UnumEnvironment environment) {
+        final int sign = negative ? SIGN_NEGATIVE : SIGN_POSITIVE;
+        final int maxFractionSize = environment.maxFractionSize();
+        if (exponent == MAX_NORMAL_EXPONENT & fraction == MAX_FRACTION & maxFractionSize == 64) {
+            //maxreal + ulp is infinity if all exponent and fraction bits are available
+            return environment.overflow(negative);
+        }
+        if (exponent < environment.minNormalExponent()) {
+            return subnormal(sign, exponent, fraction, inexact, environment.maxExponentSize(), maxFractionSize);
+        }
+        if (!inexact) {
+            //find the exponent size with the fewest bits, normal or subnormal
+            final int bits = fraction == 0 ? 0 : 64 - Long.numberOfTrailingZeros(fraction);
+            int bestExponentSize = 0;
+            int bestFractionSize = 0;
+            for (int exponentSize = 1; exponentSize <= environment.maxExponentSize(); exponentSize++) {
+                final int biased = exponent + bias(exponentSize);
+                final int fractionSize;
+                if (biased >= 1) {
+                    if (biased >= (1 << exponentSize)) {
+                        continue;
+                    }
+                    fractionSize = Math.max(1, bits);
+                } else {
+                    fractionSize = 1 - biased + bits;
+                }
+                if (fractionSize > maxFractionSize) {
+                    continue;
+                }
+                if (bestExponentSize == 0 || exponentSize + fractionSize < bestExponentSize + bestFractionSize) {
+                    bestExponentSize = exponentSize;
+                    bestFractionSize = fractionSize;
+                }
+            }
+            if (bestExponentSize != 0) {
+                final int biased = exponent + bias(bestExponentSize);
+                if (biased >= 1) {
+                    final long f = bestFractionSize == 64 ? fraction : fraction >>> (64 - bestFractionSize);
+                    return new LongUnum(packTrusted(sign, biased, UBIT_EXACT, bestExponentSize, bestFractionSize), f);
+                }
+                final long f = bits == 0 ? 1 : (1L << bits) | (fraction >>> (64 - bits));
+                return new LongUnum(packTrusted(sign, 0, UBIT_EXACT, bestExponentSize, bestFractionSize), f);
+            }
+        }
+        return normal(sign, exponent, fraction, inexact, normalExponentSize(exponent), maxFractionSize);
+    }
+
+    private static LongUnum normal(final int sign, final int exponent, final long fraction, final boolean inexact,
+                                   final int exponentSize, final int maxFractionSize) {
+        final int biased = exponent + bias(exponentSize);
+        final int bits = fraction == 0 ? 0 : 64 - Long.numberOfTrailingZeros(fraction);
+        if (!inexact & bits <= maxFractionSize) {
+            final int fractionSize = Math.max(1, bits);
+            final long f = fractionSize == 64 ? fraction : fraction >>> (64 - fractionSize);
+            return new LongUnum(packTrusted(sign, biased, UBIT_EXACT, exponentSize, fractionSize), f);
+        }
+        final long f = maxFractionSize == 64 ? fraction : fraction >>> (64 - maxFractionSize);
+        return new LongUnum(packTrusted(sign, biased, UBIT_INEXACT, exponentSize, maxFractionSize), f);
+    }
+
+    private static LongUnum subnormal(final int sign, final int exponent, final long fraction, final boolean inexact,
+                                      final int exponentSize, final int maxFractionSize) {
+        //shift of the 65 bit significand to units of the last fraction bit
+        final int shift = 65 - maxFractionSize - bias(exponentSize) - exponent;
+        final long subnormal;
+        final boolean truncated;
+        if (shift < 64) {
+            subnormal = (1L << (64 - shift)) | (fraction >>> shift);
+            truncated = (fraction << (64 - shift)) != 0;
+        } else {
+            subnormal = shift == 64 ? 1 : 0;
+            truncated = shift > 64 | fraction != 0;
+        }
+        if (inexact | truncated) {
+            return new LongUnum(packTrusted(sign, 0, UBIT_INEXACT, exponentSize, maxFractionSize), subnormal);
+        }
+        final int zeros = Long.numberOfTrailingZeros(subnormal);
+        return new LongUnum(packTrusted(sign, 0, UBIT_EXACT, exponentSize, maxFractionSize - zeros), subnormal >>> zeros);
+    }
+
+    /**
+     * Returns the smallest exponent size with the given exponent in its normal range.
+     */
+    private static int normalExponentSize(final int exponent) {
+        int exponentSize = 1;
+        while (exponent + bias(exponentSize) < 1 | exponent > (1 << (exponentSize - 1))) {
+            exponentSize++;
+        }
+        return exponentSize;
+    }
+
+    /**
+     * Returns the single unum with the given magnitude bounds and sign, see {@link #single(LongUnum, LongUnum, UnumEnvironment)}.
+     */
+    private static LongUnum single(final boolean negative, final LongUnum toZero, final LongUnum fromZero, final UnumEnvironment environment) {
+        return negative ? single(fromZero.negate(), toZero.negate(), environment) : single(toZero, fromZero, environment);
+    }
+
+    /**
+     * Returns the single unum equal to the ubound from lower to upper, or qNaN if the ubound is not representable as
+     * a single unum.
+     */
+    private static LongUnum single(final LongUnum lower, final LongUnum upper, final UnumEnvironment environment) {
+        if (lower.isNaN() | upper.isNaN()) {
+            return NAN;
+        }
+        if (lower.compareTo(upper) == 0) {
+            return round(lower, environment);
+        }
+        if (lower.isExact() | upper.isExact()) {
+            return NAN;
+        }
+        //all magnitudes beyond maxreal of the environment round to (maxreal, inf)
+        final LongUnum rounded = round(lower, environment);
+        if (environment.isOverflow(rounded) && rounded.compareTo(round(upper, environment)) == 0) {
+            return rounded;
+        }
+        return interval(lower.getLowerBound(), upper.getUpperBound(), environment);
+    }
+
+    /**
+     * Returns the inexact unum for the open interval between the given exact bounds, or qNaN if no such unum exists.
+     */
+    private static LongUnum interval(final LongUnum lower, final LongUnum upper, final UnumEnvironment environment) {
+        final boolean negative;
+        final LongUnum from;
+        final LongUnum to;
+        if (!lower.isNegative()) {
+            negative = false;
+            from = lower;
+            to = upper;
+        } else if (!upper.isPositive()) {
+            negative = true;
+            from = upper.abs();
+            to = lower.abs();
+        } else {
+            return NAN;
+        }
+        final int sign = negative ? SIGN_NEGATIVE : SIGN_POSITIVE;
+        final int fromExponent = magnitudeExponent(from.packed, from.fraction, false);
+        final long fromFraction = magnitudeFraction(from.packed, from.fraction, false);
+        if (to.isInfinite()) {
+            //(maxreal, inf)
+            return from.compareTo(environment.maxReal()) == 0 ? environment.overflow(negative) : NAN;
+        }
+        //the width must be a power of two, the unit of the last fraction bit
+        final LongUnum width = addExact(to, from.negate(), UnumEnvironment.LARGEST);
+        if (width.isInexact() || magnitudeFraction(width.packed, width.fraction, false) != 0) {
+            return NAN;
+        }
+        final int unit = magnitudeExponent(width.packed, width.fraction, false);
+        final int bits = fromFraction == 0 ? 0 : 64 - Long.numberOfTrailingZeros(fromFraction);
+        int bestExponentSize = 0;
+        int bestFractionSize = 0;
+        for (int exponentSize = 1; exponentSize <= environment.maxExponentSize(); exponentSize++) {
+            final int bias = bias(exponentSize);
+            final int fractionSize;
+            if (fromExponent == ZERO_EXPONENT || fromExponent + bias < 1) {
+                //subnormal
+                fractionSize = 1 - bias - unit;
+                if (fromExponent != ZERO_EXPONENT && fromExponent - bits < unit) {
+                    continue;
+                }
+            } else {
+                if (fromExponent + bias >= (1 << exponentSize)) {
+                    continue;
+                }
+                fractionSize = fromExponent - unit;
+                if (fractionSize < bits) {
+                    continue;
+                }
+            }
+            if (fractionSize < 1 | fractionSize > environment.maxFractionSize()) {
+                continue;
+            }
+            if (bestExponentSize == 0 || exponentSize + fractionSize < bestExponentSize + bestFractionSize) {
+                bestExponentSize = exponentSize;
+                bestFractionSize = fractionSize;
+            }
+        }
+        if (bestExponentSize == 0) {
+            return NAN;
+        }
+        final int biased = fromExponent == ZERO_EXPONENT ? 0 : Math.max(0, fromExponent + bias(bestExponentSize));
+        final long f;
+        if (biased >= 1) {
+            f = bestFractionSize == 64 ? fromFraction : fromFraction >>> (64 - bestFractionSize);
+        } else if (fromExponent == ZERO_EXPONENT) {
+            f = 0;
+        } else {
+            f = ((bits == 0 ? 1 : (1L << bits) | (fromFraction >>> (64 - bits)))) << (fromExponent - bits - unit);
+        }
+        final LongUnum unum = new LongUnum(packTrusted(sign, biased, UBIT_INEXACT, bestExponentSize, bestFractionSize), f);
+        //exclude the NaN bit pattern
+        return unum.isNaN() | environment.isReserved(unum.packed, unum.fraction) ? NAN : unum;
     }
 
     @Override
-    public LongUnum divide(LongUnum other) {
-        throw new RuntimeException("not implemented");
+    public LongUnum unify(final LongUnum upper) {
+        if (isNaN() | upper.isNaN()) {
+            return NAN;
+        }
+        if (compareTo(upper) == 0) {
+            return this;
+        }
+        final LongUnum lowerBound = getLowerBound();
+        final LongUnum upperBound = upper.getUpperBound();
+        if (!lowerBound.isNegative() && (lowerBound.isPositive() | isInexact())) {
+            return unify(lowerBound, isInexact(), upperBound, upper.isInexact());
+        }
+        if (!upperBound.isPositive() && (upperBound.isNegative() | upper.isInexact())) {
+            final LongUnum unified = unify(upperBound.negate(), upper.isInexact(), lowerBound.negate(), isInexact());
+            return unified.negate();
+        }
+        //the values on both sides of zero or zero and nonzero values
+        return NAN;
+    }
+
+    /**
+     * Returns the tightest inexact unum containing the positive interval from lower to upper.
+     */
+    private static LongUnum unify(final LongUnum lower, final boolean lowerOpen, final LongUnum upper, final boolean upperOpen) {
+        if (upper.isInfinite()) {
+            //only (maxreal, inf) contains infinite values
+            final LongUnum overflow = encode(false, MAX_NORMAL_EXPONENT, MAX_FRACTION, true, UnumEnvironment.LARGEST);
+            final int cmp = lower.compareTo(overflow.getLowerBound());
+            return upperOpen & (cmp > 0 | (cmp == 0 & lowerOpen)) ? overflow : NAN;
+        }
+        final int lowerExponent = magnitudeExponent(lower.packed, lower.fraction, false);
+        final long lowerFraction = magnitudeFraction(lower.packed, lower.fraction, false);
+        final int upperExponent = magnitudeExponent(upper.packed, upper.fraction, false);
+        //find the smallest unit 2^u with lower and upper in (m * 2^u, (m + 1) * 2^u) for some m
+        final int minUnit = lowerExponent == ZERO_EXPONENT ? upperExponent - 65 : Math.max(lowerExponent - 64, upperExponent - 65);
+        for (int unit = minUnit; unit <= upperExponent + 1; unit++) {
+            final LongUnum from;
+            final int shift = 64 + unit - lowerExponent;
+            if (lowerExponent == ZERO_EXPONENT || shift > 64) {
+                from = ZERO;
+            } else {
+                //m = floor(lower / 2^u) with at most 65 bits
+                if (shift == 0) {
+                    from = encode(false, lowerExponent, lowerFraction, false, UnumEnvironment.LARGEST);
+                } else {
+                    final long m = shift == 64 ? 1 : (1L << (64 - shift)) | (lowerFraction >>> shift);
+                    final int zeros = Long.numberOfLeadingZeros(m);
+                    from = encode(false, unit + 63 - zeros, (m << zeros) << 1, false, UnumEnvironment.LARGEST);
+                }
+            }
+            final int cmpLower = lower.compareTo(from);
+            if (cmpLower == 0 & !lowerOpen) {
+                continue;
+            }
+            final LongUnum to = addExact(from, encode(false, unit, 0, false, UnumEnvironment.LARGEST), UnumEnvironment.LARGEST);
+            final int cmpUpper = upper.compareTo(to);
+            if (cmpUpper > 0 | (cmpUpper == 0 & !upperOpen) | to.isInexact()) {
+                continue;
+            }
+            final LongUnum unified = interval(from, to, UnumEnvironment.LARGEST);
+            if (!unified.isNaN()) {
+                return unified;
+            }
+        }
+        return NAN;
+    }
+
+    private static int bias(final int exponentSize) {
+        return UnumEnvironment.bias(exponentSize);
+    }
+
+    private static long fractionMask(final int fractionSize) {
+        return fractionSize == 64 ? MAX_FRACTION : (1L << fractionSize) - 1;
+    }
+
+    /**
+     * Returns the exponent of the normalized magnitude of the exact unum with the given fields, or of the next exact
+     * unum in magnitude if next is true, where an overflowing fraction carries into the exponent.
+     */
+    private static int magnitudeExponent(final long packed, final long fraction, final boolean next) {
+        final int fractionSize = fractionSize(packed);
+        int exponent = exponent(packed);
+        long f = fraction;
+        if (next) {
+            if (f == fractionMask(fractionSize)) {
+                exponent++;
+                f = 0;
+            } else {
+                f++;
+            }
+        }
+        if (exponent == MAX_EXPONENT & f == MAX_FRACTION) {
+            return INFINITE_EXPONENT;
+        }
+        final int bias = bias(exponentSize(packed));
+        if (exponent != 0) {
+            return exponent - bias;
+        }
+        if (f == 0) {
+            return ZERO_EXPONENT;
+        }
+        return 64 - Long.numberOfLeadingZeros(f) - bias - fractionSize;
+    }
+
+    /**
+     * Returns the 64 bits following the leading one bit of the normalized magnitude, see
+     * {@link #magnitudeExponent(long, long, boolean)}.
+     */
+    private static long magnitudeFraction(final long packed, final long fraction, final boolean next) {
+        final int fractionSize = fractionSize(packed);
+        int exponent = exponent(packed);
+        long f = fraction;
+        if (next) {
+            if (f == fractionMask(fractionSize)) {
+                exponent++;
+                f = 0;
+            } else {
+                f++;
+            }
+        }
+        if (exponent != 0) {
+            return fractionSize == 64 ? f : f << (64 - fractionSize);
+        }
+        final int shift = Long.numberOfLeadingZeros(f) + 1;
+        return shift >= 64 ? 0 : f << shift;
     }
 
     @Override
     public LongUnum negate() {
-        return isNaN() ? this : new LongUnum((byte)-sign, exponent, fraction, ubit, exponentSize, fractionSize);
+        return isNaN() | isZero() ? this : new LongUnum(negate(packed, fraction), fraction);
+    }
+
+    /**
+     * Returns the packed value of the negated unum, the fraction is unchanged.
+     */
+    public static long negate(final long packed, final long fraction) {
+        return isNaN(packed, fraction) | isZero(packed, fraction) ? packed : packed ^ SIGN_MASK;
     }
 
     @Override
     public LongUnum abs() {
-        return isNaN() | isPositive() ? this : negate();
+        return isSignNegative() ? negate() : this;
+    }
+
+    @Override
+    public int hashCode() {
+        if (isNaN()) {
+            return (int)(packed >>> SIGN_SHIFT);
+        }
+        return 31 * boundHash(true) + boundHash(false);
+    }
+
+    private int boundHash(final boolean lower) {
+        final boolean next = isInexact() & isSignNegative() == lower;
+        final int exponent = magnitudeExponent(packed, fraction, next);
+        if (exponent == ZERO_EXPONENT) {
+            return isInexact() ? 1 : 0;
+        }
+        final int hash = 31 * (31 * exponent + Long.hashCode(magnitudeFraction(packed, fraction, next))) + (isInexact() ? 1 : 0);
+        return isSignNegative() ? -hash : hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) return true;
+        if (obj == null) return false;
+        if (getClass() == obj.getClass()) {
+            return 0 == compareTo((LongUnum)obj);
+        }
+        return false;
     }
 
     @Override
     public String toString() {
-        return toString(sign, exponent, fraction, ubit, exponentSize, fractionSize);
+        return toString(packed, fraction);
+    }
+
+    public static String toString(final long packed, final long fraction) {
+        return toString(sign(packed), exponent(packed), fraction, ubit(packed), exponentSize(packed), fractionSize(packed));
     }
     private static String toString(final byte sign, final int exponent, final long fraction, final byte ubit, final byte exponentSize, final byte fractionSize) {
         if (ubit == 0) {
             //exact
             if (exponent != MAX_EXPONENT | fraction != MAX_FRACTION) {
                 //finite
-                final int bias = (1 << (exponentSize - 1)) - 1;
+                final int bias = bias(exponentSize);
                 final int hidden = exponent == 0 ? 0 : 1;
                 final int expovalue = exponent - bias + 1 - hidden;
                 if (0 == (fraction & EXACT_DOUBLE_FRACTION_MASK)) {
@@ -328,15 +1402,14 @@ public class LongUnum extends AbstractUnum<LongUnum> implements Serializable {
             //infinite
             return sign >= 0 ? "Inf" : "-Inf";
         }
-        if (fraction != MAX_FRACTION) {
-            //inexact finite
-            return "(" + toString(sign, exponent, fraction, UBIT_EXACT, exponentSize, fractionSize) +
-                    ", " + toString(sign, exponent, fraction + 1, UBIT_EXACT, exponentSize, fractionSize) + ")";
-        }
-        if (exponent != MAX_EXPONENT) {
-            //inexact finite
-            return "(" + toString(sign, exponent, fraction, UBIT_EXACT, exponentSize, fractionSize) +
-                    ", " + toString(sign, exponent + 1, 0, UBIT_EXACT, exponentSize, fractionSize) + ")";
+        if (fraction != MAX_FRACTION | exponent != MAX_EXPONENT) {
+            //inexact finite, the bound closer to zero has the same fields, the zero bound is printed unsigned
+            final String toZero = toString(exponent == 0 & fraction == 0 ? SIGN_POSITIVE : sign, exponent, fraction,
+                    UBIT_EXACT, exponentSize, fractionSize);
+            final String fromZero = fraction != MAX_FRACTION ?
+                    toString(sign, exponent, fraction + 1, UBIT_EXACT, exponentSize, fractionSize) :
+                    toString(sign, exponent + 1, 0, UBIT_EXACT, exponentSize, fractionSize);
+            return sign >= 0 ? "(" + toZero + ", " + fromZero + ")" : "(" + fromZero + ", " + toZero + ")";
         }
         //NaN
         return sign >= 0 ? "qNaN" : "sNaN";
@@ -350,13 +1423,13 @@ public class LongUnum extends AbstractUnum<LongUnum> implements Serializable {
         System.out.println("TEN=\t" + LongUnum.TEN);
         System.out.println("INF=\t" + LongUnum.INF);
         System.out.println("NAN=\t" + LongUnum.NAN);
-        System.out.println("(1*)=\t" + new LongUnum(SIGN_POSITIVE, 0, 1, UBIT_INEXACT, (byte)1, (byte)1));
-        System.out.println("(2*)=\t" + new LongUnum(SIGN_POSITIVE, 1, 0, UBIT_INEXACT, (byte)1, (byte)1));
-        System.out.println("(3*)=\t" + new LongUnum(SIGN_POSITIVE, 1, 1, UBIT_INEXACT, (byte)1, (byte)1));
-        System.out.println("(e=2^65535, f= 1.0)=\t" + new LongUnum(SIGN_POSITIVE, MAX_EXPONENT-1, 0, UBIT_EXACT, (byte)16, (byte)63));
-        System.out.println("(e=2^65536, f= 1.0)=\t" + new LongUnum(SIGN_POSITIVE, MAX_EXPONENT, 0, UBIT_EXACT, (byte)16, (byte)63));
-        System.out.println("(e=2^65535, f=2^64)=\t" + new LongUnum(SIGN_POSITIVE, MAX_EXPONENT-1, MAX_FRACTION, UBIT_EXACT, (byte)16, (byte)64));
-        System.out.println("(e=2^65536, f=2^63)=\t" + new LongUnum(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION>>>1, UBIT_EXACT, (byte)16, (byte)63));
-        System.out.println("(e=2^65536, f~2^64)=\t" + new LongUnum(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION^2, UBIT_EXACT, (byte)16, (byte)64));
+        System.out.println("(1*)=\t" + valueOf(SIGN_POSITIVE, 0, 1, UBIT_INEXACT, (byte)1, (byte)1));
+        System.out.println("(2*)=\t" + valueOf(SIGN_POSITIVE, 1, 0, UBIT_INEXACT, (byte)1, (byte)1));
+        System.out.println("(3*)=\t" + valueOf(SIGN_POSITIVE, 1, 1, UBIT_INEXACT, (byte)1, (byte)1));
+        System.out.println("(e=2^65535, f= 1.0)=\t" + valueOf(SIGN_POSITIVE, MAX_EXPONENT-1, 0, UBIT_EXACT, (byte)16, (byte)63));
+        System.out.println("(e=2^65536, f= 1.0)=\t" + valueOf(SIGN_POSITIVE, MAX_EXPONENT, 0, UBIT_EXACT, (byte)16, (byte)63));
+        System.out.println("(e=2^65535, f=2^64)=\t" + valueOf(SIGN_POSITIVE, MAX_EXPONENT-1, MAX_FRACTION, UBIT_EXACT, (byte)16, (byte)64));
+        System.out.println("(e=2^65536, f=2^63)=\t" + valueOf(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION>>>1, UBIT_EXACT, (byte)16, (byte)63));
+        System.out.println("(e=2^65536, f~2^64)=\t" + valueOf(SIGN_POSITIVE, MAX_EXPONENT, MAX_FRACTION^2, UBIT_EXACT, (byte)16, (byte)64));
     }
 }
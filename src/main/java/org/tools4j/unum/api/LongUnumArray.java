@@ -0,0 +1,203 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An array of {@link LongUnum} values backed by a long array holding two longs per unum: the packed sign, exponent,
+ * ubit and sizes at even indices and the fraction at odd indices, see {@link LongUnum#packed()}. LongUnum instances
+ * are only created on demand by {@link #getUnum(int)} and the {@link #asList() list view}.
+ */
+public final class LongUnumArray implements Serializable {
+
+    private final long[] values;
+
+    /**
+     * Creates an array of the given length with all unums initialised to exact zero.
+     * @param length the number of unums in the array
+     */
+    public LongUnumArray(final int length) {
+        this(new long[2 * length]);
+    }
+
+    private LongUnumArray(final long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a unum array backed by the given long array; changes in one are reflected in the other.
+     * @param values the packed and fraction pairs of the unums
+     * @return a unum array backed by values
+     * @throws IllegalArgumentException if the array length is odd or if any pair is not a valid unum
+     */
+    public static LongUnumArray wrap(final long[] values) {
+        if (values == null) {
+            throw new NullPointerException("values cannot be null");
+        }
+        if ((values.length & 0x1) != 0) {
+            throw new IllegalArgumentException("invalid array length: " + values.length);
+        }
+        for (int i = 0; i < values.length; i += 2) {
+            LongUnum.validate(values[i], values[i + 1]);
+        }
+        return new LongUnumArray(values);
+    }
+
+    public static LongUnumArray valueOf(final LongUnum... unums) {
+        final long[] values = new long[2 * unums.length];
+        for (int i = 0; i < unums.length; i++) {
+            values[2 * i] = unums[i].packed();
+            values[2 * i + 1] = unums[i].fraction();
+        }
+        return new LongUnumArray(values);
+    }
+
+    public int length() {
+        return values.length >>> 1;
+    }
+
+    /**
+     * Returns the backing array.
+     * @return the long array backing this unum array, twice as long as this unum array
+     */
+    public long[] array() {
+        return values;
+    }
+
+    public long getPacked(final int index) {
+        return values[2 * index];
+    }
+
+    public long getFraction(final int index) {
+        return values[2 * index + 1];
+    }
+
+    public void set(final int index, final long packed, final long fraction) {
+        LongUnum.validate(packed, fraction);
+        values[2 * index] = packed;
+        values[2 * index + 1] = fraction;
+    }
+
+    public LongUnum getUnum(final int index) {
+        return LongUnum.valueOf(values[2 * index], values[2 * index + 1]);
+    }
+
+    public void setUnum(final int index, final LongUnum value) {
+        values[2 * index] = value.packed();
+        values[2 * index + 1] = value.fraction();
+    }
+
+    /**
+     * Returns a list view of this array; the unums of the list are created on demand when accessed.
+     * @return a fixed size list backed by this array
+     */
+    public List<LongUnum> asList() {
+        return new ListView(this);
+    }
+
+    /**
+     * Replaces every unum of this array with its {@link LongUnum#optimize() optimized} form.
+     * @return the number of exponent and fraction bits saved; the utag size is the same for all unums of an
+     *          environment and does not change
+     */
+    public long compact() {
+        return compact(values);
+    }
+
+    /**
+     * Replaces every unum in the given array of packed and fraction pairs with its {@link LongUnum#optimize()
+     * optimized} form.
+     * @param values the packed and fraction pairs of the unums
+     * @return the number of exponent and fraction bits saved
+     */
+    public static long compact(final long[] values) {
+        long saved = 0;
+        for (int i = 0; i < values.length; i += 2) {
+            final long packed = values[i];
+            final LongUnum optimized = LongUnum.valueOf(packed, values[i + 1]).optimize();
+            saved += LongUnum.bits(packed) - LongUnum.bits(optimized.packed());
+            values[i] = optimized.packed();
+            values[i + 1] = optimized.fraction();
+        }
+        return saved;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) return true;
+        if (obj == null) return false;
+        if (getClass() == obj.getClass()) {
+            return Arrays.equals(values, ((LongUnumArray)obj).values);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < values.length; i += 2) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(LongUnum.toString(values[i], values[i + 1]));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final class ListView extends AbstractList<LongUnum> implements RandomAccess {
+        private final LongUnumArray array;
+
+        private ListView(final LongUnumArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public LongUnum get(final int index) {
+            return array.getUnum(index);
+        }
+
+        @Override
+        public LongUnum set(final int index, final LongUnum element) {
+            final LongUnum previous = get(index);
+            array.setUnum(index, element);
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return array.length();
+        }
+    }
+}
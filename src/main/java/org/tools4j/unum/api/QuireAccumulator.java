@@ -0,0 +1,244 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-point accumulator for exact sums of products of finite doubles, the basis of {@link SingleQuire} and
+ * {@link DoubleQuire}. The value is held in two's complement in 32-bit limbs stored in longs with lazy carry
+ * propagation; limb 0 holds the bits of weight {@code 2^minExponent} and up. Products are added without rounding,
+ * the result is only rounded when converted to a unum.
+ */
+final class QuireAccumulator {
+
+    private static final long LIMB_MASK = 0xffffffffL;
+    //limbs absorb at most 2^32 per addition, carries are propagated before they can overflow
+    private static final int MAX_PENDING = 1 << 30;
+
+    private final int minExponent;
+    private final long[] limbs;
+    private final long[] magnitude;
+    private int pending;
+
+    /**
+     * Creates an accumulator for products with exponents in the given range.
+     * @param minExponent the exponent of the smallest non-zero product
+     * @param maxExponent the exponent of the largest finite product
+     */
+    QuireAccumulator(final int minExponent, final int maxExponent) {
+        //4 extra limbs for the 128-bit product window plus 2 guard limbs for carries and the sign
+        final int length = ((maxExponent - minExponent) >>> 5) + 6;
+        this.minExponent = minExponent;
+        this.limbs = new long[length];
+        this.magnitude = new long[length];
+    }
+
+    /**
+     * Adds the exact product of two finite values.
+     */
+    void addProduct(final double a, final double b) {
+        if (a == 0 | b == 0) {
+            return;
+        }
+        final long aBits = Double.doubleToRawLongBits(a);
+        final long bBits = Double.doubleToRawLongBits(b);
+        final long aSignificand = significand(aBits);
+        final long bSignificand = significand(bBits);
+        final int aZeros = Long.numberOfTrailingZeros(aSignificand);
+        final int bZeros = Long.numberOfTrailingZeros(bSignificand);
+        final long x = aSignificand >>> aZeros;
+        final long y = bSignificand >>> bZeros;
+        final int exponent = exponent(aBits) + aZeros + exponent(bBits) + bZeros;
+        add((aBits ^ bBits) < 0, LongMath.unsignedMultiplyHigh(x, y), x * y, exponent - minExponent);
+    }
+
+    private static long significand(final long bits) {
+        final long fraction = bits & 0x000fffffffffffffL;
+        return (bits & 0x7ff0000000000000L) == 0 ? fraction : fraction | 0x0010000000000000L;
+    }
+
+    private static int exponent(final long bits) {
+        final int biased = (int)(bits >>> 52) & 0x7ff;
+        return (biased == 0 ? 1 : biased) - 1075;
+    }
+
+    /**
+     * Adds the unsigned 128-bit value {@code hi:lo} shifted left by the given number of bits.
+     */
+    private void add(final boolean negative, final long hi, final long lo, final int shift) {
+        final int index = shift >>> 5;
+        final int offset = shift & 31;
+        final int back = 32 - offset;
+        final long v0 = lo & LIMB_MASK;
+        final long v1 = lo >>> 32;
+        final long v2 = hi & LIMB_MASK;
+        final long v3 = hi >>> 32;
+        final long c0 = (v0 << offset) & LIMB_MASK;
+        final long c1 = ((v1 << offset) | (v0 >>> back)) & LIMB_MASK;
+        final long c2 = ((v2 << offset) | (v1 >>> back)) & LIMB_MASK;
+        final long c3 = ((v3 << offset) | (v2 >>> back)) & LIMB_MASK;
+        final long c4 = v3 >>> back;
+        final long[] l = limbs;
+        if (negative) {
+            l[index] -= c0;
+            l[index + 1] -= c1;
+            l[index + 2] -= c2;
+            l[index + 3] -= c3;
+            l[index + 4] -= c4;
+        } else {
+            l[index] += c0;
+            l[index + 1] += c1;
+            l[index + 2] += c2;
+            l[index + 3] += c3;
+            l[index + 4] += c4;
+        }
+        if (++pending == MAX_PENDING) {
+            normalize();
+        }
+    }
+
+    /**
+     * Propagates carries so that all limbs but the most significant one are in {@code [0, 2^32)}.
+     */
+    private void normalize() {
+        final long[] l = limbs;
+        long carry = 0;
+        for (int i = 0; i < l.length - 1; i++) {
+            final long value = l[i] + carry;
+            l[i] = value & LIMB_MASK;
+            carry = value >> 32;
+        }
+        l[l.length - 1] += carry;
+        pending = 0;
+    }
+
+    void reset() {
+        Arrays.fill(limbs, 0);
+        pending = 0;
+    }
+
+    /**
+     * Returns the DoubleUnum enclosing the accumulated value as tightly as possible.
+     */
+    double toDouble() {
+        final int top = prepareMagnitude();
+        if (top < 0) {
+            return 0.0;
+        }
+        final int exponent = exponent(top);
+        final boolean negative = limbs[limbs.length - 1] < 0;
+        if (exponent > Double.MAX_EXPONENT) {
+            return DoubleUnum.overflow(negative ? -1 : 1);
+        }
+        final int precision = 53 - Math.max(0, Double.MIN_EXPONENT - exponent);
+        final long window = window(top);
+        final long truncated = precision <= 0 ? 0 : window >>> (64 - precision);
+        final boolean inexact = precision <= 0 || (window << precision) != 0 || sticky(top);
+        final double value = Math.scalb((double)truncated, exponent - precision + 1);
+        final double signed = negative ? -value : value;
+        return DoubleUnum.enclose(signed, inexact ? (negative ? -1 : 1) : 0.0);
+    }
+
+    /**
+     * Returns the SingleUnum enclosing the accumulated value as tightly as possible.
+     */
+    float toFloat() {
+        final int top = prepareMagnitude();
+        if (top < 0) {
+            return 0.0f;
+        }
+        final int exponent = exponent(top);
+        final boolean negative = limbs[limbs.length - 1] < 0;
+        if (exponent > Float.MAX_EXPONENT) {
+            return SingleUnum.overflow(negative ? -1 : 1);
+        }
+        final int precision = 24 - Math.max(0, Float.MIN_EXPONENT - exponent);
+        final long window = window(top);
+        final long truncated = precision <= 0 ? 0 : window >>> (64 - precision);
+        final boolean inexact = precision <= 0 || (window << precision) != 0 || sticky(top);
+        final float value = Math.scalb((float)truncated, exponent - precision + 1);
+        final float signed = negative ? -value : value;
+        return SingleUnum.enclose(signed, inexact ? (negative ? -1 : 1) : 0.0);
+    }
+
+    /**
+     * Normalizes the limbs and stores the absolute value in the magnitude limbs.
+     * @return the index of the most significant non-zero magnitude limb, or -1 if the value is zero
+     */
+    private int prepareMagnitude() {
+        normalize();
+        final long[] l = limbs;
+        final long[] m = magnitude;
+        if (l[l.length - 1] < 0) {
+            long carry = 1;
+            for (int i = 0; i < l.length; i++) {
+                final long value = (~l[i] & LIMB_MASK) + carry;
+                m[i] = value & LIMB_MASK;
+                carry = value >>> 32;
+            }
+        } else {
+            System.arraycopy(l, 0, m, 0, l.length);
+        }
+        for (int i = m.length - 1; i >= 0; i--) {
+            if (m[i] != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int topBit(final int top) {
+        return 63 - Long.numberOfLeadingZeros(magnitude[top]);
+    }
+
+    /** Returns the exponent of the most significant bit of the magnitude */
+    private int exponent(final int top) {
+        return minExponent + 32 * top + topBit(top);
+    }
+
+    /** Returns the 64 most significant bits of the magnitude */
+    private long window(final int top) {
+        final int bit = topBit(top);
+        return (magnitude[top] << (63 - bit)) | (limb(top - 1) << (31 - bit)) | (limb(top - 2) >>> (bit + 1));
+    }
+
+    /** Returns true if any magnitude bit below the window is set */
+    private boolean sticky(final int top) {
+        final int bit = topBit(top);
+        if ((limb(top - 2) & ((1L << (bit + 1)) - 1)) != 0) {
+            return true;
+        }
+        for (int i = top - 3; i >= 0; i--) {
+            if (magnitude[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long limb(final int index) {
+        return index >= 0 ? magnitude[index] : 0;
+    }
+}
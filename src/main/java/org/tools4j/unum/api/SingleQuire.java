@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+/**
+ * Exact accumulator for sums and dot products of unums in SingleUnum encoding, also known as quire. Products of exact
+ * finite unums are accumulated in fixed point without any rounding, the sum is rounded only once to the tightest
+ * enclosing unum when the result is read. Inexact and infinite terms are accumulated separately as lower and upper
+ * unum of a ubound which is added to the exact sum at the end.
+ * <p>
+ * Accumulation does not allocate any objects; instances are not thread safe.
+ */
+public final class SingleQuire {
+
+    private final QuireAccumulator exact = new QuireAccumulator(-298, 255);
+    private float lower;
+    private float upper;
+
+    public SingleQuire add(final float unum) {
+        return addProduct(unum, 1);
+    }
+
+    public SingleQuire addProduct(final float a, final float b) {
+        if (SingleUnum.isExact(a) & SingleUnum.isExact(b) & Float.isFinite(a) & Float.isFinite(b)) {
+            exact.addProduct(a, b);
+        } else {
+            lower = SingleUnum.addLower(lower, SingleUnum.multiplyLower(a, a, b, b));
+            upper = SingleUnum.addUpper(upper, SingleUnum.multiplyUpper(a, a, b, b));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the products of the unums at the same index.
+     * @param a the first factors
+     * @param b the second factors
+     * @return this quire
+     * @throws IllegalArgumentException if the arrays have different length
+     */
+    public SingleQuire addDot(final float[] a, final float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("array length mismatch: " + a.length + " and " + b.length);
+        }
+        for (int i = 0; i < a.length; i++) {
+            addProduct(a[i], b[i]);
+        }
+        return this;
+    }
+
+    public SingleQuire reset() {
+        exact.reset();
+        lower = 0;
+        upper = 0;
+        return this;
+    }
+
+    /**
+     * Returns the lower unum of the ubound enclosing the accumulated sum.
+     * @return the lower unum of the sum
+     */
+    public float lower() {
+        return SingleUnum.addLower(exact.toFloat(), lower);
+    }
+
+    /**
+     * Returns the upper unum of the ubound enclosing the accumulated sum.
+     * @return the upper unum of the sum
+     */
+    public float upper() {
+        return SingleUnum.addUpper(exact.toFloat(), upper);
+    }
+
+    public Ubound<SingleUnum> toUbound() {
+        final float sum = exact.toFloat();
+        final float l = SingleUnum.addLower(sum, lower);
+        final float u = SingleUnum.addUpper(sum, upper);
+        return Ubound.create(SingleUnum.valueOf(l), SingleUnum.valueOf(u));
+    }
+
+    /**
+     * Returns the dot product of two unum arrays rounded once to the tightest enclosing ubound.
+     * @param a the first factors
+     * @param b the second factors
+     * @return the ubound enclosing the dot product
+     * @throws IllegalArgumentException if the arrays have different length
+     */
+    public static Ubound<SingleUnum> dot(final float[] a, final float[] b) {
+        return new SingleQuire().addDot(a, b).toUbound();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + toUbound() + "}";
+    }
+}
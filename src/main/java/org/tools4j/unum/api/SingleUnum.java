@@ -31,8 +31,10 @@ import java.io.Serializable;
 public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable {
 
     private static final int UBIT_MASK = 0x00000001;
+    private static final int NAN_MAGNITUDE = 0x7f800001;
 
     public static final SingleUnum ZERO  = new SingleUnum(0f);
+    public static final SingleUnum HALF  = new SingleUnum(0.5f);
     public static final SingleUnum ONE   = new SingleUnum(1f);
     public static final SingleUnum TWO   = new SingleUnum(2f);
     public static final SingleUnum TEN   = new SingleUnum(10f);
@@ -42,7 +44,10 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
     public static final SingleUnum SNAN  = new SingleUnum(Singles.SNAN);
 
     public static final Ubound<SingleUnum> UBOUND_ZERO = Ubound.create(ZERO);
+    public static final Ubound<SingleUnum> UBOUND_HALF = Ubound.create(HALF);
     public static final Ubound<SingleUnum> UBOUND_ONE = Ubound.create(ONE);
+    public static final Ubound<SingleUnum> UBOUND_POSITIVE_INFINITY = Ubound.create(POSITIVE_INFINITY);
+    public static final Ubound<SingleUnum> UBOUND_NEGATIVE_INFINITY = Ubound.create(NEGATIVE_INFINITY);
     public static final Ubound<SingleUnum> UBOUND_QNAN = Ubound.create(QNAN);
     public static final Ubound<SingleUnum> UBOUND_SNAN = Ubound.create(SNAN);
 
@@ -66,6 +71,21 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         public SingleUnum one() {
             return ONE;
         }
+
+        @Override
+        public SingleUnum half() {
+            return HALF;
+        }
+
+        @Override
+        public SingleUnum positiveInfinity() {
+            return POSITIVE_INFINITY;
+        }
+
+        @Override
+        public SingleUnum negativeInfinity() {
+            return NEGATIVE_INFINITY;
+        }
     };
 
     public static final Factory<Ubound<SingleUnum>> UBOUND_FACTORY = new Factory<Ubound<SingleUnum>>() {
@@ -85,6 +105,18 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         public Ubound<SingleUnum> one() {
             return UBOUND_ONE;
         }
+        @Override
+        public Ubound<SingleUnum> half() {
+            return UBOUND_HALF;
+        }
+        @Override
+        public Ubound<SingleUnum> positiveInfinity() {
+            return UBOUND_POSITIVE_INFINITY;
+        }
+        @Override
+        public Ubound<SingleUnum> negativeInfinity() {
+            return UBOUND_NEGATIVE_INFINITY;
+        }
     };
 
     public static final SingleUnum signedNaN(final float sign) {
@@ -97,12 +129,21 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         this.value = value;
     }
 
+    /**
+     * Returns a unum for the given value. Special values, exact integers in the range {@code [-high, high]} and
+     * their adjacent inexact unums are returned from a cache of canonical instances, where {@code high} defaults to
+     * 128 and can be configured via system property {@code org.tools4j.unum.api.SingleUnum.Cache.high}.
+     *
+     * @param value the unum value
+     * @return the unum instance, a cached instance if possible
+     */
     public static final SingleUnum valueOf(final float value) {
-        return new SingleUnum(value);
+        final SingleUnum cached = Cache.get(value);
+        return cached != null ? cached : new SingleUnum(value);
     }
 
     public static final SingleUnum exactValueOf(final float value) {
-        return new SingleUnum(exact(value));
+        return valueOf(exact(value));
     }
 
     public static final float exact(final float value) {
@@ -118,7 +159,7 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
     }
 
     public static final SingleUnum inexactValueOf(final float value) {
-        return new SingleUnum(inexact(value));
+        return valueOf(inexact(value));
     }
     public static final float inexact(final float value) {
         final int raw = Float.floatToRawIntBits(value);
@@ -126,7 +167,8 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
             if (0 != (raw & UBIT_MASK)) {
                 return value;
             }
-            return Float.intBitsToFloat(raw >= 0 ? raw+1 : raw-1);
+            //negative zero has the same upper neighbour as positive zero
+            return Float.intBitsToFloat(raw >= 0 ? raw+1 : raw == Integer.MIN_VALUE ? 1 : raw-1);
         }
         //NaN or Infinite
         return raw >= 0 ? Singles.QNAN : Singles.SNAN;
@@ -230,7 +272,7 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
     }
 
     public SingleUnum nextUp() {
-        return new SingleUnum(nextUp(value));
+        return valueOf(nextUp(value));
     }
 
     public static float nextUp(final float value) {
@@ -244,7 +286,7 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
     }
 
     public SingleUnum nextDown() {
-        return new SingleUnum(nextDown(value));
+        return valueOf(nextDown(value));
     }
 
     public static float nextDown(final float value) {
@@ -262,14 +304,14 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         if (isExact() | isNaN()) {
             return this;
         }
-        return new SingleUnum(value > 0f ? Math.nextDown(value) : Math.nextUp(value));
+        return valueOf(Math.nextDown(value));
     }
 
     public static float getLowerBound(final float value) {
         if (isExact(value) | Float.isNaN(value)) {
             return value;
         }
-        return value > 0f ? Math.nextDown(value) : Math.nextUp(value);
+        return Math.nextDown(value);
     }
 
     @Override
@@ -277,14 +319,14 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         if (isExact() | isNaN()) {
             return this;
         }
-        return new SingleUnum(value > 0f ? Math.nextUp(value) : Math.nextDown(value));
+        return valueOf(Math.nextUp(value));
     }
 
     public static float getUpperBound(final float value) {
         if (isExact(value) | Float.isNaN(value)) {
             return value;
         }
-        return value > 0f ? Math.nextUp(value) : Math.nextDown(value);
+        return Math.nextUp(value);
     }
 
     @Override
@@ -308,29 +350,66 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         return SingleUnum.valueOf(add(value, other.value));
     }
 
+    /**
+     * Returns the sum of two unums, or NaN if the sum of two inexact operands cannot be represented as a single unum;
+     * use {@link #addLower(float, float)} and {@link #addUpper(float, float)} in this case.
+     */
     public static float add(final float a, final float b) {
         if (isExact(a) & isExact(b)) {
             final float s = a + b;
-            if (s - a == b & s - b == a) {
-                return s;//also ok if s is inexact
+            if (Float.isFinite(s)) {
+                return enclose(s, ErrorFree.sumError(a, b, s));
             }
-            if (Float.isInfinite(s)) {
-                if (Float.isFinite(a) | Float.isFinite(b)) {
-                    return s;
-                }
-                //both infinite
-                return Math.signum(a) == Math.signum(b) ? s : Singles.QNAN;
+            if (Float.isFinite(a) & Float.isFinite(b)) {
+                return overflow(s);
             }
-            if (isExact(s)) {
-                if (s - a <= b & s - b <= a) return nextUp(s);
-                if (s - a >= b & s - b >= a) return nextDown(s);
-                //FIXME is this possible?
-                throw new InternalError();
+            //infinite operand, inf - inf is NaN
+            return Float.isNaN(s) ? Singles.QNAN : s;
+        }
+        return single(addLower(a, b), addUpper(a, b));
+    }
+
+    /**
+     * Returns the lower unum of the sum of two ubounds.
+     * @param aLower the lower unum of the first ubound
+     * @param bLower the lower unum of the second ubound
+     * @return the lower unum of the ubound sum
+     */
+    public static float addLower(final float aLower, final float bLower) {
+        return addBound(getLowerBound(aLower), isInexact(aLower), getLowerBound(bLower), isInexact(bLower), true);
+    }
+
+    /**
+     * Returns the upper unum of the sum of two ubounds.
+     * @param aUpper the upper unum of the first ubound
+     * @param bUpper the upper unum of the second ubound
+     * @return the upper unum of the ubound sum
+     */
+    public static float addUpper(final float aUpper, final float bUpper) {
+        return addBound(getUpperBound(aUpper), isInexact(aUpper), getUpperBound(bUpper), isInexact(bUpper), false);
+    }
+
+    private static float addBound(final float a, final boolean aOpen, final float b, final boolean bOpen, final boolean lower) {
+        if (Float.isNaN(a) | Float.isNaN(b)) {
+            return Singles.QNAN;
+        }
+        if (Float.isInfinite(a) | Float.isInfinite(b)) {
+            if (Float.isInfinite(a) & Float.isInfinite(b) & a != b) {
+                //a closed infinity absorbs the other (open) one
+                if (aOpen == bOpen) {
+                    return Singles.QNAN;
+                }
+                return aOpen ? b : a;
             }
-            //result must be between s-ulp and s+ulp, hence we're done
-            return s;
+            final float inf = Float.isInfinite(a) ? a : b;
+            final boolean open = (!Float.isInfinite(a) | aOpen) & (!Float.isInfinite(b) | bOpen);
+            return open ? overflow(inf) : inf;
         }
-        return Singles.QNAN;
+        final float s = a + b;
+        if (Float.isInfinite(s)) {
+            return overflow(s);
+        }
+        return bound(s, ErrorFree.sumError(a, b, s), aOpen | bOpen, lower);
     }
 
     @Override
@@ -338,29 +417,32 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         return SingleUnum.valueOf(subtract(value, other.value));
     }
 
+    /**
+     * Returns the difference of two unums, or NaN if the difference of two inexact operands cannot be represented as
+     * a single unum; use {@link #subtractLower(float, float)} and {@link #subtractUpper(float, float)} in this case.
+     */
     public static float subtract(final float a, final float b) {
-        if (isExact(a) & isExact(b)) {
-            final float d = a - b;
-            if (d - a == -b & d + b == a) {
-                return d;//also ok if d is inexact
-            }
-            if (Float.isInfinite(d)) {
-                if (Float.isFinite(a) | Float.isFinite(b)) {
-                    return d;
-                }
-                //both infinite
-                return Math.signum(a) != Math.signum(b) ? d : Singles.QNAN;
-            }
-            if (isExact(d)) {
-                if (d - a <= -b & d + b <= a) return nextUp(d);
-                if (d - a >= -b & d + b >= a) return nextDown(d);
-                //FIXME is this possible?
-                throw new InternalError();
-            }
-            //result must be between s-ulp and s+ulp, hence we're done
-            return d;
-        }
-        return Singles.QNAN;
+        return add(a, -b);
+    }
+
+    /**
+     * Returns the lower unum of the difference of two ubounds.
+     * @param aLower the lower unum of the minuend ubound
+     * @param bUpper the upper unum of the subtrahend ubound
+     * @return the lower unum of the ubound difference
+     */
+    public static float subtractLower(final float aLower, final float bUpper) {
+        return addLower(aLower, -bUpper);
+    }
+
+    /**
+     * Returns the upper unum of the difference of two ubounds.
+     * @param aUpper the upper unum of the minuend ubound
+     * @param bLower the lower unum of the subtrahend ubound
+     * @return the upper unum of the ubound difference
+     */
+    public static float subtractUpper(final float aUpper, final float bLower) {
+        return addUpper(aUpper, -bLower);
     }
 
     @Override
@@ -368,33 +450,228 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         return SingleUnum.valueOf(multiply(value, other.value));
     }
 
+    /**
+     * Returns the product of two unums, or NaN if the product of two inexact operands cannot be represented as a
+     * single unum; use {@link #multiplyLower(float, float, float, float)} and
+     * {@link #multiplyUpper(float, float, float, float)} in this case.
+     */
     public static float multiply(final float a, final float b) {
         if (isExact(a) & isExact(b)) {
-            if (a == 0f | b == 0f) {
-                return 0f;
+            //the product of two floats is exact in double
+            final double p = (double)a * b;
+            final float f = (float)p;
+            if (Float.isFinite(f)) {
+                return enclose(f, p - f);
             }
-            final float p = a * b;
-            if (p / a == b & p / b == a) {
-                return p;//also ok if d is inexact
+            if (Float.isFinite(a) & Float.isFinite(b)) {
+                return overflow(f);
             }
-            if (Float.isInfinite(p)) {
-                return p;
+            //infinite operand, 0 * inf is NaN
+            return Float.isNaN(f) ? Singles.QNAN : f;
+        }
+        return single(multiplyLower(a, a, b, b), multiplyUpper(a, a, b, b));
+    }
+
+    /**
+     * Returns the lower unum of the product of two ubounds.
+     * @param aLower the lower unum of the first ubound
+     * @param aUpper the upper unum of the first ubound
+     * @param bLower the lower unum of the second ubound
+     * @param bUpper the upper unum of the second ubound
+     * @return the lower unum of the ubound product
+     */
+    public static float multiplyLower(final float aLower, final float aUpper, final float bLower, final float bUpper) {
+        return multiplyBound(aLower, aUpper, bLower, bUpper, true);
+    }
+
+    /**
+     * Returns the upper unum of the product of two ubounds.
+     * @param aLower the lower unum of the first ubound
+     * @param aUpper the upper unum of the first ubound
+     * @param bLower the lower unum of the second ubound
+     * @param bUpper the upper unum of the second ubound
+     * @return the upper unum of the ubound product
+     */
+    public static float multiplyUpper(final float aLower, final float aUpper, final float bLower, final float bUpper) {
+        return multiplyBound(aLower, aUpper, bLower, bUpper, false);
+    }
+
+    private static float multiplyBound(final float aLower, final float aUpper, final float bLower, final float bUpper, final boolean lower) {
+        if (Float.isNaN(aLower) | Float.isNaN(aUpper) | Float.isNaN(bLower) | Float.isNaN(bUpper)) {
+            return Singles.QNAN;
+        }
+        final float al = getLowerBound(aLower);
+        final float au = getUpperBound(aUpper);
+        final float bl = getLowerBound(bLower);
+        final float bu = getUpperBound(bUpper);
+        final boolean alOpen = isInexact(aLower);
+        final boolean auOpen = isInexact(aUpper);
+        final boolean blOpen = isInexact(bLower);
+        final boolean buOpen = isInexact(bUpper);
+        //the extremes of the product are at the corners, an open corner endpoint is approached from inside
+        final float ll = multiplyBound(al, alOpen, 1, bl, blOpen, 1, lower);
+        final float lu = multiplyBound(al, alOpen, 1, bu, buOpen, -1, lower);
+        final float ul = multiplyBound(au, auOpen, -1, bl, blOpen, 1, lower);
+        final float uu = multiplyBound(au, auOpen, -1, bu, buOpen, -1, lower);
+        if (Float.isNaN(ll) | Float.isNaN(lu) | Float.isNaN(ul) | Float.isNaN(uu)) {
+            return Singles.QNAN;
+        }
+        return lower ? min(min(ll, lu), min(ul, uu)) : max(max(ll, lu), max(ul, uu));
+    }
+
+    /**
+     * Returns the lower or upper unum of the product of two endpoints. An open endpoint is approached from the side
+     * given by its sign argument, which determines the sign of products with an open zero endpoint. The product of
+     * an open zero and an open infinity is indeterminate and returns the neutral element for min or max,
+     * respectively; it is never the extreme of a product with more than one point.
+     */
+    private static float multiplyBound(final float a, final boolean aOpen, final int aSide,
+                                       final float b, final boolean bOpen, final int bSide,
+                                       final boolean lower) {
+        if ((a == 0f & !aOpen) | (b == 0f & !bOpen)) {
+            //closed zero times anything but a closed infinity is a closed zero
+            return (Float.isInfinite(a) & !aOpen) | (Float.isInfinite(b) & !bOpen) ? Singles.QNAN : 0f;
+        }
+        if (Float.isInfinite(a) | Float.isInfinite(b)) {
+            final boolean open = (!Float.isInfinite(a) | aOpen) & (!Float.isInfinite(b) | bOpen);
+            if (a == 0f | b == 0f) {
+                if (open) {
+                    return lower ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+                }
+                final int sign = (a < 0f | (a == 0f & aSide < 0)) == (b < 0f | (b == 0f & bSide < 0)) ? 1 : -1;
+                return sign * Float.POSITIVE_INFINITY;
+            }
+            final float inf = (a < 0f) == (b < 0f) ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+            return open ? overflow(inf) : inf;
+        }
+        final double p = (double)a * b;
+        final float f = (float)p;
+        if (Float.isInfinite(f)) {
+            return overflow(f);
+        }
+        return bound(f, p - f, aOpen | bOpen, lower);
+    }
+
+    /**
+     * Returns the tightest unum enclosing an exact result r given its rounded value and the error {@code r - rounded}.
+     * Only the sign of the error is relevant.
+     *
+     * @param rounded   the exact result rounded to the nearest float, finite
+     * @param error     the error, or any value with the same sign as the error
+     * @return the exact rounded value if the error is zero and rounded is exact, otherwise the inexact unum
+     *          adjacent to rounded in the direction of the error
+     */
+    static float enclose(final float rounded, final double error) {
+        if (error == 0.0 | isInexact(rounded)) {
+            return rounded;
+        }
+        return error > 0.0 ? Math.nextUp(rounded) : Math.nextDown(rounded);
+    }
+
+    /**
+     * Returns the lower or upper unum of a ubound with an endpoint r, given its rounded value, the error
+     * {@code r - rounded} and whether the endpoint is open. Only the sign of the error is relevant.
+     */
+    static float bound(final float rounded, final double error, final boolean open, final boolean lower) {
+        if (open & error == 0.0 & isExact(rounded)) {
+            return lower ? Math.nextUp(rounded) : Math.nextDown(rounded);
+        }
+        return enclose(rounded, error);
+    }
+
+    /**
+     * Returns the inexact unum between the largest finite exact value and infinity, that is, the unum representing
+     * a finite value which is too large in magnitude to be represented by an exact unum.
+     *
+     * @param sign the sign of the overflowing value
+     * @return (maxreal, inf) or (-inf, -maxreal) depending on the sign
+     */
+    static float overflow(final float sign) {
+        return Math.copySign(Float.MAX_VALUE, sign);
+    }
+
+    /**
+     * Returns the single unum if lower and upper unum are equal and NaN otherwise.
+     */
+    static float single(final float lower, final float upper) {
+        return compare(lower, upper) == 0 ? lower : Singles.QNAN;
+    }
+
+    @Override
+    public SingleUnum divide(final SingleUnum other) {
+        return SingleUnum.valueOf(divide(value, other.value));
+    }
+
+    /**
+     * Returns the quotient of two exact unums, or NaN if an operand is inexact or the divisor is zero; use
+     * {@link Ubound#divide(Ubound)} in this case.
+     */
+    public static float divide(final float a, final float b) {
+        if (isExact(a) & isExact(b) & b != 0.0f) {
+            final float q = a / b;
+            if (Float.isFinite(q)) {
+                if (Float.isFinite(a) & Float.isFinite(b)) {
+                    //the remainder q*b - a is exact in double, its sign is opposite to the error for positive b
+                    final double r = (double)q * b - a;
+                    return enclose(q, b < 0 ? r : -r);
+                }
+                //finite divided by infinite
+                return q;
             }
-            if (isExact(p)) {
-                if (p / a <= b & p / b <= a) return nextUp(p);
-                if (p / a >= b & p / b >= a) return nextDown(p);
-                //FIXME is this possible?
-                throw new InternalError();
+            if (Float.isFinite(a) & Float.isFinite(b)) {
+                return overflow(q);
             }
-            //result must be between s-ulp and s+ulp, hence we're done
-            return p;
+            //infinite operand, inf / inf is NaN
+            return Float.isNaN(q) ? Singles.QNAN : q;
         }
+        //inexact operand or division by zero
         return Singles.QNAN;
     }
 
-    @Override
-    public SingleUnum divide(SingleUnum other) {
-        throw new RuntimeException("not implemented");//FIXME implement
+    public SingleUnum sqrt() {
+        return SingleUnum.valueOf(sqrt(value));
+    }
+
+    /**
+     * Returns the square root of a unum, or NaN if the square root of an inexact operand cannot be represented as a
+     * single unum; use {@link #sqrtLower(float)} and {@link #sqrtUpper(float)} in this case. The square root is NaN
+     * if the unum contains negative values.
+     */
+    public static float sqrt(final float a) {
+        if (isExact(a)) {
+            return sqrtBound(a, false, true);
+        }
+        return single(sqrtLower(a), sqrtUpper(a));
+    }
+
+    /**
+     * Returns the lower unum of the square root of a ubound.
+     * @param aLower the lower unum of the ubound
+     * @return the lower unum of the ubound square root
+     */
+    public static float sqrtLower(final float aLower) {
+        return sqrtBound(getLowerBound(aLower), isInexact(aLower), true);
+    }
+
+    /**
+     * Returns the upper unum of the square root of a ubound.
+     * @param aUpper the upper unum of the ubound
+     * @return the upper unum of the ubound square root
+     */
+    public static float sqrtUpper(final float aUpper) {
+        return sqrtBound(getUpperBound(aUpper), isInexact(aUpper), false);
+    }
+
+    private static float sqrtBound(final float a, final boolean open, final boolean lower) {
+        if (Float.isNaN(a) | a < 0.0f | (a == 0.0f & open & !lower)) {
+            return Singles.QNAN;
+        }
+        if (Float.isInfinite(a)) {
+            return open ? overflow(a) : a;
+        }
+        //the square root of a float rounded from double is correctly rounded, the remainder s*s - a is exact in double
+        final float s = (float)Math.sqrt(a);
+        return bound(s, a - (double)s * s, open, lower);
     }
 
     @Override
@@ -430,6 +707,39 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         return 0;
     }
 
+    /**
+     * Returns a key for the unum such that keys compare as signed {@code int} values like
+     * {@link #compare(float, float)}: unums comparing equal, such as positive and negative zero or two NaNs of the
+     * same sign, have equal keys, and inexact unums are ordered between their exact neighbours. Negative NaN is
+     * ordered before negative infinity, positive NaN after positive infinity.
+     * @param value the unum value
+     * @return the sortable key
+     */
+    public static int sortableKey(final float value) {
+        final int raw = Float.floatToRawIntBits(value);
+        final int sign = raw >> 31;
+        //the magnitude with all NaN payloads collapsed, negated for negative values
+        final int magnitude = Math.min(raw & Integer.MAX_VALUE, NAN_MAGNITUDE);
+        return (magnitude ^ sign) - sign;
+    }
+
+    @Override
+    public SingleUnum unify(final SingleUnum upper) {
+        return valueOf(unify(value, upper.value));
+    }
+
+    /**
+     * Returns the tightest single unum containing lower, upper and all values in between, or qNaN if no such unum
+     * exists. Inexact unums of this encoding are always one ulp wide, hence only a ubound whose lower and upper unum
+     * are the same can be unified.
+     */
+    public static float unify(final float lower, final float upper) {
+        if (Float.isNaN(lower) | Float.isNaN(upper)) {
+            return Singles.QNAN;
+        }
+        return compare(lower, upper) == 0 ? lower : Singles.QNAN;
+    }
+
     @Override
     public SingleUnum min(final SingleUnum other) {
         return compareTo(other) <= 0 ? this : other;
@@ -450,7 +760,7 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
 
     @Override
     public SingleUnum negate() {
-        return new SingleUnum(-value);
+        return valueOf(-value);
     }
 
     @Override
@@ -458,6 +768,42 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         return value >= 0 ? this : value < 0 ? negate() : this /*NaN*/;
     }
 
+    public static float negate(final float value) {
+        return -value;
+    }
+
+    public static float abs(final float value) {
+        return value < 0 ? -value : value;
+    }
+
+    /**
+     * Returns e raised to the power of this unum, see {@link SingleUnumMath}.
+     * @return the exponential, or NaN if it is not a single unum
+     */
+    public SingleUnum exp() {
+        return valueOf(SingleUnumMath.exp(value));
+    }
+
+    public SingleUnum log() {
+        return valueOf(SingleUnumMath.log(value));
+    }
+
+    public SingleUnum sin() {
+        return valueOf(SingleUnumMath.sin(value));
+    }
+
+    public SingleUnum cos() {
+        return valueOf(SingleUnumMath.cos(value));
+    }
+
+    public SingleUnum atan() {
+        return valueOf(SingleUnumMath.atan(value));
+    }
+
+    public SingleUnum pow(final SingleUnum exponent) {
+        return valueOf(SingleUnumMath.pow(value, exponent.value));
+    }
+
     @Override
     public int hashCode() {
         return Float.hashCode(value);
@@ -485,10 +831,62 @@ public class SingleUnum extends AbstractUnum<SingleUnum> implements Serializable
         if (Float.isNaN(value)) {
             return Float.floatToRawIntBits(value) >= 0 ? "qNaN" : "sNaN";
         }
-        if (value >= 0f) {
-            return "(" + exact(value) + ", " + nextUp(value) + ")";
-        } else {
-            return "(" + nextDown(value) + ", " + exact(value) + ")";
+        return "(" + exact(value) + ", " + nextUp(value) + ")";
+    }
+
+    /**
+     * Cache of canonical instances for special values, small exact integers and their adjacent inexact unums.
+     */
+    private static final class Cache {
+        private static final String HIGH_PROPERTY = "org.tools4j.unum.api.SingleUnum.Cache.high";
+        private static final int DEFAULT_HIGH = 128;
+        //integers up to 2^22 are exact and their neighbours are distinct inexact unums
+        private static final int MAX_HIGH = 1 << 22;
+        private static final int QNAN_RAW = Float.floatToRawIntBits(Singles.QNAN);
+        private static final int SNAN_RAW = Float.floatToRawIntBits(Singles.SNAN);
+
+        static final int HIGH = Math.max(0, Math.min(MAX_HIGH, Integer.getInteger(HIGH_PROPERTY, DEFAULT_HIGH)));
+        //exact integers, and the inexact unums above and below them, at index i + HIGH
+        static final SingleUnum[] EXACT = new SingleUnum[2 * HIGH + 1];
+        static final SingleUnum[] ABOVE = new SingleUnum[2 * HIGH + 1];
+        static final SingleUnum[] BELOW = new SingleUnum[2 * HIGH + 1];
+
+        static {
+            for (int i = -HIGH; i <= HIGH; i++) {
+                final float value = i;
+                EXACT[i + HIGH] = i == 0 ? ZERO : i == 1 ? ONE : i == 2 ? TWO : i == 10 ? TEN : new SingleUnum(value);
+                ABOVE[i + HIGH] = new SingleUnum(Math.nextUp(value));
+                BELOW[i + HIGH] = new SingleUnum(Math.nextDown(value));
+            }
+        }
+
+        /**
+         * Returns the cached instance with the exact same bits as value, or null if no such instance exists.
+         */
+        static SingleUnum get(final float value) {
+            if (Float.isFinite(value)) {
+                if (-HIGH - 1 < value & value < HIGH + 1) {
+                    if (isExact(value)) {
+                        final int i = (int)value;
+                        return i == value & Float.floatToRawIntBits(value) == Float.floatToRawIntBits(i) ? EXACT[i + HIGH] : null;
+                    }
+                    final float lower = Math.nextDown(value);
+                    final int i = (int)lower;
+                    if (i == lower & -HIGH <= i & i <= HIGH) {
+                        return ABOVE[i + HIGH];
+                    }
+                    final float upper = Math.nextUp(value);
+                    final int j = (int)upper;
+                    if (j == upper & -HIGH <= j & j <= HIGH) {
+                        return BELOW[j + HIGH];
+                    }
+                }
+                return null;
+            }
+            if (value == Float.POSITIVE_INFINITY) return POSITIVE_INFINITY;
+            if (value == Float.NEGATIVE_INFINITY) return NEGATIVE_INFINITY;
+            final int raw = Float.floatToRawIntBits(value);
+            return raw == QNAN_RAW ? QNAN : raw == SNAN_RAW ? SNAN : null;
         }
     }
 
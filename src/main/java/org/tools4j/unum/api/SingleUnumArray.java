@@ -0,0 +1,442 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An array of {@link SingleUnum} values backed by a float array using the same bit encoding as SingleUnum, that is,
+ * with the ubit in the least significant bit of each float. Bulk operations run directly on the backing arrays;
+ * SingleUnum instances are only created on demand by {@link #getUnum(int)} and the {@link #asList() list view}.
+ */
+public final class SingleUnumArray implements Serializable {
+
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+    private static final int RADIX_PASSES = 3;
+
+    private final float[] values;
+
+    public SingleUnumArray(final int length) {
+        this(new float[length]);
+    }
+
+    private SingleUnumArray(final float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a unum array backed by the given float array; changes in one are reflected in the other.
+     * @param values the unum values in SingleUnum float encoding
+     * @return a unum array backed by values
+     */
+    public static SingleUnumArray wrap(final float[] values) {
+        if (values == null) {
+            throw new NullPointerException("values cannot be null");
+        }
+        return new SingleUnumArray(values);
+    }
+
+    public static SingleUnumArray valueOf(final SingleUnum... unums) {
+        final float[] values = new float[unums.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = unums[i].floatValue();
+        }
+        return new SingleUnumArray(values);
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns the backing array.
+     * @return the float array backing this unum array
+     */
+    public float[] array() {
+        return values;
+    }
+
+    public float get(final int index) {
+        return values[index];
+    }
+
+    public void set(final int index, final float value) {
+        values[index] = value;
+    }
+
+    public SingleUnum getUnum(final int index) {
+        return SingleUnum.valueOf(values[index]);
+    }
+
+    public void setUnum(final int index, final SingleUnum value) {
+        values[index] = value.floatValue();
+    }
+
+    /**
+     * Returns a list view of this array; the unums of the list are created on demand when accessed.
+     * @return a fixed size list backed by this array
+     */
+    public List<SingleUnum> asList() {
+        return new ListView(values);
+    }
+
+    public SingleUnumArray add(final SingleUnumArray other, final SingleUnumArray result) {
+        add(values, other.values, result.values);
+        return result;
+    }
+
+    public SingleUnumArray multiply(final SingleUnumArray other, final SingleUnumArray result) {
+        multiply(values, other.values, result.values);
+        return result;
+    }
+
+    public SingleUnumArray negate(final SingleUnumArray result) {
+        negate(values, result.values);
+        return result;
+    }
+
+    public SingleUnumArray abs(final SingleUnumArray result) {
+        abs(values, result.values);
+        return result;
+    }
+
+    public SingleUnumArray min(final SingleUnumArray other, final SingleUnumArray result) {
+        min(values, other.values, result.values);
+        return result;
+    }
+
+    public SingleUnumArray max(final SingleUnumArray other, final SingleUnumArray result) {
+        max(values, other.values, result.values);
+        return result;
+    }
+
+    public SingleUnumArray lowerBound(final SingleUnumArray result) {
+        lowerBound(values, result.values);
+        return result;
+    }
+
+    public SingleUnumArray upperBound(final SingleUnumArray result) {
+        upperBound(values, result.values);
+        return result;
+    }
+
+    public int[] compare(final SingleUnumArray other, final int[] result) {
+        compare(values, other.values, result);
+        return result;
+    }
+
+    /**
+     * Sorts this array in ascending order of {@link SingleUnum#compare(float, float)}, see {@link #sort(float[])}.
+     * @return this array
+     */
+    public SingleUnumArray sort() {
+        sort(values);
+        return this;
+    }
+
+    /**
+     * Searches a unum in this array sorted by {@link #sort()}, see {@link #binarySearch(float[], float)}.
+     * @param key the unum to search
+     * @return the index of the key or {@code -(insertion point) - 1} if it is not present
+     */
+    public int binarySearch(final float key) {
+        return binarySearch(values, key);
+    }
+
+    public static void add(final float[] a, final float[] b, final float[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.add(a, b, result); i < result.length; i++) {
+            result[i] = SingleUnum.add(a[i], b[i]);
+        }
+    }
+
+    public static void multiply(final float[] a, final float[] b, final float[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.multiply(a, b, result); i < result.length; i++) {
+            result[i] = SingleUnum.multiply(a[i], b[i]);
+        }
+    }
+
+    public static void negate(final float[] a, final float[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.negate(a, result); i < result.length; i++) {
+            result[i] = SingleUnum.negate(a[i]);
+        }
+    }
+
+    public static void abs(final float[] a, final float[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.abs(a, result); i < result.length; i++) {
+            result[i] = SingleUnum.abs(a[i]);
+        }
+    }
+
+    public static void min(final float[] a, final float[] b, final float[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.min(a, b, result); i < result.length; i++) {
+            result[i] = SingleUnum.min(a[i], b[i]);
+        }
+    }
+
+    public static void max(final float[] a, final float[] b, final float[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.max(a, b, result); i < result.length; i++) {
+            result[i] = SingleUnum.max(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Computes the lower bound of every unum, the exact unum at the lower end of an inexact unum; exact unums
+     * and NaN are their own lower bound.
+     * @param a the unums
+     * @param result the array for the lower bounds, may be the same as a
+     */
+    public static void lowerBound(final float[] a, final float[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.lowerBound(a, result); i < result.length; i++) {
+            result[i] = SingleUnum.getLowerBound(a[i]);
+        }
+    }
+
+    /**
+     * Computes the upper bound of every unum, the exact unum at the upper end of an inexact unum; exact unums
+     * and NaN are their own upper bound.
+     * @param a the unums
+     * @param result the array for the upper bounds, may be the same as a
+     */
+    public static void upperBound(final float[] a, final float[] result) {
+        validateLength(a, a, result.length);
+        for (int i = VectorKernels.upperBound(a, result); i < result.length; i++) {
+            result[i] = SingleUnum.getUpperBound(a[i]);
+        }
+    }
+
+    public static void compare(final float[] a, final float[] b, final int[] result) {
+        validateLength(a, b, result.length);
+        for (int i = VectorKernels.compare(a, b, result); i < result.length; i++) {
+            result[i] = SingleUnum.compare(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Sorts the unums in ascending order of {@link SingleUnum#compare(float, float)} with an LSD radix sort, skipping
+     * digits that are the same for all unums; short arrays are sorted by insertion sort. Like
+     * {@link Arrays#sort(float[])} the sort is not stable for unums comparing equal, negative zero is placed before
+     * positive zero and NaNs of the same sign are ordered by their bits.
+     * @param a the unums to sort
+     */
+    public static void sort(final float[] a) {
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts the unums in the range from (inclusive) to (exclusive), see {@link #sort(float[])}.
+     */
+    public static void sort(final float[] a, final int from, final int to) {
+        validateRange(a.length, from, to);
+        final int n = to - from;
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(a, from, to);
+            return;
+        }
+        //unlike the sortable key, the radix key orders ties by bits and can be mapped back to the unum
+        int[] keys = new int[n];
+        final int[] counts = new int[RADIX_PASSES * RADIX];
+        for (int i = 0; i < n; i++) {
+            final int key = radixKey(a[from + i]);
+            keys[i] = key;
+            for (int pass = 0; pass < RADIX_PASSES; pass++) {
+                counts[pass * RADIX + ((key >>> (pass * RADIX_BITS)) & RADIX_MASK)]++;
+            }
+        }
+        int[] buffer = new int[n];
+        final int[] offsets = new int[RADIX];
+        for (int pass = 0; pass < RADIX_PASSES; pass++) {
+            final int base = pass * RADIX;
+            final int shift = pass * RADIX_BITS;
+            if (counts[base + ((keys[0] >>> shift) & RADIX_MASK)] == n) {
+                //all keys have the same digit
+                continue;
+            }
+            for (int digit = 0, offset = 0; digit < RADIX; digit++) {
+                offsets[digit] = offset;
+                offset += counts[base + digit];
+            }
+            for (int i = 0; i < n; i++) {
+                final int key = keys[i];
+                buffer[offsets[(key >>> shift) & RADIX_MASK]++] = key;
+            }
+            final int[] swap = keys;
+            keys = buffer;
+            buffer = swap;
+        }
+        for (int i = 0; i < n; i++) {
+            a[from + i] = unumOf(keys[i]);
+        }
+    }
+
+    /**
+     * Returns a key ordering unsigned like the unum bits as signed sign-magnitude values.
+     */
+    private static int radixKey(final float value) {
+        final int raw = Float.floatToRawIntBits(value);
+        return raw ^ ((raw >> 31) | Integer.MIN_VALUE);
+    }
+
+    private static float unumOf(final int radixKey) {
+        return Float.intBitsToFloat(radixKey ^ (~radixKey >> 31 | Integer.MIN_VALUE));
+    }
+
+    private static void insertionSort(final float[] a, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final float value = a[i];
+            final int key = SingleUnum.sortableKey(value);
+            int j = i - 1;
+            while (j >= from && SingleUnum.sortableKey(a[j]) > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    /**
+     * Searches a unum in an array sorted by {@link #sort(float[])}; unums comparing equal, such as positive and
+     * negative zero, are considered the same.
+     * @param a the sorted unums
+     * @param key the unum to search
+     * @return the index of a unum equal to the key, or {@code -(insertion point) - 1} if there is none
+     */
+    public static int binarySearch(final float[] a, final float key) {
+        return binarySearch(a, 0, a.length, key);
+    }
+
+    /**
+     * Searches a unum in the range from (inclusive) to (exclusive) of an array sorted by {@link #sort(float[])}, see
+     * {@link #binarySearch(float[], float)}.
+     */
+    public static int binarySearch(final float[] a, final int from, final int to, final float key) {
+        validateRange(a.length, from, to);
+        final int target = SingleUnum.sortableKey(key);
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midKey = SingleUnum.sortableKey(a[mid]);
+            if (midKey < target) {
+                low = mid + 1;
+            } else if (midKey > target) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static void validateRange(final int length, final int from, final int to) {
+        if (from < 0 | to > length | from > to) {
+            throw new IllegalArgumentException("invalid range: [" + from + ", " + to + ") for length " + length);
+        }
+    }
+
+    private static void validateLength(final float[] a, final float[] b, final int length) {
+        if (a.length != length | b.length != length) {
+            throw new IllegalArgumentException("array length mismatch: " + a.length + ", " + b.length + " and " + length);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (final float value : values) {
+            hash = 31 * hash + SingleUnum.sortableKey(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) return true;
+        if (obj == null) return false;
+        if (getClass() == obj.getClass()) {
+            final float[] other = ((SingleUnumArray)obj).values;
+            if (values.length != other.length) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (0 != SingleUnum.compare(values[i], other[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(SingleUnum.toString(values[i]));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final class ListView extends AbstractList<SingleUnum> implements RandomAccess {
+        private final float[] values;
+
+        private ListView(final float[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public SingleUnum get(final int index) {
+            return SingleUnum.valueOf(values[index]);
+        }
+
+        @Override
+        public SingleUnum set(final int index, final SingleUnum element) {
+            final SingleUnum previous = get(index);
+            values[index] = element.floatValue();
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A buffer of {@link SingleUnum} values stored in a {@link ByteBuffer}, typically a direct buffer or a memory mapped
+ * file. The values use the same bit encoding as SingleUnum, that is, with the ubit in the least significant bit of
+ * each float. Bulk operations read and write the buffers directly without creating SingleUnum instances or copying
+ * the values to the heap.
+ * <p>
+ * A byte buffer is indexed by int and hence limited to 2GB, the maximum length of a unum buffer is therefore
+ * {@code Integer.MAX_VALUE / 4} unums. This limit is deliberate: a unum buffer is a view of a single byte buffer
+ * accessed with plain int indices. Larger files are mapped as several unum buffers, one per region, see
+ * {@link #map(FileChannel, FileChannel.MapMode, long, int)}.
+ */
+public final class SingleUnumBuffer {
+
+    private static final int BYTES = 4;
+    private static final int MAX_LENGTH = Integer.MAX_VALUE / BYTES;
+
+    private final ByteBuffer buffer;
+    private final FloatBuffer values;
+
+    private SingleUnumBuffer(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.values = buffer.asFloatBuffer();
+    }
+
+    /**
+     * Allocates a direct buffer with native byte order for the given number of unums.
+     * @param length the number of unums
+     * @return a new buffer backed by a direct byte buffer
+     * @throws IllegalArgumentException if length is negative or exceeds the 2GB byte buffer limit
+     */
+    public static SingleUnumBuffer allocateDirect(final int length) {
+        return new SingleUnumBuffer(ByteBuffer.allocateDirect(byteLength(length)).order(ByteOrder.nativeOrder()));
+    }
+
+    /**
+     * Returns a unum buffer backed by the bytes between position and limit of the given byte buffer, using the byte
+     * order of the buffer; changes in one are reflected in the other.
+     * @param buffer the byte buffer with unum values in SingleUnum float encoding
+     * @return a unum buffer backed by buffer
+     */
+    public static SingleUnumBuffer wrap(final ByteBuffer buffer) {
+        if (buffer.remaining() % BYTES != 0) {
+            throw new IllegalArgumentException("invalid buffer size " + buffer.remaining() + ", must be a multiple of " + BYTES);
+        }
+        return new SingleUnumBuffer(buffer.slice().order(buffer.order()));
+    }
+
+    /**
+     * Maps a region of a file into memory and returns a unum buffer backed by the mapped bytes. The values are
+     * stored in native byte order.
+     * @param channel   the file channel to map
+     * @param mode      the map mode
+     * @param position  the file position where the mapped region starts
+     * @param length    the number of unums in the mapped region
+     * @return a unum buffer backed by the mapped file region
+     * @throws IOException if mapping the file fails
+     * @throws IllegalArgumentException if length is negative or exceeds the 2GB byte buffer limit
+     */
+    public static SingleUnumBuffer map(final FileChannel channel, final FileChannel.MapMode mode, final long position, final int length) throws IOException {
+        return new SingleUnumBuffer(channel.map(mode, position, byteLength(length)).order(ByteOrder.nativeOrder()));
+    }
+
+    private static int byteLength(final int length) {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("invalid length " + length + ", must be in [0, " + MAX_LENGTH + "]");
+        }
+        return length * BYTES;
+    }
+
+    public int length() {
+        return values.capacity();
+    }
+
+    /**
+     * Returns the backing byte buffer.
+     * @return the byte buffer backing this unum buffer
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public float get(final int index) {
+        return values.get(index);
+    }
+
+    public void set(final int index, final float value) {
+        values.put(index, value);
+    }
+
+    public SingleUnum getUnum(final int index) {
+        return SingleUnum.valueOf(values.get(index));
+    }
+
+    public void setUnum(final int index, final SingleUnum value) {
+        values.put(index, value.floatValue());
+    }
+
+    public void get(final int index, final float[] target, final int offset, final int length) {
+        for (int i = 0; i < length; i++) {
+            target[offset + i] = values.get(index + i);
+        }
+    }
+
+    public void set(final int index, final float[] source, final int offset, final int length) {
+        for (int i = 0; i < length; i++) {
+            values.put(index + i, source[offset + i]);
+        }
+    }
+
+    public SingleUnumBuffer add(final SingleUnumBuffer other, final SingleUnumBuffer result) {
+        validateLength(other, result);
+        final FloatBuffer a = values, b = other.values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.add(a.get(i), b.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer subtract(final SingleUnumBuffer other, final SingleUnumBuffer result) {
+        validateLength(other, result);
+        final FloatBuffer a = values, b = other.values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.subtract(a.get(i), b.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer multiply(final SingleUnumBuffer other, final SingleUnumBuffer result) {
+        validateLength(other, result);
+        final FloatBuffer a = values, b = other.values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.multiply(a.get(i), b.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer divide(final SingleUnumBuffer other, final SingleUnumBuffer result) {
+        validateLength(other, result);
+        final FloatBuffer a = values, b = other.values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.divide(a.get(i), b.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer min(final SingleUnumBuffer other, final SingleUnumBuffer result) {
+        validateLength(other, result);
+        final FloatBuffer a = values, b = other.values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.min(a.get(i), b.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer max(final SingleUnumBuffer other, final SingleUnumBuffer result) {
+        validateLength(other, result);
+        final FloatBuffer a = values, b = other.values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.max(a.get(i), b.get(i)));
+        }
+        return result;
+    }
+
+    public int[] compare(final SingleUnumBuffer other, final int[] result) {
+        validateLength(other, this);
+        if (result.length != values.capacity()) {
+            throw new IllegalArgumentException("length mismatch: " + values.capacity() + " and " + result.length);
+        }
+        final FloatBuffer a = values, b = other.values;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = SingleUnum.compare(a.get(i), b.get(i));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer negate(final SingleUnumBuffer result) {
+        validateLength(this, result);
+        final FloatBuffer a = values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.negate(a.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer abs(final SingleUnumBuffer result) {
+        validateLength(this, result);
+        final FloatBuffer a = values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.abs(a.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer nextUp(final SingleUnumBuffer result) {
+        validateLength(this, result);
+        final FloatBuffer a = values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.nextUp(a.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer nextDown(final SingleUnumBuffer result) {
+        validateLength(this, result);
+        final FloatBuffer a = values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.nextDown(a.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer getLowerBound(final SingleUnumBuffer result) {
+        validateLength(this, result);
+        final FloatBuffer a = values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.getLowerBound(a.get(i)));
+        }
+        return result;
+    }
+
+    public SingleUnumBuffer getUpperBound(final SingleUnumBuffer result) {
+        validateLength(this, result);
+        final FloatBuffer a = values, r = result.values;
+        for (int i = 0; i < r.capacity(); i++) {
+            r.put(i, SingleUnum.getUpperBound(a.get(i)));
+        }
+        return result;
+    }
+
+    private void validateLength(final SingleUnumBuffer other, final SingleUnumBuffer result) {
+        final int length = values.capacity();
+        if (other.values.capacity() != length | result.values.capacity() != length) {
+            throw new IllegalArgumentException("buffer length mismatch: " + length + ", " + other.values.capacity() + " and " + result.values.capacity());
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < values.capacity(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(SingleUnum.toString(values.get(i)));
+        }
+        return sb.append(']').toString();
+    }
+}
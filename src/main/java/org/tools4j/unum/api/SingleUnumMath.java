@@ -0,0 +1,338 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+/**
+ * Elementary functions for unums in {@link SingleUnum} encoding. The functions are evaluated in double precision with
+ * the {@link Math} functions which are specified to be within one ulp of the exact result; the result enclosure is
+ * widened by two double ulps and mapped to the enclosing SingleUnums. Results are exact if they are provably exact,
+ * for instance {@code exp(0)} or {@code pow(3, 2)}, and otherwise an open one-ulp unum if the widened enclosure lies
+ * within one. Near zero the results of atan, sin, cos and exp are within a fraction of an ulp of the argument or of 1,
+ * closer than the double enclosure can separate; these results are the open one-ulp unums on the known side of the
+ * argument or of 1. Otherwise, if the widened enclosure contains an exact float, the single unum functions return
+ * NaN and the lower and upper functions return the two adjacent inexact unums, as for instance
+ * {@link SingleUnum#add(float, float)} does for sums that are not a single unum. This happens only for results within
+ * a few double ulps of an exact float that are not known to be exact.
+ */
+public final class SingleUnumMath {
+
+    private static final double TWO_PI = 2 * Math.PI;
+    //relative tolerance when testing if an interval contains a multiple of 2*pi
+    private static final double PERIOD_TOLERANCE = 0x1p-40;
+    //below these magnitudes atan(x) and sin(x) are within |x|^3/3 of x, cos(x) within x^2/2 of 1 and exp(x) within 2|x|
+    //of 1, less than the gap to the next exact unum toward zero or on the side of 1
+    private static final float SMALL = 0x1p-12f;
+    private static final float SMALL_EXP = 0x1p-24f;
+    //the open unums (1 - ulp, 1) and (1, 1 + ulp)
+    private static final float BELOW_ONE = Math.nextDown(1.0f);
+    private static final float ABOVE_ONE = Math.nextUp(1.0f);
+    private static final int SIGNIFICAND_BITS = 23;
+    //exponents beyond this over- or underflow every power of a base other than 1 in double precision
+    private static final float MAX_EXACT_EXPONENT = 4096;
+
+    private SingleUnumMath() {
+        throw new RuntimeException("No SingleUnumMath for you!");
+    }
+
+    public static float exp(final float value) {
+        return SingleUnum.single(expLower(value), expUpper(value));
+    }
+
+    public static float expLower(final float lower) {
+        if (Float.isNaN(lower)) {
+            return Singles.QNAN;
+        }
+        return expBound(SingleUnum.getLowerBound(lower), SingleUnum.isInexact(lower), true);
+    }
+
+    public static float expUpper(final float upper) {
+        if (Float.isNaN(upper)) {
+            return Singles.QNAN;
+        }
+        return expBound(SingleUnum.getUpperBound(upper), SingleUnum.isInexact(upper), false);
+    }
+
+    private static float expBound(final float x, final boolean open, final boolean lower) {
+        if (x != 0 & Math.abs(x) < SMALL_EXP) {
+            return x > 0 ? ABOVE_ONE : BELOW_ONE;
+        }
+        final double y = Math.exp(x);
+        if (!Float.isInfinite(x)) {
+            //double overflow and underflow, the exact result is beyond the float range
+            if (Double.isInfinite(y)) {
+                return SingleUnum.overflow(1.0f);
+            }
+            //double underflow or subnormal, the enclosure widened by double ulps could reach below zero
+            if (y < Float.MIN_VALUE) {
+                return Float.MIN_VALUE;
+            }
+        }
+        final boolean exact = x == 0 | Float.isInfinite(x);
+        return lower ? lower(y, exact, open) : upper(y, exact, open);
+    }
+
+    public static float log(final float value) {
+        return SingleUnum.single(logLower(value), logUpper(value));
+    }
+
+    /**
+     * Returns the lower unum of the natural logarithm of a ubound, NaN if the ubound contains negative values.
+     * @param lower the lower unum of the ubound
+     * @return the lower unum of the logarithm
+     */
+    public static float logLower(final float lower) {
+        final float x = SingleUnum.getLowerBound(lower);
+        if (Float.isNaN(lower) || x < 0) {
+            return Singles.QNAN;
+        }
+        return lower(Math.log(x), x == 0 | x == 1 | Float.isInfinite(x), SingleUnum.isInexact(lower));
+    }
+
+    /**
+     * Returns the upper unum of the natural logarithm of a ubound, NaN if the ubound contains only negative values.
+     * @param upper the upper unum of the ubound
+     * @return the upper unum of the logarithm
+     */
+    public static float logUpper(final float upper) {
+        final float x = SingleUnum.getUpperBound(upper);
+        if (Float.isNaN(upper) || x < 0 || (x == 0 & SingleUnum.isInexact(upper))) {
+            return Singles.QNAN;
+        }
+        return upper(Math.log(x), x == 0 | x == 1 | Float.isInfinite(x), SingleUnum.isInexact(upper));
+    }
+
+    public static float atan(final float value) {
+        return SingleUnum.single(atanLower(value), atanUpper(value));
+    }
+
+    public static float atanLower(final float lower) {
+        if (Float.isNaN(lower)) {
+            return Singles.QNAN;
+        }
+        final float x = SingleUnum.getLowerBound(lower);
+        if (isSmall(x)) {
+            return towardZero(x);
+        }
+        return lower(Math.atan(x), x == 0, SingleUnum.isInexact(lower));
+    }
+
+    public static float atanUpper(final float upper) {
+        if (Float.isNaN(upper)) {
+            return Singles.QNAN;
+        }
+        final float x = SingleUnum.getUpperBound(upper);
+        if (isSmall(x)) {
+            return towardZero(x);
+        }
+        return upper(Math.atan(x), x == 0, SingleUnum.isInexact(upper));
+    }
+
+    public static float sin(final float value) {
+        return SingleUnum.single(sinLower(value, value), sinUpper(value, value));
+    }
+
+    public static float sinLower(final float lower, final float upper) {
+        return periodic(lower, upper, true, true);
+    }
+
+    public static float sinUpper(final float lower, final float upper) {
+        return periodic(lower, upper, true, false);
+    }
+
+    public static float cos(final float value) {
+        return SingleUnum.single(cosLower(value, value), cosUpper(value, value));
+    }
+
+    public static float cosLower(final float lower, final float upper) {
+        return periodic(lower, upper, false, true);
+    }
+
+    public static float cosUpper(final float lower, final float upper) {
+        return periodic(lower, upper, false, false);
+    }
+
+    /**
+     * Returns the lower or upper unum of sine or cosine of a ubound. The extremes are at the endpoints unless the
+     * ubound contains a maximum or minimum of the function, in which case the bound is the closed unum 1 or -1.
+     */
+    private static float periodic(final float lowerUnum, final float upperUnum, final boolean sin, final boolean lower) {
+        if (Float.isNaN(lowerUnum) | Float.isNaN(upperUnum)) {
+            return Singles.QNAN;
+        }
+        final float a = SingleUnum.getLowerBound(lowerUnum);
+        final float b = SingleUnum.getUpperBound(upperUnum);
+        final boolean aOpen = SingleUnum.isInexact(lowerUnum);
+        final boolean bOpen = SingleUnum.isInexact(upperUnum);
+        if ((Float.isInfinite(a) & !aOpen) | (Float.isInfinite(b) & !bOpen)) {
+            return Singles.QNAN;
+        }
+        //sine has its maximum at pi/2 and cosine at 0, the minima are half a period later
+        final double extreme = (sin ? 0.5 * Math.PI : 0.0) + (lower ? Math.PI : 0.0);
+        if (a != b && (Float.isInfinite(a) | Float.isInfinite(b) || containsPeriodic(a, b, extreme))) {
+            return lower ? -1.0f : 1.0f;
+        }
+        if (lower) {
+            return SingleUnum.min(periodicBound(a, aOpen, sin, true), periodicBound(b, bOpen, sin, true));
+        }
+        return SingleUnum.max(periodicBound(a, aOpen, sin, false), periodicBound(b, bOpen, sin, false));
+    }
+
+    private static float periodicBound(final float x, final boolean open, final boolean sin, final boolean lower) {
+        if (isSmall(x)) {
+            return sin ? towardZero(x) : BELOW_ONE;
+        }
+        final double y = sin ? Math.sin(x) : Math.cos(x);
+        return lower ? lower(y, x == 0, open) : upper(y, x == 0, open);
+    }
+
+    /**
+     * Returns true if {@code [a, b]} contains {@code c + 2*k*pi} for some integer k, or if this cannot be excluded
+     * in double precision.
+     */
+    private static boolean containsPeriodic(final float a, final float b, final double c) {
+        final double ta = (a - c) / TWO_PI;
+        final double tb = (b - c) / TWO_PI;
+        final double tolerance = PERIOD_TOLERANCE * Math.max(1.0, Math.max(Math.abs(ta), Math.abs(tb)));
+        return Math.floor(tb + tolerance) >= Math.ceil(ta - tolerance);
+    }
+
+    /**
+     * Returns a raised to the power of b for exact unums a and b, and NaN if a or b is inexact or if the result is
+     * not a single unum. Powers of bases with a short significand are exact if they are representable, for
+     * instance {@code pow(0.5, 3)} or {@code pow(1.5, 2)}.
+     * @param a the base
+     * @param b the exponent
+     * @return the unum of {@code a^b}, or NaN
+     */
+    public static float pow(final float a, final float b) {
+        if (SingleUnum.isInexact(a) | SingleUnum.isInexact(b)) {
+            return Singles.QNAN;
+        }
+        if (isSpecialPow(a, b)) {
+            return bound(Math.pow(a, b), false, true);
+        }
+        final double exact = exactPow(a, b);
+        if (!Double.isNaN(exact)) {
+            return enclose(exact);
+        }
+        final double y = Math.pow(a, b);
+        if (Double.isNaN(y)) {
+            return Singles.QNAN;
+        }
+        if (Double.isInfinite(y)) {
+            return SingleUnum.overflow((float)y);
+        }
+        if (Math.abs(y) < Float.MIN_VALUE) {
+            //double underflow or subnormal, the exact result is smaller than the smallest float
+            return Math.copySign(Float.MIN_VALUE, (float)y);
+        }
+        return SingleUnum.single(enclose(below(y)), enclose(above(y)));
+    }
+
+    /**
+     * Returns true for the special cases of {@link Math#pow(double, double)} with an exact result.
+     */
+    private static boolean isSpecialPow(final float a, final float b) {
+        return b == 0 | b == 1 | a == 0 | Float.isInfinite(a) | Float.isInfinite(b) | (a == 1 & !Float.isInfinite(b));
+    }
+
+    /**
+     * Returns {@code a^b} if it is provably exact in double precision and NaN otherwise. The finite nonzero base is
+     * split into an odd integer significand m and a power of two; {@code m^b} is exact for integer b if it is
+     * representable as specified by {@link Math#pow(double, double)}, and scaling by a power of two is exact unless
+     * it leaves the normal double range.
+     */
+    private static double exactPow(final float a, final float b) {
+        if (b != Math.rint(b) | Math.abs(b) > MAX_EXACT_EXPONENT) {
+            return Double.NaN;
+        }
+        final int shift = Math.max(Math.getExponent(a), Float.MIN_EXPONENT) - SIGNIFICAND_BITS;
+        final long significand = (long)Math.scalb(a, -shift);
+        final int zeros = Long.numberOfTrailingZeros(significand);
+        final long odd = significand >> zeros;
+        if (b < 0 & Math.abs(odd) != 1) {
+            return Double.NaN;
+        }
+        final double power = Math.pow(odd, b);
+        //odd powers below 2^52 are exact, Math.pow may be one ulp off for larger ones
+        if (Math.abs(power) >= 0x1p52) {
+            return Double.NaN;
+        }
+        final int scale = (shift + zeros) * (int)b;
+        final double result = Math.scalb(power, scale);
+        if (Double.isInfinite(result) | Math.abs(result) < Double.MIN_NORMAL) {
+            return Double.NaN;
+        }
+        return result;
+    }
+
+    private static boolean isSmall(final float x) {
+        return x != 0 & Math.abs(x) < SMALL;
+    }
+
+    /**
+     * Returns the open unum adjacent to the exact nonzero value x on the side of zero.
+     */
+    private static float towardZero(final float x) {
+        return x > 0 ? Math.nextDown(x) : Math.nextUp(x);
+    }
+
+    private static float lower(final double y, final boolean exact, final boolean open) {
+        return exact ? bound(y, open, true) : enclose(below(y));
+    }
+
+    private static float upper(final double y, final boolean exact, final boolean open) {
+        return exact ? bound(y, open, false) : enclose(above(y));
+    }
+
+    //the Math functions are within one ulp of the exact result, two ulps account for ulps differing at powers of two
+    private static double below(final double y) {
+        return Math.nextDown(Math.nextDown(y));
+    }
+
+    private static double above(final double y) {
+        return Math.nextUp(Math.nextUp(y));
+    }
+
+    /**
+     * Returns the tightest unum enclosing an exact double value.
+     */
+    private static float enclose(final double value) {
+        return bound(value, false, true);
+    }
+
+    /**
+     * Returns the lower or upper unum of a ubound with the given exact endpoint value.
+     */
+    private static float bound(final double value, final boolean open, final boolean lower) {
+        if (Double.isInfinite(value)) {
+            return open ? SingleUnum.overflow((float)value) : (float)value;
+        }
+        final float rounded = (float)value;
+        if (Float.isInfinite(rounded)) {
+            return SingleUnum.overflow(rounded);
+        }
+        return SingleUnum.bound(rounded, value - rounded, open, lower);
+    }
+}
@@ -120,8 +120,65 @@ public interface Ubound<U extends Unum<U>> {
     boolean isEverywhereEqualTo(Ubound<U> other);
     Ubound<U> intersect(Ubound<U> with);
     Ubound<U> span(Ubound<U> with);
-//    Ubound<U> add(Ubound<U> summand);
-//    Ubound<U> subtract(Ubound<U> summand);
+    Ubound<U> add(Ubound<U> summand);
+    Ubound<U> subtract(Ubound<U> subtrahend);
+    Ubound<U> multiply(Ubound<U> factor);
+    Ubound<U> divide(Ubound<U> divisor);
+    /**
+     * Returns the square of this ubound. Unlike {@code multiply(this)} the result accounts for the dependency of the
+     * two factors, for instance the square of [-1, 2] is [0, 4] and not [-2, 4].
+     * @return the square of this ubound
+     */
+    Ubound<U> square();
+
+    /**
+     * Returns the single unum describing the same set as this ubound, or NaN if no such unum exists, see
+     * {@link #unify(double)}.
+     * @return the unified unum or NaN
+     */
+    default U unify() {
+        return unify(0);
+    }
+
+    /**
+     * Returns the tightest single unum enclosing this ubound if the unum describes the same set as this ubound or if
+     * its width exceeds the width of this ubound by at most the given relative amount; otherwise NaN is returned.
+     * Widths are compared as double values.
+     * @param maxWidthIncrease the accepted relative width increase, for instance 0.5 to accept a unum with up to 1.5
+     *                         times the width of this ubound
+     * @return the unified unum or NaN
+     * @throws IllegalArgumentException if maxWidthIncrease is negative or NaN
+     */
+    default U unify(final double maxWidthIncrease) {
+        if (!(maxWidthIncrease >= 0)) {
+            throw new IllegalArgumentException("invalid maxWidthIncrease: " + maxWidthIncrease);
+        }
+        final U lower = getLowerBound();
+        final U upper = getUpperBound();
+        if (isNaN()) {
+            return lower.getFactory().qNaN();
+        }
+        if (lower.compareTo(upper) == 0) {
+            return lower;
+        }
+        final U unified = lower.unify(upper);
+        if (unified.isNaN()) {
+            return unified;
+        }
+        if (unified.isInexact() == lower.isInexact() && unified.isInexact() == upper.isInexact()
+                && unified.getLowerBound().compareTo(lower.getLowerBound()) == 0
+                && unified.getUpperBound().compareTo(upper.getUpperBound()) == 0) {
+            return unified;
+        }
+        if (maxWidthIncrease > 0) {
+            final double width = upper.getUpperBound().doubleValue() - lower.getLowerBound().doubleValue();
+            final double unifiedWidth = unified.getUpperBound().doubleValue() - unified.getLowerBound().doubleValue();
+            if (unifiedWidth <= width * (1 + maxWidthIncrease) && !Double.isInfinite(unifiedWidth)) {
+                return unified;
+            }
+        }
+        return lower.getFactory().qNaN();
+    }
 
     default Factory<Ubound<U>> getFactory() {
         return getLowerBound().getUboundFactory();
@@ -151,23 +208,29 @@ public interface Ubound<U extends Unum<U>> {
         return isLowerClosed() && isUpperClosed();
     }
 
+    /*
+     * The end points of upper and lower unums are compared, which are the exact bounds enclosing inexact unums. All
+     * points are less if the end points are less, or equal and open for at least one ubound; they are less or equal
+     * if the end points are less or equal. Unlike compareTo of the unums, this works also for unums of different sizes
+     * such as LongUnums.
+     */
     default boolean isLessThan(final Ubound<U> other) {
-        if (isNaN()) return false;
-        final int cmp = getUpperBound().compareTo(other.getLowerBound());
-        return cmp < 0 || (cmp == 0 && (isUpperOpen() | other.isLowerOpen()));
+        if (isNaN() || other.isNaN()) return false;
+        final int cmp = getUpperBound().getUpperBound().compareTo(other.getLowerBound().getLowerBound());
+        return cmp < 0 || (cmp == 0 && (isUpperOpen() || other.isLowerOpen()));
     }
     default boolean isLessThanOrEqualTo(final Ubound<U> other) {
-        if (isNaN()) return false;
-        return getUpperBound().compareTo(other.getLowerBound()) <= 0;
+        if (isNaN() || other.isNaN()) return false;
+        return getUpperBound().getUpperBound().compareTo(other.getLowerBound().getLowerBound()) <= 0;
     }
     default boolean isGreaterThan(final Ubound<U> other) {
-        if (isNaN()) return false;
-        final int cmp = getLowerBound().compareTo(other.getUpperBound());
-        return cmp > 0 || (cmp == 0 && (isLowerOpen() | other.isUpperOpen()));
+        if (isNaN() || other.isNaN()) return false;
+        final int cmp = getLowerBound().getLowerBound().compareTo(other.getUpperBound().getUpperBound());
+        return cmp > 0 || (cmp == 0 && (isLowerOpen() || other.isUpperOpen()));
     }
     default boolean isGreaterThanOrEqualTo(final Ubound<U> other) {
-        if (isNaN()) return false;
-        return getLowerBound().compareTo(other.getUpperBound()) >= 0;
+        if (isNaN() || other.isNaN()) return false;
+        return getLowerBound().getLowerBound().compareTo(other.getUpperBound().getUpperBound()) >= 0;
     }
     default boolean isNegative() {
         return getUpperBound().isNegative() || (getUpperBound().isZero() & isUpperOpen());
@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.function.Consumer;
+
+/**
+ * Collects count, sum, minimum and maximum of unums as ubounds enclosing the exact results, see
+ * {@link UnumCollectors#summaryStatistics(Factory)}. Instances are not thread safe but can be combined, for instance
+ * in a parallel stream reduction.
+ */
+public final class UboundSummaryStatistics<U extends Unum<U>> implements Consumer<U> {
+
+    private final Factory<U> factory;
+    private long count;
+    private Ubound<U> sum;
+    private Ubound<U> min;
+    private Ubound<U> max;
+
+    public UboundSummaryStatistics(final Factory<U> factory) {
+        this(factory, 0, Ubound.create(factory.zero()), null, null);
+    }
+
+    UboundSummaryStatistics(final Factory<U> factory, final long count, final Ubound<U> sum, final Ubound<U> min, final Ubound<U> max) {
+        this.factory = factory;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public void accept(final U unum) {
+        accept(Ubound.create(unum));
+    }
+
+    public void accept(final Ubound<U> ubound) {
+        count++;
+        sum = sum.add(ubound);
+        min = UnumCollectors.min(min, ubound);
+        max = UnumCollectors.max(max, ubound);
+    }
+
+    public void combine(final UboundSummaryStatistics<U> other) {
+        count += other.count;
+        sum = sum.add(other.sum);
+        min = UnumCollectors.min(min, other.min);
+        max = UnumCollectors.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Ubound<U> getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the minimum, or qNaN if no values have been recorded.
+     * @return the ubound enclosing the minimum
+     */
+    public Ubound<U> getMin() {
+        return min != null ? min : Ubound.create(factory.qNaN());
+    }
+
+    /**
+     * Returns the maximum, or qNaN if no values have been recorded.
+     * @return the ubound enclosing the maximum
+     */
+    public Ubound<U> getMax() {
+        return max != null ? max : Ubound.create(factory.qNaN());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{count=" + count + ", sum=" + sum + ", min=" + getMin() + ", max=" + getMax() + "}";
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Solver for the ubox method: a ubox is a tuple of ubounds, one per dimension. Starting from a domain ubox, uboxes
+ * for which the predicate fails are pruned and the others are split in their widest dimension until all dimensions
+ * are no wider than the target width. The remaining uboxes are returned as the solution set, a superset of all exact
+ * solutions if the predicate returns true for every ubox containing a solution, which is the case for predicates
+ * evaluated with ubound arithmetic.
+ * <p>
+ * A ubound is split at an exact unum m close to its midpoint into {@code [lower, m]} and {@code (m, upper]}, and into
+ * single unums once no exact unum lies strictly between its lower and upper unum. Unbounded dimensions are split at
+ * zero or at twice the finite endpoint, until the unbounded part is the single unum between maxreal and infinity.
+ * <p>
+ * The search runs as fork-join tasks with work stealing; the solution set is returned in domain order and is the
+ * same for every pool parallelism.
+ */
+public final class UboxSolver<U extends Unum<U>> {
+
+    //tasks are only forked if few stealable tasks are queued, otherwise the subtree is searched sequentially
+    private static final int MAX_SURPLUS_TASKS = 3;
+
+    private final Predicate<? super List<Ubound<U>>> predicate;
+    private final double targetWidth;
+
+    /**
+     * Creates a solver for the given predicate.
+     * @param predicate the predicate returning false only for uboxes without solutions
+     * @param targetWidth the width below which uboxes are no longer split, zero to split into single unums
+     * @throws IllegalArgumentException if target width is negative or NaN
+     */
+    public UboxSolver(final Predicate<? super List<Ubound<U>>> predicate, final double targetWidth) {
+        if (!(targetWidth >= 0)) {
+            throw new IllegalArgumentException("invalid targetWidth: " + targetWidth);
+        }
+        this.predicate = predicate;
+        this.targetWidth = targetWidth;
+    }
+
+    /**
+     * Solves the predicate for the given domain using the common pool.
+     * @param domain the domain ubox
+     * @return the uboxes of the solution set
+     */
+    @SafeVarargs
+    public final List<List<Ubound<U>>> solve(final Ubound<U>... domain) {
+        //copied element-wise, passing the generic array on to another varargs method could pollute the heap
+        final List<Ubound<U>> ubox = new ArrayList<>(domain.length);
+        for (final Ubound<U> ubound : domain) {
+            ubox.add(ubound);
+        }
+        return solve(ubox, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Solves the predicate for the given domain.
+     * @param domain the domain ubox
+     * @param pool the pool running the search
+     * @return the uboxes of the solution set
+     * @throws IllegalArgumentException if the domain contains a NaN ubound
+     */
+    public List<List<Ubound<U>>> solve(final List<Ubound<U>> domain, final ForkJoinPool pool) {
+        for (final Ubound<U> ubound : domain) {
+            if (ubound.isNaN()) {
+                throw new IllegalArgumentException("invalid domain: " + domain);
+            }
+        }
+        return pool.invoke(new Search(Collections.unmodifiableList(new ArrayList<>(domain))));
+    }
+
+    private List<List<Ubound<U>>> search(final List<Ubound<U>> ubox) {
+        final List<List<Ubound<U>>> solutions = new ArrayList<>();
+        search(ubox, solutions);
+        return solutions;
+    }
+
+    private void search(final List<Ubound<U>> ubox, final List<List<Ubound<U>>> solutions) {
+        if (!predicate.test(ubox)) {
+            return;
+        }
+        final int dimension = splitDimension(ubox);
+        if (dimension < 0) {
+            solutions.add(ubox);
+            return;
+        }
+        final List<Ubound<U>> upper = new ArrayList<>(ubox);
+        final List<Ubound<U>> lower = split(ubox, dimension, upper);
+        search(lower, solutions);
+        search(Collections.unmodifiableList(upper), solutions);
+    }
+
+    /**
+     * Returns the widest dimension wider than the target width which can be split, or -1 if there is none.
+     */
+    private int splitDimension(final List<Ubound<U>> ubox) {
+        int dimension = -1;
+        double maxWidth = targetWidth;
+        for (int i = 0; i < ubox.size(); i++) {
+            final Ubound<U> ubound = ubox.get(i);
+            final double width = width(ubound);
+            if (width > maxWidth && ubound.getLowerBound().compareTo(ubound.getUpperBound()) != 0) {
+                dimension = i;
+                maxWidth = width;
+            }
+        }
+        return dimension;
+    }
+
+    private static <U extends Unum<U>> double width(final Ubound<U> ubound) {
+        return ubound.getUpperBound().getUpperBound().doubleValue() - ubound.getLowerBound().getLowerBound().doubleValue();
+    }
+
+    /**
+     * Splits the ubound of the given dimension, returns the lower ubox and stores the upper half in upper.
+     */
+    private static <U extends Unum<U>> List<Ubound<U>> split(final List<Ubound<U>> ubox, final int dimension,
+                                                             final List<Ubound<U>> upper) {
+        final Ubound<U> ubound = ubox.get(dimension);
+        final U lowerUnum = ubound.getLowerBound();
+        final U upperUnum = ubound.getUpperBound();
+        final U mid = splitPoint(lowerUnum, upperUnum);
+        final List<Ubound<U>> lower = new ArrayList<>(ubox);
+        if (lowerUnum.compareTo(mid) < 0 && mid.compareTo(upperUnum) < 0) {
+            lower.set(dimension, Ubound.create(lowerUnum, mid));
+            upper.set(dimension, Ubound.create(mid.nextUp(), upperUnum));
+        } else {
+            //no exact unum strictly inside, split off the lower unum
+            lower.set(dimension, Ubound.create(lowerUnum));
+            upper.set(dimension, Ubound.create(lowerUnum.nextUp(), upperUnum));
+        }
+        return Collections.unmodifiableList(lower);
+    }
+
+    /**
+     * Returns an exact unum near the midpoint of the ubound, or near zero or twice the finite endpoint if the ubound
+     * is unbounded; the result may not lie strictly inside the ubound if the ubound is narrow.
+     */
+    static <U extends Unum<U>> U splitPoint(final U lowerUnum, final U upperUnum) {
+        final Factory<U> factory = lowerUnum.getFactory();
+        final U one = factory.one();
+        final U a = lowerUnum.getLowerBound();
+        final U b = upperUnum.getUpperBound();
+        final U mid;
+        if (a.isInfinite() | b.isInfinite()) {
+            if (a.isInfinite() & b.isInfinite()) {
+                mid = factory.zero();
+            } else if (a.isInfinite()) {
+                mid = b.isPositive() ? factory.zero() : b.subtract(b.abs().max(one));
+            } else {
+                mid = a.isNegative() ? factory.zero() : a.add(a.abs().max(one));
+            }
+        } else {
+            //scaling by 1/2 is exact unless the halves are subnormal, the midpoint is not required to be exact
+            final U half = factory.half();
+            mid = a.multiply(half).add(b.multiply(half));
+        }
+        return mid.getLowerBound();
+    }
+
+    private final class Search extends RecursiveTask<List<List<Ubound<U>>>> {
+        private final List<Ubound<U>> ubox;
+
+        Search(final List<Ubound<U>> ubox) {
+            this.ubox = ubox;
+        }
+
+        @Override
+        protected List<List<Ubound<U>>> compute() {
+            if (getSurplusQueuedTaskCount() > MAX_SURPLUS_TASKS) {
+                return search(ubox);
+            }
+            if (!predicate.test(ubox)) {
+                return Collections.emptyList();
+            }
+            final int dimension = splitDimension(ubox);
+            if (dimension < 0) {
+                return Collections.singletonList(ubox);
+            }
+            final List<Ubound<U>> upper = new ArrayList<>(ubox);
+            final Search left = new Search(split(ubox, dimension, upper));
+            final Search right = new Search(Collections.unmodifiableList(upper));
+            left.fork();
+            final List<List<Ubound<U>>> rightSolutions = right.compute();
+            final List<List<Ubound<U>>> leftSolutions = left.join();
+            if (rightSolutions.isEmpty()) {
+                return leftSolutions;
+            }
+            if (leftSolutions.isEmpty()) {
+                return rightSolutions;
+            }
+            final List<List<Ubound<U>>> solutions = new ArrayList<>(leftSolutions.size() + rightSolutions.size());
+            solutions.addAll(leftSolutions);
+            solutions.addAll(rightSolutions);
+            return solutions;
+        }
+    }
+}
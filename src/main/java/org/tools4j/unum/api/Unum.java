@@ -67,6 +67,14 @@ public interface Unum<U extends Unum<U>> extends Comparable<U> {
     @Override
     int compareTo(U other);
 
+    /**
+     * Returns the tightest single unum containing this unum, the given upper unum and all values in between, or NaN
+     * if no single unum contains them all.
+     * @param upper the upper unum, not smaller than this unum
+     * @return the single unum enclosing the ubound from this unum to upper, or NaN
+     */
+    U unify(U upper);
+
     U min(U other);
     U max(U other);
 
@@ -0,0 +1,199 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads {@link LongUnum} values from a packed bitstream written by {@link UnumBitWriter} with the same environment.
+ * The reader decodes into its {@link #packed()} and {@link #fraction()} fields without creating a LongUnum instance
+ * per value:
+ * <pre>
+ *     while (count-- > 0 &amp;&amp; reader.next()) {
+ *         array.set(i++, reader.packed(), reader.fraction());
+ *     }
+ * </pre>
+ * Padding bits at the end of the stream may decode as additional unums, hence the number of unums to read should be
+ * known by the reader.
+ */
+public final class UnumBitReader {
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final UnumEnvironment environment;
+    private final ByteBuffer buffer;
+    private final InputStream in;
+
+    //available bits in the least significant bits
+    private long bits;
+    private int count;
+
+    private long packed = LongUnum.ZERO.packed();
+    private long fraction = LongUnum.ZERO.fraction();
+
+    /**
+     * Creates a reader that reads from the given byte buffer starting at its current position.
+     * @param environment   the environment defining the utag layout
+     * @param buffer        the buffer to read from
+     */
+    public UnumBitReader(final UnumEnvironment environment, final ByteBuffer buffer) {
+        this(environment, buffer, null);
+    }
+
+    /**
+     * Creates a reader that reads from the given stream.
+     * @param environment   the environment defining the utag layout
+     * @param in            the stream to read from
+     */
+    public UnumBitReader(final UnumEnvironment environment, final InputStream in) {
+        this(environment, (ByteBuffer)ByteBuffer.allocate(STREAM_BUFFER_SIZE).limit(0), in);
+    }
+
+    private UnumBitReader(final UnumEnvironment environment, final ByteBuffer buffer, final InputStream in) {
+        if (environment == null) {
+            throw new NullPointerException("environment cannot be null");
+        }
+        this.environment = environment;
+        this.buffer = buffer;
+        this.in = in;
+    }
+
+    public UnumEnvironment environment() {
+        return environment;
+    }
+
+    /**
+     * Reads the next unum, available through {@link #packed()} and {@link #fraction()} afterwards.
+     * @return true if a unum was read, false at the end of the input
+     * @throws EOFException if the input ends in the middle of a unum
+     * @throws IOException if reading from the stream fails
+     */
+    public boolean next() throws IOException {
+        final int exponentSizeSize = environment.exponentSizeSize();
+        final int fractionSizeSize = environment.fractionSizeSize();
+        final int utagSize = environment.utagSize();
+        if (!fill(utagSize)) {
+            return false;
+        }
+        final int utag = (int)readBits(utagSize);
+        final byte ubit = (byte)(utag >>> (exponentSizeSize + fractionSizeSize));
+        final int exponentSize = ((utag >>> fractionSizeSize) & ((1 << exponentSizeSize) - 1)) + 1;
+        final int fractionSize = (utag & ((1 << fractionSizeSize) - 1)) + 1;
+        require(1 + exponentSize);
+        final boolean negative = readBits(1) != 0;
+        final int exponent = (int)readBits(exponentSize);
+        final long f;
+        if (fractionSize > 32) {
+            require(fractionSize - 32);
+            final long high = readBits(fractionSize - 32);
+            require(32);
+            f = (high << 32) | readBits(32);
+        } else {
+            require(fractionSize);
+            f = readBits(fractionSize);
+        }
+        if (exponentSize == environment.maxExponentSize() & fractionSize == environment.maxFractionSize()
+                & exponent == (1 << exponentSize) - 1 & f == environment.maxFraction()) {
+            //reserved for infinity and NaN
+            final LongUnum special = ubit == 0 ? (negative ? LongUnum.NEGATIVE_INF : LongUnum.INF) : (negative ? LongUnum.SNAN : LongUnum.NAN);
+            packed = special.packed();
+            fraction = special.fraction();
+        } else {
+            packed = LongUnum.pack(negative ? (byte)-1 : 0, exponent, ubit, (byte)exponentSize, (byte)fractionSize);
+            fraction = f;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the packed value of the unum read by the last call to {@link #next()}.
+     * @return the packed sign, exponent, ubit, exponent size and fraction size
+     */
+    public long packed() {
+        return packed;
+    }
+
+    /**
+     * Returns the fraction of the unum read by the last call to {@link #next()}.
+     * @return the fraction bits
+     */
+    public long fraction() {
+        return fraction;
+    }
+
+    /**
+     * Returns the unum read by the last call to {@link #next()} as new LongUnum instance.
+     * @return the last unum read
+     */
+    public LongUnum unum() {
+        return LongUnum.valueOf(packed, fraction);
+    }
+
+    /**
+     * Skips the padding bits of the current byte so that the next unum is read from a byte boundary, see
+     * {@link UnumBitWriter#flush()}.
+     */
+    public void align() {
+        count -= count & 0x7;
+    }
+
+    private void require(final int n) throws IOException {
+        if (!fill(n)) {
+            throw new EOFException("unexpected end of input in unum");
+        }
+    }
+
+    //makes at least n available with n up to 32
+    private boolean fill(final int n) throws IOException {
+        while (count < n) {
+            if (!buffer.hasRemaining() && !refill()) {
+                return false;
+            }
+            bits = (bits << 8) | (buffer.get() & 0xff);
+            count += 8;
+        }
+        return true;
+    }
+
+    private boolean refill() throws IOException {
+        if (in == null) {
+            return false;
+        }
+        final int read = in.read(buffer.array(), 0, buffer.capacity());
+        if (read <= 0) {
+            return false;
+        }
+        buffer.position(0);
+        buffer.limit(read);
+        return true;
+    }
+
+    private long readBits(final int n) {
+        count -= n;
+        return (bits >>> count) & ((1L << n) - 1);
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes {@link LongUnum} values in their true width to a packed bitstream, most significant bit first. Each unum is
+ * written as utag followed by the value bits:
+ * <pre>
+ *     ubit | exponentSize-1 | fractionSize-1 | sign | exponent | fraction
+ * </pre>
+ * The exponent and fraction size fields use the utag layout of the {@link UnumEnvironment}, and the utag comes first
+ * so that a reader knows the width of exponent and fraction. Infinity and NaN are written with the bit pattern
+ * reserved by the environment. The last byte is padded with zero bits by {@link #flush()}, hence the number of unums
+ * needs to be known to the reader, see {@link UnumBitReader}.
+ */
+public final class UnumBitWriter implements Flushable {
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final UnumEnvironment environment;
+    private final ByteBuffer buffer;
+    private final OutputStream out;
+
+    //pending bits in the least significant bits, less than 8 between writes
+    private long bits;
+    private int count;
+    private long bitsWritten;
+
+    /**
+     * Creates a writer that writes to the given byte buffer starting at its current position.
+     * @param environment   the environment defining the utag layout
+     * @param buffer        the buffer to write to
+     */
+    public UnumBitWriter(final UnumEnvironment environment, final ByteBuffer buffer) {
+        this(environment, buffer, null);
+    }
+
+    /**
+     * Creates a writer that writes to the given stream; bytes are buffered until {@link #flush()} is called.
+     * @param environment   the environment defining the utag layout
+     * @param out           the stream to write to
+     */
+    public UnumBitWriter(final UnumEnvironment environment, final OutputStream out) {
+        this(environment, ByteBuffer.allocate(STREAM_BUFFER_SIZE), out);
+    }
+
+    private UnumBitWriter(final UnumEnvironment environment, final ByteBuffer buffer, final OutputStream out) {
+        if (environment == null) {
+            throw new NullPointerException("environment cannot be null");
+        }
+        this.environment = environment;
+        this.buffer = buffer;
+        this.out = out;
+    }
+
+    public UnumEnvironment environment() {
+        return environment;
+    }
+
+    public void write(final LongUnum unum) throws IOException {
+        write(unum.packed(), unum.fraction());
+    }
+
+    /**
+     * Writes a unum given as packed value and fraction.
+     * @param packed    the packed sign, exponent, ubit, exponent size and fraction size
+     * @param fraction  the fraction bits
+     * @throws IllegalArgumentException if the unum does not fit into the environment of this writer
+     * @throws java.nio.BufferOverflowException if writing to a byte buffer and the buffer is full
+     * @throws IOException if writing to the stream fails
+     */
+    public void write(final long packed, final long fraction) throws IOException {
+        if (!environment.fits(packed, fraction)) {
+            throw new IllegalArgumentException("unum does not fit into environment " + environment + ": " + LongUnum.toString(packed, fraction));
+        }
+        final int exponentSizeSize = environment.exponentSizeSize();
+        final int fractionSizeSize = environment.fractionSizeSize();
+        final int exponentSize;
+        final int fractionSize;
+        final int exponent;
+        final long f;
+        if (LongUnum.isNaN(packed, fraction) | LongUnum.isInfinite(packed, fraction)) {
+            exponentSize = environment.maxExponentSize();
+            fractionSize = environment.maxFractionSize();
+            exponent = (1 << exponentSize) - 1;
+            f = environment.maxFraction();
+        } else {
+            exponentSize = LongUnum.exponentSize(packed);
+            fractionSize = LongUnum.fractionSize(packed);
+            exponent = LongUnum.exponent(packed);
+            f = fraction;
+        }
+        final int utag = (LongUnum.ubit(packed) << (exponentSizeSize + fractionSizeSize))
+                | ((exponentSize - 1) << fractionSizeSize) | (fractionSize - 1);
+        writeBits(utag, environment.utagSize());
+        writeBits(LongUnum.sign(packed) & 0x1, 1);
+        writeBits(exponent, exponentSize);
+        if (fractionSize > 32) {
+            writeBits(f >>> 32, fractionSize - 32);
+            writeBits(f & 0xffffffffL, 32);
+        } else {
+            writeBits(f, fractionSize);
+        }
+        bitsWritten += 1 + exponentSize + fractionSize + environment.utagSize();
+    }
+
+    //writes up to 32 bits
+    private void writeBits(final long value, final int n) throws IOException {
+        bits = (bits << n) | value;
+        count += n;
+        while (count >= 8) {
+            count -= 8;
+            put((byte)(bits >>> count));
+        }
+    }
+
+    private void put(final byte value) throws IOException {
+        if (out != null && !buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put(value);
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+
+    /**
+     * Returns the number of bits written so far, excluding padding bits.
+     * @return the number of unum bits written
+     */
+    public long bitsWritten() {
+        return bitsWritten;
+    }
+
+    /**
+     * Pads the last byte with zero bits and writes buffered bytes to the stream if writing to a stream. Unums written
+     * after flushing start at a byte boundary.
+     * @throws IOException if writing to the stream fails
+     */
+    @Override
+    public void flush() throws IOException {
+        if (count > 0) {
+            writeBits(0, 8 - count);
+        }
+        if (out != null) {
+            drain();
+            out.flush();
+        }
+    }
+}
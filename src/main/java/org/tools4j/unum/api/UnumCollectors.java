@@ -0,0 +1,527 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Reductions of unums to ubounds enclosing the exact result: {@link Collector collectors} for streams of unums and
+ * primitive reductions of {@link DoubleStream}, double and float arrays with values in DoubleUnum or SingleUnum
+ * encoding. The primitive reductions keep their state in primitive fields and are parallel safe, for instance:
+ * <pre>
+ *     Ubound&lt;DoubleUnum&gt; sum = UnumCollectors.sum(DoubleStream.of(values).parallel());
+ * </pre>
+ * Results of parallel reductions are valid enclosures but sums and products may differ in width depending on the
+ * split order. The array reductions run sequentially; parallel sums and products of arrays are provided by
+ * {@link UnumReductions} with results independent of the parallelism. The {@code parallel} min and max variants
+ * split the array into index ranges reduced in parallel, their results are exact and do not depend on the split order.
+ */
+public final class UnumCollectors {
+
+    private UnumCollectors() {
+        throw new RuntimeException("No UnumCollectors for you!");
+    }
+
+    public static <U extends Unum<U>> Collector<U, ?, Ubound<U>> sum(final Factory<U> factory) {
+        return Collector.of(
+                () -> new Box<>(Ubound.create(factory.zero())),
+                (box, unum) -> box.value = box.value.add(Ubound.create(unum)),
+                (a, b) -> {a.value = a.value.add(b.value); return a;},
+                box -> box.value
+        );
+    }
+
+    public static <U extends Unum<U>> Collector<U, ?, Ubound<U>> product(final Factory<U> factory) {
+        return Collector.of(
+                () -> new Box<>(Ubound.create(factory.one())),
+                (box, unum) -> box.value = box.value.multiply(Ubound.create(unum)),
+                (a, b) -> {a.value = a.value.multiply(b.value); return a;},
+                box -> box.value
+        );
+    }
+
+    /**
+     * Returns a collector for the minimum of unums, the minimum of an empty stream is qNaN.
+     * @param factory the unum factory
+     * @param <U> the unum type
+     * @return a collector returning the minimum ubound
+     */
+    public static <U extends Unum<U>> Collector<U, ?, Ubound<U>> min(final Factory<U> factory) {
+        return Collector.<U, Box<U>, Ubound<U>>of(
+                () -> new Box<>(null),
+                (box, unum) -> box.value = min(box.value, Ubound.create(unum)),
+                (a, b) -> {a.value = min(a.value, b.value); return a;},
+                box -> box.value != null ? box.value : Ubound.create(factory.qNaN())
+        );
+    }
+
+    /**
+     * Returns a collector for the maximum of unums, the maximum of an empty stream is qNaN.
+     * @param factory the unum factory
+     * @param <U> the unum type
+     * @return a collector returning the maximum ubound
+     */
+    public static <U extends Unum<U>> Collector<U, ?, Ubound<U>> max(final Factory<U> factory) {
+        return Collector.<U, Box<U>, Ubound<U>>of(
+                () -> new Box<>(null),
+                (box, unum) -> box.value = max(box.value, Ubound.create(unum)),
+                (a, b) -> {a.value = max(a.value, b.value); return a;},
+                box -> box.value != null ? box.value : Ubound.create(factory.qNaN())
+        );
+    }
+
+    public static <U extends Unum<U>> Collector<U, ?, UboundSummaryStatistics<U>> summaryStatistics(final Factory<U> factory) {
+        return Collector.of(
+                () -> new UboundSummaryStatistics<>(factory),
+                UboundSummaryStatistics::accept,
+                (a, b) -> {a.combine(b); return a;}
+        );
+    }
+
+    /**
+     * Returns the minimum of two ubounds; null stands for the minimum of no values.
+     */
+    static <U extends Unum<U>> Ubound<U> min(final Ubound<U> a, final Ubound<U> b) {
+        if (a == null | b == null) {
+            return a == null ? b : a;
+        }
+        if (a.isNaN() | b.isNaN()) {
+            return a.isNaN() ? a : b;
+        }
+        return Ubound.create(a.getLowerBound().min(b.getLowerBound()), a.getUpperBound().min(b.getUpperBound()));
+    }
+
+    /**
+     * Returns the maximum of two ubounds; null stands for the maximum of no values.
+     */
+    static <U extends Unum<U>> Ubound<U> max(final Ubound<U> a, final Ubound<U> b) {
+        if (a == null | b == null) {
+            return a == null ? b : a;
+        }
+        if (a.isNaN() | b.isNaN()) {
+            return a.isNaN() ? a : b;
+        }
+        return Ubound.create(a.getLowerBound().max(b.getLowerBound()), a.getUpperBound().max(b.getUpperBound()));
+    }
+
+    /**
+     * Returns the sum of unums in DoubleUnum encoding.
+     * @param unums the stream of unums, possibly parallel
+     * @return the ubound enclosing the sum
+     */
+    public static Ubound<DoubleUnum> sum(final DoubleStream unums) {
+        return unums.collect(() -> new DoubleBound(0, 0), DoubleBound::add, DoubleBound::add).toUbound();
+    }
+
+    public static Ubound<DoubleUnum> product(final DoubleStream unums) {
+        return unums.collect(() -> new DoubleBound(1, 1), DoubleBound::multiply, DoubleBound::multiply).toUbound();
+    }
+
+    public static Ubound<DoubleUnum> min(final DoubleStream unums) {
+        return unums.collect(DoubleBound::empty, DoubleBound::min, DoubleBound::min).toUbound();
+    }
+
+    public static Ubound<DoubleUnum> max(final DoubleStream unums) {
+        return unums.collect(DoubleBound::empty, DoubleBound::max, DoubleBound::max).toUbound();
+    }
+
+    public static UboundSummaryStatistics<DoubleUnum> summaryStatistics(final DoubleStream unums) {
+        return unums.collect(DoubleStatistics::new, DoubleStatistics::accept, DoubleStatistics::combine).toSummaryStatistics();
+    }
+
+    public static Ubound<DoubleUnum> sum(final double[] unums) {
+        final DoubleBound sum = new DoubleBound(0, 0);
+        for (final double unum : unums) {
+            sum.add(unum);
+        }
+        return sum.toUbound();
+    }
+
+    public static Ubound<DoubleUnum> product(final double[] unums) {
+        final DoubleBound product = new DoubleBound(1, 1);
+        for (final double unum : unums) {
+            product.multiply(unum);
+        }
+        return product.toUbound();
+    }
+
+    public static Ubound<DoubleUnum> min(final double[] unums) {
+        final DoubleBound min = DoubleBound.empty();
+        for (final double unum : unums) {
+            min.min(unum);
+        }
+        return min.toUbound();
+    }
+
+    public static Ubound<DoubleUnum> max(final double[] unums) {
+        final DoubleBound max = DoubleBound.empty();
+        for (final double unum : unums) {
+            max.max(unum);
+        }
+        return max.toUbound();
+    }
+
+    public static UboundSummaryStatistics<DoubleUnum> summaryStatistics(final double[] unums) {
+        final DoubleStatistics statistics = new DoubleStatistics();
+        for (final double unum : unums) {
+            statistics.accept(unum);
+        }
+        return statistics.toSummaryStatistics();
+    }
+
+    public static Ubound<DoubleUnum> parallelMin(final double[] unums) {
+        return min(Arrays.stream(unums).parallel());
+    }
+
+    public static Ubound<DoubleUnum> parallelMax(final double[] unums) {
+        return max(Arrays.stream(unums).parallel());
+    }
+
+    /**
+     * Returns the summary statistics of unums in DoubleUnum encoding, reducing index ranges of the array in parallel.
+     * Count, min and max are exact, the sum may differ in width depending on the split order; use
+     * {@link UnumReductions#sum(double[])} for a sum independent of the parallelism.
+     * @param unums the unums
+     * @return the summary statistics
+     */
+    public static UboundSummaryStatistics<DoubleUnum> parallelSummaryStatistics(final double[] unums) {
+        return summaryStatistics(Arrays.stream(unums).parallel());
+    }
+
+    /**
+     * Returns the sum of unums in SingleUnum encoding.
+     * @param unums the unums
+     * @return the ubound enclosing the sum
+     */
+    public static Ubound<SingleUnum> sum(final float[] unums) {
+        final FloatBound sum = new FloatBound(0, 0);
+        for (final float unum : unums) {
+            sum.add(unum);
+        }
+        return sum.toUbound();
+    }
+
+    public static Ubound<SingleUnum> product(final float[] unums) {
+        final FloatBound product = new FloatBound(1, 1);
+        for (final float unum : unums) {
+            product.multiply(unum);
+        }
+        return product.toUbound();
+    }
+
+    public static Ubound<SingleUnum> min(final float[] unums) {
+        final FloatBound min = FloatBound.empty();
+        for (final float unum : unums) {
+            min.min(unum);
+        }
+        return min.toUbound();
+    }
+
+    public static Ubound<SingleUnum> max(final float[] unums) {
+        final FloatBound max = FloatBound.empty();
+        for (final float unum : unums) {
+            max.max(unum);
+        }
+        return max.toUbound();
+    }
+
+    public static UboundSummaryStatistics<SingleUnum> summaryStatistics(final float[] unums) {
+        final FloatStatistics statistics = new FloatStatistics();
+        for (final float unum : unums) {
+            statistics.accept(unum);
+        }
+        return statistics.toSummaryStatistics();
+    }
+
+    public static Ubound<SingleUnum> parallelMin(final float[] unums) {
+        return indices(unums).collect(FloatBound::empty, (min, i) -> min.min(unums[i]), FloatBound::min).toUbound();
+    }
+
+    public static Ubound<SingleUnum> parallelMax(final float[] unums) {
+        return indices(unums).collect(FloatBound::empty, (max, i) -> max.max(unums[i]), FloatBound::max).toUbound();
+    }
+
+    /**
+     * Returns the summary statistics of unums in SingleUnum encoding, reducing index ranges of the array in parallel.
+     * Count, min and max are exact, the sum may differ in width depending on the split order; use
+     * {@link UnumReductions#sum(float[])} for a sum independent of the parallelism.
+     * @param unums the unums
+     * @return the summary statistics
+     */
+    public static UboundSummaryStatistics<SingleUnum> parallelSummaryStatistics(final float[] unums) {
+        return indices(unums).collect(FloatStatistics::new, (statistics, i) -> statistics.accept(unums[i]),
+                FloatStatistics::combine).toSummaryStatistics();
+    }
+
+    //float arrays have no primitive stream, the parallel index stream splits the array into index ranges
+    private static IntStream indices(final float[] unums) {
+        return IntStream.range(0, unums.length).parallel();
+    }
+
+    private static final class Box<U extends Unum<U>> {
+        Ubound<U> value;
+        Box(final Ubound<U> value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Mutable ubound with lower and upper unum in DoubleUnum encoding; min and max start empty with qNaN.
+     */
+    private static final class DoubleBound {
+        double lower;
+        double upper;
+        boolean empty;
+
+        DoubleBound(final double lower, final double upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        static DoubleBound empty() {
+            final DoubleBound bound = new DoubleBound(Doubles.QNAN, Doubles.QNAN);
+            bound.empty = true;
+            return bound;
+        }
+
+        void add(final double unum) {
+            lower = DoubleUnum.addLower(lower, unum);
+            upper = DoubleUnum.addUpper(upper, unum);
+        }
+
+        void add(final DoubleBound other) {
+            lower = DoubleUnum.addLower(lower, other.lower);
+            upper = DoubleUnum.addUpper(upper, other.upper);
+        }
+
+        void multiply(final double unum) {
+            multiply(unum, unum);
+        }
+
+        void multiply(final DoubleBound other) {
+            multiply(other.lower, other.upper);
+        }
+
+        private void multiply(final double otherLower, final double otherUpper) {
+            final double l = DoubleUnum.multiplyLower(lower, upper, otherLower, otherUpper);
+            upper = DoubleUnum.multiplyUpper(lower, upper, otherLower, otherUpper);
+            lower = l;
+        }
+
+        void min(final double unum) {
+            min(unum, unum, false);
+        }
+
+        void min(final DoubleBound other) {
+            min(other.lower, other.upper, other.empty);
+        }
+
+        private void min(final double otherLower, final double otherUpper, final boolean otherEmpty) {
+            if (otherEmpty || isNaN()) {
+                return;
+            }
+            if (empty | Double.isNaN(otherLower) | Double.isNaN(otherUpper)) {
+                lower = otherLower;
+                upper = otherUpper;
+                empty = false;
+                return;
+            }
+            lower = DoubleUnum.min(lower, otherLower);
+            upper = DoubleUnum.min(upper, otherUpper);
+        }
+
+        void max(final double unum) {
+            max(unum, unum, false);
+        }
+
+        void max(final DoubleBound other) {
+            max(other.lower, other.upper, other.empty);
+        }
+
+        private void max(final double otherLower, final double otherUpper, final boolean otherEmpty) {
+            if (otherEmpty || isNaN()) {
+                return;
+            }
+            if (empty | Double.isNaN(otherLower) | Double.isNaN(otherUpper)) {
+                lower = otherLower;
+                upper = otherUpper;
+                empty = false;
+                return;
+            }
+            lower = DoubleUnum.max(lower, otherLower);
+            upper = DoubleUnum.max(upper, otherUpper);
+        }
+
+        private boolean isNaN() {
+            return !empty & (Double.isNaN(lower) | Double.isNaN(upper));
+        }
+
+        Ubound<DoubleUnum> toUbound() {
+            return Ubound.create(DoubleUnum.valueOf(lower), DoubleUnum.valueOf(upper));
+        }
+    }
+
+    private static final class DoubleStatistics {
+        long count;
+        final DoubleBound sum = new DoubleBound(0, 0);
+        final DoubleBound min = DoubleBound.empty();
+        final DoubleBound max = DoubleBound.empty();
+
+        void accept(final double unum) {
+            count++;
+            sum.add(unum);
+            min.min(unum);
+            max.max(unum);
+        }
+
+        void combine(final DoubleStatistics other) {
+            count += other.count;
+            sum.add(other.sum);
+            min.min(other.min);
+            max.max(other.max);
+        }
+
+        UboundSummaryStatistics<DoubleUnum> toSummaryStatistics() {
+            return new UboundSummaryStatistics<>(DoubleUnum.FACTORY, count, sum.toUbound(),
+                    min.empty ? null : min.toUbound(), max.empty ? null : max.toUbound());
+        }
+    }
+
+    /**
+     * Mutable ubound with lower and upper unum in SingleUnum encoding; min and max start empty with qNaN.
+     */
+    private static final class FloatBound {
+        float lower;
+        float upper;
+        boolean empty;
+
+        FloatBound(final float lower, final float upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        static FloatBound empty() {
+            final FloatBound bound = new FloatBound(Singles.QNAN, Singles.QNAN);
+            bound.empty = true;
+            return bound;
+        }
+
+        void add(final float unum) {
+            lower = SingleUnum.addLower(lower, unum);
+            upper = SingleUnum.addUpper(upper, unum);
+        }
+
+        void add(final FloatBound other) {
+            lower = SingleUnum.addLower(lower, other.lower);
+            upper = SingleUnum.addUpper(upper, other.upper);
+        }
+
+        void multiply(final float unum) {
+            final float l = SingleUnum.multiplyLower(lower, upper, unum, unum);
+            upper = SingleUnum.multiplyUpper(lower, upper, unum, unum);
+            lower = l;
+        }
+
+        void min(final float unum) {
+            min(unum, unum, false);
+        }
+
+        void min(final FloatBound other) {
+            min(other.lower, other.upper, other.empty);
+        }
+
+        private void min(final float otherLower, final float otherUpper, final boolean otherEmpty) {
+            if (otherEmpty || isNaN()) {
+                return;
+            }
+            if (empty | Float.isNaN(otherLower) | Float.isNaN(otherUpper)) {
+                lower = otherLower;
+                upper = otherUpper;
+                empty = false;
+                return;
+            }
+            lower = SingleUnum.min(lower, otherLower);
+            upper = SingleUnum.min(upper, otherUpper);
+        }
+
+        void max(final float unum) {
+            max(unum, unum, false);
+        }
+
+        void max(final FloatBound other) {
+            max(other.lower, other.upper, other.empty);
+        }
+
+        private void max(final float otherLower, final float otherUpper, final boolean otherEmpty) {
+            if (otherEmpty || isNaN()) {
+                return;
+            }
+            if (empty | Float.isNaN(otherLower) | Float.isNaN(otherUpper)) {
+                lower = otherLower;
+                upper = otherUpper;
+                empty = false;
+                return;
+            }
+            lower = SingleUnum.max(lower, otherLower);
+            upper = SingleUnum.max(upper, otherUpper);
+        }
+
+        private boolean isNaN() {
+            return !empty & (Float.isNaN(lower) | Float.isNaN(upper));
+        }
+
+        Ubound<SingleUnum> toUbound() {
+            return Ubound.create(SingleUnum.valueOf(lower), SingleUnum.valueOf(upper));
+        }
+    }
+
+    private static final class FloatStatistics {
+        long count;
+        final FloatBound sum = new FloatBound(0, 0);
+        final FloatBound min = FloatBound.empty();
+        final FloatBound max = FloatBound.empty();
+
+        void accept(final float unum) {
+            count++;
+            sum.add(unum);
+            min.min(unum);
+            max.max(unum);
+        }
+
+        void combine(final FloatStatistics other) {
+            count += other.count;
+            sum.add(other.sum);
+            min.min(other.min);
+            max.max(other.max);
+        }
+
+        UboundSummaryStatistics<SingleUnum> toSummaryStatistics() {
+            return new UboundSummaryStatistics<>(SingleUnum.FACTORY, count, sum.toUbound(),
+                    min.empty ? null : min.toUbound(), max.empty ? null : max.toUbound());
+        }
+    }
+}
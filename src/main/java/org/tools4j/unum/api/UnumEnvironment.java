@@ -0,0 +1,300 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+/**
+ * A unum environment defined by the number of bits used for the exponent size and the fraction size in the utag,
+ * like {@code setenv[{esizesize, fsizesize}]} in Gustafson's prototype. The environment limits the exponent size of
+ * {@link LongUnum} values to {@code 2^exponentSizeSize} and the fraction size to {@code 2^fractionSizeSize} bits.
+ * <p>
+ * Bias, range and utag layout of the environment are computed once when the environment is created, and arithmetic
+ * performed through the environment returns unums with the fewest bits that fit into the environment. Like in the
+ * prototype, the unums with maximum exponent and fraction size and all exponent and fraction bits set are reserved
+ * for infinity (exact) and NaN (inexact) when written in the layout of the environment, see {@link UnumBitWriter}.
+ * Magnitudes beyond maxreal of the environment are returned as the inexact unum (maxreal, inf) of the environment,
+ * the unum with all bits set except for the last fraction bit. As infinity has a single encoding in LongUnum, this
+ * unum denotes (maxreal, inf) only in arithmetic performed through the environment; read with the LongUnum methods
+ * its upper bound is the finite bit pattern reserved for infinity.
+ */
+public final class UnumEnvironment {
+
+    public static final int MAX_EXPONENT_SIZE_SIZE = 4;
+    public static final int MAX_FRACTION_SIZE_SIZE = 6;
+
+    //bias by exponent size
+    private static final int[] BIAS = new int[(1 << MAX_EXPONENT_SIZE_SIZE) + 1];
+    static {
+        for (int exponentSize = 1; exponentSize < BIAS.length; exponentSize++) {
+            BIAS[exponentSize] = (1 << (exponentSize - 1)) - 1;
+        }
+    }
+
+    private static final UnumEnvironment[] ENVIRONMENTS = new UnumEnvironment[(MAX_EXPONENT_SIZE_SIZE + 1) * (MAX_FRACTION_SIZE_SIZE + 1)];
+    static {
+        for (int exponentSizeSize = 0; exponentSizeSize <= MAX_EXPONENT_SIZE_SIZE; exponentSizeSize++) {
+            for (int fractionSizeSize = 0; fractionSizeSize <= MAX_FRACTION_SIZE_SIZE; fractionSizeSize++) {
+                ENVIRONMENTS[index(exponentSizeSize, fractionSizeSize)] = new UnumEnvironment(exponentSizeSize, fractionSizeSize);
+            }
+        }
+    }
+
+    /** The environment with 16 exponent bits and 64 fraction bits used by the LongUnum arithmetic methods */
+    public static final UnumEnvironment LARGEST = get(MAX_EXPONENT_SIZE_SIZE, MAX_FRACTION_SIZE_SIZE);
+
+    private final int exponentSizeSize;
+    private final int fractionSizeSize;
+    private final int maxExponentSize;
+    private final int maxFractionSize;
+    private final int utagSize;
+    private final int maxUbits;
+    private final int minNormalExponent;
+    private final int maxNormalExponent;
+    private final long maxFraction;
+    private final LongUnum maxReal;
+    private final LongUnum smallestSubnormal;
+    private final LongUnum overflow;
+    private final LongUnum negativeOverflow;
+
+    private UnumEnvironment(final int exponentSizeSize, final int fractionSizeSize) {
+        this.exponentSizeSize = exponentSizeSize;
+        this.fractionSizeSize = fractionSizeSize;
+        this.maxExponentSize = 1 << exponentSizeSize;
+        this.maxFractionSize = 1 << fractionSizeSize;
+        this.utagSize = 1 + exponentSizeSize + fractionSizeSize;
+        this.maxUbits = 1 + maxExponentSize + maxFractionSize + utagSize;
+        this.minNormalExponent = 1 - BIAS[maxExponentSize];
+        this.maxNormalExponent = (1 << maxExponentSize) - 1 - BIAS[maxExponentSize];
+        this.maxFraction = maxFractionSize == 64 ? -1L : (1L << maxFractionSize) - 1;
+        this.maxReal = LongUnum.valueOf(LongUnum.pack((byte)0, (1 << maxExponentSize) - 1, (byte)0, (byte)maxExponentSize, (byte)maxFractionSize),
+                maxFraction - 1);
+        this.smallestSubnormal = LongUnum.valueOf(LongUnum.pack((byte)0, 0, (byte)0, (byte)maxExponentSize, (byte)maxFractionSize), 1);
+        this.overflow = LongUnum.valueOf(LongUnum.pack((byte)0, (1 << maxExponentSize) - 1, (byte)1, (byte)maxExponentSize, (byte)maxFractionSize),
+                maxFraction - 1);
+        this.negativeOverflow = overflow.negate();
+    }
+
+    private static int index(final int exponentSizeSize, final int fractionSizeSize) {
+        return exponentSizeSize * (MAX_FRACTION_SIZE_SIZE + 1) + fractionSizeSize;
+    }
+
+    /**
+     * Returns the environment for the given utag field sizes.
+     * @param exponentSizeSize the number of bits for the exponent size, 0 to 4
+     * @param fractionSizeSize the number of bits for the fraction size, 0 to 6
+     * @return the environment
+     * @throws IllegalArgumentException if exponentSizeSize or fractionSizeSize is out of range
+     */
+    public static UnumEnvironment get(final int exponentSizeSize, final int fractionSizeSize) {
+        if (exponentSizeSize < 0 | exponentSizeSize > MAX_EXPONENT_SIZE_SIZE) {
+            throw new IllegalArgumentException("invalid exponentSizeSize: " + exponentSizeSize);
+        }
+        if (fractionSizeSize < 0 | fractionSizeSize > MAX_FRACTION_SIZE_SIZE) {
+            throw new IllegalArgumentException("invalid fractionSizeSize: " + fractionSizeSize);
+        }
+        return ENVIRONMENTS[index(exponentSizeSize, fractionSizeSize)];
+    }
+
+    static int bias(final int exponentSize) {
+        return BIAS[exponentSize];
+    }
+
+    public int exponentSizeSize() {
+        return exponentSizeSize;
+    }
+
+    public int fractionSizeSize() {
+        return fractionSizeSize;
+    }
+
+    public int maxExponentSize() {
+        return maxExponentSize;
+    }
+
+    public int maxFractionSize() {
+        return maxFractionSize;
+    }
+
+    /**
+     * Returns the number of utag bits: ubit, exponent size and fraction size.
+     * @return the utag size in bits
+     */
+    public int utagSize() {
+        return utagSize;
+    }
+
+    /**
+     * Returns the maximum number of bits of a unum including its utag.
+     * @return the maximum unum size in bits
+     */
+    public int maxUbits() {
+        return maxUbits;
+    }
+
+    /**
+     * Returns the largest finite exact unum of this environment.
+     * @return the largest finite unum
+     */
+    public LongUnum maxReal() {
+        return maxReal;
+    }
+
+    /**
+     * Returns the smallest positive exact unum of this environment.
+     * @return the smallest subnormal unum
+     */
+    public LongUnum smallestSubnormal() {
+        return smallestSubnormal;
+    }
+
+    /**
+     * Returns the inexact unum (maxreal, inf) of this environment, or (-inf, -maxreal) if negative is true.
+     * @param negative true for the negative unum
+     * @return the unum for magnitudes beyond maxreal
+     */
+    public LongUnum overflow(final boolean negative) {
+        return negative ? negativeOverflow : overflow;
+    }
+
+    /**
+     * Returns true if the given unum is (maxreal, inf) or (-inf, -maxreal) of this environment.
+     */
+    boolean isOverflow(final LongUnum unum) {
+        return unum.packed() == overflow.packed() | unum.packed() == negativeOverflow.packed()
+                && unum.fraction() == overflow.fraction();
+    }
+
+    //normalized exponent range of the normal unums with the largest exponent size, see LongUnum
+    int minNormalExponent() {
+        return minNormalExponent;
+    }
+
+    int maxNormalExponent() {
+        return maxNormalExponent;
+    }
+
+    /**
+     * Returns true if the given unum can be represented in this environment, that is, if its exponent and fraction
+     * size fit and if it is not a finite unum with the bit pattern reserved for infinity and NaN.
+     * @param unum the unum to check
+     * @return true if the unum can be represented in this environment
+     */
+    public boolean fits(final LongUnum unum) {
+        return fits(unum.packed(), unum.fraction());
+    }
+
+    boolean fits(final long packed, final long fraction) {
+        if (LongUnum.isNaN(packed, fraction) | LongUnum.isInfinite(packed, fraction)) {
+            return true;
+        }
+        return LongUnum.exponentSize(packed) <= maxExponentSize & LongUnum.fractionSize(packed) <= maxFractionSize
+                & !isReserved(packed, fraction);
+    }
+
+    /**
+     * Returns true if the given finite unum has the bit pattern reserved for infinity and NaN in this environment.
+     */
+    boolean isReserved(final long packed, final long fraction) {
+        return this != LARGEST & fraction == maxFraction & LongUnum.fractionSize(packed) == maxFractionSize
+                & LongUnum.exponentSize(packed) == maxExponentSize & LongUnum.exponent(packed) == (1 << maxExponentSize) - 1;
+    }
+
+    /**
+     * Returns the fraction with all bits set for the largest fraction size.
+     */
+    long maxFraction() {
+        return maxFraction;
+    }
+
+    /**
+     * Returns the utag of the given unum, the ubit followed by exponent size minus one and fraction size minus one.
+     * @param unum the unum
+     * @return the utag bits of unum in this environment
+     * @throws IllegalArgumentException if unum does not fit into this environment
+     */
+    public int utag(final LongUnum unum) {
+        if (!fits(unum)) {
+            throw new IllegalArgumentException("unum does not fit into environment " + this + ": " + unum);
+        }
+        final long packed = unum.packed();
+        final int sizes = unum.isNaN() | unum.isInfinite() ? (1 << (exponentSizeSize + fractionSizeSize)) - 1 :
+                ((LongUnum.exponentSize(packed) - 1) << fractionSizeSize) | (LongUnum.fractionSize(packed) - 1);
+        return (LongUnum.ubit(packed) << (exponentSizeSize + fractionSizeSize)) | sizes;
+    }
+
+    /**
+     * Returns the number of bits of the given unum including its utag.
+     * @param unum the unum
+     * @return the size of unum in bits in this environment
+     * @throws IllegalArgumentException if unum does not fit into this environment
+     */
+    public int ubits(final LongUnum unum) {
+        if (!fits(unum)) {
+            throw new IllegalArgumentException("unum does not fit into environment " + this + ": " + unum);
+        }
+        if (unum.isNaN() | unum.isInfinite()) {
+            return maxUbits;
+        }
+        final long packed = unum.packed();
+        return 1 + LongUnum.exponentSize(packed) + LongUnum.fractionSize(packed) + utagSize;
+    }
+
+    public LongUnum valueOf(final long value) {
+        return LongUnum.valueOf(value, this);
+    }
+
+    public LongUnum valueOf(final double value) {
+        return LongUnum.valueOf(value, this);
+    }
+
+    /**
+     * Returns the given unum if it fits into this environment, otherwise the unum with the fewest bits in this
+     * environment containing it, or qNaN if no such unum exists.
+     * @param unum the unum to convert
+     * @return the unum in this environment
+     */
+    public LongUnum round(final LongUnum unum) {
+        return LongUnum.round(unum, this);
+    }
+
+    public LongUnum add(final LongUnum a, final LongUnum b) {
+        return LongUnum.add(a, b, this);
+    }
+
+    public LongUnum subtract(final LongUnum a, final LongUnum b) {
+        return LongUnum.add(a, b.negate(), this);
+    }
+
+    public LongUnum multiply(final LongUnum a, final LongUnum b) {
+        return LongUnum.multiply(a, b, this);
+    }
+
+    public LongUnum divide(final LongUnum a, final LongUnum b) {
+        return LongUnum.divide(a, b, this);
+    }
+
+    @Override
+    public String toString() {
+        return "{" + exponentSizeSize + ", " + fractionSizeSize + "}";
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel fork-join reductions of unum arrays with results independent of the pool parallelism. The reduction tree
+ * has a fixed shape determined only by the array length: the array is split into blocks of {@link #BLOCK_SIZE} unums
+ * reduced sequentially from left to right, and the block results are combined in a balanced binary tree. The
+ * enclosure returned for a given array is therefore bit-identical for any pool and number of threads, including the
+ * sequential case.
+ * <p>
+ * Min and max reductions are not provided here as they are exact and hence order independent already, see
+ * {@link UnumCollectors}.
+ */
+public final class UnumReductions {
+
+    /** Number of unums reduced sequentially by a leaf of the reduction tree */
+    public static final int BLOCK_SIZE = 4096;
+
+    private UnumReductions() {
+        throw new RuntimeException("No UnumReductions for you!");
+    }
+
+    public static Ubound<DoubleUnum> sum(final double[] unums) {
+        return sum(unums, ForkJoinPool.commonPool());
+    }
+
+    public static Ubound<DoubleUnum> sum(final double[] unums, final ForkJoinPool pool) {
+        return new DoubleReduction(unums, 0, unums.length, false).invoke(pool);
+    }
+
+    public static Ubound<DoubleUnum> product(final double[] unums) {
+        return product(unums, ForkJoinPool.commonPool());
+    }
+
+    public static Ubound<DoubleUnum> product(final double[] unums, final ForkJoinPool pool) {
+        return new DoubleReduction(unums, 0, unums.length, true).invoke(pool);
+    }
+
+    public static Ubound<SingleUnum> sum(final float[] unums) {
+        return sum(unums, ForkJoinPool.commonPool());
+    }
+
+    public static Ubound<SingleUnum> sum(final float[] unums, final ForkJoinPool pool) {
+        return new FloatReduction(unums, 0, unums.length, false).invoke(pool);
+    }
+
+    public static Ubound<SingleUnum> product(final float[] unums) {
+        return product(unums, ForkJoinPool.commonPool());
+    }
+
+    public static Ubound<SingleUnum> product(final float[] unums, final ForkJoinPool pool) {
+        return new FloatReduction(unums, 0, unums.length, true).invoke(pool);
+    }
+
+    /**
+     * Returns the split index for the range from start (inclusive) to end (exclusive) at a block boundary, or -1 if
+     * the range is a single block.
+     */
+    private static int split(final int start, final int end) {
+        final int blocks = (int)((end - (long)start + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        return blocks <= 1 ? -1 : start + (blocks >>> 1) * BLOCK_SIZE;
+    }
+
+    private static final class DoubleReduction extends RecursiveAction {
+        private final double[] unums;
+        private final int start;
+        private final int end;
+        private final boolean product;
+        private double lower;
+        private double upper;
+
+        DoubleReduction(final double[] unums, final int start, final int end, final boolean product) {
+            this.unums = unums;
+            this.start = start;
+            this.end = end;
+            this.product = product;
+        }
+
+        Ubound<DoubleUnum> invoke(final ForkJoinPool pool) {
+            if (split(start, end) < 0) {
+                compute();
+            } else {
+                pool.invoke(this);
+            }
+            return Ubound.create(DoubleUnum.valueOf(lower), DoubleUnum.valueOf(upper));
+        }
+
+        @Override
+        protected void compute() {
+            final int mid = split(start, end);
+            if (mid < 0) {
+                lower = product ? 1 : 0;
+                upper = lower;
+                for (int i = start; i < end; i++) {
+                    combine(unums[i], unums[i]);
+                }
+                return;
+            }
+            final DoubleReduction left = new DoubleReduction(unums, start, mid, product);
+            final DoubleReduction right = new DoubleReduction(unums, mid, end, product);
+            left.fork();
+            right.compute();
+            left.join();
+            lower = left.lower;
+            upper = left.upper;
+            combine(right.lower, right.upper);
+        }
+
+        private void combine(final double otherLower, final double otherUpper) {
+            if (product) {
+                final double l = DoubleUnum.multiplyLower(lower, upper, otherLower, otherUpper);
+                upper = DoubleUnum.multiplyUpper(lower, upper, otherLower, otherUpper);
+                lower = l;
+            } else {
+                lower = DoubleUnum.addLower(lower, otherLower);
+                upper = DoubleUnum.addUpper(upper, otherUpper);
+            }
+        }
+    }
+
+    private static final class FloatReduction extends RecursiveAction {
+        private final float[] unums;
+        private final int start;
+        private final int end;
+        private final boolean product;
+        private float lower;
+        private float upper;
+
+        FloatReduction(final float[] unums, final int start, final int end, final boolean product) {
+            this.unums = unums;
+            this.start = start;
+            this.end = end;
+            this.product = product;
+        }
+
+        Ubound<SingleUnum> invoke(final ForkJoinPool pool) {
+            if (split(start, end) < 0) {
+                compute();
+            } else {
+                pool.invoke(this);
+            }
+            return Ubound.create(SingleUnum.valueOf(lower), SingleUnum.valueOf(upper));
+        }
+
+        @Override
+        protected void compute() {
+            final int mid = split(start, end);
+            if (mid < 0) {
+                lower = product ? 1 : 0;
+                upper = lower;
+                for (int i = start; i < end; i++) {
+                    combine(unums[i], unums[i]);
+                }
+                return;
+            }
+            final FloatReduction left = new FloatReduction(unums, start, mid, product);
+            final FloatReduction right = new FloatReduction(unums, mid, end, product);
+            left.fork();
+            right.compute();
+            left.join();
+            lower = left.lower;
+            upper = left.upper;
+            combine(right.lower, right.upper);
+        }
+
+        private void combine(final float otherLower, final float otherUpper) {
+            if (product) {
+                final float l = SingleUnum.multiplyLower(lower, upper, otherLower, otherUpper);
+                upper = SingleUnum.multiplyUpper(lower, upper, otherLower, otherUpper);
+                lower = l;
+            } else {
+                lower = SingleUnum.addLower(lower, otherLower);
+                upper = SingleUnum.addUpper(upper, otherUpper);
+            }
+        }
+    }
+}
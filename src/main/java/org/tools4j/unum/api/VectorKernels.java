@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+/**
+ * Hook for vectorized bulk kernels of {@link SingleUnumArray} and {@link DoubleUnumArray}. Every kernel returns the
+ * number of leading elements it has processed, the caller processes the remaining elements with scalar code.
+ * <p>
+ * This Java 8 version processes no elements. The multi-release jar replaces it on Java 17 and later with a version
+ * using the Vector API if module {@code jdk.incubator.vector} is present, for instance via
+ * {@code --add-modules jdk.incubator.vector}.
+ */
+final class VectorKernels {
+
+    private VectorKernels() {
+        throw new RuntimeException("No VectorKernels for you!");
+    }
+
+    static int add(final double[] a, final double[] b, final double[] result) {
+        return 0;
+    }
+
+    static int multiply(final double[] a, final double[] b, final double[] result) {
+        return 0;
+    }
+
+    static int negate(final double[] a, final double[] result) {
+        return 0;
+    }
+
+    static int abs(final double[] a, final double[] result) {
+        return 0;
+    }
+
+    static int min(final double[] a, final double[] b, final double[] result) {
+        return 0;
+    }
+
+    static int max(final double[] a, final double[] b, final double[] result) {
+        return 0;
+    }
+
+    static int compare(final double[] a, final double[] b, final int[] result) {
+        return 0;
+    }
+
+    static int lowerBound(final double[] a, final double[] result) {
+        return 0;
+    }
+
+    static int upperBound(final double[] a, final double[] result) {
+        return 0;
+    }
+
+    static int add(final float[] a, final float[] b, final float[] result) {
+        return 0;
+    }
+
+    static int multiply(final float[] a, final float[] b, final float[] result) {
+        return 0;
+    }
+
+    static int negate(final float[] a, final float[] result) {
+        return 0;
+    }
+
+    static int abs(final float[] a, final float[] result) {
+        return 0;
+    }
+
+    static int min(final float[] a, final float[] b, final float[] result) {
+        return 0;
+    }
+
+    static int max(final float[] a, final float[] b, final float[] result) {
+        return 0;
+    }
+
+    static int compare(final float[] a, final float[] b, final int[] result) {
+        return 0;
+    }
+
+    static int lowerBound(final float[] a, final float[] result) {
+        return 0;
+    }
+
+    static int upperBound(final float[] a, final float[] result) {
+        return 0;
+    }
+}
@@ -0,0 +1,364 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.GE;
+import static jdk.incubator.vector.VectorOperators.IS_FINITE;
+import static jdk.incubator.vector.VectorOperators.IS_NAN;
+import static jdk.incubator.vector.VectorOperators.NE;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+/**
+ * Bulk kernels for {@link SingleUnumArray} and {@link DoubleUnumArray} using the incubating Vector API, only loaded
+ * by {@link VectorKernels} if module {@code jdk.incubator.vector} is present. The ubit is the least significant bit
+ * of every lane, hence exactness checks, bound extraction and the rounding direction of exact results are lane-wise
+ * bit operations. Arithmetic is vectorized for the common case of exact finite operands with a finite result, the
+ * rounding error is computed exactly with a fused multiply-add or Knuth's TwoSum. A vector with any other lane is
+ * processed by the scalar kernels, and so is the tail of an array shorter than a full vector.
+ */
+final class IncubatorKernels {
+
+    private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> DL = D.withLanes(long.class);
+    private static final VectorSpecies<Integer> DI = D.length() < 2 ? null :
+            VectorSpecies.of(int.class, VectorShape.forBitSize(D.vectorBitSize() / 2));
+    private static final VectorSpecies<Float> F = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> FI = F.withLanes(int.class);
+
+    //the fma error of products with factors in the safe range is exact
+    private static final double MAX_SAFE_DOUBLE = 0x1p479;
+    private static final double MIN_SAFE_DOUBLE = 0x1p-479;
+    private static final float MAX_SAFE_FLOAT = 0x1p40f;
+    private static final float MIN_SAFE_FLOAT = 0x1p-40f;
+
+    private IncubatorKernels() {
+        throw new RuntimeException("No IncubatorKernels for you!");
+    }
+
+    static int add(final double[] a, final double[] b, final double[] result) {
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            final DoubleVector va = DoubleVector.fromArray(D, a, i);
+            final DoubleVector vb = DoubleVector.fromArray(D, b, i);
+            final DoubleVector s = va.add(vb);
+            if (ubitClear(va).and(ubitClear(vb)).and(s.test(IS_FINITE).cast(DL)).allTrue()) {
+                //TwoSum
+                final DoubleVector bb = s.sub(va);
+                final DoubleVector error = va.sub(s.sub(bb)).add(vb.sub(bb));
+                enclose(s, error).intoArray(result, i);
+            } else {
+                for (int j = i; j < i + D.length(); j++) {
+                    result[j] = DoubleUnum.add(a[j], b[j]);
+                }
+            }
+        }
+        return length;
+    }
+
+    static int multiply(final double[] a, final double[] b, final double[] result) {
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            final DoubleVector va = DoubleVector.fromArray(D, a, i);
+            final DoubleVector vb = DoubleVector.fromArray(D, b, i);
+            if (ubitClear(va).and(ubitClear(vb)).and(isSafe(va)).and(isSafe(vb)).allTrue()) {
+                final DoubleVector p = va.mul(vb);
+                enclose(p, va.fma(vb, p.neg())).intoArray(result, i);
+            } else {
+                for (int j = i; j < i + D.length(); j++) {
+                    result[j] = DoubleUnum.multiply(a[j], b[j]);
+                }
+            }
+        }
+        return length;
+    }
+
+    static int negate(final double[] a, final double[] result) {
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).reinterpretAsLongs().lanewise(XOR, Long.MIN_VALUE)
+                    .reinterpretAsDoubles().intoArray(result, i);
+        }
+        return length;
+    }
+
+    static int abs(final double[] a, final double[] result) {
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            final DoubleVector va = DoubleVector.fromArray(D, a, i);
+            va.blend(va.neg(), va.lt(0.0)).intoArray(result, i);
+        }
+        return length;
+    }
+
+    static int min(final double[] a, final double[] b, final double[] result) {
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            final DoubleVector va = DoubleVector.fromArray(D, a, i);
+            final DoubleVector vb = DoubleVector.fromArray(D, b, i);
+            if (va.test(IS_NAN).or(vb.test(IS_NAN)).anyTrue()) {
+                for (int j = i; j < i + D.length(); j++) {
+                    result[j] = DoubleUnum.min(a[j], b[j]);
+                }
+            } else {
+                va.blend(vb, vb.lt(va)).intoArray(result, i);
+            }
+        }
+        return length;
+    }
+
+    static int max(final double[] a, final double[] b, final double[] result) {
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            final DoubleVector va = DoubleVector.fromArray(D, a, i);
+            final DoubleVector vb = DoubleVector.fromArray(D, b, i);
+            if (va.test(IS_NAN).or(vb.test(IS_NAN)).anyTrue()) {
+                for (int j = i; j < i + D.length(); j++) {
+                    result[j] = DoubleUnum.max(a[j], b[j]);
+                }
+            } else {
+                va.blend(vb, va.lt(vb)).intoArray(result, i);
+            }
+        }
+        return length;
+    }
+
+    static int compare(final double[] a, final double[] b, final int[] result) {
+        if (DI == null) {
+            return 0;
+        }
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            final DoubleVector va = DoubleVector.fromArray(D, a, i);
+            final DoubleVector vb = DoubleVector.fromArray(D, b, i);
+            if (va.test(IS_NAN).or(vb.test(IS_NAN)).anyTrue()) {
+                for (int j = i; j < i + D.length(); j++) {
+                    result[j] = DoubleUnum.compare(a[j], b[j]);
+                }
+            } else {
+                IntVector.zero(DI).blend(-1, va.lt(vb).cast(DI)).blend(1, vb.lt(va).cast(DI)).intoArray(result, i);
+            }
+        }
+        return length;
+    }
+
+    static int lowerBound(final double[] a, final double[] result) {
+        return bound(a, result, -1);
+    }
+
+    static int upperBound(final double[] a, final double[] result) {
+        return bound(a, result, 1);
+    }
+
+    /**
+     * Moves inexact finite lanes to the adjacent exact value in the given direction, -1 for lower and 1 for upper.
+     */
+    private static int bound(final double[] a, final double[] result, final long direction) {
+        final int length = D.loopBound(result.length);
+        for (int i = 0; i < length; i += D.length()) {
+            final DoubleVector va = DoubleVector.fromArray(D, a, i);
+            final LongVector bits = va.reinterpretAsLongs();
+            final VectorMask<Long> inexact = ubitClear(va).not().andNot(va.test(IS_NAN).cast(DL));
+            final LongVector delta = LongVector.broadcast(DL, direction).blend(-direction, bits.lt(0L));
+            bits.add(delta, inexact).reinterpretAsDoubles().intoArray(result, i);
+        }
+        return length;
+    }
+
+    private static VectorMask<Long> ubitClear(final DoubleVector value) {
+        return value.reinterpretAsLongs().and(1L).compare(EQ, 0L);
+    }
+
+    private static VectorMask<Long> isSafe(final DoubleVector value) {
+        final DoubleVector abs = value.abs();
+        return abs.lt(MAX_SAFE_DOUBLE).and(abs.compare(GE, MIN_SAFE_DOUBLE).or(abs.eq(0.0))).cast(DL);
+    }
+
+    /**
+     * Vector version of {@link DoubleUnum#enclose(double, double)}: exact lanes with a non-zero error are moved to
+     * the adjacent inexact unum on the side of the error. Rounded values are non-zero if the error is non-zero.
+     */
+    private static DoubleVector enclose(final DoubleVector rounded, final DoubleVector error) {
+        final LongVector bits = rounded.reinterpretAsLongs();
+        final VectorMask<Long> adjust = error.compare(NE, 0.0).cast(DL).and(bits.and(1L).compare(EQ, 0L));
+        final VectorMask<Long> up = error.lt(0.0).cast(DL).eq(bits.lt(0L));
+        final LongVector delta = LongVector.broadcast(DL, -1L).blend(1L, up);
+        return bits.add(delta, adjust).reinterpretAsDoubles();
+    }
+
+    static int add(final float[] a, final float[] b, final float[] result) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            final FloatVector va = FloatVector.fromArray(F, a, i);
+            final FloatVector vb = FloatVector.fromArray(F, b, i);
+            final FloatVector s = va.add(vb);
+            if (ubitClear(va).and(ubitClear(vb)).and(s.test(IS_FINITE).cast(FI)).allTrue()) {
+                //TwoSum
+                final FloatVector bb = s.sub(va);
+                final FloatVector error = va.sub(s.sub(bb)).add(vb.sub(bb));
+                enclose(s, error).intoArray(result, i);
+            } else {
+                for (int j = i; j < i + F.length(); j++) {
+                    result[j] = SingleUnum.add(a[j], b[j]);
+                }
+            }
+        }
+        return length;
+    }
+
+    static int multiply(final float[] a, final float[] b, final float[] result) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            final FloatVector va = FloatVector.fromArray(F, a, i);
+            final FloatVector vb = FloatVector.fromArray(F, b, i);
+            if (ubitClear(va).and(ubitClear(vb)).and(isSafe(va)).and(isSafe(vb)).allTrue()) {
+                final FloatVector p = va.mul(vb);
+                enclose(p, va.fma(vb, p.neg())).intoArray(result, i);
+            } else {
+                for (int j = i; j < i + F.length(); j++) {
+                    result[j] = SingleUnum.multiply(a[j], b[j]);
+                }
+            }
+        }
+        return length;
+    }
+
+    static int negate(final float[] a, final float[] result) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            FloatVector.fromArray(F, a, i).reinterpretAsInts().lanewise(XOR, Integer.MIN_VALUE)
+                    .reinterpretAsFloats().intoArray(result, i);
+        }
+        return length;
+    }
+
+    static int abs(final float[] a, final float[] result) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            final FloatVector va = FloatVector.fromArray(F, a, i);
+            va.blend(va.neg(), va.lt(0.0f)).intoArray(result, i);
+        }
+        return length;
+    }
+
+    static int min(final float[] a, final float[] b, final float[] result) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            final FloatVector va = FloatVector.fromArray(F, a, i);
+            final FloatVector vb = FloatVector.fromArray(F, b, i);
+            if (va.test(IS_NAN).or(vb.test(IS_NAN)).anyTrue()) {
+                for (int j = i; j < i + F.length(); j++) {
+                    result[j] = SingleUnum.min(a[j], b[j]);
+                }
+            } else {
+                va.blend(vb, vb.lt(va)).intoArray(result, i);
+            }
+        }
+        return length;
+    }
+
+    static int max(final float[] a, final float[] b, final float[] result) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            final FloatVector va = FloatVector.fromArray(F, a, i);
+            final FloatVector vb = FloatVector.fromArray(F, b, i);
+            if (va.test(IS_NAN).or(vb.test(IS_NAN)).anyTrue()) {
+                for (int j = i; j < i + F.length(); j++) {
+                    result[j] = SingleUnum.max(a[j], b[j]);
+                }
+            } else {
+                va.blend(vb, va.lt(vb)).intoArray(result, i);
+            }
+        }
+        return length;
+    }
+
+    static int compare(final float[] a, final float[] b, final int[] result) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            final FloatVector va = FloatVector.fromArray(F, a, i);
+            final FloatVector vb = FloatVector.fromArray(F, b, i);
+            if (va.test(IS_NAN).or(vb.test(IS_NAN)).anyTrue()) {
+                for (int j = i; j < i + F.length(); j++) {
+                    result[j] = SingleUnum.compare(a[j], b[j]);
+                }
+            } else {
+                IntVector.zero(FI).blend(-1, va.lt(vb).cast(FI)).blend(1, vb.lt(va).cast(FI)).intoArray(result, i);
+            }
+        }
+        return length;
+    }
+
+    static int lowerBound(final float[] a, final float[] result) {
+        return bound(a, result, -1);
+    }
+
+    static int upperBound(final float[] a, final float[] result) {
+        return bound(a, result, 1);
+    }
+
+    /**
+     * Moves inexact finite lanes to the adjacent exact value in the given direction, -1 for lower and 1 for upper.
+     */
+    private static int bound(final float[] a, final float[] result, final int direction) {
+        final int length = F.loopBound(result.length);
+        for (int i = 0; i < length; i += F.length()) {
+            final FloatVector va = FloatVector.fromArray(F, a, i);
+            final IntVector bits = va.reinterpretAsInts();
+            final VectorMask<Integer> inexact = ubitClear(va).not().andNot(va.test(IS_NAN).cast(FI));
+            final IntVector delta = IntVector.broadcast(FI, direction).blend(-direction, bits.lt(0));
+            bits.add(delta, inexact).reinterpretAsFloats().intoArray(result, i);
+        }
+        return length;
+    }
+
+    private static VectorMask<Integer> ubitClear(final FloatVector value) {
+        return value.reinterpretAsInts().and(1).compare(EQ, 0);
+    }
+
+    private static VectorMask<Integer> isSafe(final FloatVector value) {
+        final FloatVector abs = value.abs();
+        return abs.lt(MAX_SAFE_FLOAT).and(abs.compare(GE, MIN_SAFE_FLOAT).or(abs.eq(0.0f))).cast(FI);
+    }
+
+    /**
+     * Vector version of {@link SingleUnum#enclose(float, double)}: exact lanes with a non-zero error are moved to
+     * the adjacent inexact unum on the side of the error. Rounded values are non-zero if the error is non-zero.
+     */
+    private static FloatVector enclose(final FloatVector rounded, final FloatVector error) {
+        final IntVector bits = rounded.reinterpretAsInts();
+        final VectorMask<Integer> adjust = error.compare(NE, 0.0f).cast(FI).and(bits.and(1).compare(EQ, 0));
+        final VectorMask<Integer> up = error.lt(0.0f).cast(FI).eq(bits.lt(0));
+        final IntVector delta = IntVector.broadcast(FI, -1).blend(1, up);
+        return bits.add(delta, adjust).reinterpretAsFloats();
+    }
+}
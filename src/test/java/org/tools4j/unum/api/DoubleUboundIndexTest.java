@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link DoubleUboundIndex} queries against a linear scan with
+ * {@link DoubleUboundArray#isNowhereEqual(double, double, double, double)}.
+ */
+public class DoubleUboundIndexTest {
+
+    private static final int INDICES = 200;
+    private static final int QUERIES = 500;
+
+    @Test
+    public void indexMatchesLinearScan() {
+        final Random rnd = new Random(0x696e6478L);
+        for (int i = 0; i < INDICES; i++) {
+            final int n = rnd.nextInt(300);
+            final DoubleUboundArray ubounds = new DoubleUboundArray(n);
+            for (int j = 0; j < n; j++) {
+                if (rnd.nextInt(50) == 0) {
+                    ubounds.set(j, Doubles.QNAN);
+                } else {
+                    final double a = randomUnum(rnd);
+                    final double b = rnd.nextInt(4) == 0 ? a : randomUnum(rnd);
+                    ubounds.set(j, DoubleUnum.min(a, b), DoubleUnum.max(a, b));
+                }
+            }
+            final DoubleUboundIndex index = DoubleUboundIndex.of(ubounds);
+            assertEquals(n, index.size());
+            for (int q = 0; q < QUERIES; q++) {
+                final double a = randomUnum(rnd);
+                final double b = rnd.nextInt(4) == 0 ? a : randomUnum(rnd);
+                final double lower = DoubleUnum.min(a, b);
+                final double upper = DoubleUnum.max(a, b);
+                final int[] expected = linearScan(ubounds, lower, upper);
+                assertArrayEquals(expected, index.somewhereEqualTo(lower, upper));
+                assertEquals(expected.length, index.countSomewhereEqualTo(lower, upper));
+                final int[] visited = new int[expected.length];
+                final int[] next = {0};
+                assertEquals(expected.length, index.forEachSomewhereEqualTo(lower, upper, id -> visited[next[0]++] = id));
+                Arrays.sort(visited);
+                assertArrayEquals(expected, visited);
+            }
+            assertEquals(0, index.countSomewhereEqualTo(Doubles.QNAN, Doubles.QNAN));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countRejectsLowerGreaterThanUpper() {
+        index(2.0, 3.0).countSomewhereEqualTo(5.0, 1.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void somewhereEqualToRejectsLowerGreaterThanUpper() {
+        index(2.0, 3.0).somewhereEqualTo(5.0, 1.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forEachRejectsLowerGreaterThanUpper() {
+        index(2.0, 3.0).forEachSomewhereEqualTo(DoubleUnum.nextUp(1.0), 1.0, id -> {});
+    }
+
+    private static DoubleUboundIndex index(final double... unums) {
+        final DoubleUboundArray ubounds = new DoubleUboundArray(unums.length);
+        for (int i = 0; i < unums.length; i++) {
+            ubounds.set(i, unums[i]);
+        }
+        return DoubleUboundIndex.of(ubounds);
+    }
+
+    private static int[] linearScan(final DoubleUboundArray ubounds, final double lower, final double upper) {
+        final int[] result = new int[ubounds.length()];
+        int n = 0;
+        for (int i = 0; i < ubounds.length(); i++) {
+            if (!DoubleUboundArray.isNowhereEqual(ubounds.getLower(i), ubounds.getUpper(i), lower, upper)) {
+                result[n++] = i;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static double randomUnum(final Random rnd) {
+        //few distinct values to get many touching and equal ubounds, including zero and infinities
+        final int k = rnd.nextInt(43) - 21;
+        final double exact = k == 21 ? Double.POSITIVE_INFINITY : k == -21 ? Double.NEGATIVE_INFINITY : k * 0.25;
+        switch (rnd.nextInt(3)) {
+            case 0: return Double.isInfinite(exact) ? exact : DoubleUnum.nextUp(exact);
+            case 1: return Double.isInfinite(exact) ? exact : DoubleUnum.nextDown(exact);
+            default: return exact;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the bulk kernels of {@link DoubleUnumArray} against the scalar {@link DoubleUnum} operations, that equal
+ * arrays have equal hash codes, and that sort, binary search and {@link DoubleUnum#sortableKey(double)} order unums
+ * like {@link DoubleUnum#compare(double, double)}.
+ */
+public class DoubleUnumArrayTest {
+
+    private static final int LENGTH = 10_007;
+    private static final double[] SPECIAL = {0.0, -0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.NaN, Doubles.SNAN, Math.nextDown(Double.POSITIVE_INFINITY), Math.nextUp(Double.NEGATIVE_INFINITY),
+            Double.MIN_VALUE, -Double.MIN_VALUE, Math.nextUp(0.0), Math.nextDown(-0.0), 1.0, Math.nextUp(1.0)};
+
+    private enum Kernel {ADD, MULTIPLY, NEGATE, ABS, MIN, MAX, LOWER_BOUND, UPPER_BOUND}
+
+    @Test
+    public void kernelsAgreeWithScalarOperations() {
+        final Random rnd = new Random(0x6b65726eL);
+        final DoubleUnumArray a = random(rnd, LENGTH);
+        final DoubleUnumArray b = random(rnd, LENGTH);
+        for (final Kernel kernel : Kernel.values()) {
+            final DoubleUnumArray result = apply(kernel, a, b, new DoubleUnumArray(LENGTH));
+            for (int i = 0; i < LENGTH; i++) {
+                final double expected = apply(kernel, a.get(i), b.get(i));
+                final String msg = kernel + "(" + a.getUnum(i) + ", " + b.getUnum(i) + ")";
+                assertEquals(msg, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(result.get(i)));
+            }
+        }
+        final int[] compare = a.compare(b, new int[LENGTH]);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(a.getUnum(i) + " vs " + b.getUnum(i), DoubleUnum.compare(a.get(i), b.get(i)), compare[i]);
+        }
+    }
+
+    @Test
+    public void kernelsMayWriteToOperand() {
+        final Random rnd = new Random(0x696e706cL);
+        final DoubleUnumArray a = random(rnd, LENGTH);
+        final DoubleUnumArray b = random(rnd, LENGTH);
+        final DoubleUnumArray sum = a.add(b, new DoubleUnumArray(LENGTH));
+        assertEquals(sum, a.add(b, a));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthMismatchIsInvalid() {
+        new DoubleUnumArray(3).add(new DoubleUnumArray(4), new DoubleUnumArray(3));
+    }
+
+    @Test
+    public void equalArraysHaveEqualHashCodes() {
+        final DoubleUnumArray zero = DoubleUnumArray.wrap(new double[] {0.0});
+        final DoubleUnumArray negativeZero = DoubleUnumArray.wrap(new double[] {-0.0});
+        assertEquals(zero, negativeZero);
+        assertEquals(zero.hashCode(), negativeZero.hashCode());
+        //NaNs of the same sign compare equal whatever their payload
+        final DoubleUnumArray nan = DoubleUnumArray.wrap(new double[] {Double.NaN, Doubles.SNAN});
+        final DoubleUnumArray otherNaN = DoubleUnumArray.wrap(new double[] {
+                Double.longBitsToDouble(0x7ff0000000000123L), Double.longBitsToDouble(0xfff0000000000456L)});
+        assertEquals(nan, otherNaN);
+        assertEquals(nan.hashCode(), otherNaN.hashCode());
+        assertNotEquals(nan, DoubleUnumArray.wrap(new double[] {Doubles.SNAN, Double.NaN}));
+        assertNotEquals(zero, DoubleUnumArray.wrap(new double[] {0.0, 0.0}));
+        assertNotEquals(zero, DoubleUnumArray.wrap(new double[] {Double.MIN_VALUE}));
+
+        final Random rnd = new Random(0x68617368L);
+        final DoubleUnumArray a = random(rnd, LENGTH);
+        final double[] copy = a.array().clone();
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] == 0) {
+                copy[i] = -copy[i];
+            }
+        }
+        assertEquals(a, DoubleUnumArray.wrap(copy));
+        assertEquals(a.hashCode(), DoubleUnumArray.wrap(copy).hashCode());
+    }
+
+    @Test
+    public void sortableKeyOrdersLikeCompare() {
+        //neighbouring bit patterns of zero, the smallest subnormal, one, maxreal, infinity and NaN of both signs
+        final long[] anchors = {0L, 1L, Double.doubleToRawLongBits(1.0), Double.doubleToRawLongBits(Double.MAX_VALUE),
+                Double.doubleToRawLongBits(Double.POSITIVE_INFINITY), Double.doubleToRawLongBits(Double.NaN),
+                0x7ff0000000000001L, Long.MAX_VALUE};
+        final double[] values = new double[anchors.length * 2 * 5];
+        int n = 0;
+        for (final long anchor : anchors) {
+            for (long delta = -2; delta <= 2; delta++) {
+                values[n++] = Double.longBitsToDouble(anchor + delta);
+                values[n++] = Double.longBitsToDouble((anchor + delta) ^ Long.MIN_VALUE);
+            }
+        }
+        for (final double a : values) {
+            for (final double b : values) {
+                assertSortableKeyOrder(a, b);
+            }
+        }
+        final Random rnd = new Random(0x6b657973L);
+        final DoubleUnumArray a = random(rnd, LENGTH);
+        final DoubleUnumArray b = random(rnd, LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            assertSortableKeyOrder(a.get(i), b.get(i));
+        }
+    }
+
+    private static void assertSortableKeyOrder(final double a, final double b) {
+        assertEquals(DoubleUnum.valueOf(a) + " vs " + DoubleUnum.valueOf(b), DoubleUnum.compare(a, b),
+                Long.signum(Long.compare(DoubleUnum.sortableKey(a), DoubleUnum.sortableKey(b))));
+    }
+
+    @Test
+    public void sortAgreesWithComparatorSort() {
+        final Random rnd = new Random(0x736f7274L);
+        for (final int length : new int[] {0, 1, 2, 3, 63, 64, 65, 66, 127, 1000, LENGTH}) {
+            final DoubleUnumArray array = random(rnd, length);
+            assertSorted(array.array().clone());
+            //few distinct values leave most radix digits the same for all unums
+            for (int i = 0; i < length; i++) {
+                array.set(i, SPECIAL[rnd.nextInt(4)]);
+            }
+            assertSorted(array.array());
+        }
+    }
+
+    private static void assertSorted(final double[] values) {
+        final Double[] expected = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expected[i] = values[i];
+        }
+        Arrays.sort(expected, DoubleUnum::compare);
+        final double[] sorted = values.clone();
+        DoubleUnumArray.sort(sorted);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals("length " + values.length + " index " + i + ": " + DoubleUnum.valueOf(expected[i]) + " vs " +
+                    DoubleUnum.valueOf(sorted[i]), 0, DoubleUnum.compare(expected[i], sorted[i]));
+        }
+        final long[] expectedBits = new long[values.length];
+        final long[] sortedBits = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expectedBits[i] = Double.doubleToRawLongBits(values[i]);
+            sortedBits[i] = Double.doubleToRawLongBits(sorted[i]);
+        }
+        Arrays.sort(expectedBits);
+        Arrays.sort(sortedBits);
+        assertArrayEquals("sort is a permutation", expectedBits, sortedBits);
+    }
+
+    @Test
+    public void binarySearchFindsEqualUnumOrInsertionPoint() {
+        final Random rnd = new Random(0x73656172L);
+        for (final int length : new int[] {0, 1, 63, 65, LENGTH}) {
+            final DoubleUnumArray array = random(rnd, length).sort();
+            final DoubleUnumArray keys = random(rnd, 1000);
+            for (int k = 0; k < keys.length() + length; k++) {
+                final double key = k < keys.length() ? keys.get(k) : array.get(k - keys.length());
+                final int index = array.binarySearch(key);
+                if (index >= 0) {
+                    assertEquals(0, DoubleUnum.compare(array.get(index), key));
+                } else {
+                    final int insertion = -index - 1;
+                    assertTrue(insertion == 0 || DoubleUnum.compare(array.get(insertion - 1), key) < 0);
+                    assertTrue(insertion == length || DoubleUnum.compare(array.get(insertion), key) > 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns random exact and inexact unums of all magnitudes mixed with special values.
+     */
+    static DoubleUnumArray random(final Random rnd, final int length) {
+        final DoubleUnumArray array = new DoubleUnumArray(length);
+        for (int i = 0; i < length; i++) {
+            array.set(i, rnd.nextInt(8) == 0 ? SPECIAL[rnd.nextInt(SPECIAL.length)] : Double.longBitsToDouble(rnd.nextLong()));
+        }
+        return array;
+    }
+
+    private static DoubleUnumArray apply(final Kernel kernel, final DoubleUnumArray a, final DoubleUnumArray b,
+                                         final DoubleUnumArray result) {
+        switch (kernel) {
+            case ADD: return a.add(b, result);
+            case MULTIPLY: return a.multiply(b, result);
+            case NEGATE: return a.negate(result);
+            case ABS: return a.abs(result);
+            case MIN: return a.min(b, result);
+            case MAX: return a.max(b, result);
+            case LOWER_BOUND: return a.lowerBound(result);
+            case UPPER_BOUND: return a.upperBound(result);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+
+    private static double apply(final Kernel kernel, final double a, final double b) {
+        switch (kernel) {
+            case ADD: return DoubleUnum.add(a, b);
+            case MULTIPLY: return DoubleUnum.multiply(a, b);
+            case NEGATE: return DoubleUnum.negate(a);
+            case ABS: return DoubleUnum.abs(a);
+            case MIN: return DoubleUnum.min(a, b);
+            case MAX: return DoubleUnum.max(a, b);
+            case LOWER_BOUND: return DoubleUnum.getLowerBound(a);
+            case UPPER_BOUND: return DoubleUnum.getUpperBound(a);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+}
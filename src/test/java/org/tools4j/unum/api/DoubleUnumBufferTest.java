@@ -0,0 +1,174 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that {@link DoubleUnumBuffer} values survive a round trip through a memory mapped file, and the bulk
+ * operations against the scalar {@link DoubleUnum} operations.
+ */
+public class DoubleUnumBufferTest {
+
+    private static final int LENGTH = 10_007;
+
+    private enum Kernel {ADD, SUBTRACT, MULTIPLY, DIVIDE, MIN, MAX, NEGATE, ABS, NEXT_UP, NEXT_DOWN, LOWER_BOUND, UPPER_BOUND}
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void mappedFileRoundTrip() throws IOException {
+        final double[] values = DoubleUnumArrayTest.random(new Random(0x6d617070L), LENGTH).array();
+        final File file = folder.newFile("unums.bin");
+        //the second region starts after a header of a few unums
+        final int offset = 3;
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final DoubleUnumBuffer buffer = DoubleUnumBuffer.map(channel, FileChannel.MapMode.READ_WRITE, 8L * offset, LENGTH);
+            assertEquals(LENGTH, buffer.length());
+            buffer.set(0, values, 0, LENGTH);
+        }
+        assertEquals(8L * (offset + LENGTH), file.length());
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final DoubleUnumBuffer buffer = DoubleUnumBuffer.map(channel, FileChannel.MapMode.READ_ONLY, 8L * offset, LENGTH);
+            final double[] read = new double[LENGTH];
+            buffer.get(0, read, 0, LENGTH);
+            for (int i = 0; i < LENGTH; i++) {
+                assertBits(DoubleUnum.toString(values[i]), values[i], read[i]);
+                assertBits(DoubleUnum.toString(values[i]), values[i], buffer.get(i));
+                assertEquals(DoubleUnum.valueOf(values[i]), buffer.getUnum(i));
+            }
+        }
+    }
+
+    @Test
+    public void wrapUsesBufferOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocate(8 * 4).order(ByteOrder.BIG_ENDIAN);
+        bytes.putDouble(8, Math.nextUp(1.0));
+        bytes.position(8);
+        final DoubleUnumBuffer buffer = DoubleUnumBuffer.wrap(bytes);
+        assertEquals(3, buffer.length());
+        assertBits("wrapped", Math.nextUp(1.0), buffer.get(0));
+        buffer.setUnum(2, DoubleUnum.valueOf(-2.0));
+        assertBits("written", -2.0, bytes.getDouble(24));
+    }
+
+    @Test
+    public void kernelsAgreeWithScalarOperations() {
+        final Random rnd = new Random(0x6b65726eL);
+        final DoubleUnumBuffer a = copy(DoubleUnumArrayTest.random(rnd, LENGTH).array());
+        final DoubleUnumBuffer b = copy(DoubleUnumArrayTest.random(rnd, LENGTH).array());
+        final DoubleUnumBuffer result = DoubleUnumBuffer.allocateDirect(LENGTH);
+        for (final Kernel kernel : Kernel.values()) {
+            apply(kernel, a, b, result);
+            for (int i = 0; i < LENGTH; i++) {
+                final String msg = kernel + "(" + a.getUnum(i) + ", " + b.getUnum(i) + ")";
+                assertBits(msg, apply(kernel, a.get(i), b.get(i)), result.get(i));
+            }
+        }
+        final int[] compare = a.compare(b, new int[LENGTH]);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(a.getUnum(i) + " vs " + b.getUnum(i), DoubleUnum.compare(a.get(i), b.get(i)), compare[i]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeLengthIsInvalid() {
+        DoubleUnumBuffer.allocateDirect(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthBeyondByteBufferLimitIsInvalid() {
+        DoubleUnumBuffer.allocateDirect(Integer.MAX_VALUE / 8 + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partialUnumIsInvalid() {
+        DoubleUnumBuffer.wrap(ByteBuffer.allocate(12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthMismatchIsInvalid() {
+        DoubleUnumBuffer.allocateDirect(3).divide(DoubleUnumBuffer.allocateDirect(4), DoubleUnumBuffer.allocateDirect(3));
+    }
+
+    private static DoubleUnumBuffer copy(final double[] values) {
+        final DoubleUnumBuffer buffer = DoubleUnumBuffer.allocateDirect(values.length);
+        buffer.set(0, values, 0, values.length);
+        return buffer;
+    }
+
+    private static void assertBits(final String msg, final double expected, final double actual) {
+        assertEquals(msg, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual));
+    }
+
+    private static DoubleUnumBuffer apply(final Kernel kernel, final DoubleUnumBuffer a, final DoubleUnumBuffer b,
+                                          final DoubleUnumBuffer result) {
+        switch (kernel) {
+            case ADD: return a.add(b, result);
+            case SUBTRACT: return a.subtract(b, result);
+            case MULTIPLY: return a.multiply(b, result);
+            case DIVIDE: return a.divide(b, result);
+            case MIN: return a.min(b, result);
+            case MAX: return a.max(b, result);
+            case NEGATE: return a.negate(result);
+            case ABS: return a.abs(result);
+            case NEXT_UP: return a.nextUp(result);
+            case NEXT_DOWN: return a.nextDown(result);
+            case LOWER_BOUND: return a.getLowerBound(result);
+            case UPPER_BOUND: return a.getUpperBound(result);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+
+    private static double apply(final Kernel kernel, final double a, final double b) {
+        switch (kernel) {
+            case ADD: return DoubleUnum.add(a, b);
+            case SUBTRACT: return DoubleUnum.subtract(a, b);
+            case MULTIPLY: return DoubleUnum.multiply(a, b);
+            case DIVIDE: return DoubleUnum.divide(a, b);
+            case MIN: return DoubleUnum.min(a, b);
+            case MAX: return DoubleUnum.max(a, b);
+            case NEGATE: return DoubleUnum.negate(a);
+            case ABS: return DoubleUnum.abs(a);
+            case NEXT_UP: return DoubleUnum.nextUp(a);
+            case NEXT_DOWN: return DoubleUnum.nextDown(a);
+            case LOWER_BOUND: return DoubleUnum.getLowerBound(a);
+            case UPPER_BOUND: return DoubleUnum.getUpperBound(a);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+}
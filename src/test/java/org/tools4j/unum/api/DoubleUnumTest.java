@@ -0,0 +1,282 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link DoubleUnum} arithmetic against BigDecimal results for random exact and inexact operands, including
+ * cancellation, overflow to (maxreal, inf) and subnormal results.
+ */
+public class DoubleUnumTest {
+
+    private static final int SAMPLES = 10_000;
+    private static final double MAXREAL = Math.nextDown(Double.MAX_VALUE);
+
+    private enum Op {ADD, SUBTRACT, MULTIPLY}
+
+    @Test
+    public void examples() {
+        assertEquals(Double.MAX_VALUE, DoubleUnum.add(MAXREAL, MAXREAL), 0);
+        assertEquals(-Double.MAX_VALUE, DoubleUnum.multiply(MAXREAL, -2.0), 0);
+        assertEquals(Double.MIN_VALUE, DoubleUnum.multiply(0x1p-1074, 0.5), 0);
+        assertEquals(-Double.MIN_VALUE, DoubleUnum.multiply(-0x1p-1074, 0.5), 0);
+        assertEquals(0x1p-1073, DoubleUnum.subtract(0x1p-1021, Math.nextDown(Math.nextDown(0x1p-1021))), 0);
+        assertTrue(Double.isNaN(DoubleUnum.add(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY)));
+        assertTrue(Double.isNaN(DoubleUnum.multiply(0.0, Double.POSITIVE_INFINITY)));
+        //(1, 1+2^-51) - 1 = (0, 2^-51) is not a single unum
+        assertTrue(Double.isNaN(DoubleUnum.subtract(Math.nextUp(1.0), 1.0)));
+        assertEquals(Double.MIN_VALUE, DoubleUnum.subtractLower(Math.nextUp(1.0), 1.0), 0);
+        assertEquals(Math.nextDown(0x1p-51), DoubleUnum.subtractUpper(Math.nextUp(1.0), 1.0), 0);
+    }
+
+    @Test
+    public void exactOperands() {
+        final Random rnd = new Random(0x64756e75L);
+        final int[] counts = new int[Case.values().length];
+        for (int i = 0; i < SAMPLES; i++) {
+            final double a = randomExact(rnd);
+            final double b = rnd.nextBoolean() ? randomExact(rnd) : neighbour(rnd, a, 0);
+            for (final Op op : Op.values()) {
+                final double result = apply(op, a, b);
+                final String msg = DoubleUnum.valueOf(a) + " " + op + " " + DoubleUnum.valueOf(b);
+                assertFalse(msg, Double.isNaN(result));
+                assertEncloses(msg, result, op, a, b);
+                assertExactIfRepresentable(msg, result, op, a, b);
+                counts[classify(result).ordinal()]++;
+            }
+        }
+        for (final Case c : Case.values()) {
+            assertTrue(c + " results should occur", counts[c.ordinal()] > 0);
+        }
+    }
+
+    @Test
+    public void inexactOperands() {
+        final Random rnd = new Random(0x64756e76L);
+        final int[] singles = new int[Op.values().length];
+        final int[] counts = new int[Case.values().length];
+        for (int i = 0; i < SAMPLES; i++) {
+            final double a = randomUnum(rnd);
+            final double b = rnd.nextBoolean() ? randomUnum(rnd) : neighbour(rnd, a, 1);
+            for (final Op op : Op.values()) {
+                final String msg = DoubleUnum.valueOf(a) + " " + op + " " + DoubleUnum.valueOf(b);
+                final double result = apply(op, a, b);
+                final double lower = applyLower(op, a, b);
+                final double upper = applyUpper(op, a, b);
+                if (Double.isNaN(result)) {
+                    //the ubound is not a single unum
+                    assertTrue(msg, DoubleUnum.compare(lower, upper) != 0);
+                } else {
+                    singles[op.ordinal()]++;
+                    counts[classify(result).ordinal()]++;
+                    assertEncloses(msg, result, op, a, b);
+                    assertEquals(msg, Double.doubleToRawLongBits(result), Double.doubleToRawLongBits(lower));
+                    assertEquals(msg, Double.doubleToRawLongBits(result), Double.doubleToRawLongBits(upper));
+                }
+                assertEncloses(msg, lower, upper, op, a, b);
+            }
+        }
+        for (final Op op : Op.values()) {
+            assertTrue(op + " should return single unums", singles[op.ordinal()] > 0);
+        }
+        assertTrue("overflow results should occur", counts[Case.OVERFLOW.ordinal()] > 0);
+        assertTrue("subnormal results should occur", counts[Case.SUBNORMAL.ordinal()] > 0);
+    }
+
+    private enum Case {NORMAL, ZERO, SUBNORMAL, OVERFLOW}
+
+    private static Case classify(final double result) {
+        if (Math.abs(result) == Double.MAX_VALUE) {
+            return Case.OVERFLOW;
+        }
+        if (result == 0) {
+            return Case.ZERO;
+        }
+        return Math.abs(DoubleUnum.getLowerBound(result)) < Double.MIN_NORMAL
+                && Math.abs(DoubleUnum.getUpperBound(result)) <= Double.MIN_NORMAL ? Case.SUBNORMAL : Case.NORMAL;
+    }
+
+    private static double apply(final Op op, final double a, final double b) {
+        switch (op) {
+            case ADD:
+                return DoubleUnum.add(a, b);
+            case SUBTRACT:
+                return DoubleUnum.subtract(a, b);
+            case MULTIPLY:
+                return DoubleUnum.multiply(a, b);
+            default:
+                throw new IllegalArgumentException("invalid op: " + op);
+        }
+    }
+
+    private static double applyLower(final Op op, final double a, final double b) {
+        switch (op) {
+            case ADD:
+                return DoubleUnum.addLower(a, b);
+            case SUBTRACT:
+                return DoubleUnum.subtractLower(a, b);
+            case MULTIPLY:
+                return DoubleUnum.multiplyLower(a, a, b, b);
+            default:
+                throw new IllegalArgumentException("invalid op: " + op);
+        }
+    }
+
+    private static double applyUpper(final Op op, final double a, final double b) {
+        switch (op) {
+            case ADD:
+                return DoubleUnum.addUpper(a, b);
+            case SUBTRACT:
+                return DoubleUnum.subtractUpper(a, b);
+            case MULTIPLY:
+                return DoubleUnum.multiplyUpper(a, a, b, b);
+            default:
+                throw new IllegalArgumentException("invalid op: " + op);
+        }
+    }
+
+    private static void assertEncloses(final String msg, final double result, final Op op, final double a, final double b) {
+        assertEncloses(msg, result, result, op, a, b);
+        if (DoubleUnum.isExact(result)) {
+            assertTrue(msg + " = " + DoubleUnum.valueOf(result), DoubleUnum.isExact(a) & DoubleUnum.isExact(b));
+        }
+    }
+
+    /**
+     * Asserts that the ubound of lower and upper unum contains all points of the exact result set, and that its
+     * bounds are the extreme values at the corners if they are closed.
+     */
+    private static void assertEncloses(final String msg, final double lower, final double upper, final Op op,
+                                       final double a, final double b) {
+        final String res = msg + " = " + DoubleUnum.valueOf(lower) + ".." + DoubleUnum.valueOf(upper);
+        assertFalse(res, Double.isNaN(lower) | Double.isNaN(upper));
+        final double[] aBounds = {DoubleUnum.getLowerBound(a), DoubleUnum.getUpperBound(a)};
+        final double[] bBounds = {DoubleUnum.getLowerBound(b), DoubleUnum.getUpperBound(b)};
+        int cmpLower = -1;
+        int cmpUpper = 1;
+        for (final double x : aBounds) {
+            for (final double y : bBounds) {
+                final BigDecimal corner = exact(op, new BigDecimal(x), new BigDecimal(y));
+                cmpLower = Math.max(cmpLower, compare(DoubleUnum.getLowerBound(lower), corner));
+                cmpUpper = Math.min(cmpUpper, compare(DoubleUnum.getUpperBound(upper), corner));
+            }
+        }
+        final boolean open = DoubleUnum.isInexact(a) | DoubleUnum.isInexact(b);
+        assertTrue(res, cmpLower < 0 | (cmpLower == 0 & (open | DoubleUnum.isExact(lower))));
+        assertTrue(res, cmpUpper > 0 | (cmpUpper == 0 & (open | DoubleUnum.isExact(upper))));
+    }
+
+    /**
+     * Asserts that the result of exact operands is exact if the exact result is an exact unum.
+     */
+    private static void assertExactIfRepresentable(final String msg, final double result, final Op op,
+                                                   final double a, final double b) {
+        final BigDecimal exact = exact(op, new BigDecimal(a), new BigDecimal(b));
+        final double rounded = exact.doubleValue();
+        if (Double.isFinite(rounded) && DoubleUnum.isExact(rounded) && new BigDecimal(rounded).compareTo(exact) == 0) {
+            assertTrue(msg + " = " + DoubleUnum.valueOf(result), DoubleUnum.isExact(result));
+            assertEquals(msg, rounded, result, 0);
+        } else {
+            assertTrue(msg + " = " + DoubleUnum.valueOf(result), DoubleUnum.isInexact(result));
+        }
+    }
+
+    /**
+     * Compares value, possibly infinite, with a finite exact value.
+     */
+    private static int compare(final double value, final BigDecimal exact) {
+        if (Double.isInfinite(value)) {
+            return value > 0 ? 1 : -1;
+        }
+        return new BigDecimal(value).compareTo(exact);
+    }
+
+    private static BigDecimal exact(final Op op, final BigDecimal x, final BigDecimal y) {
+        switch (op) {
+            case ADD:
+                return x.add(y);
+            case SUBTRACT:
+                return x.subtract(y);
+            case MULTIPLY:
+                return x.multiply(y);
+            default:
+                throw new IllegalArgumentException("invalid op: " + op);
+        }
+    }
+
+    /**
+     * Returns a nonzero exact unum with a random number of significand bits and a magnitude that is normal, close to
+     * maxreal or subnormal, such that sums and products overflow or underflow.
+     */
+    private static double randomExact(final Random rnd) {
+        final int bits = 1 + rnd.nextInt(52);
+        final long significand = (rnd.nextLong() >>> (64 - bits)) | 1;
+        final int exponent;
+        switch (rnd.nextInt(4)) {
+            case 0:
+                exponent = 1024 - rnd.nextInt(520);
+                break;
+            case 1:
+                exponent = -1022 - rnd.nextInt(53) + rnd.nextInt(540);
+                break;
+            default:
+                exponent = rnd.nextInt(200) - 100;
+                break;
+        }
+        final double value = Math.scalb((double)significand, exponent - bits);
+        final double exact = Double.longBitsToDouble(Double.doubleToRawLongBits(value) & ~1L);
+        if (exact == 0 | Double.isInfinite(exact)) {
+            return randomExact(rnd);
+        }
+        return rnd.nextBoolean() ? exact : -exact;
+    }
+
+    /**
+     * Returns a random exact unum or one of its inexact neighbours, with finite bounds.
+     */
+    private static double randomUnum(final Random rnd) {
+        final double exact = randomExact(rnd);
+        return rnd.nextBoolean() ? exact : neighbour(rnd, exact, 1);
+    }
+
+    /**
+     * Returns a unum with negated sign and bits close to value that are exact if ubit is 0, for cancellation.
+     */
+    private static double neighbour(final Random rnd, final double value, final int ubit) {
+        final long bits = Double.doubleToRawLongBits(-value) & ~1L;
+        final long neighbour = (bits + 2 * (rnd.nextInt(5) - 2)) | ubit;
+        final double result = Double.longBitsToDouble(neighbour);
+        final boolean finite = Double.isFinite(DoubleUnum.getLowerBound(result))
+                & Double.isFinite(DoubleUnum.getUpperBound(result));
+        return finite & (neighbour ^ bits) >= 0 ? result : -value;
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleFunction;
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link IntervalNewton} encloses all roots of the cubic {@code (x-1)(x-2)(x-3)} for DoubleUnum and
+ * SingleUnum on bounded and unbounded domains with few function evaluations, and finds no roots where there are none.
+ */
+public class IntervalNewtonTest {
+
+    private static final double[] ROOTS = {1, 2, 3};
+    private static final DoubleFunction<DoubleUnum> DOUBLE = DoubleUnum::valueOf;
+    private static final DoubleFunction<SingleUnum> SINGLE = v -> SingleUnum.valueOf((float)v);
+
+    @Test
+    public void doubleCubicRoots() {
+        assertCubicRoots(DOUBLE, 1e-10, -10, 10, 80);
+    }
+
+    @Test
+    public void singleCubicRoots() {
+        assertCubicRoots(SINGLE, 1e-5, -10, 10, 80);
+    }
+
+    @Test
+    public void doubleCubicRootsInUnboundedDomain() {
+        assertCubicRoots(DOUBLE, 1e-10, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 80);
+    }
+
+    @Test
+    public void singleCubicRootsInUnboundedDomain() {
+        assertCubicRoots(SINGLE, 1e-5, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 80);
+    }
+
+    private static <U extends Unum<U>> void assertCubicRoots(final DoubleFunction<U> valueOf, final double tolerance,
+                                                             final double lower, final double upper, final int maxEvaluations) {
+        final Counter<U> cubic = new Counter<>(cubic(valueOf));
+        final Counter<U> derivative = new Counter<>(cubicDerivative(valueOf));
+        final IntervalNewton<U> solver = new IntervalNewton<>(cubic, derivative, tolerance);
+        final Ubound<U> domain = Ubound.create(valueOf.apply(lower), valueOf.apply(upper));
+        final List<Ubound<U>> roots = solver.roots(domain);
+        final String msg = domain + " gives " + roots + " after " + cubic.evaluations + " evaluations and " + derivative.evaluations + " derivative evaluations";
+        for (final double root : ROOTS) {
+            final Ubound<U> point = Ubound.create(valueOf.apply(root));
+            assertTrue(msg, roots.stream().anyMatch(r -> r.overlap(point).isSomewhereEqual()));
+        }
+        for (int i = 0; i < roots.size(); i++) {
+            final Ubound<U> root = roots.get(i);
+            assertTrue(msg, width(root) <= tolerance || root.getLowerBound().compareTo(root.getUpperBound()) == 0);
+            if (i > 0) {
+                assertTrue(msg, roots.get(i - 1).overlap(root).isNowhereEqual());
+                assertTrue(msg, roots.get(i - 1).getUpperBound().compareTo(root.getLowerBound()) < 0);
+            }
+        }
+        assertTrue(msg, cubic.evaluations + derivative.evaluations <= maxEvaluations);
+    }
+
+    @Test
+    public void fewerEvaluationsThanBisection() {
+        final Counter<DoubleUnum> newton = new Counter<>(cubic(DOUBLE));
+        final Counter<DoubleUnum> derivative = new Counter<>(cubicDerivative(DOUBLE));
+        final Ubound<DoubleUnum> domain = Ubound.create(DoubleUnum.valueOf(-10.0), DoubleUnum.valueOf(10.0));
+        new IntervalNewton<>(newton, derivative, 1e-10).roots(domain);
+        final Counter<DoubleUnum> bisection = new Counter<>(cubic(DOUBLE));
+        final Ubound<DoubleUnum> zero = DoubleUnum.UBOUND_ZERO;
+        final UboxSolver<DoubleUnum> solver = new UboxSolver<>(x -> bisection.apply(x.get(0)).overlap(zero).isSomewhereEqual(), 1e-10);
+        //a single worker as the counter is not thread safe
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertTrue(solver.solve(Collections.singletonList(domain), pool).size() >= ROOTS.length);
+        } finally {
+            pool.shutdown();
+        }
+        final String msg = newton.evaluations + derivative.evaluations + " newton vs " + bisection.evaluations + " bisection evaluations";
+        assertTrue(msg, 3 * (newton.evaluations + derivative.evaluations) < bisection.evaluations);
+    }
+
+    @Test
+    public void noRootsInRootFreeDomains() {
+        final IntervalNewton<DoubleUnum> solver = new IntervalNewton<>(cubic(DOUBLE),
+                cubicDerivative(DOUBLE), 1e-10);
+        assertEquals(0, solver.roots(Ubound.create(DoubleUnum.valueOf(4.0), DoubleUnum.valueOf(10.0))).size());
+        assertEquals(0, solver.roots(Ubound.create(DoubleUnum.valueOf(-10.0), DoubleUnum.valueOf(0.5))).size());
+        assertEquals(0, solver.roots(Ubound.create(DoubleUnum.valueOf(3.0).nextUp(), DoubleUnum.POSITIVE_INFINITY)).size());
+        assertEquals(0, solver.roots(Ubound.create(DoubleUnum.valueOf(1.0).nextUp(), DoubleUnum.valueOf(2.0).nextDown())).size());
+        final IntervalNewton<SingleUnum> single = new IntervalNewton<>(cubic(SINGLE),
+                cubicDerivative(SINGLE), 1e-5);
+        assertEquals(0, single.roots(Ubound.create(SingleUnum.valueOf(-10f), SingleUnum.valueOf(0.5f))).size());
+    }
+
+    @Test
+    public void noRealRoots() {
+        //x^2 + 1 has a derivative containing zero on the domain, the extended division discards both half-lines
+        final Ubound<DoubleUnum> one = DoubleUnum.UBOUND_ONE;
+        final Ubound<DoubleUnum> two = Ubound.create(DoubleUnum.valueOf(2.0));
+        final IntervalNewton<DoubleUnum> solver = new IntervalNewton<>(x -> x.square().add(one), x -> two.multiply(x), 1e-10);
+        assertEquals(0, solver.roots(Ubound.create(DoubleUnum.valueOf(-10.0), DoubleUnum.valueOf(10.0))).size());
+        assertEquals(0, solver.roots(Ubound.create(DoubleUnum.NEGATIVE_INFINITY, DoubleUnum.POSITIVE_INFINITY)).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nanDomainIsInvalid() {
+        new IntervalNewton<DoubleUnum>(x -> x, x -> x, 0).roots(DoubleUnum.UBOUND_QNAN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeToleranceIsInvalid() {
+        new IntervalNewton<DoubleUnum>(x -> x, x -> x, -1);
+    }
+
+    private static <U extends Unum<U>> double width(final Ubound<U> ubound) {
+        return ubound.getUpperBound().getUpperBound().doubleValue() - ubound.getLowerBound().getLowerBound().doubleValue();
+    }
+
+    private static <U extends Unum<U>> UnaryOperator<Ubound<U>> cubic(final DoubleFunction<U> valueOf) {
+        final Ubound<U> one = Ubound.create(valueOf.apply(1));
+        final Ubound<U> two = Ubound.create(valueOf.apply(2));
+        final Ubound<U> three = Ubound.create(valueOf.apply(3));
+        return x -> x.subtract(one).multiply(x.subtract(two)).multiply(x.subtract(three));
+    }
+
+    private static <U extends Unum<U>> UnaryOperator<Ubound<U>> cubicDerivative(final DoubleFunction<U> valueOf) {
+        final Ubound<U> one = Ubound.create(valueOf.apply(1));
+        final Ubound<U> two = Ubound.create(valueOf.apply(2));
+        final Ubound<U> three = Ubound.create(valueOf.apply(3));
+        //3x^2 - 12x + 11 = 3(x-2)^2 - 1
+        return x -> three.multiply(x.subtract(two).square()).subtract(one);
+    }
+
+    private static final class Counter<U extends Unum<U>> implements UnaryOperator<Ubound<U>> {
+        private final UnaryOperator<Ubound<U>> function;
+        private int evaluations;
+
+        Counter(final UnaryOperator<Ubound<U>> function) {
+            this.function = function;
+        }
+
+        @Override
+        public Ubound<U> apply(final Ubound<U> x) {
+            evaluations++;
+            return function.apply(x);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link LongUnum#optimize()} and {@link LongUnumArray#compact()} keep the value or interval of random unums
+ * with padded fractions, and that the bits saved are counted correctly.
+ */
+public class LongUnumOptimizeTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void optimizeExamples() {
+        final LongUnum one = UboundUnifyTest.pad(LongUnum.ONE, 20, 0);
+        assertEquals(21, LongUnum.fractionSize(one.packed()));
+        assertEquals(LongUnum.ONE, one.optimize());
+        assertEquals(2, LongUnum.bits(one.optimize().packed()));
+        assertSame(LongUnum.ONE, LongUnum.ONE.optimize());
+        assertSame(LongUnum.NAN, LongUnum.NAN.optimize());
+        assertSame(LongUnum.INF, LongUnum.INF.optimize());
+        //the open unum (1, 1 + 2^-21) needs all its fraction bits
+        final LongUnum open = UboundUnifyTest.pad(LongUnum.ONE, 20, 0).nextUp();
+        assertSame(open, open.optimize());
+    }
+
+    @Test
+    public void optimizedExactUnumsAreMinimal() {
+        final Random rnd = new Random(0x6f707469L);
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum unum = UboundUnifyTest.random(rnd, (byte)0);
+            final LongUnum optimized = unum.optimize();
+            final String msg = unum + " optimized to " + optimized;
+            assertSameSet(msg, unum, optimized);
+            assertTrue(msg, LongUnum.bits(optimized.packed()) <= LongUnum.bits(unum.packed()));
+            assertSame(msg, optimized, optimized.optimize());
+            //every encoding of the same value has the same optimized size
+            final int k = 1 + rnd.nextInt(64 - LongUnum.fractionSize(unum.packed()));
+            final LongUnum padded = UboundUnifyTest.pad(unum, k, 0);
+            assertEquals(msg, LongUnum.bits(optimized.packed()), LongUnum.bits(padded.optimize().packed()));
+            assertSameSet(msg, unum, padded.optimize());
+        }
+    }
+
+    @Test
+    public void optimizedOpenUnumsHaveSameInterval() {
+        final Random rnd = new Random(0x6f70656eL);
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum unum = UboundUnifyTest.randomOpen(rnd);
+            final LongUnum optimized = unum.optimize();
+            final String msg = unum + " optimized to " + optimized;
+            assertSameSet(msg, unum, optimized);
+            assertTrue(msg, LongUnum.bits(optimized.packed()) <= LongUnum.bits(unum.packed()));
+            assertSame(msg, optimized, optimized.optimize());
+        }
+    }
+
+    @Test
+    public void compactCountsSavedBits() {
+        final Random rnd = new Random(0x636f6d70L);
+        final LongUnum[] unums = new LongUnum[SAMPLES];
+        long bits = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            unums[i] = UboundUnifyTest.random(rnd, rnd.nextBoolean() ? (byte)1 : (byte)0);
+            bits += LongUnum.bits(unums[i].packed());
+        }
+        final LongUnumArray array = LongUnumArray.valueOf(unums);
+        final long saved = array.compact();
+        long compactBits = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum compact = array.getUnum(i);
+            assertSameSet(unums[i] + " compacted to " + compact, unums[i], compact);
+            assertEquals(unums[i].optimize(), compact);
+            compactBits += LongUnum.bits(compact.packed());
+        }
+        assertTrue(saved > 0);
+        assertEquals(bits - compactBits, saved);
+        assertEquals(0, array.compact());
+    }
+
+    private static void assertSameSet(final String msg, final LongUnum expected, final LongUnum actual) {
+        assertEquals(msg, expected.isNaN(), actual.isNaN());
+        assertEquals(msg, expected.isInexact(), actual.isInexact());
+        assertEquals(msg, 0, expected.getLowerBound().compareTo(actual.getLowerBound()));
+        assertEquals(msg, 0, expected.getUpperBound().compareTo(actual.getUpperBound()));
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link LongUnum} arithmetic against BigDecimal results for random exact and inexact operands of different
+ * exponent and fraction sizes.
+ */
+public class LongUnumTest {
+
+    private static final int SAMPLES = 20_000;
+
+    private enum Op {ADD, SUBTRACT, MULTIPLY, DIVIDE}
+
+    @Test
+    public void addInexactAndExactOfDifferentSize() {
+        final LongUnum a = LongUnum.valueOf(3.158142439074164E-7).nextUp();
+        final LongUnum b = LongUnum.valueOf(-2.448747327351369E-7);
+        assertEncloses(a + " + " + b, a.add(b), Op.ADD, a, b);
+        assertEncloses(b + " + " + a, b.add(a), Op.ADD, b, a);
+    }
+
+    @Test
+    public void uboundWithLargerLowerUnum() {
+        //lower compares larger than upper but the ubound [0.0625, 0.25) is not empty
+        final LongUnum lower = LongUnum.valueOf(0.0625);
+        final LongUnum upper = LongUnum.valueOf(0.25).nextDown();
+        assertTrue(lower.compareTo(upper) > 0);
+        final Ubound<LongUnum> ubound = Ubound.create(lower, upper);
+        assertEquals(lower, ubound.getLowerBound());
+        assertEquals(upper, ubound.getUpperBound());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyUboundIsInvalid() {
+        Ubound.create(LongUnum.valueOf(0.25), LongUnum.valueOf(0.25).nextDown());
+    }
+
+    @Test
+    public void toStringPrintsBoundsInValueOrder() {
+        assertEquals("(1.0, 2.0)", LongUnum.valueOf(1.0).nextUp().toString());
+        assertEquals("(0.0, 1.0)", LongUnum.valueOf(1.0).nextDown().toString());
+        assertEquals("(-1.0, 0.0)", LongUnum.valueOf(-1.0).nextUp().toString());
+        assertEquals("(-4.0, -3.0)", LongUnum.valueOf(-3.0).nextDown().toString());
+    }
+
+    @Test
+    public void exactOperands() {
+        final Random rnd = new Random(0x756e756dL);
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum a = randomExact(rnd);
+            final LongUnum b = randomExact(rnd);
+            for (final Op op : Op.values()) {
+                final LongUnum result = apply(op, a, b);
+                assertFalse(a + " " + op + " " + b, result.isNaN());
+                assertEncloses(a + " " + op + " " + b, result, op, a, b);
+            }
+        }
+    }
+
+    @Test
+    public void inexactOperands() {
+        final Random rnd = new Random(0x756e756dL);
+        final int[] singles = new int[Op.values().length];
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum a = randomUnum(rnd);
+            final LongUnum b = rnd.nextBoolean() ? randomUnum(rnd) : a.nextUp().nextUp();
+            for (final Op op : Op.values()) {
+                final String msg = a + " " + op + " " + b;
+                final LongUnum result = apply(op, a, b);
+                final Ubound<LongUnum> ubound = apply(op, Ubound.create(a), Ubound.create(b));
+                if (!result.isNaN()) {
+                    singles[op.ordinal()]++;
+                    assertEncloses(msg, result, op, a, b);
+                    assertEquals(msg, 0, result.getLowerBound().compareTo(ubound.getLowerBound().getLowerBound()));
+                    assertEquals(msg, 0, result.getUpperBound().compareTo(ubound.getUpperBound().getUpperBound()));
+                }
+            }
+        }
+        for (final Op op : Op.values()) {
+            assertTrue(op + " should return single unums", singles[op.ordinal()] > 0);
+        }
+    }
+
+    private static LongUnum apply(final Op op, final LongUnum a, final LongUnum b) {
+        switch (op) {
+            case ADD:
+                return a.add(b);
+            case SUBTRACT:
+                return a.subtract(b);
+            case MULTIPLY:
+                return a.multiply(b);
+            case DIVIDE:
+                return a.divide(b);
+            default:
+                throw new IllegalArgumentException("invalid op: " + op);
+        }
+    }
+
+    private static Ubound<LongUnum> apply(final Op op, final Ubound<LongUnum> a, final Ubound<LongUnum> b) {
+        switch (op) {
+            case ADD:
+                return a.add(b);
+            case SUBTRACT:
+                return a.subtract(b);
+            case MULTIPLY:
+                return a.multiply(b);
+            case DIVIDE:
+                return a.divide(b);
+            default:
+                throw new IllegalArgumentException("invalid op: " + op);
+        }
+    }
+
+    /**
+     * Asserts that result contains all points of the exact result set and that the result is exact only if the set
+     * is a single point.
+     */
+    private static void assertEncloses(final String msg, final LongUnum result, final Op op, final LongUnum a, final LongUnum b) {
+        assertFalse(msg, result.isNaN());
+        final BigDecimal[] aBounds = {a.getLowerBound().bigDecimalValueExact(), a.getUpperBound().bigDecimalValueExact()};
+        final BigDecimal[] bBounds = {b.getLowerBound().bigDecimalValueExact(), b.getUpperBound().bigDecimalValueExact()};
+        if (op == Op.DIVIDE) {
+            //quotients with an open zero divisor bound are unbounded
+            assertTrue(msg + " = " + result, bBounds[0].signum() != 0 & bBounds[1].signum() != 0);
+        }
+        final BigDecimal lower = result.getLowerBound().bigDecimalValueExact();
+        final BigDecimal upper = result.getUpperBound().bigDecimalValueExact();
+        //compare result bounds with the extreme values at the corners
+        int cmpLower = -1;
+        int cmpUpper = 1;
+        for (final BigDecimal x : aBounds) {
+            for (final BigDecimal y : bBounds) {
+                cmpLower = Math.max(cmpLower, compare(lower, op, x, y));
+                cmpUpper = Math.min(cmpUpper, compare(upper, op, x, y));
+            }
+        }
+        final boolean open = a.isInexact() | b.isInexact();
+        assertTrue(msg + " = " + result, cmpLower < 0 | (cmpLower == 0 & (open | result.isExact())));
+        assertTrue(msg + " = " + result, cmpUpper > 0 | (cmpUpper == 0 & (open | result.isExact())));
+        if (result.isExact()) {
+            assertTrue(msg + " = " + result, !open & cmpLower == 0 & cmpUpper == 0);
+        }
+    }
+
+    /**
+     * Compares value with the exact result of x op y, the divisor y is nonzero.
+     */
+    private static int compare(final BigDecimal value, final Op op, final BigDecimal x, final BigDecimal y) {
+        switch (op) {
+            case ADD:
+                return value.compareTo(x.add(y));
+            case SUBTRACT:
+                return value.compareTo(x.subtract(y));
+            case MULTIPLY:
+                return value.compareTo(x.multiply(y));
+            case DIVIDE:
+                return value.multiply(y).compareTo(x) * y.signum();
+            default:
+                throw new IllegalArgumentException("invalid op: " + op);
+        }
+    }
+
+    /**
+     * Returns a nonzero exact unum with a random number of fraction bits and a magnitude in [2^-100, 2^100].
+     */
+    private static LongUnum randomExact(final Random rnd) {
+        final int bits = 1 + rnd.nextInt(53);
+        final long significand = (rnd.nextLong() >>> (64 - bits)) | 1;
+        final double value = Math.scalb((double)significand, rnd.nextInt(200) - 100 - bits);
+        return LongUnum.valueOf(rnd.nextBoolean() ? value : -value);
+    }
+
+    /**
+     * Returns a random exact unum or one of its inexact neighbours.
+     */
+    private static LongUnum randomUnum(final Random rnd) {
+        final LongUnum exact = randomExact(rnd);
+        switch (rnd.nextInt(3)) {
+            case 0:
+                return exact;
+            case 1:
+                return exact.nextUp();
+            default:
+                return exact.nextDown();
+        }
+    }
+}
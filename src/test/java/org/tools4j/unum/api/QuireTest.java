@@ -0,0 +1,153 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks dot products accumulated in {@link DoubleQuire} and {@link SingleQuire} against exact BigDecimal sums: the
+ * result of exact terms must be the exact sum or the single inexact unum containing it, and the result of inexact terms
+ * must enclose all corner sums.
+ */
+public class QuireTest {
+
+    private static final int SAMPLES = 2_000;
+    private static final int MAX_LENGTH = 32;
+
+    @Test
+    public void cancellation() {
+        final double big = 0x1p600;
+        final double small = 0x1p-600;
+        final DoubleQuire quire = new DoubleQuire().addProduct(big, big).add(small).addProduct(-big, big);
+        assertEquals(small, quire.lower(), 0.0);
+        assertEquals(small, quire.upper(), 0.0);
+        final SingleQuire single = new SingleQuire().addProduct(0x1p100f, 0x1p100f).add(0x1p-100f).addProduct(0x1p100f, -0x1p100f);
+        assertEquals(0x1p-100f, single.lower(), 0f);
+        assertEquals(0x1p-100f, single.upper(), 0f);
+    }
+
+    @Test
+    public void doubleExactDot() {
+        final Random rnd = new Random(0x71756972L);
+        for (int i = 0; i < SAMPLES; i++) {
+            final int n = 1 + rnd.nextInt(MAX_LENGTH);
+            final double[] a = new double[n];
+            final double[] b = new double[n];
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int j = 0; j < n; j++) {
+                a[j] = DoubleUnum.exact(randomDouble(rnd));
+                b[j] = DoubleUnum.exact(randomDouble(rnd));
+                sum = sum.add(new BigDecimal(a[j]).multiply(new BigDecimal(b[j])));
+            }
+            final DoubleQuire quire = new DoubleQuire().addDot(a, b);
+            final double lower = quire.lower();
+            assertEquals(lower, quire.upper(), 0.0);
+            if (DoubleUnum.isExact(lower)) {
+                assertEquals(0, sum.compareTo(new BigDecimal(lower)));
+            } else {
+                assertTrue(sum + " in " + DoubleUnum.toString(lower), new BigDecimal(DoubleUnum.getLowerBound(lower)).compareTo(sum) < 0
+                        & new BigDecimal(DoubleUnum.getUpperBound(lower)).compareTo(sum) > 0);
+            }
+        }
+    }
+
+    @Test
+    public void singleExactDot() {
+        final Random rnd = new Random(0x73716972L);
+        for (int i = 0; i < SAMPLES; i++) {
+            final int n = 1 + rnd.nextInt(MAX_LENGTH);
+            final float[] a = new float[n];
+            final float[] b = new float[n];
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int j = 0; j < n; j++) {
+                a[j] = SingleUnum.exact(randomFloat(rnd));
+                b[j] = SingleUnum.exact(randomFloat(rnd));
+                sum = sum.add(new BigDecimal(a[j]).multiply(new BigDecimal(b[j])));
+            }
+            final SingleQuire quire = new SingleQuire().addDot(a, b);
+            final float lower = quire.lower();
+            assertEquals(lower, quire.upper(), 0f);
+            if (SingleUnum.isExact(lower)) {
+                assertEquals(0, sum.compareTo(new BigDecimal(lower)));
+            } else {
+                assertTrue(sum + " in " + SingleUnum.toString(lower), new BigDecimal(SingleUnum.getLowerBound(lower)).compareTo(sum) < 0
+                        & new BigDecimal(SingleUnum.getUpperBound(lower)).compareTo(sum) > 0);
+            }
+        }
+    }
+
+    @Test
+    public void doubleInexactDot() {
+        final Random rnd = new Random(0x696e6578L);
+        for (int i = 0; i < SAMPLES; i++) {
+            final int n = 1 + rnd.nextInt(MAX_LENGTH);
+            final DoubleQuire quire = new DoubleQuire();
+            BigDecimal min = BigDecimal.ZERO;
+            BigDecimal max = BigDecimal.ZERO;
+            for (int j = 0; j < n; j++) {
+                final double a = randomDouble(rnd);
+                final double b = randomDouble(rnd);
+                quire.addProduct(a, b);
+                final BigDecimal[] corners = {
+                        product(DoubleUnum.getLowerBound(a), DoubleUnum.getLowerBound(b)),
+                        product(DoubleUnum.getLowerBound(a), DoubleUnum.getUpperBound(b)),
+                        product(DoubleUnum.getUpperBound(a), DoubleUnum.getLowerBound(b)),
+                        product(DoubleUnum.getUpperBound(a), DoubleUnum.getUpperBound(b))
+                };
+                BigDecimal cornerMin = corners[0];
+                BigDecimal cornerMax = corners[0];
+                for (final BigDecimal corner : corners) {
+                    cornerMin = cornerMin.min(corner);
+                    cornerMax = cornerMax.max(corner);
+                }
+                min = min.add(cornerMin);
+                max = max.add(cornerMax);
+            }
+            assertTrue(min + " >= " + DoubleUnum.toString(quire.lower()), new BigDecimal(DoubleUnum.getLowerBound(quire.lower())).compareTo(min) <= 0);
+            assertTrue(max + " <= " + DoubleUnum.toString(quire.upper()), new BigDecimal(DoubleUnum.getUpperBound(quire.upper())).compareTo(max) >= 0);
+        }
+    }
+
+    private static BigDecimal product(final double a, final double b) {
+        return new BigDecimal(a).multiply(new BigDecimal(b));
+    }
+
+    private static double randomDouble(final Random rnd) {
+        //products from the subnormal range to 2^1000, some terms cancel
+        final double value = Math.scalb(1 + rnd.nextDouble(), rnd.nextInt(1040) - 540);
+        return rnd.nextBoolean() ? value : -value;
+    }
+
+    private static float randomFloat(final Random rnd) {
+        //products from the subnormal range to 2^100
+        final float value = Math.scalb(1 + rnd.nextFloat(), rnd.nextInt(125) - 75);
+        return rnd.nextBoolean() ? value : -value;
+    }
+}
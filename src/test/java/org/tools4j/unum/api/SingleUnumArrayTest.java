@@ -0,0 +1,239 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the bulk kernels of {@link SingleUnumArray} against the scalar {@link SingleUnum} operations, that equal
+ * arrays have equal hash codes, and that sort, binary search and {@link SingleUnum#sortableKey(float)} order unums
+ * like {@link SingleUnum#compare(float, float)}.
+ */
+public class SingleUnumArrayTest {
+
+    private static final int LENGTH = 10_007;
+    private static final float[] SPECIAL = {0.0f, -0.0f, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+            Float.NaN, Singles.SNAN, Math.nextDown(Float.POSITIVE_INFINITY), Math.nextUp(Float.NEGATIVE_INFINITY),
+            Float.MIN_VALUE, -Float.MIN_VALUE, Math.nextUp(0.0f), Math.nextDown(-0.0f), 1.0f, Math.nextUp(1.0f)};
+
+    private enum Kernel {ADD, MULTIPLY, NEGATE, ABS, MIN, MAX, LOWER_BOUND, UPPER_BOUND}
+
+    @Test
+    public void kernelsAgreeWithScalarOperations() {
+        final Random rnd = new Random(0x6b65726eL);
+        final SingleUnumArray a = random(rnd, LENGTH);
+        final SingleUnumArray b = random(rnd, LENGTH);
+        for (final Kernel kernel : Kernel.values()) {
+            final SingleUnumArray result = apply(kernel, a, b, new SingleUnumArray(LENGTH));
+            for (int i = 0; i < LENGTH; i++) {
+                final float expected = apply(kernel, a.get(i), b.get(i));
+                final String msg = kernel + "(" + a.getUnum(i) + ", " + b.getUnum(i) + ")";
+                assertEquals(msg, Float.floatToRawIntBits(expected), Float.floatToRawIntBits(result.get(i)));
+            }
+        }
+        final int[] compare = a.compare(b, new int[LENGTH]);
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(a.getUnum(i) + " vs " + b.getUnum(i), SingleUnum.compare(a.get(i), b.get(i)), compare[i]);
+        }
+    }
+
+    @Test
+    public void kernelsMayWriteToOperand() {
+        final Random rnd = new Random(0x696e706cL);
+        final SingleUnumArray a = random(rnd, LENGTH);
+        final SingleUnumArray b = random(rnd, LENGTH);
+        final SingleUnumArray sum = a.add(b, new SingleUnumArray(LENGTH));
+        assertEquals(sum, a.add(b, a));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthMismatchIsInvalid() {
+        new SingleUnumArray(3).add(new SingleUnumArray(4), new SingleUnumArray(3));
+    }
+
+    @Test
+    public void equalArraysHaveEqualHashCodes() {
+        final SingleUnumArray zero = SingleUnumArray.wrap(new float[] {0.0f});
+        final SingleUnumArray negativeZero = SingleUnumArray.wrap(new float[] {-0.0f});
+        assertEquals(zero, negativeZero);
+        assertEquals(zero.hashCode(), negativeZero.hashCode());
+        //NaNs of the same sign compare equal whatever their payload
+        final SingleUnumArray nan = SingleUnumArray.wrap(new float[] {Float.NaN, Singles.SNAN});
+        final SingleUnumArray otherNaN = SingleUnumArray.wrap(new float[] {
+                Float.intBitsToFloat(0x7f800123), Float.intBitsToFloat(0xff800456)});
+        assertEquals(nan, otherNaN);
+        assertEquals(nan.hashCode(), otherNaN.hashCode());
+        assertNotEquals(nan, SingleUnumArray.wrap(new float[] {Singles.SNAN, Float.NaN}));
+        assertNotEquals(zero, SingleUnumArray.wrap(new float[] {0.0f, 0.0f}));
+        assertNotEquals(zero, SingleUnumArray.wrap(new float[] {Float.MIN_VALUE}));
+
+        final Random rnd = new Random(0x68617368L);
+        final SingleUnumArray a = random(rnd, LENGTH);
+        final float[] copy = a.array().clone();
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] == 0) {
+                copy[i] = -copy[i];
+            }
+        }
+        assertEquals(a, SingleUnumArray.wrap(copy));
+        assertEquals(a.hashCode(), SingleUnumArray.wrap(copy).hashCode());
+    }
+
+    @Test
+    public void sortableKeyOrdersLikeCompare() {
+        //neighbouring bit patterns of zero, the smallest subnormal, one, maxreal, infinity and NaN of both signs
+        final int[] anchors = {0, 1, Float.floatToRawIntBits(1.0f), Float.floatToRawIntBits(Float.MAX_VALUE),
+                Float.floatToRawIntBits(Float.POSITIVE_INFINITY), Float.floatToRawIntBits(Float.NaN),
+                0x7f800001, Integer.MAX_VALUE};
+        final float[] values = new float[anchors.length * 2 * 5];
+        int n = 0;
+        for (final int anchor : anchors) {
+            for (int delta = -2; delta <= 2; delta++) {
+                values[n++] = Float.intBitsToFloat(anchor + delta);
+                values[n++] = Float.intBitsToFloat((anchor + delta) ^ Integer.MIN_VALUE);
+            }
+        }
+        for (final float a : values) {
+            for (final float b : values) {
+                assertSortableKeyOrder(a, b);
+            }
+        }
+        final Random rnd = new Random(0x6b657974L);
+        final SingleUnumArray a = random(rnd, LENGTH);
+        final SingleUnumArray b = random(rnd, LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            assertSortableKeyOrder(a.get(i), b.get(i));
+        }
+    }
+
+    private static void assertSortableKeyOrder(final float a, final float b) {
+        assertEquals(SingleUnum.valueOf(a) + " vs " + SingleUnum.valueOf(b), SingleUnum.compare(a, b),
+                Integer.signum(Integer.compare(SingleUnum.sortableKey(a), SingleUnum.sortableKey(b))));
+    }
+
+    @Test
+    public void sortAgreesWithComparatorSort() {
+        final Random rnd = new Random(0x736f7275L);
+        for (final int length : new int[] {0, 1, 2, 3, 63, 64, 65, 66, 127, 1000, LENGTH}) {
+            final SingleUnumArray array = random(rnd, length);
+            assertSorted(array.array().clone());
+            //few distinct values leave most radix digits the same for all unums
+            for (int i = 0; i < length; i++) {
+                array.set(i, SPECIAL[rnd.nextInt(4)]);
+            }
+            assertSorted(array.array());
+        }
+    }
+
+    private static void assertSorted(final float[] values) {
+        final Float[] expected = new Float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expected[i] = values[i];
+        }
+        Arrays.sort(expected, SingleUnum::compare);
+        final float[] sorted = values.clone();
+        SingleUnumArray.sort(sorted);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals("length " + values.length + " index " + i + ": " + SingleUnum.valueOf(expected[i]) + " vs " +
+                    SingleUnum.valueOf(sorted[i]), 0, SingleUnum.compare(expected[i], sorted[i]));
+        }
+        final int[] expectedBits = new int[values.length];
+        final int[] sortedBits = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expectedBits[i] = Float.floatToRawIntBits(values[i]);
+            sortedBits[i] = Float.floatToRawIntBits(sorted[i]);
+        }
+        Arrays.sort(expectedBits);
+        Arrays.sort(sortedBits);
+        assertArrayEquals("sort is a permutation", expectedBits, sortedBits);
+    }
+
+    @Test
+    public void binarySearchFindsEqualUnumOrInsertionPoint() {
+        final Random rnd = new Random(0x73656173L);
+        for (final int length : new int[] {0, 1, 63, 65, LENGTH}) {
+            final SingleUnumArray array = random(rnd, length).sort();
+            final SingleUnumArray keys = random(rnd, 1000);
+            for (int k = 0; k < keys.length() + length; k++) {
+                final float key = k < keys.length() ? keys.get(k) : array.get(k - keys.length());
+                final int index = array.binarySearch(key);
+                if (index >= 0) {
+                    assertEquals(0, SingleUnum.compare(array.get(index), key));
+                } else {
+                    final int insertion = -index - 1;
+                    assertTrue(insertion == 0 || SingleUnum.compare(array.get(insertion - 1), key) < 0);
+                    assertTrue(insertion == length || SingleUnum.compare(array.get(insertion), key) > 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns random exact and inexact unums of all magnitudes mixed with special values.
+     */
+    static SingleUnumArray random(final Random rnd, final int length) {
+        final SingleUnumArray array = new SingleUnumArray(length);
+        for (int i = 0; i < length; i++) {
+            array.set(i, rnd.nextInt(8) == 0 ? SPECIAL[rnd.nextInt(SPECIAL.length)] : Float.intBitsToFloat(rnd.nextInt()));
+        }
+        return array;
+    }
+
+    private static SingleUnumArray apply(final Kernel kernel, final SingleUnumArray a, final SingleUnumArray b,
+                                         final SingleUnumArray result) {
+        switch (kernel) {
+            case ADD: return a.add(b, result);
+            case MULTIPLY: return a.multiply(b, result);
+            case NEGATE: return a.negate(result);
+            case ABS: return a.abs(result);
+            case MIN: return a.min(b, result);
+            case MAX: return a.max(b, result);
+            case LOWER_BOUND: return a.lowerBound(result);
+            case UPPER_BOUND: return a.upperBound(result);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+
+    private static float apply(final Kernel kernel, final float a, final float b) {
+        switch (kernel) {
+            case ADD: return SingleUnum.add(a, b);
+            case MULTIPLY: return SingleUnum.multiply(a, b);
+            case NEGATE: return SingleUnum.negate(a);
+            case ABS: return SingleUnum.abs(a);
+            case MIN: return SingleUnum.min(a, b);
+            case MAX: return SingleUnum.max(a, b);
+            case LOWER_BOUND: return SingleUnum.getLowerBound(a);
+            case UPPER_BOUND: return SingleUnum.getUpperBound(a);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link SingleUnumMath} results for exact arguments near zero and beyond the double range of exp, exact powers,
+ * and that results for random arguments enclose the double precision result. A result is only allowed to be NaN if
+ * the double result is within a few ulps of an exact float, where the lower and upper functions return the adjacent
+ * open unums.
+ */
+public class SingleUnumMathTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private enum Function {ATAN, SIN, COS, EXP, LOG}
+
+    @Test
+    public void tinyArguments() {
+        assertEquals(Math.nextUp(-2.650419E-14f), SingleUnumMath.atan(-2.650419E-14f), 0f);
+        assertEquals(Math.nextDown(9.9999994E-11f), SingleUnumMath.sin(9.9999994E-11f), 0f);
+        assertEquals(Math.nextUp(1.0f), SingleUnumMath.exp(1e-20f), 0f);
+        assertEquals(Math.nextDown(1.0f), SingleUnumMath.exp(-1e-20f), 0f);
+        assertEquals(Math.nextDown(1.0f), SingleUnumMath.cos(1e-20f), 0f);
+        assertEquals(Math.nextDown(1.0f), SingleUnumMath.cos(-Float.MIN_NORMAL), 0f);
+        assertEquals(Float.MIN_VALUE, SingleUnumMath.sin(2 * Float.MIN_VALUE), 0f);
+    }
+
+    @Test
+    public void expBeyondDoubleRange() {
+        assertEquals(Float.MAX_VALUE, SingleUnumMath.exp(710f), 0f);
+        assertEquals(Float.MAX_VALUE, SingleUnumMath.exp(1e30f), 0f);
+        assertEquals(Float.MIN_VALUE, SingleUnumMath.exp(-746f), 0f);
+        assertEquals(Float.MIN_VALUE, SingleUnumMath.exp(-1e30f), 0f);
+        assertEquals(Float.POSITIVE_INFINITY, SingleUnumMath.exp(Float.POSITIVE_INFINITY), 0f);
+        assertEquals(0f, SingleUnumMath.exp(Float.NEGATIVE_INFINITY), 0f);
+    }
+
+    @Test
+    public void expNearDoubleUnderflow() {
+        //exp is a double subnormal from about -745.1 to -708.4 and below the smallest float from about -103.9
+        for (float x = -746f; x < -700f; x = Math.nextUp(x)) {
+            assertEquals("exp(" + x + ")", Float.MIN_VALUE, SingleUnumMath.exp(SingleUnum.exact(x)), 0f);
+        }
+        assertEquals(Float.MIN_VALUE, SingleUnumMath.exp(-744.49365f), 0f);
+        assertEquals(Float.MIN_VALUE, SingleUnumMath.exp(-743.9347f), 0f);
+        assertEquals(Float.MIN_VALUE, SingleUnumMath.exp(-104f), 0f);
+        assertFalse(Float.isNaN(SingleUnumMath.exp(-103f)));
+        assertTrue(SingleUnumMath.exp(-103f) > 0);
+    }
+
+    @Test
+    public void exactPowers() {
+        assertEquals(0.125f, SingleUnumMath.pow(0.5f, 3f), 0f);
+        assertEquals(0.0625f, SingleUnumMath.pow(0.25f, 2f), 0f);
+        assertEquals(2.25f, SingleUnumMath.pow(1.5f, 2f), 0f);
+        assertEquals(0.25f, SingleUnumMath.pow(-0.5f, 2f), 0f);
+        assertEquals(-0.125f, SingleUnumMath.pow(-0.5f, 3f), 0f);
+        assertEquals(4f, SingleUnumMath.pow(0.5f, -2f), 0f);
+        assertEquals(0.125f, SingleUnumMath.pow(2f, -3f), 0f);
+        assertEquals(9f, SingleUnumMath.pow(3f, 2f), 0f);
+        assertEquals(-27f, SingleUnumMath.pow(-3f, 3f), 0f);
+        assertEquals(1f, SingleUnumMath.pow(-7f, 0f), 0f);
+        assertEquals(0x1p-126f, SingleUnumMath.pow(0x1p-63f, 2f), 0f);
+        assertEquals(0x1p126f, SingleUnumMath.pow(0x1p-63f, -2f), 0f);
+        assertEquals(Float.POSITIVE_INFINITY, SingleUnumMath.pow(0f, -1f), 0f);
+        assertEquals(0f, SingleUnumMath.pow(0f, 2f), 0f);
+    }
+
+    @Test
+    public void inexactPowers() {
+        assertUnum(1f / 9, SingleUnumMath.pow(3f, -2f));
+        assertUnum(4f / 9, SingleUnumMath.pow(1.5f, -2f));
+        assertUnum(Math.sqrt(2), SingleUnumMath.pow(2f, 0.5f));
+        assertEquals(Float.MIN_VALUE, SingleUnumMath.pow(0.5f, 200f), 0f);
+        assertEquals(-Float.MIN_VALUE, SingleUnumMath.pow(-0.5f, 201f), 0f);
+        assertEquals(Float.MAX_VALUE, SingleUnumMath.pow(2f, 200f), 0f);
+        assertEquals(Float.MAX_VALUE, SingleUnumMath.pow(10f, 0x1p40f), 0f);
+        assertTrue(Float.isNaN(SingleUnumMath.pow(-2f, 0.5f)));
+        assertTrue(Float.isNaN(SingleUnumMath.pow(Math.nextUp(2f), 2f)));
+    }
+
+    @Test
+    public void randomPowers() {
+        final Random rnd = new Random(0x706f7721L);
+        for (int i = 0; i < SAMPLES; i++) {
+            //dyadic bases with up to 8 significant bits, the power is exact if it is an exact unum
+            final float a = SingleUnum.exact(Math.scalb((float)(rnd.nextInt(256) - 128), rnd.nextInt(40) - 20));
+            final int b = rnd.nextInt(12) - (a == 0 ? 0 : 3);
+            final float result = SingleUnumMath.pow(a, b);
+            final BigDecimal power = new BigDecimal(a).pow(Math.abs(b));
+            final BigDecimal y = b < 0 ? BigDecimal.ONE.divide(power, new MathContext(400)) : power;
+            final float f = y.floatValue();
+            if (!Float.isInfinite(f) && !SingleUnum.isInexact(f) && new BigDecimal(f).compareTo(y) == 0) {
+                assertEquals(a + "^" + b, f, result, 0f);
+            } else {
+                assertUnum(y.doubleValue(), result);
+            }
+        }
+    }
+
+    @Test
+    public void logarithms() {
+        assertEquals(0f, SingleUnumMath.log(1f), 0f);
+        assertEquals(Float.NEGATIVE_INFINITY, SingleUnumMath.log(0f), 0f);
+        assertEquals(Float.POSITIVE_INFINITY, SingleUnumMath.log(Float.POSITIVE_INFINITY), 0f);
+        assertTrue(Float.isNaN(SingleUnumMath.log(-1f)));
+        assertTrue(Float.isNaN(SingleUnumMath.logLower(Math.nextDown(0f))));
+        assertEquals(Float.NEGATIVE_INFINITY, SingleUnumMath.logLower(0f), 0f);
+        assertUnum(Math.log(2), SingleUnumMath.log(2f));
+        //(0, minsub) has the open lower bound -inf
+        assertEquals(SingleUnum.overflow(-1f), SingleUnumMath.logLower(Float.MIN_VALUE), 0f);
+    }
+
+    @Test
+    public void smallArgumentsAreSingleUnums() {
+        final Random rnd = new Random(0x736d616cL);
+        for (final Function function : Function.values()) {
+            if (function == Function.LOG) {
+                continue;
+            }
+            for (int i = 0; i < SAMPLES; i++) {
+                //exact arguments from the smallest subnormal to 2^-10
+                final float x = SingleUnum.exact(Math.scalb(1 + rnd.nextFloat(), -rnd.nextInt(140) - 11) * (rnd.nextBoolean() ? 1 : -1));
+                if (x == 0) {
+                    continue;
+                }
+                final float result = apply(function, x);
+                assertFalse(function + "(" + x + ")", Float.isNaN(result));
+                assertEncloses(function, x, result);
+            }
+        }
+    }
+
+    @Test
+    public void randomArgumentsEncloseDoubleResult() {
+        final Random rnd = new Random(0x72616e64L);
+        for (final Function function : Function.values()) {
+            for (int i = 0; i < SAMPLES; i++) {
+                final float x = SingleUnum.exact(Math.scalb(1 + rnd.nextFloat(), rnd.nextInt(150) - 140) * (rnd.nextBoolean() ? 1 : -1));
+                if (function == Function.LOG & x < 0) {
+                    continue;
+                }
+                final float result = apply(function, x);
+                if (Float.isNaN(result)) {
+                    assertNearExactFloat(function, x);
+                } else {
+                    assertEncloses(function, x, result);
+                }
+            }
+        }
+    }
+
+    private static float apply(final Function function, final float x) {
+        switch (function) {
+            case ATAN: return SingleUnumMath.atan(x);
+            case SIN: return SingleUnumMath.sin(x);
+            case COS: return SingleUnumMath.cos(x);
+            case EXP: return SingleUnumMath.exp(x);
+            case LOG: return SingleUnumMath.log(x);
+            default: throw new IllegalArgumentException("invalid function: " + function);
+        }
+    }
+
+    private static void assertEncloses(final Function function, final float x, final float result) {
+        final double y = evaluate(function, x);
+        //the double result may round to the open end of the unum
+        final String msg = function + "(" + x + ") = " + SingleUnum.toString(result) + " but double result is " + y;
+        assertTrue(msg, SingleUnum.getLowerBound(result) <= y & y <= SingleUnum.getUpperBound(result));
+    }
+
+    private static double evaluate(final Function function, final float x) {
+        switch (function) {
+            case ATAN: return Math.atan(x);
+            case SIN: return Math.sin(x);
+            case COS: return Math.cos(x);
+            case EXP: return Math.exp(x);
+            case LOG: return Math.log(x);
+            default: throw new IllegalArgumentException("invalid function: " + function);
+        }
+    }
+
+    private static float applyLower(final Function function, final float x) {
+        switch (function) {
+            case ATAN: return SingleUnumMath.atanLower(x);
+            case SIN: return SingleUnumMath.sinLower(x, x);
+            case COS: return SingleUnumMath.cosLower(x, x);
+            case EXP: return SingleUnumMath.expLower(x);
+            case LOG: return SingleUnumMath.logLower(x);
+            default: throw new IllegalArgumentException("invalid function: " + function);
+        }
+    }
+
+    private static float applyUpper(final Function function, final float x) {
+        switch (function) {
+            case ATAN: return SingleUnumMath.atanUpper(x);
+            case SIN: return SingleUnumMath.sinUpper(x, x);
+            case COS: return SingleUnumMath.cosUpper(x, x);
+            case EXP: return SingleUnumMath.expUpper(x);
+            case LOG: return SingleUnumMath.logUpper(x);
+            default: throw new IllegalArgumentException("invalid function: " + function);
+        }
+    }
+
+    /**
+     * Asserts that a NaN result is due to an exact float within a few double ulps of the double result, the lower and
+     * upper functions then return the open unums below and above it.
+     */
+    private static void assertNearExactFloat(final Function function, final float x) {
+        final double y = evaluate(function, x);
+        final float lower = applyLower(function, x);
+        final float upper = applyUpper(function, x);
+        final float exact = SingleUnum.getUpperBound(lower);
+        final String msg = function + "(" + x + ") is NaN with double result " + y + " and bounds "
+                + SingleUnum.toString(lower) + ", " + SingleUnum.toString(upper);
+        assertTrue(msg, SingleUnum.isInexact(lower) & SingleUnum.isInexact(upper));
+        assertEquals(msg, exact, SingleUnum.getLowerBound(upper), 0f);
+        assertTrue(msg, Math.abs(y - exact) <= 4 * Math.ulp(y));
+    }
+
+    /**
+     * Asserts that the result is an open one-ulp unum enclosing y.
+     */
+    private static void assertUnum(final double y, final float result) {
+        final String msg = SingleUnum.toString(result) + " does not enclose " + y;
+        assertTrue(msg, SingleUnum.isInexact(result));
+        assertTrue(msg, SingleUnum.getLowerBound(result) < y & y < SingleUnum.getUpperBound(result));
+    }
+}
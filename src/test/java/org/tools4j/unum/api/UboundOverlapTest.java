@@ -0,0 +1,285 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks ubound overlap, intersect, span and comparisons of {@link DefaultUbound}, {@link DoubleUboundArray} and
+ * {@link SingleUboundArray} against a point-set model. Unums are generated from ordinals that are monotonic in value
+ * with even ordinals for exact unums and odd ordinals for the open intervals between them, hence a ubound is the
+ * contiguous ordinal range from lower to upper unum.
+ */
+public class UboundOverlapTest {
+
+    private static final int PAIRS = 200_000;
+    private static final int SPAN = 16;
+    private static final long DOUBLE_INF = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+    private static final long SINGLE_INF = Float.floatToRawIntBits(Float.POSITIVE_INFINITY);
+    private static final long NAN = Long.MIN_VALUE;
+
+    @Test
+    public void overlapExamples() {
+        assertEquals(Ubound.Overlap.EMPTY, overlap(closedOpen(2, 3), Ubound.create(DoubleUnum.QNAN)));
+        assertEquals(Ubound.Overlap.APART, overlap(openClosed(2, 3), open(4, 5)));
+        assertEquals(Ubound.Overlap.NEARLY_TOUCHING, overlap(openClosed(2, 3), open(3, 4)));
+        assertEquals(Ubound.Overlap.NEARLY_TOUCHING, overlap(open(2, 3), open(3, 4)));
+        assertEquals(Ubound.Overlap.TOUCHING, overlap(openClosed(2, 3), closedOpen(3, 4)));
+        assertEquals(Ubound.Overlap.OVERLAPPING, overlap(openClosed(2, 3), open(2.5, 4)));
+        assertEquals(Ubound.Overlap.CONTAINING, overlap(openClosed(2, 3), closed(2.5, 2.75)));
+        assertEquals(Ubound.Overlap.CONTAINING, overlap(openClosed(2, 3), open(2, 3)));
+        assertEquals(Ubound.Overlap.CONTAINING, overlap(openClosed(2, 3), closed(3, 3)));
+        assertEquals(Ubound.Overlap.EQUAL, overlap(open(2, 3), open(2, 3)));
+        assertEquals(Ubound.Overlap.EMPTY, overlap(Ubound.create(DoubleUnum.QNAN), Ubound.create(DoubleUnum.QNAN)));
+    }
+
+    @Test
+    public void doubleUboundsAgreeWithPointSets() {
+        final Random rnd = new Random(0x756e756dL);
+        final DoubleUboundArray a = new DoubleUboundArray(PAIRS);
+        final DoubleUboundArray b = new DoubleUboundArray(PAIRS);
+        final long[][] ranges = new long[PAIRS][];
+        for (int i = 0; i < PAIRS; i++) {
+            final long[] r = ranges[i] = randomRanges(rnd, DOUBLE_INF);
+            a.set(i, doubleUnum(rnd, r[0]), doubleUnum(rnd, r[1]));
+            b.set(i, doubleUnum(rnd, r[2]), doubleUnum(rnd, r[3]));
+        }
+        final byte[] overlap = a.overlap(b, new byte[PAIRS]);
+        final DoubleUboundArray intersect = a.intersect(b, new DoubleUboundArray(PAIRS));
+        final DoubleUboundArray span = a.span(b, new DoubleUboundArray(PAIRS));
+        final boolean[] lessThan = a.isLessThan(b, new boolean[PAIRS]);
+        final boolean[] somewhereEqual = a.isSomewhereEqualTo(b, new boolean[PAIRS]);
+        for (int i = 0; i < PAIRS; i++) {
+            final long[] r = ranges[i];
+            final String msg = a.get(i) + " vs " + b.get(i);
+            final Ubound.Overlap expected = overlap(r);
+            final Ubound<DoubleUnum> ua = a.get(i);
+            final Ubound<DoubleUnum> ub = b.get(i);
+            assertEquals(msg, expected, DoubleUboundArray.overlapOf(overlap[i]));
+            assertEquals(msg, expected, ua.overlap(ub));
+            assertEquals(msg, expected.isSomewhereEqual(), somewhereEqual[i]);
+            assertEquals(msg, expected.isSomewhereEqual(), ua.isSomewhereEqualTo(ub));
+            assertEquals(msg, isLessThan(r), lessThan[i]);
+            assertEquals(msg, isLessThan(r), ua.isLessThan(ub));
+            assertEquals(msg, isLessThanOrEqualTo(r), ua.isLessThanOrEqualTo(ub));
+            assertEquals(msg, isLessThan(swap(r)), ua.isGreaterThan(ub));
+            assertEquals(msg, isLessThanOrEqualTo(swap(r)), ua.isGreaterThanOrEqualTo(ub));
+            assertEquals(msg, intersect(r), range(intersect.getLower(i), intersect.getUpper(i)));
+            assertEquals(msg, intersect(r), range(ua.intersect(ub)));
+            assertEquals(msg, span(r), range(span.getLower(i), span.getUpper(i)));
+            assertEquals(msg, span(r), range(ua.span(ub)));
+        }
+    }
+
+    @Test
+    public void singleUboundsAgreeWithPointSets() {
+        final Random rnd = new Random(0x756e756dL);
+        final SingleUboundArray a = new SingleUboundArray(PAIRS);
+        final SingleUboundArray b = new SingleUboundArray(PAIRS);
+        final long[][] ranges = new long[PAIRS][];
+        for (int i = 0; i < PAIRS; i++) {
+            final long[] r = ranges[i] = randomRanges(rnd, SINGLE_INF);
+            a.set(i, singleUnum(rnd, r[0]), singleUnum(rnd, r[1]));
+            b.set(i, singleUnum(rnd, r[2]), singleUnum(rnd, r[3]));
+        }
+        final byte[] overlap = a.overlap(b, new byte[PAIRS]);
+        final SingleUboundArray intersect = a.intersect(b, new SingleUboundArray(PAIRS));
+        final SingleUboundArray span = a.span(b, new SingleUboundArray(PAIRS));
+        final boolean[] lessThan = a.isLessThan(b, new boolean[PAIRS]);
+        final boolean[] somewhereEqual = a.isSomewhereEqualTo(b, new boolean[PAIRS]);
+        for (int i = 0; i < PAIRS; i++) {
+            final long[] r = ranges[i];
+            final String msg = a.get(i) + " vs " + b.get(i);
+            final Ubound.Overlap expected = overlap(r);
+            final Ubound<SingleUnum> ua = a.get(i);
+            final Ubound<SingleUnum> ub = b.get(i);
+            assertEquals(msg, expected, SingleUboundArray.overlapOf(overlap[i]));
+            assertEquals(msg, expected, ua.overlap(ub));
+            assertEquals(msg, expected.isSomewhereEqual(), somewhereEqual[i]);
+            assertEquals(msg, expected.isSomewhereEqual(), ua.isSomewhereEqualTo(ub));
+            assertEquals(msg, isLessThan(r), lessThan[i]);
+            assertEquals(msg, isLessThan(r), ua.isLessThan(ub));
+            assertEquals(msg, isLessThanOrEqualTo(r), ua.isLessThanOrEqualTo(ub));
+            assertEquals(msg, isLessThan(swap(r)), ua.isGreaterThan(ub));
+            assertEquals(msg, isLessThanOrEqualTo(swap(r)), ua.isGreaterThanOrEqualTo(ub));
+            assertEquals(msg, intersect(r), range(intersect.getLower(i), intersect.getUpper(i)));
+            assertEquals(msg, intersect(r), range(ua.intersect(ub)));
+            assertEquals(msg, span(r), range(span.getLower(i), span.getUpper(i)));
+            assertEquals(msg, span(r), range(ua.span(ub)));
+        }
+    }
+
+    //point-set model on ordinal ranges r = {aLower, aUpper, bLower, bUpper}, with NAN for a NaN ubound
+
+    private static Ubound.Overlap overlap(final long[] r) {
+        if (r[0] == NAN | r[2] == NAN) {
+            return Ubound.Overlap.EMPTY;
+        }
+        final long lower = Math.max(r[0], r[2]);
+        final long upper = Math.min(r[1], r[3]);
+        if (lower > upper) {
+            //touching if a common end point is open for at least one ubound, that is, if no point lies between the
+            //ubounds or only the exact end point of two open ends
+            final boolean touching = lower == upper + 1 || (lower == upper + 2 && (upper & 1) != 0);
+            return touching ? Ubound.Overlap.NEARLY_TOUCHING : Ubound.Overlap.APART;
+        }
+        final boolean aInB = r[2] <= r[0] & r[1] <= r[3];
+        final boolean bInA = r[0] <= r[2] & r[3] <= r[1];
+        if (aInB & bInA) {
+            return Ubound.Overlap.EQUAL;
+        }
+        if (aInB | bInA) {
+            return Ubound.Overlap.CONTAINING;
+        }
+        return lower == upper && (lower & 1) == 0 ? Ubound.Overlap.TOUCHING : Ubound.Overlap.OVERLAPPING;
+    }
+
+    private static boolean isLessThan(final long[] r) {
+        return r[0] != NAN & r[2] != NAN && r[1] < r[2];
+    }
+
+    private static boolean isLessThanOrEqualTo(final long[] r) {
+        //the same unum is less than or equal to itself only if exact
+        return r[0] != NAN & r[2] != NAN && (r[1] < r[2] || (r[1] == r[2] && (r[1] & 1) == 0));
+    }
+
+    private static long[] swap(final long[] r) {
+        return new long[] {r[2], r[3], r[0], r[1]};
+    }
+
+    private static String intersect(final long[] r) {
+        if (!overlap(r).isSomewhereEqual()) {
+            return "NaN";
+        }
+        return "[" + Math.max(r[0], r[2]) + ", " + Math.min(r[1], r[3]) + "]";
+    }
+
+    private static String span(final long[] r) {
+        if (r[0] == NAN) {
+            return r[2] == NAN ? "NaN" : "[" + r[2] + ", " + r[3] + "]";
+        }
+        if (r[2] == NAN) {
+            return "[" + r[0] + ", " + r[1] + "]";
+        }
+        return "[" + Math.min(r[0], r[2]) + ", " + Math.max(r[1], r[3]) + "]";
+    }
+
+    /**
+     * Returns random ordinal ranges for two ubounds with endpoints near zero or near infinity, occasionally NaN.
+     */
+    private static long[] randomRanges(final Random rnd, final long inf) {
+        final long[] r = new long[4];
+        for (int i = 0; i < 4; i++) {
+            final int region = rnd.nextInt(4);
+            final long base = region == 0 ? -inf : region == 1 ? inf - 2 * SPAN : -SPAN;
+            r[i] = base + rnd.nextInt(2 * SPAN + 1);
+        }
+        for (int i = 0; i < 4; i += 2) {
+            if (rnd.nextInt(64) == 0) {
+                r[i] = r[i + 1] = NAN;
+            } else if (r[i] > r[i + 1]) {
+                final long tmp = r[i];
+                r[i] = r[i + 1];
+                r[i + 1] = tmp;
+            }
+        }
+        return r;
+    }
+
+    private static double doubleUnum(final Random rnd, final long ordinal) {
+        if (ordinal == NAN) {
+            return Doubles.QNAN;
+        }
+        if (ordinal == 0) {
+            return rnd.nextBoolean() ? 0.0 : -0.0;
+        }
+        return Double.longBitsToDouble(ordinal > 0 ? ordinal : Long.MIN_VALUE | -ordinal);
+    }
+
+    private static float singleUnum(final Random rnd, final long ordinal) {
+        if (ordinal == NAN) {
+            return Singles.QNAN;
+        }
+        if (ordinal == 0) {
+            return rnd.nextBoolean() ? 0.0f : -0.0f;
+        }
+        return Float.intBitsToFloat(ordinal > 0 ? (int)ordinal : Integer.MIN_VALUE | (int)-ordinal);
+    }
+
+    private static String range(final double lower, final double upper) {
+        if (DoubleUboundArray.isNaN(lower, upper)) {
+            return "NaN";
+        }
+        return "[" + DoubleUnum.sortableKey(lower) + ", " + DoubleUnum.sortableKey(upper) + "]";
+    }
+
+    private static String range(final float lower, final float upper) {
+        if (SingleUboundArray.isNaN(lower, upper)) {
+            return "NaN";
+        }
+        return "[" + SingleUnum.sortableKey(lower) + ", " + SingleUnum.sortableKey(upper) + "]";
+    }
+
+    private static <U extends Unum<U>> String range(final Ubound<U> ubound) {
+        if (ubound.isNaN()) {
+            return "NaN";
+        }
+        final U lower = ubound.getLowerBound();
+        final U upper = ubound.getUpperBound();
+        if (lower instanceof DoubleUnum) {
+            return range(lower.doubleValue(), upper.doubleValue());
+        }
+        return range(lower.floatValue(), upper.floatValue());
+    }
+
+    private static Ubound.Overlap overlap(final Ubound<DoubleUnum> a, final Ubound<DoubleUnum> b) {
+        final Ubound.Overlap overlap = a.overlap(b);
+        final DoubleUboundArray array = new DoubleUboundArray(1);
+        array.set(0, a);
+        final DoubleUboundArray other = new DoubleUboundArray(1);
+        other.set(0, b);
+        assertEquals(a + " vs " + b, overlap, DoubleUboundArray.overlapOf(array.overlap(other, new byte[1])[0]));
+        return overlap;
+    }
+
+    private static Ubound<DoubleUnum> closed(final double lower, final double upper) {
+        return Ubound.create(DoubleUnum.valueOf(lower), DoubleUnum.valueOf(upper));
+    }
+
+    private static Ubound<DoubleUnum> open(final double lower, final double upper) {
+        return Ubound.create(DoubleUnum.inexactValueOf(lower), DoubleUnum.valueOf(Math.nextDown(upper)));
+    }
+
+    private static Ubound<DoubleUnum> openClosed(final double lower, final double upper) {
+        return Ubound.create(DoubleUnum.inexactValueOf(lower), DoubleUnum.valueOf(upper));
+    }
+
+    private static Ubound<DoubleUnum> closedOpen(final double lower, final double upper) {
+        return Ubound.create(DoubleUnum.valueOf(lower), DoubleUnum.valueOf(Math.nextDown(upper)));
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link Ubound#unify(double)} for examples and for random LongUnum ubounds: a unified unum describes the same
+ * set as the ubound or encloses it within the accepted width increase, and the ubound split into narrower unums of an
+ * open unum is unified back into an equal set with no more bits.
+ */
+public class UboundUnifyTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void unifyExamples() {
+        final DoubleUnum d = DoubleUnum.valueOf(1.0).nextUp();
+        assertEquals(d, Ubound.create(d).unify());
+        assertEquals(DoubleUnum.valueOf(2.0), Ubound.create(DoubleUnum.valueOf(2.0)).unify());
+        assertTrue(Ubound.create(DoubleUnum.valueOf(1.0), DoubleUnum.valueOf(2.0)).unify().isNaN());
+        assertTrue(Ubound.create(d, d.nextUp().nextUp()).unify(1.0).isNaN());
+        assertTrue(DoubleUnum.UBOUND_QNAN.unify().isNaN());
+        final SingleUnum s = SingleUnum.valueOf(-3f).nextDown();
+        assertEquals(s, Ubound.create(s).unify());
+        assertTrue(Ubound.create(s, SingleUnum.valueOf(-3f)).unify().isNaN());
+
+        final LongUnum one = LongUnum.valueOf(1.0);
+        final LongUnum two = LongUnum.valueOf(2.0);
+        assertEquals("(1.0, 2.0)", Ubound.create(one.nextUp(), two.nextDown()).unify().toString());
+        assertEquals("(-2.0, -1.0)", Ubound.create(LongUnum.valueOf(-1.5), LongUnum.valueOf(-1.25).nextUp()).unify(3).toString());
+        //the exact 1.5 is inside (1, 2) which is wider than the ubound
+        assertTrue(Ubound.create(LongUnum.valueOf(1.5), LongUnum.valueOf(1.75)).unify().isNaN());
+        assertEquals("(1.0, 2.0)", Ubound.create(LongUnum.valueOf(1.5), LongUnum.valueOf(1.75)).unify(3).toString());
+        assertTrue(Ubound.create(LongUnum.valueOf(1.5), LongUnum.valueOf(1.75)).unify(2.5).isNaN());
+        //no single unum has 1 in its interior and 2 as upper bound
+        assertTrue(Ubound.create(one, two.nextDown()).unify(10).isNaN());
+        //unums on both sides of zero
+        assertTrue(Ubound.create(one.negate(), one).unify(10).isNaN());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWidthIncreaseIsInvalid() {
+        Ubound.create(LongUnum.ONE).unify(-1);
+    }
+
+    @Test
+    public void splitOpenUnumsAreUnifiedToEqualSet() {
+        final Random rnd = new Random(0x756e6966L);
+        int unified = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum unum = randomOpen(rnd);
+            if (unum.isNaN() | unum.getLowerBound().isInfinite() | unum.getUpperBound().isInfinite()) {
+                continue;
+            }
+            //the first and last of the 2^k narrower unums covering the open unum
+            final int k = 1 + rnd.nextInt(64 - LongUnum.fractionSize(unum.packed()));
+            final LongUnum lower = pad(unum, k, 0);
+            final LongUnum upper = pad(unum, k, (1L << k) - 1);
+            final Ubound<LongUnum> ubound = Ubound.create(unum.isNegative() ? upper : lower, unum.isNegative() ? lower : upper);
+            final LongUnum result = ubound.unify();
+            final String msg = ubound + " unified to " + result + " but expected " + unum;
+            assertTrue(msg, sameSet(result, ubound));
+            assertTrue(msg, LongUnum.bits(result.packed()) <= LongUnum.bits(unum.packed()));
+            unified++;
+        }
+        assertTrue(unified > SAMPLES / 2);
+    }
+
+    @Test
+    public void unifiedUnumsEncloseUbound() {
+        final Random rnd = new Random(0x656e636cL);
+        final double[] widthIncreases = {0, 0.5, 1, 4, 100};
+        int unified = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum a = randomUnum(rnd);
+            LongUnum b = a;
+            for (int steps = rnd.nextInt(8); steps > 0; steps--) {
+                b = b.nextUp();
+            }
+            if (b.isNaN()) {
+                continue;
+            }
+            final Ubound<LongUnum> ubound = Ubound.create(a, b);
+            for (final double widthIncrease : widthIncreases) {
+                final LongUnum result = ubound.unify(widthIncrease);
+                if (result.isNaN()) {
+                    continue;
+                }
+                final String msg = ubound + " unified with " + widthIncrease + " to " + result;
+                assertTrue(msg, encloses(result, ubound));
+                if (widthIncrease == 0) {
+                    assertTrue(msg, sameSet(result, ubound));
+                } else {
+                    final double width = width(ubound.getLowerBound(), ubound.getUpperBound());
+                    assertTrue(msg, width(result, result) <= width * (1 + widthIncrease));
+                }
+                unified++;
+            }
+        }
+        assertTrue(unified > 0);
+    }
+
+    @Test
+    public void unifiedUnumsHaveSameBitsAsSplit() {
+        //unify and split are inverse for the unums returned by unify
+        final Random rnd = new Random(0x62697473L);
+        for (int i = 0; i < SAMPLES; i++) {
+            final LongUnum unum = randomOpen(rnd);
+            if (unum.isNaN() | unum.getLowerBound().isInfinite() | unum.getUpperBound().isInfinite()) {
+                continue;
+            }
+            final LongUnum optimized = unum.optimize();
+            final LongUnum result = Ubound.create(optimized).unify();
+            assertEquals(optimized, result);
+            assertFalse(optimized + " has more bits than " + unum, LongUnum.bits(optimized.packed()) > LongUnum.bits(unum.packed()));
+        }
+    }
+
+    /**
+     * Returns true if the unum describes the same set as the ubound.
+     */
+    private static boolean sameSet(final LongUnum unum, final Ubound<LongUnum> ubound) {
+        return !unum.isNaN() && encloses(unum, ubound)
+                && unum.isInexact() == ubound.getLowerBound().isInexact()
+                && unum.isInexact() == ubound.getUpperBound().isInexact()
+                && unum.getLowerBound().compareTo(ubound.getLowerBound().getLowerBound()) == 0
+                && unum.getUpperBound().compareTo(ubound.getUpperBound().getUpperBound()) == 0;
+    }
+
+    /**
+     * Returns true if all points of the ubound are in the unum.
+     */
+    private static boolean encloses(final LongUnum unum, final Ubound<LongUnum> ubound) {
+        final int cmpLower = unum.getLowerBound().compareTo(ubound.getLowerBound().getLowerBound());
+        final int cmpUpper = unum.getUpperBound().compareTo(ubound.getUpperBound().getUpperBound());
+        return (cmpLower < 0 | (cmpLower == 0 & (unum.isExact() | ubound.getLowerBound().isInexact())))
+                & (cmpUpper > 0 | (cmpUpper == 0 & (unum.isExact() | ubound.getUpperBound().isInexact())));
+    }
+
+    private static double width(final LongUnum lower, final LongUnum upper) {
+        return upper.getUpperBound().doubleValue() - lower.getLowerBound().doubleValue();
+    }
+
+    /**
+     * Returns the unum with k more fraction bits and the given low fraction bits, an exact unum is unchanged in value
+     * and an open unum becomes one of the 2^k open unums it contains.
+     */
+    static LongUnum pad(final LongUnum unum, final int k, final long low) {
+        final long packed = unum.packed();
+        final int fractionSize = LongUnum.fractionSize(packed);
+        return LongUnum.valueOf(LongUnum.sign(packed), LongUnum.exponent(packed), (unum.fraction() << k) | low,
+                LongUnum.ubit(packed), LongUnum.exponentSize(packed), (byte)(fractionSize + k));
+    }
+
+    /**
+     * Returns an open unum with random exponent and fraction sizes that are not necessarily minimal.
+     */
+    static LongUnum randomOpen(final Random rnd) {
+        return random(rnd, (byte)1);
+    }
+
+    static LongUnum random(final Random rnd, final byte ubit) {
+        final byte exponentSize = (byte)(1 + rnd.nextInt(8));
+        final byte fractionSize = (byte)(1 + rnd.nextInt(40));
+        final int exponent = rnd.nextInt(1 << exponentSize);
+        final long fraction = rnd.nextLong() >>> (64 - fractionSize);
+        //trailing zero fraction bits make the fraction size longer than needed for exact unums
+        final long shifted = fraction >>> rnd.nextInt(fractionSize) << rnd.nextInt(fractionSize);
+        final long f = shifted & (fractionSize == 64 ? -1L : (1L << fractionSize) - 1);
+        return LongUnum.valueOf(rnd.nextBoolean() ? (byte)0 : (byte)-1, exponent, f, ubit, exponentSize, fractionSize);
+    }
+
+    private static LongUnum randomUnum(final Random rnd) {
+        return random(rnd, rnd.nextBoolean() ? (byte)1 : (byte)0);
+    }
+}
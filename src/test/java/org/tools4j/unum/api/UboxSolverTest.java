@@ -0,0 +1,77 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the split point and the solution set of {@link UboxSolver} for all unum types.
+ */
+public class UboxSolverTest {
+
+    @Test
+    public void splitPointIsMidpoint() {
+        assertEquals(DoubleUnum.TWO, UboxSolver.splitPoint(DoubleUnum.ONE, DoubleUnum.valueOf(3.0)));
+        assertEquals(SingleUnum.TWO, UboxSolver.splitPoint(SingleUnum.ONE, SingleUnum.valueOf(3f)));
+        assertEquals(LongUnum.TWO, UboxSolver.splitPoint(LongUnum.ONE, LongUnum.valueOf(3.0)));
+        assertEquals(SingleUnum.valueOf(-0.25f), UboxSolver.splitPoint(SingleUnum.valueOf(-1f).nextUp(), SingleUnum.valueOf(0.5f)));
+        assertEquals(SingleUnum.ZERO, UboxSolver.splitPoint(SingleUnum.NEGATIVE_INFINITY, SingleUnum.ONE));
+    }
+
+    @Test
+    public void unitCircle() {
+        assertUnitCircle(DoubleUnum.FACTORY);
+        assertUnitCircle(SingleUnum.FACTORY);
+        assertUnitCircle(LongUnum.FACTORY);
+    }
+
+    private static <U extends Unum<U>> void assertUnitCircle(final Factory<U> factory) {
+        final Ubound<U> one = Ubound.create(factory.one());
+        final Ubound<U> domain = Ubound.create(factory.one().negate(), factory.one().add(factory.one()));
+        final UboxSolver<U> solver = new UboxSolver<>(ubox -> circle(ubox).isSomewhereEqualTo(one), 1.0 / 16);
+        final List<List<Ubound<U>>> solutions = solver.solve(domain, domain);
+        assertFalse(solutions.isEmpty());
+        double area = 0;
+        for (final List<Ubound<U>> ubox : solutions) {
+            assertTrue(ubox.toString(), circle(ubox).isSomewhereEqualTo(one));
+            area += width(ubox.get(0)) * width(ubox.get(1));
+        }
+        //the solution boxes cover the circle, a narrow band around it
+        assertTrue("area " + area, area < 2.0);
+    }
+
+    private static <U extends Unum<U>> Ubound<U> circle(final List<Ubound<U>> ubox) {
+        return ubox.get(0).square().add(ubox.get(1).square());
+    }
+
+    private static <U extends Unum<U>> double width(final Ubound<U> ubound) {
+        return ubound.getUpperBound().getUpperBound().doubleValue() - ubound.getLowerBound().getLowerBound().doubleValue();
+    }
+}
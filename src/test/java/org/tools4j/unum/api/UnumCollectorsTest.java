@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the parallel array reductions of {@link UnumCollectors} against the sequential ones: min, max and count
+ * are exact and must be equal, sums of the statistics must enclose the exact sum of the exact unums.
+ */
+public class UnumCollectorsTest {
+
+    private static final int LENGTH = 100_000;
+
+    @Test
+    public void parallelDoubleReductionsAgreeWithSequential() {
+        final Random rnd = new Random(0x756e756dL);
+        final double[] unums = new double[LENGTH];
+        BigDecimal exact = BigDecimal.ZERO;
+        for (int i = 0; i < LENGTH; i++) {
+            final double value = DoubleUnum.valueOf(rnd.nextGaussian() * 1e6).getLowerBound().doubleValue();
+            unums[i] = value;
+            exact = exact.add(new BigDecimal(value));
+        }
+        assertEquals(UnumCollectors.min(unums), UnumCollectors.parallelMin(unums));
+        assertEquals(UnumCollectors.max(unums), UnumCollectors.parallelMax(unums));
+        assertEncloses(exact, UnumCollectors.sum(unums));
+        final UboundSummaryStatistics<DoubleUnum> statistics = UnumCollectors.parallelSummaryStatistics(unums);
+        assertEquals(LENGTH, statistics.getCount());
+        assertEquals(UnumCollectors.min(unums), statistics.getMin());
+        assertEquals(UnumCollectors.max(unums), statistics.getMax());
+        assertEncloses(exact, statistics.getSum());
+    }
+
+    @Test
+    public void parallelFloatReductionsAgreeWithSequential() {
+        final Random rnd = new Random(0x756e756dL);
+        final float[] unums = new float[LENGTH];
+        BigDecimal exact = BigDecimal.ZERO;
+        for (int i = 0; i < LENGTH; i++) {
+            final float value = SingleUnum.valueOf((float)(rnd.nextGaussian() * 1e3)).getLowerBound().floatValue();
+            unums[i] = value;
+            exact = exact.add(new BigDecimal(value));
+        }
+        assertEquals(UnumCollectors.min(unums), UnumCollectors.parallelMin(unums));
+        assertEquals(UnumCollectors.max(unums), UnumCollectors.parallelMax(unums));
+        assertEncloses(exact, UnumCollectors.sum(unums));
+        final UboundSummaryStatistics<SingleUnum> sequential = UnumCollectors.summaryStatistics(unums);
+        final UboundSummaryStatistics<SingleUnum> parallel = UnumCollectors.parallelSummaryStatistics(unums);
+        assertEquals(LENGTH, sequential.getCount());
+        assertEquals(LENGTH, parallel.getCount());
+        assertEquals(sequential.getMin(), parallel.getMin());
+        assertEquals(sequential.getMax(), parallel.getMax());
+        assertEncloses(exact, parallel.getSum());
+    }
+
+    @Test
+    public void emptyArrays() {
+        final UboundSummaryStatistics<SingleUnum> statistics = UnumCollectors.parallelSummaryStatistics(new float[0]);
+        assertEquals(0, statistics.getCount());
+        assertEquals(UnumCollectors.summaryStatistics(new float[0]).getSum(), statistics.getSum());
+        assertTrue(UnumCollectors.max(new float[0]).isNaN());
+        assertTrue(UnumCollectors.parallelMax(new float[0]).isNaN());
+    }
+
+    private static void assertEncloses(final BigDecimal exact, final Ubound<?> sum) {
+        final BigDecimal lower = new BigDecimal(sum.getLowerBound().getLowerBound().doubleValue());
+        final BigDecimal upper = new BigDecimal(sum.getUpperBound().getUpperBound().doubleValue());
+        assertTrue(exact + " not in " + sum, lower.compareTo(exact) <= 0 && exact.compareTo(upper) <= 0);
+    }
+}
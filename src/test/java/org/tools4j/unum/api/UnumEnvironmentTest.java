@@ -0,0 +1,132 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that arithmetic through a {@link UnumEnvironment} returns unums that fit into the environment, in particular
+ * for magnitudes beyond maxreal, and that these unums can be written and read back.
+ */
+public class UnumEnvironmentTest {
+
+    private static final int SAMPLES = 2_000;
+
+    @Test
+    public void overflowToMaxrealInf() {
+        final UnumEnvironment environment = UnumEnvironment.get(1, 2);
+        assertEquals("7.5", environment.maxReal().toString());
+        assertEquals(environment.overflow(false), environment.multiply(environment.valueOf(3), environment.valueOf(5)));
+        assertEquals(environment.overflow(false), environment.valueOf(1000.0));
+        assertEquals(environment.overflow(true), environment.valueOf(-1000.0));
+        assertEquals(environment.overflow(false), environment.add(environment.overflow(false), environment.valueOf(1)));
+        assertEquals(environment.overflow(true), environment.multiply(environment.overflow(false), environment.valueOf(-2)));
+        //(4.5, inf) is not a single unum
+        assertTrue(environment.subtract(environment.overflow(false), environment.valueOf(3)).isNaN());
+    }
+
+    @Test
+    public void overflowFitsAllEnvironments() {
+        for (int ess = 0; ess <= UnumEnvironment.MAX_EXPONENT_SIZE_SIZE; ess++) {
+            for (int fss = 0; fss <= UnumEnvironment.MAX_FRACTION_SIZE_SIZE; fss++) {
+                final UnumEnvironment environment = UnumEnvironment.get(ess, fss);
+                final LongUnum overflow = environment.overflow(false);
+                assertTrue(environment + " " + overflow, overflow.isInexact());
+                assertEquals(environment.toString(), 0, overflow.getLowerBound().compareTo(environment.maxReal()));
+                assertTrue(environment.toString(), environment.fits(overflow));
+                assertTrue(environment.toString(), environment.fits(environment.overflow(true)));
+                if (environment.maxReal().compareTo(LongUnum.valueOf(Double.MAX_VALUE)) < 0) {
+                    assertEquals(environment.toString(), overflow, environment.round(LongUnum.valueOf(Double.MAX_VALUE)));
+                }
+                assertEquals(environment.toString(), overflow, environment.round(LongUnum.INF.nextDown()));
+            }
+        }
+        assertEquals(LongUnum.INF.nextDown(), UnumEnvironment.LARGEST.overflow(false));
+    }
+
+    @Test
+    public void arithmeticResultsFitAndRoundTrip() throws IOException {
+        final Random rnd = new Random(0x656e76L);
+        for (int ess = 0; ess <= UnumEnvironment.MAX_EXPONENT_SIZE_SIZE; ess++) {
+            for (int fss = 0; fss <= UnumEnvironment.MAX_FRACTION_SIZE_SIZE; fss++) {
+                final UnumEnvironment environment = UnumEnvironment.get(ess, fss);
+                final LongUnum[] results = new LongUnum[SAMPLES];
+                for (int i = 0; i < SAMPLES; i++) {
+                    final LongUnum a = randomUnum(rnd, environment);
+                    final LongUnum b = randomUnum(rnd, environment);
+                    final LongUnum result;
+                    switch (rnd.nextInt(4)) {
+                        case 0: result = environment.add(a, b); break;
+                        case 1: result = environment.subtract(a, b); break;
+                        case 2: result = environment.multiply(a, b); break;
+                        default: result = environment.divide(a, b); break;
+                    }
+                    //messages are only built on failure, huge unums are slow to print
+                    if (!environment.fits(result)) {
+                        fail(environment + ": " + a + " op " + b + " = " + result + " does not fit");
+                    }
+                    final LongUnum lower = result.abs().getLowerBound();
+                    if (!result.isNaN() && lower.compareTo(environment.maxReal()) > 0 && !lower.isInfinite()) {
+                        fail(environment + ": " + a + " op " + b + " = " + result + " is beyond maxreal");
+                    }
+                    results[i] = result;
+                }
+                final ByteBuffer buffer = ByteBuffer.allocate(SAMPLES * ((environment.maxUbits() + 7) / 8) + 8);
+                final UnumBitWriter writer = new UnumBitWriter(environment, buffer);
+                for (final LongUnum result : results) {
+                    writer.write(result);
+                }
+                writer.flush();
+                buffer.flip();
+                final UnumBitReader reader = new UnumBitReader(environment, buffer);
+                for (final LongUnum result : results) {
+                    assertTrue(reader.next());
+                    if (!result.equals(reader.unum())) {
+                        fail(environment + ": wrote " + result + " but read " + reader.unum());
+                    }
+                }
+            }
+        }
+    }
+
+    private static LongUnum randomUnum(final Random rnd, final UnumEnvironment environment) {
+        //magnitudes around the range of the environment, some beyond maxreal
+        final double value = Math.scalb(rnd.nextDouble(), rnd.nextInt(80) - 40) * (rnd.nextBoolean() ? 1 : -1);
+        final LongUnum unum = environment.valueOf(value);
+        switch (rnd.nextInt(8)) {
+            case 0: return environment.round(unum.nextUp());
+            case 1: return environment.round(unum.nextDown());
+            case 2: return environment.overflow(rnd.nextBoolean());
+            default: return unum;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link UnumReductions} sums and products are bit-identical for pools of different parallelism and array
+ * lengths around the block size, and that sums enclose the exact BigDecimal sum of the unum bounds.
+ */
+public class UnumReductionsTest {
+
+    private static final int[] LENGTHS = {0, 1, UnumReductions.BLOCK_SIZE - 1, UnumReductions.BLOCK_SIZE,
+            UnumReductions.BLOCK_SIZE + 1, 1_000_000};
+    private static final ForkJoinPool[] POOLS = {new ForkJoinPool(1), new ForkJoinPool(2), new ForkJoinPool(3),
+            new ForkJoinPool(16)};
+
+    @AfterClass
+    public static void shutdownPools() {
+        for (final ForkJoinPool pool : POOLS) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void doubleReductionsAreIndependentOfParallelism() {
+        final Random rnd = new Random(0x72656475L);
+        for (final int length : LENGTHS) {
+            final double[] summands = new double[length];
+            final double[] factors = new double[length];
+            BigDecimal lower = BigDecimal.ZERO;
+            BigDecimal upper = BigDecimal.ZERO;
+            for (int i = 0; i < length; i++) {
+                summands[i] = randomDouble(rnd, Math.scalb(rnd.nextGaussian(), rnd.nextInt(40) - 20));
+                factors[i] = randomDouble(rnd, 1 + rnd.nextGaussian() * 1e-3);
+                lower = lower.add(new BigDecimal(DoubleUnum.getLowerBound(summands[i])));
+                upper = upper.add(new BigDecimal(DoubleUnum.getUpperBound(summands[i])));
+            }
+            final Ubound<DoubleUnum> sum = UnumReductions.sum(summands);
+            final Ubound<DoubleUnum> product = UnumReductions.product(factors);
+            for (final ForkJoinPool pool : POOLS) {
+                final String msg = "length " + length + " and parallelism " + pool.getParallelism();
+                assertBitIdentical(msg, sum, UnumReductions.sum(summands, pool));
+                assertBitIdentical(msg, product, UnumReductions.product(factors, pool));
+            }
+            final String msg = sum + " does not enclose [" + lower + ", " + upper + "] for length " + length;
+            assertTrue(msg, new BigDecimal(sum.getLowerBound().getLowerBound().doubleValue()).compareTo(lower) <= 0);
+            assertTrue(msg, new BigDecimal(sum.getUpperBound().getUpperBound().doubleValue()).compareTo(upper) >= 0);
+        }
+    }
+
+    @Test
+    public void floatReductionsAreIndependentOfParallelism() {
+        final Random rnd = new Random(0x72656475L);
+        for (final int length : LENGTHS) {
+            final float[] summands = new float[length];
+            final float[] factors = new float[length];
+            BigDecimal lower = BigDecimal.ZERO;
+            BigDecimal upper = BigDecimal.ZERO;
+            for (int i = 0; i < length; i++) {
+                summands[i] = randomFloat(rnd, Math.scalb((float)rnd.nextGaussian(), rnd.nextInt(20) - 10));
+                factors[i] = randomFloat(rnd, 1 + (float)rnd.nextGaussian() * 1e-3f);
+                lower = lower.add(new BigDecimal(SingleUnum.getLowerBound(summands[i])));
+                upper = upper.add(new BigDecimal(SingleUnum.getUpperBound(summands[i])));
+            }
+            final Ubound<SingleUnum> sum = UnumReductions.sum(summands);
+            final Ubound<SingleUnum> product = UnumReductions.product(factors);
+            for (final ForkJoinPool pool : POOLS) {
+                final String msg = "length " + length + " and parallelism " + pool.getParallelism();
+                assertBitIdentical(msg, sum, UnumReductions.sum(summands, pool));
+                assertBitIdentical(msg, product, UnumReductions.product(factors, pool));
+            }
+            final String msg = sum + " does not enclose [" + lower + ", " + upper + "] for length " + length;
+            assertTrue(msg, new BigDecimal(sum.getLowerBound().getLowerBound().doubleValue()).compareTo(lower) <= 0);
+            assertTrue(msg, new BigDecimal(sum.getUpperBound().getUpperBound().doubleValue()).compareTo(upper) >= 0);
+        }
+    }
+
+    @Test
+    public void emptyReductions() {
+        assertBitIdentical("sum", DoubleUnum.UBOUND_ZERO, UnumReductions.sum(new double[0]));
+        assertBitIdentical("product", DoubleUnum.UBOUND_ONE, UnumReductions.product(new double[0]));
+        assertBitIdentical("sum", SingleUnum.UBOUND_ZERO, UnumReductions.sum(new float[0]));
+        assertBitIdentical("product", SingleUnum.UBOUND_ONE, UnumReductions.product(new float[0]));
+    }
+
+    /**
+     * Returns the exact unum of value or one of its inexact neighbours.
+     */
+    private static double randomDouble(final Random rnd, final double value) {
+        final double exact = DoubleUnum.exact(value);
+        switch (rnd.nextInt(3)) {
+            case 0: return exact;
+            case 1: return Math.nextUp(exact);
+            default: return Math.nextDown(exact);
+        }
+    }
+
+    private static float randomFloat(final Random rnd, final float value) {
+        final float exact = SingleUnum.exact(value);
+        switch (rnd.nextInt(3)) {
+            case 0: return exact;
+            case 1: return Math.nextUp(exact);
+            default: return Math.nextDown(exact);
+        }
+    }
+
+    private static void assertBitIdentical(final String msg, final Ubound<?> expected, final Ubound<?> actual) {
+        assertEquals(msg + ": " + expected + " vs " + actual, bits(expected.getLowerBound()), bits(actual.getLowerBound()));
+        assertEquals(msg + ": " + expected + " vs " + actual, bits(expected.getUpperBound()), bits(actual.getUpperBound()));
+    }
+
+    private static long bits(final Unum<?> unum) {
+        return Double.doubleToRawLongBits(unum.doubleValue());
+    }
+}
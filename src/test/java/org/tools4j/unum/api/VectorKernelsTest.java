@@ -0,0 +1,214 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.api;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks every {@link VectorKernels} kernel against the scalar {@link DoubleUnum} and {@link SingleUnum} operations,
+ * bit for bit on the elements the kernel reports as processed. The Java 8 kernels process no elements; the Gradle
+ * task {@code vectorTest} runs this test with the Java 17 kernels and system property
+ * {@code org.tools4j.unum.api.VectorKernelsTest.required=true}, asserting that the vector kernels are used.
+ */
+public class VectorKernelsTest {
+
+    private static final boolean REQUIRED = Boolean.getBoolean(VectorKernelsTest.class.getName() + ".required");
+    private static final int LENGTH = 4099;
+    private static final int BLOCK = 16;
+
+    private static final double[] DOUBLE_SPECIAL = {0.0, -0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.NaN, Doubles.SNAN, Math.nextDown(Double.POSITIVE_INFINITY), Math.nextUp(Double.NEGATIVE_INFINITY),
+            Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE, -Double.MIN_VALUE, Math.nextUp(0.0),
+            Math.nextDown(-0.0), Double.MIN_NORMAL, 1.0, Math.nextUp(1.0), -1.0, Math.nextDown(-1.0)};
+    private static final float[] FLOAT_SPECIAL = {0.0f, -0.0f, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+            Float.NaN, Singles.SNAN, Math.nextDown(Float.POSITIVE_INFINITY), Math.nextUp(Float.NEGATIVE_INFINITY),
+            Float.MAX_VALUE, -Float.MAX_VALUE, Float.MIN_VALUE, -Float.MIN_VALUE, Math.nextUp(0.0f),
+            Math.nextDown(-0.0f), Float.MIN_NORMAL, 1.0f, Math.nextUp(1.0f), -1.0f, Math.nextDown(-1.0f)};
+
+    private enum Kernel {ADD, MULTIPLY, NEGATE, ABS, MIN, MAX, LOWER_BOUND, UPPER_BOUND}
+
+    @Test
+    public void doubleKernelsAgreeWithScalarOperations() {
+        final Random rnd = new Random(0x76656364L);
+        final double[] a = randomDoubles(rnd);
+        final double[] b = randomDoubles(rnd);
+        for (final Kernel kernel : Kernel.values()) {
+            final double[] result = new double[LENGTH];
+            final int n = apply(kernel, a, b, result);
+            assertProcessed(kernel.toString(), n);
+            for (int i = 0; i < n; i++) {
+                final double expected = apply(kernel, a[i], b[i]);
+                final String msg = kernel + "(" + DoubleUnum.valueOf(a[i]) + ", " + DoubleUnum.valueOf(b[i]) + ")";
+                assertEquals(msg, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(result[i]));
+            }
+        }
+        final int[] compare = new int[LENGTH];
+        final int n = VectorKernels.compare(a, b, compare);
+        assertProcessed("COMPARE", n);
+        for (int i = 0; i < n; i++) {
+            assertEquals(DoubleUnum.valueOf(a[i]) + " vs " + DoubleUnum.valueOf(b[i]),
+                    DoubleUnum.compare(a[i], b[i]), compare[i]);
+        }
+    }
+
+    @Test
+    public void floatKernelsAgreeWithScalarOperations() {
+        final Random rnd = new Random(0x76656373L);
+        final float[] a = randomFloats(rnd);
+        final float[] b = randomFloats(rnd);
+        for (final Kernel kernel : Kernel.values()) {
+            final float[] result = new float[LENGTH];
+            final int n = apply(kernel, a, b, result);
+            assertProcessed(kernel.toString(), n);
+            for (int i = 0; i < n; i++) {
+                final float expected = apply(kernel, a[i], b[i]);
+                final String msg = kernel + "(" + SingleUnum.valueOf(a[i]) + ", " + SingleUnum.valueOf(b[i]) + ")";
+                assertEquals(msg, Float.floatToRawIntBits(expected), Float.floatToRawIntBits(result[i]));
+            }
+        }
+        final int[] compare = new int[LENGTH];
+        final int n = VectorKernels.compare(a, b, compare);
+        assertProcessed("COMPARE", n);
+        for (int i = 0; i < n; i++) {
+            assertEquals(SingleUnum.valueOf(a[i]) + " vs " + SingleUnum.valueOf(b[i]),
+                    SingleUnum.compare(a[i], b[i]), compare[i]);
+        }
+    }
+
+    private static void assertProcessed(final String kernel, final int n) {
+        assertTrue(kernel + " processed " + n + " of " + LENGTH, 0 <= n && n <= LENGTH);
+        if (REQUIRED) {
+            assertTrue(kernel + " processed no elements", n > 0);
+        }
+    }
+
+    /**
+     * Returns blocks of exact unums in the range where the vector kernels compute the rounding error, exact unums of
+     * all magnitudes, and random unums mixed with NaNs, zeros, infinities and inexact lanes, so that vectors of all
+     * exact lanes as well as vectors with a lane for the scalar kernels are processed.
+     */
+    private static double[] randomDoubles(final Random rnd) {
+        final double[] values = new double[LENGTH];
+        for (int start = 0; start < LENGTH; start += BLOCK) {
+            final int mode = rnd.nextInt(3);
+            for (int i = start; i < Math.min(start + BLOCK, LENGTH); i++) {
+                final double value;
+                if (mode == 0) {
+                    value = Math.scalb(rnd.nextDouble() - 0.5, rnd.nextInt(800) - 400);
+                } else if (mode == 1 || rnd.nextInt(4) != 0) {
+                    value = Double.longBitsToDouble(rnd.nextLong());
+                } else {
+                    value = DOUBLE_SPECIAL[rnd.nextInt(DOUBLE_SPECIAL.length)];
+                }
+                values[i] = mode == 2 || Double.isNaN(value) ? value :
+                        Double.longBitsToDouble(Double.doubleToRawLongBits(value) & ~1L);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns random floats in the same way as {@link #randomDoubles(Random)}.
+     */
+    private static float[] randomFloats(final Random rnd) {
+        final float[] values = new float[LENGTH];
+        for (int start = 0; start < LENGTH; start += BLOCK) {
+            final int mode = rnd.nextInt(3);
+            for (int i = start; i < Math.min(start + BLOCK, LENGTH); i++) {
+                final float value;
+                if (mode == 0) {
+                    value = Math.scalb(rnd.nextFloat() - 0.5f, rnd.nextInt(80) - 40);
+                } else if (mode == 1 || rnd.nextInt(4) != 0) {
+                    value = Float.intBitsToFloat(rnd.nextInt());
+                } else {
+                    value = FLOAT_SPECIAL[rnd.nextInt(FLOAT_SPECIAL.length)];
+                }
+                values[i] = mode == 2 || Float.isNaN(value) ? value :
+                        Float.intBitsToFloat(Float.floatToRawIntBits(value) & ~1);
+            }
+        }
+        return values;
+    }
+
+    private static int apply(final Kernel kernel, final double[] a, final double[] b, final double[] result) {
+        switch (kernel) {
+            case ADD: return VectorKernels.add(a, b, result);
+            case MULTIPLY: return VectorKernels.multiply(a, b, result);
+            case NEGATE: return VectorKernels.negate(a, result);
+            case ABS: return VectorKernels.abs(a, result);
+            case MIN: return VectorKernels.min(a, b, result);
+            case MAX: return VectorKernels.max(a, b, result);
+            case LOWER_BOUND: return VectorKernels.lowerBound(a, result);
+            case UPPER_BOUND: return VectorKernels.upperBound(a, result);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+
+    private static double apply(final Kernel kernel, final double a, final double b) {
+        switch (kernel) {
+            case ADD: return DoubleUnum.add(a, b);
+            case MULTIPLY: return DoubleUnum.multiply(a, b);
+            case NEGATE: return DoubleUnum.negate(a);
+            case ABS: return DoubleUnum.abs(a);
+            case MIN: return DoubleUnum.min(a, b);
+            case MAX: return DoubleUnum.max(a, b);
+            case LOWER_BOUND: return DoubleUnum.getLowerBound(a);
+            case UPPER_BOUND: return DoubleUnum.getUpperBound(a);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+
+    private static int apply(final Kernel kernel, final float[] a, final float[] b, final float[] result) {
+        switch (kernel) {
+            case ADD: return VectorKernels.add(a, b, result);
+            case MULTIPLY: return VectorKernels.multiply(a, b, result);
+            case NEGATE: return VectorKernels.negate(a, result);
+            case ABS: return VectorKernels.abs(a, result);
+            case MIN: return VectorKernels.min(a, b, result);
+            case MAX: return VectorKernels.max(a, b, result);
+            case LOWER_BOUND: return VectorKernels.lowerBound(a, result);
+            case UPPER_BOUND: return VectorKernels.upperBound(a, result);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+
+    private static float apply(final Kernel kernel, final float a, final float b) {
+        switch (kernel) {
+            case ADD: return SingleUnum.add(a, b);
+            case MULTIPLY: return SingleUnum.multiply(a, b);
+            case NEGATE: return SingleUnum.negate(a);
+            case ABS: return SingleUnum.abs(a);
+            case MIN: return SingleUnum.min(a, b);
+            case MAX: return SingleUnum.max(a, b);
+            case LOWER_BOUND: return SingleUnum.getLowerBound(a);
+            case UPPER_BOUND: return SingleUnum.getUpperBound(a);
+            default: throw new IllegalArgumentException("invalid kernel: " + kernel);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.validate;
+
+/**
+ * The operations checked by {@link SingleUnumValidator}.
+ */
+enum SingleUnumCheck {
+    EXACT(1),
+    INEXACT(1),
+    NEXT_UP(1),
+    NEXT_DOWN(1),
+    LOWER_BOUND(1),
+    UPPER_BOUND(1),
+    SQRT(1),
+    SQRT_LOWER(1),
+    SQRT_UPPER(1),
+    ADD(2),
+    SUBTRACT(2),
+    MULTIPLY(2),
+    DIVIDE(2),
+    ADD_LOWER(2),
+    ADD_UPPER(2),
+    SUBTRACT_LOWER(2),
+    SUBTRACT_UPPER(2),
+    MULTIPLY_LOWER(4),
+    MULTIPLY_UPPER(4);
+
+    private final int arity;
+
+    SingleUnumCheck(final int arity) {
+        this.arity = arity;
+    }
+
+    int arity() {
+        return arity;
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.validate;
+
+/**
+ * Reference model for {@link org.tools4j.unum.api.SingleUnum} independent of its implementation.
+ * <p>
+ * Every unum is mapped to an ordinal that is monotonic in its value: even ordinals are exact values, odd ordinals
+ * the open interval between their even neighbours, {@code [-ORD_INF, ORD_INF]} covers all non-NaN unums and positive
+ * and negative NaN have ordinal {@code ORD_NAN} and {@code -ORD_NAN}. Results are located in the ordinal space by
+ * comparing exact float candidates with the true result, which is computed exactly in double; sums with very
+ * different magnitudes are compared with the larger summand and the sign of the smaller one instead.
+ */
+final class SingleUnumOracle {
+
+    static final int ORD_INF = 0x7f800000;
+    static final int ORD_NAN = ORD_INF + 1;
+    static final int ORD_MAX = ORD_INF - 1;
+
+    /**
+     * A finite real value that exact float candidates are compared with.
+     */
+    interface Point {
+        /**
+         * Returns -1, 0 or 1 if the finite exact value is less than, equal to or greater than this point.
+         */
+        int compareExact(float exact);
+    }
+
+    private SingleUnumOracle() {
+        throw new RuntimeException("No SingleUnumOracle for you!");
+    }
+
+    static int ordinal(final float value) {
+        final int raw = Float.floatToRawIntBits(value);
+        if (Float.isNaN(value)) {
+            return raw >= 0 ? ORD_NAN : -ORD_NAN;
+        }
+        return raw >= 0 ? raw : -(raw & Integer.MAX_VALUE);
+    }
+
+    static float unum(final int ordinal) {
+        if (ordinal >= ORD_NAN) {
+            return Float.intBitsToFloat(0x7fc00000);
+        }
+        if (ordinal <= -ORD_NAN) {
+            return Float.intBitsToFloat(0xffc00000);
+        }
+        return Float.intBitsToFloat(ordinal >= 0 ? ordinal : Integer.MIN_VALUE | -ordinal);
+    }
+
+    static boolean isNaN(final int ordinal) {
+        return ordinal >= ORD_NAN | ordinal <= -ORD_NAN;
+    }
+
+    static boolean isInfinite(final int ordinal) {
+        return ordinal == ORD_INF | ordinal == -ORD_INF;
+    }
+
+    static boolean isExact(final int ordinal) {
+        return !isNaN(ordinal) & 0 == (ordinal & 1);
+    }
+
+    /** Returns the ordinal of the exact lower endpoint of a non-NaN unum */
+    static int lowerEndpoint(final int ordinal) {
+        return ordinal & ~1;
+    }
+
+    /** Returns the ordinal of the exact upper endpoint of a non-NaN unum */
+    static int upperEndpoint(final int ordinal) {
+        return (ordinal + 1) & ~1;
+    }
+
+    /**
+     * Returns true if the result matches the expected ordinal; any NaN matches an expected NaN unless the NaN sign
+     * is strict.
+     */
+    static boolean matches(final int expected, final float actual, final boolean strictNaN) {
+        final int ordinal = ordinal(actual);
+        if (isNaN(expected) & !strictNaN) {
+            return isNaN(ordinal);
+        }
+        return ordinal == expected;
+    }
+
+    /**
+     * Returns the ordinal of the unum containing the point, starting the search at an approximation of the point.
+     * Finite points beyond the largest exact float are contained in {@code (maxreal, inf)} or
+     * {@code (-inf, -maxreal)}.
+     */
+    static int locate(final float hint, final Point point) {
+        int ordinal = Float.isNaN(hint) ? 0 : Math.max(-ORD_INF, Math.min(ORD_INF, ordinal(hint))) & ~1;
+        while (compare(ordinal, point) > 0) {
+            ordinal -= 2;
+        }
+        while (compare(ordinal + 2, point) <= 0) {
+            ordinal += 2;
+        }
+        return compare(ordinal, point) == 0 ? ordinal : ordinal + 1;
+    }
+
+    /**
+     * Returns the ordinal of the lower or upper unum of a ubound with the given endpoint, which is contained in the
+     * unum with the specified ordinal.
+     */
+    static int bound(final int ordinal, final boolean open, final boolean lower) {
+        if (open & isExact(ordinal)) {
+            return lower ? ordinal + 1 : ordinal - 1;
+        }
+        return ordinal;
+    }
+
+    /** Returns the single unum ordinal if lower and upper ordinals are equal and NaN otherwise */
+    static int single(final int lower, final int upper) {
+        return lower == upper ? lower : ORD_NAN;
+    }
+
+    private static int compare(final int exactOrdinal, final Point point) {
+        if (exactOrdinal >= ORD_INF) {
+            return 1;
+        }
+        if (exactOrdinal <= -ORD_INF) {
+            return -1;
+        }
+        return point.compareExact(unum(exactOrdinal));
+    }
+
+    static int compare(final double a, final double b) {
+        return a < b ? -1 : a > b ? 1 : 0;
+    }
+
+    //exact operands
+
+    static int add(final int a, final int b) {
+        if (isInfinite(a) | isInfinite(b)) {
+            if (a == -b) {
+                //inf - inf
+                return ORD_NAN;
+            }
+            return isInfinite(a) ? a : b;
+        }
+        final double x = unum(a);
+        final double y = unum(b);
+        final double large = Math.abs(x) >= Math.abs(y) ? x : y;
+        final double small = Math.abs(x) >= Math.abs(y) ? y : x;
+        if (small == 0 || Math.getExponent(large) - Math.getExponent(small) <= 28) {
+            //at most 24 + 28 + 1 significant bits, the sum is exact in double
+            final double sum = x + y;
+            return locate((float)sum, exact -> compare(exact, sum));
+        }
+        //small is less than 2^-28 ulp of large hence no float lies strictly between large and large + small
+        return locate((float)large, exact -> {
+            final int cmp = compare(exact, large);
+            return cmp != 0 ? cmp : small > 0 ? -1 : 1;
+        });
+    }
+
+    static int multiply(final int a, final int b) {
+        if (isInfinite(a) | isInfinite(b)) {
+            if (a == 0 | b == 0) {
+                //0 * inf
+                return ORD_NAN;
+            }
+            return (a < 0) == (b < 0) ? ORD_INF : -ORD_INF;
+        }
+        //the product of two floats is exact in double
+        final double product = (double)unum(a) * unum(b);
+        return locate((float)product, exact -> compare(exact, product));
+    }
+
+    static int divide(final int a, final int b) {
+        if (b == 0 | (isInfinite(a) & isInfinite(b))) {
+            return ORD_NAN;
+        }
+        if (isInfinite(a)) {
+            return (a < 0) == (b < 0) ? ORD_INF : -ORD_INF;
+        }
+        if (isInfinite(b) | a == 0) {
+            return 0;
+        }
+        final double dividend = unum(a);
+        final double divisor = unum(b);
+        final int sign = divisor < 0 ? -1 : 1;
+        //exact - a/b has the sign of exact*b - a times the sign of b, exact*b is exact in double
+        return locate((float)(dividend / divisor), exact -> sign * compare(exact * divisor, dividend));
+    }
+
+    //ubound endpoints
+
+    /**
+     * Returns the ordinal of the lower or upper unum of the sum of two ubound endpoints, the endpoints given as
+     * exact ordinals. An open infinite endpoint is approached by finite values.
+     */
+    static int addBound(final int a, final boolean aOpen, final int b, final boolean bOpen, final boolean lower) {
+        if (isInfinite(a) | isInfinite(b)) {
+            if (isInfinite(a) & isInfinite(b) & a != b) {
+                //finite plus infinite is infinite, closed inf - inf is undefined
+                if (aOpen == bOpen) {
+                    return ORD_NAN;
+                }
+                return aOpen ? b : a;
+            }
+            final int inf = isInfinite(a) ? a : b;
+            final boolean open = (!isInfinite(a) | aOpen) & (!isInfinite(b) | bOpen);
+            return bound(inf, open, lower);
+        }
+        return bound(add(a, b), aOpen | bOpen, lower);
+    }
+
+    /**
+     * Returns the ordinal of the lower or upper unum of the product of two ubounds with finite endpoints given as
+     * exact ordinals. The extremes are at the corners; an extreme is attained if one of the corners attaining it is
+     * closed, where a closed zero factor makes a closed zero product.
+     */
+    static int multiplyBound(final int aLower, final boolean aLowerOpen, final int aUpper, final boolean aUpperOpen,
+                             final int bLower, final boolean bLowerOpen, final int bUpper, final boolean bUpperOpen,
+                             final boolean lower) {
+        final int[] a = {aLower, aLower, aUpper, aUpper};
+        final boolean[] aOpen = {aLowerOpen, aLowerOpen, aUpperOpen, aUpperOpen};
+        final int[] b = {bLower, bUpper, bLower, bUpper};
+        final boolean[] bOpen = {bLowerOpen, bUpperOpen, bLowerOpen, bUpperOpen};
+        double extreme = 0;
+        boolean open = true;
+        for (int i = 0; i < 4; i++) {
+            final double product = (double)unum(a[i]) * unum(b[i]);
+            final boolean productOpen = !((a[i] == 0 & !aOpen[i]) | (b[i] == 0 & !bOpen[i])) & (aOpen[i] | bOpen[i]);
+            final int cmp = i == 0 ? (lower ? -1 : 1) : compare(product, extreme);
+            if (lower ? cmp < 0 : cmp > 0) {
+                extreme = product;
+                open = productOpen;
+            } else if (cmp == 0) {
+                open &= productOpen;
+            }
+        }
+        final double point = extreme;
+        return bound(locate((float)point, exact -> compare(exact, point)), open, lower);
+    }
+
+    /**
+     * Returns the ordinal of the lower or upper unum of the square root of a ubound endpoint, NaN if the ubound
+     * contains negative values.
+     */
+    static int sqrtBound(final int a, final boolean open, final boolean lower) {
+        if (a < 0 | (a == 0 & open & !lower)) {
+            return ORD_NAN;
+        }
+        if (a == ORD_INF) {
+            return bound(ORD_INF, open, lower);
+        }
+        //the square of a float is exact in double
+        final double radicand = unum(a);
+        final int ordinal = locate((float)Math.sqrt(radicand),
+                exact -> exact < 0 ? -1 : compare((double)exact * exact, radicand));
+        return bound(ordinal, open, lower);
+    }
+}
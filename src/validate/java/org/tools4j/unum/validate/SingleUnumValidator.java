@@ -0,0 +1,335 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.validate;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.tools4j.unum.api.SingleUnum;
+
+import static org.tools4j.unum.validate.SingleUnumCheck.*;
+import static org.tools4j.unum.validate.SingleUnumOracle.*;
+
+/**
+ * Validates the static kernels of {@link SingleUnum} against {@link SingleUnumOracle} in three phases run on a
+ * fork-join pool:
+ * <ul>
+ * <li>unary: exact, inexact, nextUp, nextDown, bounds and square root of all 2^32 bit patterns</li>
+ * <li>lattice: binary operations for all pairs of bit patterns with the given number of leading fraction bits,
+ *     all exponents, signs and ubits</li>
+ * <li>samples: binary operations for pseudo random pairs biased towards cancellation, neighbours and special values,
+ *     reproducible for a given seed</li>
+ * </ul>
+ * Ubound multiplication is only checked for finite endpoints. Progress and throughput are printed periodically, the
+ * process exits with status 1 if any check fails. Options and defaults:
+ * <pre>
+ * --parallelism   availableProcessors   fork-join pool parallelism
+ * --unaryStride   1                     check every n-th bit pattern in the unary phase, 0 to skip the phase
+ * --latticeBits   3                     leading fraction bits of lattice patterns, -1 to skip the phase
+ * --samples       67108864              number of sampled pairs, 0 to skip the phase
+ * --seed          0x756e756d            seed for the sampled pairs
+ * --progress      10                    seconds between progress reports
+ * </pre>
+ */
+public final class SingleUnumValidator {
+
+    private static final long CHUNK = 1 << 14;
+    private static final int MAX_FAILURES = 100;
+    private static final int[] SPECIALS = {
+            0, ORD_INF, -ORD_INF, ORD_MAX, -ORD_MAX, ORD_MAX - 1, -(ORD_MAX - 1), 1, -1, 2, -2,
+            Float.floatToRawIntBits(1f), -Float.floatToRawIntBits(1f), ORD_NAN, -ORD_NAN
+    };
+
+    private final ForkJoinPool pool;
+    private final ValidationResults results = new ValidationResults(MAX_FAILURES);
+    private final long progressMillis;
+
+    public SingleUnumValidator(final ForkJoinPool pool, final long progressMillis) {
+        this.pool = pool;
+        this.progressMillis = progressMillis;
+    }
+
+    public static void main(final String... args) throws InterruptedException {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        long unaryStride = 1;
+        int latticeBits = 3;
+        long samples = 1L << 26;
+        long seed = 0x756e756dL;
+        long progress = 10;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("missing value for option: " + args[i]);
+            }
+            final String value = args[i + 1];
+            switch (args[i]) {
+                case "--parallelism": parallelism = Integer.parseInt(value); break;
+                case "--unaryStride": unaryStride = Long.parseLong(value); break;
+                case "--latticeBits": latticeBits = Integer.parseInt(value); break;
+                case "--samples": samples = Long.parseLong(value); break;
+                case "--seed": seed = Long.decode(value); break;
+                case "--progress": progress = Long.parseLong(value); break;
+                default:
+                    throw new IllegalArgumentException("invalid option: " + args[i]);
+            }
+        }
+        final SingleUnumValidator validator = new SingleUnumValidator(new ForkJoinPool(parallelism), progress * 1000);
+        if (unaryStride > 0) {
+            validator.validateUnary(unaryStride);
+        }
+        if (latticeBits >= 0) {
+            validator.validateLattice(latticeBits);
+        }
+        if (samples > 0) {
+            validator.validateSamples(samples, seed);
+        }
+        validator.results.print(System.out);
+        if (validator.results.failed() > 0) {
+            System.exit(1);
+        }
+    }
+
+    public void validateUnary(final long stride) throws InterruptedException {
+        if (stride < 1 || stride > (1L << 32)) {
+            throw new IllegalArgumentException("invalid stride: " + stride);
+        }
+        run("unary", (1L << 32) / stride, index -> checkUnary((int)(index * stride)));
+    }
+
+    public void validateLattice(final int fractionBits) throws InterruptedException {
+        if (fractionBits < 0 || fractionBits > 5) {
+            throw new IllegalArgumentException("invalid fractionBits: " + fractionBits);
+        }
+        final int shift = 10 + fractionBits;
+        final int mask = (1 << shift) - 1;
+        run("lattice", 1L << (2 * shift), index -> checkBinary(
+                lattice((int)(index >>> shift), fractionBits), lattice((int)index & mask, fractionBits)));
+    }
+
+    public void validateSamples(final long count, final long seed) throws InterruptedException {
+        run("samples", count, index -> {
+            final long r1 = mix(seed + index * 0x9e3779b97f4a7c15L);
+            final long r2 = mix(r1);
+            final int a = sample(r1);
+            final int b = (r2 & 3) == 0 ? neighbour(a, r2 >>> 2) : sample(r2);
+            checkBinary(a, b);
+            checkUbounds(a, widen(a, r1 >>> 40), b, widen(b, r2 >>> 40));
+        });
+    }
+
+    private void checkUnary(final int raw) {
+        final float a = Float.intBitsToFloat(raw);
+        final int o = ordinal(a);
+        final boolean exact = isExact(o);
+        final int lower = isNaN(o) ? o : lowerEndpoint(o);
+        final int upper = isNaN(o) ? o : upperEndpoint(o);
+        final int exactOf = isNaN(o) ? (o > 0 ? ORD_INF : -ORD_INF) : lower;
+        final int inexactOf = isNaN(o) | !exact ? o : isInfinite(o) ? (o > 0 ? ORD_NAN : -ORD_NAN) : o + 1;
+        results.verify(EXACT, exactOf, SingleUnum.exact(a), true, a);
+        results.verify(INEXACT, inexactOf, SingleUnum.inexact(a), true, a);
+        results.verify(NEXT_UP, o >= ORD_NAN ? o : o + 1, SingleUnum.nextUp(a), true, a);
+        results.verify(NEXT_DOWN, o <= -ORD_NAN ? o : o - 1, SingleUnum.nextDown(a), true, a);
+        results.verify(LOWER_BOUND, lower, SingleUnum.getLowerBound(a), true, a);
+        results.verify(UPPER_BOUND, upper, SingleUnum.getUpperBound(a), true, a);
+        if (isNaN(o)) {
+            results.verify(SQRT, ORD_NAN, SingleUnum.sqrt(a), false, a);
+            return;
+        }
+        final int sqrtLower = sqrtBound(lower, !exact, true);
+        final int sqrtUpper = sqrtBound(upper, !exact, false);
+        results.verify(SQRT, exact ? sqrtLower : single(sqrtLower, sqrtUpper), SingleUnum.sqrt(a), false, a);
+        results.verify(SQRT_LOWER, sqrtLower, SingleUnum.sqrtLower(a), false, a);
+        results.verify(SQRT_UPPER, sqrtUpper, SingleUnum.sqrtUpper(a), false, a);
+    }
+
+    private void checkBinary(final int oa, final int ob) {
+        final float a = unum(oa);
+        final float b = unum(ob);
+        if (isNaN(oa) | isNaN(ob)) {
+            results.verify(ADD, ORD_NAN, SingleUnum.add(a, b), false, a, b);
+            results.verify(SUBTRACT, ORD_NAN, SingleUnum.subtract(a, b), false, a, b);
+            results.verify(MULTIPLY, ORD_NAN, SingleUnum.multiply(a, b), false, a, b);
+            results.verify(DIVIDE, ORD_NAN, SingleUnum.divide(a, b), false, a, b);
+            return;
+        }
+        final boolean aOpen = !isExact(oa);
+        final boolean bOpen = !isExact(ob);
+        final int addLower = addBound(lowerEndpoint(oa), aOpen, lowerEndpoint(ob), bOpen, true);
+        final int addUpper = addBound(upperEndpoint(oa), aOpen, upperEndpoint(ob), bOpen, false);
+        final int subtractLower = addBound(lowerEndpoint(oa), aOpen, lowerEndpoint(-ob), bOpen, true);
+        final int subtractUpper = addBound(upperEndpoint(oa), aOpen, upperEndpoint(-ob), bOpen, false);
+        results.verify(ADD_LOWER, addLower, SingleUnum.addLower(a, b), false, a, b);
+        results.verify(ADD_UPPER, addUpper, SingleUnum.addUpper(a, b), false, a, b);
+        results.verify(SUBTRACT_LOWER, subtractLower, SingleUnum.subtractLower(a, b), false, a, b);
+        results.verify(SUBTRACT_UPPER, subtractUpper, SingleUnum.subtractUpper(a, b), false, a, b);
+        if (!aOpen & !bOpen) {
+            results.verify(ADD, add(oa, ob), SingleUnum.add(a, b), false, a, b);
+            results.verify(SUBTRACT, add(oa, -ob), SingleUnum.subtract(a, b), false, a, b);
+            results.verify(MULTIPLY, multiply(oa, ob), SingleUnum.multiply(a, b), false, a, b);
+            results.verify(DIVIDE, divide(oa, ob), SingleUnum.divide(a, b), false, a, b);
+        } else {
+            results.verify(ADD, single(addLower, addUpper), SingleUnum.add(a, b), false, a, b);
+            results.verify(SUBTRACT, single(subtractLower, subtractUpper), SingleUnum.subtract(a, b), false, a, b);
+            results.verify(DIVIDE, ORD_NAN, SingleUnum.divide(a, b), false, a, b);
+            if (isFiniteUnum(oa) & isFiniteUnum(ob)) {
+                final int multiplyLower = multiplyBound(oa, oa, ob, ob, true);
+                final int multiplyUpper = multiplyBound(oa, oa, ob, ob, false);
+                results.verify(MULTIPLY, single(multiplyLower, multiplyUpper), SingleUnum.multiply(a, b), false, a, b);
+            } else {
+                results.skip();
+            }
+        }
+    }
+
+    private void checkUbounds(final int aLower, final int aUpper, final int bLower, final int bUpper) {
+        if (!(isFiniteUnum(aLower) & isFiniteUnum(aUpper) & isFiniteUnum(bLower) & isFiniteUnum(bUpper))) {
+            results.skip();
+            return;
+        }
+        final float al = unum(aLower);
+        final float au = unum(aUpper);
+        final float bl = unum(bLower);
+        final float bu = unum(bUpper);
+        results.verify(MULTIPLY_LOWER, multiplyBound(aLower, aUpper, bLower, bUpper, true),
+                SingleUnum.multiplyLower(al, au, bl, bu), false, al, au, bl, bu);
+        results.verify(MULTIPLY_UPPER, multiplyBound(aLower, aUpper, bLower, bUpper, false),
+                SingleUnum.multiplyUpper(al, au, bl, bu), false, al, au, bl, bu);
+    }
+
+    private static int multiplyBound(final int aLower, final int aUpper, final int bLower, final int bUpper,
+                                     final boolean lower) {
+        return SingleUnumOracle.multiplyBound(
+                lowerEndpoint(aLower), !isExact(aLower), upperEndpoint(aUpper), !isExact(aUpper),
+                lowerEndpoint(bLower), !isExact(bLower), upperEndpoint(bUpper), !isExact(bUpper), lower);
+    }
+
+    /** Returns true if the unum is not NaN and has finite endpoints */
+    private static boolean isFiniteUnum(final int ordinal) {
+        return ordinal > -ORD_MAX & ordinal < ORD_MAX;
+    }
+
+    private static int lattice(final int index, final int fractionBits) {
+        final int sign = index & 1;
+        final int ubit = (index >>> 1) & 1;
+        final int fraction = (index >>> 2) & ((1 << fractionBits) - 1);
+        final int exponent = index >>> (2 + fractionBits);
+        return ordinal(Float.intBitsToFloat(sign << 31 | exponent << 23 | fraction << (23 - fractionBits) | ubit));
+    }
+
+    private static int sample(final long random) {
+        if ((random & 15) == 0) {
+            return SPECIALS[(int)((random >>> 4) % SPECIALS.length)];
+        }
+        return ordinal(Float.intBitsToFloat((int)(random >>> 32)));
+    }
+
+    /** Returns a value near a or -a, the latter to provoke cancellation */
+    private static int neighbour(final int ordinal, final long random) {
+        if (isNaN(ordinal)) {
+            return ordinal;
+        }
+        final int near = clamp(ordinal + (int)(random & 127) - 64);
+        return (random & 128) == 0 ? near : -near;
+    }
+
+    /** Returns an upper unum for the given lower unum, sometimes the same */
+    private static int widen(final int ordinal, final long random) {
+        final int bits = (int)(random % 26);
+        return clamp(ordinal + (bits == 0 ? 0 : (int)((random >>> 5) & ((1 << bits) - 1))));
+    }
+
+    private static int clamp(final int ordinal) {
+        return Math.max(-ORD_INF, Math.min(ORD_INF, ordinal));
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @FunctionalInterface
+    private interface IndexCheck {
+        void check(long index);
+    }
+
+    private void run(final String phase, final long count, final IndexCheck check) throws InterruptedException {
+        final LongAdder done = new LongAdder();
+        final long start = System.nanoTime();
+        final Thread reporter = new Thread(() -> {
+            try {
+                while (true) {
+                    Thread.sleep(progressMillis);
+                    report(phase, done.sum(), count, start);
+                }
+            } catch (final InterruptedException e) {
+                //phase complete
+            }
+        }, "validator-progress");
+        reporter.setDaemon(true);
+        reporter.start();
+        try {
+            pool.invoke(new Range(0, count, check, done));
+        } finally {
+            reporter.interrupt();
+            reporter.join();
+        }
+        report(phase, count, count, start);
+    }
+
+    private void report(final String phase, final long done, final long count, final long start) {
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[%s] %5.1f%% %,d/%,d in %.1fs, %,.0f/s, %,d checks, %,d failures%n",
+                phase, 100.0 * done / count, done, count, seconds, done / seconds, results.checked(),
+                results.failed());
+    }
+
+    private static final class Range extends RecursiveAction {
+        private final long start;
+        private final long end;
+        private final IndexCheck check;
+        private final LongAdder done;
+
+        Range(final long start, final long end, final IndexCheck check, final LongAdder done) {
+            this.start = start;
+            this.end = end;
+            this.check = check;
+            this.done = done;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= CHUNK) {
+                for (long index = start; index < end; index++) {
+                    check.check(index);
+                }
+                done.add(end - start);
+                return;
+            }
+            final long mid = (start + end) >>> 1;
+            invokeAll(new Range(start, mid, check, done), new Range(mid, end, check, done));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 tools4j-unum, Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.tools4j.unum.validate;
+
+import java.io.PrintStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.tools4j.unum.api.SingleUnum;
+
+/**
+ * Thread safe counters of checked and failed operations with a bounded number of recorded failure descriptions.
+ */
+final class ValidationResults {
+
+    private final LongAdder[] checked = adders();
+    private final LongAdder[] failed = adders();
+    private final LongAdder skipped = new LongAdder();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failureCapacity;
+
+    ValidationResults(final int maxFailures) {
+        this.failureCapacity = new AtomicInteger(maxFailures);
+    }
+
+    private static LongAdder[] adders() {
+        final LongAdder[] adders = new LongAdder[SingleUnumCheck.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Records a check of an operation with the given operands.
+     * @param check     the checked operation
+     * @param expected  the expected result ordinal
+     * @param actual    the actual result
+     * @param strictNaN true if the sign of an expected NaN must match
+     * @param operands  the operands, at least {@link SingleUnumCheck#arity()} values
+     * @return true if the check passed
+     */
+    boolean verify(final SingleUnumCheck check, final int expected, final float actual, final boolean strictNaN,
+                   final float... operands) {
+        checked[check.ordinal()].increment();
+        if (SingleUnumOracle.matches(expected, actual, strictNaN)) {
+            return true;
+        }
+        failed[check.ordinal()].increment();
+        if (failureCapacity.getAndDecrement() > 0) {
+            failures.add(describe(check, expected, actual, operands));
+        }
+        return false;
+    }
+
+    /** Records a check skipped because the operands are outside of the domain of the reference model */
+    void skip() {
+        skipped.increment();
+    }
+
+    long checked() {
+        long sum = 0;
+        for (final LongAdder adder : checked) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+
+    long failed() {
+        long sum = 0;
+        for (final LongAdder adder : failed) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+
+    void print(final PrintStream out) {
+        for (final SingleUnumCheck check : SingleUnumCheck.values()) {
+            final long n = checked[check.ordinal()].sum();
+            if (n > 0) {
+                out.printf("%-16s checked %,15d failed %,12d%n", check, n, failed[check.ordinal()].sum());
+            }
+        }
+        out.printf("%-16s %,23d%n", "SKIPPED", skipped.sum());
+        for (final String failure : failures) {
+            out.println("FAILED " + failure);
+        }
+    }
+
+    private static String describe(final SingleUnumCheck check, final int expected, final float actual,
+                                   final float... operands) {
+        final StringBuilder sb = new StringBuilder(check.name()).append('(');
+        for (int i = 0; i < check.arity(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(format(operands[i]));
+        }
+        return sb.append(") = ").append(format(actual))
+                .append(", expected ").append(format(SingleUnumOracle.unum(expected)))
+                .toString();
+    }
+
+    private static String format(final float value) {
+        return SingleUnum.toString(value) + "[0x" + Integer.toHexString(Float.floatToRawIntBits(value)) + "]";
+    }
+}